@@ -4,29 +4,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.imageio.ImageIO;
-import javax.sound.sampled.*;
 import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Centralized asset management system for images and sounds.
+ * Centralized asset management system for images.
  * Handles loading, caching, and lifecycle management of game assets.
+ * Sounds are owned by {@link SoundManager}: effects are decoded once into shared
+ * buffers and music is streamed, so there is no Clip cache here.
  */
 public class AssetManager {
     private static final Logger logger = LoggerFactory.getLogger(AssetManager.class);
     private static AssetManager instance;
     
     private final Map<String, BufferedImage> imageCache;
-    private final Map<String, Clip> soundCache;
     private final Map<String, Integer> referenceCount;
     
     private AssetManager() {
         this.imageCache = new HashMap<>();
-        this.soundCache = new HashMap<>();
         this.referenceCount = new HashMap<>();
     }
     
@@ -75,43 +73,6 @@ public class AssetManager {
         return images;
     }
     
-    /**
-     * Load a sound clip from resources. Returns cached version if already loaded.
-     */
-    public Clip loadSound(String path) {
-        if (soundCache.containsKey(path)) {
-            incrementReference(path);
-            return soundCache.get(path);
-        }
-        
-        try (InputStream audioSrc = getClass().getResourceAsStream(path);
-             InputStream bufferedIn = audioSrc != null ? new BufferedInputStream(audioSrc) : null) {
-            
-            if (bufferedIn == null) {
-                logger.error("Sound file not found: {}", path);
-                return null;
-            }
-            
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-            
-            soundCache.put(path, clip);
-            referenceCount.put(path, 1);
-            logger.debug("Loaded sound: {}", path);
-            return clip;
-            
-        } catch (UnsupportedAudioFileException e) {
-            logger.error("Unsupported audio format: " + path, e);
-        } catch (LineUnavailableException e) {
-            logger.error("Audio line unavailable: " + path, e);
-        } catch (Exception e) {
-            logger.error("Failed to load sound: " + path, e);
-        }
-        
-        return null;
-    }
-    
     /**
      * Release an asset (decrements reference count, disposes if reaches 0)
      */
@@ -126,14 +87,6 @@ public class AssetManager {
             // Actually dispose the asset
             referenceCount.remove(path);
             
-            if (soundCache.containsKey(path)) {
-                Clip clip = soundCache.remove(path);
-                if (clip != null && clip.isOpen()) {
-                    clip.close();
-                }
-                logger.debug("Disposed sound: {}", path);
-            }
-            
             if (imageCache.containsKey(path)) {
                 imageCache.remove(path);
                 logger.debug("Disposed image: {}", path);
@@ -144,44 +97,63 @@ public class AssetManager {
     }
     
     /**
-     * Get a cached image without loading
+     * Get a cached image, loading it only on a miss. Unlike {@link #loadImage(String)}
+     * a cache hit does not add a reference, so entities that are created many times
+     * per level (spiders, food, toys) don't inflate the count held by the level scope.
      */
-    public BufferedImage getImage(String path) {
-        return imageCache.get(path);
+    public BufferedImage getOrLoadImage(String path) {
+        BufferedImage cached = imageCache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        logger.debug("Image requested outside of a level scope: {}", path);
+        return loadImage(path);
     }
     
     /**
-     * Get a cached sound without loading
+     * Open a level scope: acquire every image and sound the level's manifest lists.
+     * Close the returned scope when the level is left to release them again.
+     * 
+     * @param levelName    Level to load (e.g. "level2")
+     * @param soundManager Sound manager that owns the level's sounds (may be null)
      */
-    public Clip getSound(String path) {
-        return soundCache.get(path);
+    public AssetScope openLevelScope(String levelName, SoundManager soundManager) {
+        AssetManifest.LevelAssets manifest = AssetManifest.forLevel(levelName);
+        AssetScope scope = new AssetScope(levelName, soundManager);
+        
+        for (String path : manifest.getImagePaths()) {
+            loadImage(path);
+            scope.holdImage(path);
+        }
+        if (soundManager != null) {
+            for (String soundName : manifest.getSoundNames()) {
+                soundManager.acquireSound(soundName);
+                scope.holdSound(soundName);
+            }
+        }
+        
+        logger.info("Opened asset scope '{}': {} | {}", levelName, manifest, getMemoryStats());
+        return scope;
+    }
+    
+    /**
+     * Get a cached image without loading
+     */
+    public BufferedImage getImage(String path) {
+        return imageCache.get(path);
     }
     
     /**
      * Check if an asset is loaded
      */
     public boolean isLoaded(String path) {
-        return imageCache.containsKey(path) || soundCache.containsKey(path);
+        return imageCache.containsKey(path);
     }
     
     /**
      * Dispose all assets and clear caches
      */
     public void disposeAll() {
-        // Stop and close all sound clips
-        for (Map.Entry<String, Clip> entry : soundCache.entrySet()) {
-            Clip clip = entry.getValue();
-            if (clip != null) {
-                if (clip.isRunning()) {
-                    clip.stop();
-                }
-                if (clip.isOpen()) {
-                    clip.close();
-                }
-            }
-        }
-        
-        soundCache.clear();
         imageCache.clear();
         referenceCount.clear();
         
@@ -192,31 +164,21 @@ public class AssetManager {
      * Get memory usage statistics
      */
     public String getMemoryStats() {
-        return String.format("Images: %d, Sounds: %d, Total references: %d",
-                imageCache.size(), soundCache.size(), 
+        return String.format("Images: %d, Total references: %d",
+                imageCache.size(), 
                 referenceCount.values().stream().mapToInt(Integer::intValue).sum());
     }
     
     /**
-     * Preload common assets during game startup
+     * Preload assets shared by every level during game startup.
+     * Level-specific assets are loaded through {@link #openLevelScope(String, SoundManager)}.
      */
     public void preloadCommonAssets() {
         logger.info("Preloading common assets...");
         
-        // Preload player sprites
-        loadImage("/res/sprites/player/pla.png");
-        loadImage("/res/sprites/player/webbed_state.png");
-        
-        // Preload spider sprites
-        loadImage("/res/sprites/spider/Walk_0001.png");
-        loadImage("/res/sprites/spider/Walk_0002.png");
-        
-        // Preload common sounds
-        loadSound("/res/sounds/game_theme.wav");
-        loadSound("/res/sounds/menu_music.wav");
-        loadSound("/res/sounds/eat_sound.wav");
-        loadSound("/res/sounds/web_sound.wav");
-        loadSound("/res/sounds/struggle.wav");
+        for (String path : AssetManifest.PLAYER_SPRITES) {
+            loadImage(path);
+        }
         
         logger.info("Common assets preloaded: {}", getMemoryStats());
     }
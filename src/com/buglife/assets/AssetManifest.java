@@ -0,0 +1,271 @@
+package com.buglife.assets;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.config.TileConstants;
+import com.buglife.levels.CompiledLevel;
+import com.buglife.levels.LevelConfig;
+import com.buglife.levels.LevelRegistry;
+import com.buglife.levels.MechanicsConfig;
+
+/**
+ * Single source of truth for which assets exist and which ones a level needs.
+ *
+ * The tile table, entity sprite lists and sound table used to be hardcoded in
+ * World, Spider, Player and SoundManager. They live here now, and
+ * {@link #forLevel(String)} derives a per-level dependency list by scanning the
+ * level's tile grid and {@link LevelConfig}, both read from its {@link CompiledLevel}.
+ */
+public final class AssetManifest {
+    private static final Logger logger = LoggerFactory.getLogger(AssetManifest.class);
+
+    private AssetManifest() {
+        throw new AssertionError("Manifest class should not be instantiated");
+    }
+
+    /**
+     * A tile type: the sprite drawn for it and whether it blocks movement.
+     */
+    public static final class TileSpec {
+        public final int id;
+        public final String spritePath;
+        public final boolean solid;
+
+        private TileSpec(int id, String spritePath, boolean solid) {
+            this.id = id;
+            this.spritePath = spritePath;
+            this.solid = solid;
+        }
+    }
+
+    // ========== TILES ==========
+
+    private static final Map<Integer, TileSpec> TILES = new LinkedHashMap<>();
+    static {
+        tile(TileConstants.FLOOR, "floor_1.png", false);
+        tile(TileConstants.WALL, "wall_5.png", true);
+        tile(TileConstants.WALL_ALT, "wall.png", true);
+        tile(TileConstants.STICKY_FLOOR, "sticky_floor.png", false);
+        tile(TileConstants.BROKEN_TILE, "broken_tile.png", true);
+        tile(TileConstants.SHADOW_TILE, "shadow_tile.png", false);
+
+        // Stain floor
+        tile(TileConstants.STAIN_1, "stain_1.png", false);
+        tile(TileConstants.STAIN_2, "stain_2.png", false);
+        tile(TileConstants.STAIN_3, "stain_3.png", false);
+        tile(TileConstants.STAIN_4, "stain_4.png", false);
+
+        // Sack props
+        tile(TileConstants.SACK_W1, "sack_w1.png", true);
+        tile(TileConstants.SACK_W2, "sack_w2.png", true);
+        tile(TileConstants.SACK_W3, "sack_w3.png", false);
+        tile(TileConstants.SACK_W4, "sack_w4.png", true);
+
+        // Planks
+        tile(TileConstants.PLANK_1, "plank1.png", false);
+        tile(TileConstants.PLANK_2, "plank2.png", false);
+        tile(TileConstants.PLANK_3, "plank3.png", false);
+        tile(TileConstants.PLANK_4, "plank4.png", false);
+
+        // Ladder
+        tile(TileConstants.LADDER_1, "l1.png", true);
+        tile(TileConstants.LADDER_2, "l2.png", true);
+        tile(TileConstants.LADDER_3, "l3.png", false);
+        tile(TileConstants.LADDER_4, "l4.png", true);
+
+        // Chimney intro
+        tile(TileConstants.INTRO_TILE_1, "introtile1.png", false);
+        tile(TileConstants.INTRO_TILE_2, "introtile2.png", false);
+        tile(TileConstants.INTRO_TILE_3, "introtile3.png", false);
+        tile(TileConstants.INTRO_TILE_4, "introtile4.png", true);
+        tile(TileConstants.INTRO_TILE_5, "introtile5.png", true);
+        tile(TileConstants.INTRO_TILE_6, "introtile6.png", true);
+    }
+
+    private static void tile(int id, String file, boolean solid) {
+        TILES.put(id, new TileSpec(id, "/res/sprites/tiles/" + file, solid));
+    }
+
+    // ========== ENTITY SPRITES ==========
+
+    public static final String PLAYER_SHEET = "/res/sprites/player/pla.png";
+    public static final String PLAYER_WEBBED = "/res/sprites/player/webbed_state.png";
+    public static final String SPIDER_WALK_1 = "/res/sprites/spider/Walk_0001.png";
+    public static final String SPIDER_WALK_2 = "/res/sprites/spider/Walk_0002.png";
+    public static final String SNAIL_SHEET = "/res/sprites/snail/snail.png";
+    public static final String TOY_SPRITE = "/res/sprites/items/toy1.png";
+
+    public static final List<String> PLAYER_SPRITES = List.of(PLAYER_SHEET, PLAYER_WEBBED);
+    public static final List<String> SPIDER_SPRITES = List.of(SPIDER_WALK_1, SPIDER_WALK_2);
+    public static final List<String> SNAIL_SPRITES = List.of(SNAIL_SHEET);
+    public static final List<String> TOY_SPRITES = List.of(TOY_SPRITE);
+
+    // ========== SOUNDS ==========
+
+    private static final Map<String, String> SOUNDS = new LinkedHashMap<>();
+    static {
+        SOUNDS.put("eat", "/res/sounds/eat_sound.wav");
+        SOUNDS.put("webbed", "/res/sounds/web_sound.wav");
+        SOUNDS.put("gameOver", "/res/sounds/humming.wav");
+        SOUNDS.put("music", "/res/sounds/game_theme.wav");
+        SOUNDS.put("struggle", "/res/sounds/struggle.wav");
+        SOUNDS.put("menu", "/res/sounds/menu_selection.wav");
+        SOUNDS.put("menuMusic", "/res/sounds/menu_music.wav");
+        SOUNDS.put("lowhunger", "/res/sounds/low_hunger.wav");
+        SOUNDS.put("chasing", "/res/sounds/chasing.wav");
+    }
+
+    /** Sounds mixed on the music bus; everything else is an effect. */
+    private static final Set<String> MUSIC_SOUNDS = Set.of("music", "menuMusic", "chasing");
+
+    /** Sounds used outside of gameplay (menus, game over). Never released. */
+    public static final List<String> GLOBAL_SOUNDS = List.of("menu", "menuMusic", "gameOver");
+
+    /** Sounds every playable level needs regardless of its mechanics. */
+    private static final List<String> GAMEPLAY_SOUNDS =
+            List.of("music", "eat", "lowhunger", "struggle", "webbed");
+
+    // ========== LOOKUPS ==========
+
+    /** Get the tile definition for an ID, or null if the ID has no sprite. */
+    public static TileSpec getTile(int tileId) {
+        return TILES.get(tileId);
+    }
+
+    /** All known tile definitions, in declaration order. */
+    public static Collection<TileSpec> getTiles() {
+        return Collections.unmodifiableCollection(TILES.values());
+    }
+
+    /** Get the resource path for a named sound, or null if unknown. */
+    public static String getSoundPath(String name) {
+        return SOUNDS.get(name);
+    }
+
+    /** Get the mixer bus a named sound is routed through. */
+    public static AudioBus getSoundBus(String name) {
+        return MUSIC_SOUNDS.contains(name) ? AudioBus.MUSIC : AudioBus.SFX;
+    }
+
+    // ========== PER-LEVEL MANIFESTS ==========
+
+    /**
+     * Everything one level needs loaded while it is being played.
+     */
+    public static final class LevelAssets {
+        private final String levelName;
+        private final int[] tileIds;
+        private final List<String> imagePaths;
+        private final List<String> soundNames;
+
+        private LevelAssets(String levelName, int[] tileIds, List<String> imagePaths, List<String> soundNames) {
+            this.levelName = levelName;
+            this.tileIds = tileIds;
+            this.imagePaths = Collections.unmodifiableList(imagePaths);
+            this.soundNames = Collections.unmodifiableList(soundNames);
+        }
+
+        public String getLevelName() { return levelName; }
+
+        /** Distinct tile IDs used by the map, ascending. */
+        public int[] getTileIds() { return tileIds.clone(); }
+
+        public List<String> getImagePaths() { return imagePaths; }
+
+        public List<String> getSoundNames() { return soundNames; }
+
+        @Override
+        public String toString() {
+            return String.format("LevelAssets{level=%s, tiles=%d, images=%d, sounds=%d}",
+                    levelName, tileIds.length, imagePaths.size(), soundNames.size());
+        }
+    }
+
+    /** A scanned level and the registry config it was scanned against. */
+    private static final class CachedLevel {
+        final LevelConfig source;
+        final LevelAssets assets;
+
+        CachedLevel(LevelConfig source, LevelAssets assets) {
+            this.source = source;
+            this.assets = assets;
+        }
+    }
+
+    private static final Map<String, CachedLevel> levelCache = new ConcurrentHashMap<>();
+
+    /**
+     * Get the dependency list for a level. Cached per level for as long as
+     * {@link LevelRegistry} hands out the same config instance, so a map the
+     * registry re-parses (edited on disk, or after its invalidate()) is
+     * scanned again.
+     */
+    public static LevelAssets forLevel(String levelName) {
+        LevelConfig source = LevelRegistry.getInstance().getConfig(levelName);
+        return levelCache.compute(levelName, (name, cached) ->
+                cached != null && cached.source == source ? cached : new CachedLevel(source, scanLevel(name))).assets;
+    }
+
+    /**
+     * Drop cached manifests (e.g. after editing map files).
+     */
+    public static void invalidate() {
+        levelCache.clear();
+    }
+
+    private static LevelAssets scanLevel(String levelName) {
+        CompiledLevel level = CompiledLevel.load(levelName);
+        LevelConfig config = level;
+        MechanicsConfig mechanics = config.getMechanicsEnabled();
+
+        // The palette is every distinct tile ID the map uses, already sorted
+        Set<String> images = new LinkedHashSet<>();
+        int[] tileIds = level.getTilePalette();
+        for (int id : tileIds) {
+            TileSpec spec = TILES.get(id);
+            if (spec != null) {
+                images.add(spec.spritePath);
+            }
+        }
+
+        images.addAll(PLAYER_SPRITES);
+        if (!config.getSpiderPatrols().isEmpty()) {
+            images.addAll(SPIDER_SPRITES);
+        }
+        if (!config.getSnailLocations().isEmpty()) {
+            images.addAll(SNAIL_SPRITES);
+        }
+        if (mechanics.isToyEnabled() && config.getToySpawn() != null) {
+            images.addAll(TOY_SPRITES);
+        }
+
+        List<String> sounds = new ArrayList<>();
+        addSounds(sounds, GAMEPLAY_SOUNDS);
+        if (!config.getSpiderPatrols().isEmpty()) {
+            addSounds(sounds, List.of("chasing"));
+        }
+
+        LevelAssets assets = new LevelAssets(levelName, tileIds, new ArrayList<>(images), sounds);
+        logger.debug("Scanned asset manifest: {}", assets);
+        return assets;
+    }
+
+    private static void addSounds(List<String> target, List<String> names) {
+        for (String name : names) {
+            if (SOUNDS.containsKey(name) && !target.contains(name)) {
+                target.add(name);
+            }
+        }
+    }
+}
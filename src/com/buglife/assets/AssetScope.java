@@ -0,0 +1,68 @@
+package com.buglife.assets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A ref-counted set of assets held for the lifetime of one level.
+ *
+ * Opening a scope acquires one reference on every image and sound listed in the
+ * level's {@link AssetManifest.LevelAssets}; closing it gives them back. Assets
+ * shared with the next level survive the switch as long as the new scope is
+ * opened before the old one is closed.
+ */
+public class AssetScope implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AssetScope.class);
+
+    private final String name;
+    private final List<String> heldImages = new ArrayList<>();
+    private final List<String> heldSounds = new ArrayList<>();
+    private final SoundManager soundManager;
+    private boolean closed = false;
+
+    AssetScope(String name, SoundManager soundManager) {
+        this.name = name;
+        this.soundManager = soundManager;
+    }
+
+    void holdImage(String path) {
+        heldImages.add(path);
+    }
+
+    void holdSound(String soundName) {
+        heldSounds.add(soundName);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Release every asset this scope acquired. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        AssetManager assets = AssetManager.getInstance();
+        for (String path : heldImages) {
+            assets.releaseAsset(path);
+        }
+        if (soundManager != null) {
+            for (String soundName : heldSounds) {
+                soundManager.releaseSound(soundName);
+            }
+        }
+        logger.info("Closed asset scope '{}' ({} images, {} sounds)", name, heldImages.size(), heldSounds.size());
+        heldImages.clear();
+        heldSounds.clear();
+    }
+}
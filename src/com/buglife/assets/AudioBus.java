@@ -0,0 +1,10 @@
+package com.buglife.assets;
+
+/**
+ * Mixer bus a sound is routed through. Each bus has its own volume,
+ * on top of the master volume.
+ */
+public enum AudioBus {
+    MUSIC,
+    SFX
+}
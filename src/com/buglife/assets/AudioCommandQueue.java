@@ -0,0 +1,172 @@
+package com.buglife.assets;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer queue of audio commands.
+ *
+ * Any thread may post commands; only the audio thread drains them. Slots are
+ * preallocated {@link Command} objects that producers fill in place, so posting
+ * a command never allocates and never blocks. If the queue is full the command
+ * is dropped, which is preferable to stalling a simulation tick on audio.
+ *
+ * Each slot carries a sequence number (the bounded MPMC scheme popularised by
+ * Dmitry Vyukov): a producer claims a slot with one CAS on the tail, fills it,
+ * then publishes it by advancing the slot's sequence.
+ */
+final class AudioCommandQueue {
+
+    enum Type {
+        PLAY,         // Start a decoded buffer
+        PLAY_STREAM,  // Start a streamed music track
+        LOOP,         // Start looping unless already playing; revive it if fading out
+        CROSSFADE,    // Fade out other music, fade this track in
+        STOP,
+        STOP_ALL,
+        SET_VOICE_GAIN,
+        SET_BUS_GAIN
+    }
+
+    /**
+     * A queue slot. Fields are plain; visibility comes from the sequence
+     * publish/consume pair around them.
+     */
+    static final class Command {
+        Type type;
+        String name;
+        String path;       // Streamed tracks
+        PcmBuffer buffer;  // Decoded sounds
+        AudioBus bus;
+        float gain;
+        float pan;         // -1 (left) to 1 (right)
+        boolean loop;
+        int priority;
+        int frames;        // Fade length
+        int epoch;         // Game frame the command was posted in
+
+        private long position;
+
+        void clear() {
+            type = null;
+            name = null;
+            path = null;
+            buffer = null;
+            bus = null;
+            gain = 1.0f;
+            pan = 0.0f;
+            loop = false;
+            priority = 0;
+            frames = 0;
+        }
+
+        void copyFrom(Command other) {
+            type = other.type;
+            name = other.name;
+            path = other.path;
+            buffer = other.buffer;
+            bus = other.bus;
+            gain = other.gain;
+            pan = other.pan;
+            loop = other.loop;
+            priority = other.priority;
+            frames = other.frames;
+            epoch = other.epoch;
+        }
+
+        /** Same target: the sound name, or the bus for name-less commands. */
+        boolean sameKey(Command other) {
+            if (name != null) return name.equals(other.name);
+            return other.name == null && bus == other.bus;
+        }
+
+        /** Identical in every field that affects what the mixer does. */
+        boolean sameAs(Command other) {
+            return type == other.type && sameKey(other) && epoch == other.epoch
+                    && buffer == other.buffer && bus == other.bus && gain == other.gain && pan == other.pan
+                    && loop == other.loop && priority == other.priority && frames == other.frames;
+        }
+    }
+
+    private final Command[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0; // Consumer only
+
+    private final AtomicInteger epoch = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    AudioCommandQueue(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        slots = new Command[capacity];
+        sequences = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Command();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claim a free slot to fill in. Returns null (and counts a drop) if the
+     * queue is full. Every claimed slot must be passed to {@link #publish(Command)}.
+     */
+    Command claim() {
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    Command command = slots[index];
+                    command.clear();
+                    command.position = pos;
+                    command.epoch = epoch.get();
+                    return command;
+                }
+            } else if (diff < 0) {
+                dropped.incrementAndGet();
+                return null;
+            }
+            // Another producer took this slot; retry with the new tail
+        }
+    }
+
+    /** Make a filled slot visible to the consumer. */
+    void publish(Command command) {
+        long pos = command.position;
+        sequences.lazySet((int) (pos & mask), pos + 1);
+    }
+
+    /**
+     * Next published command, or null if none. Audio thread only. The returned
+     * slot stays valid until {@link #release(Command)}.
+     */
+    Command poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        return slots[index];
+    }
+
+    /** Hand a polled slot back to producers. Audio thread only. */
+    void release(Command command) {
+        command.buffer = null; // Don't pin decoded audio in an idle slot
+        sequences.lazySet((int) (head & mask), head + mask + 1);
+        head++;
+    }
+
+    /** Start a new coalescing window; called once per game frame. */
+    void nextEpoch() {
+        epoch.incrementAndGet();
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,564 @@
+package com.buglife.assets;
+
+import java.util.Arrays;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.assets.AudioCommandQueue.Command;
+import com.buglife.assets.AudioCommandQueue.Type;
+import com.buglife.config.GameConstants;
+
+/**
+ * Software mixer that plays every sound through one output line.
+ *
+ * A dedicated audio thread mixes a fixed pool of voices into a single
+ * {@link SourceDataLine}. Each voice plays a shared {@link PcmBuffer} or a
+ * streamed {@link MusicStream} with its own gain and fade envelope, and is
+ * routed through a {@link AudioBus}. When every voice is busy,
+ * a new sound steals the lowest-priority (then oldest) voice, or is dropped if
+ * everything playing outranks it.
+ *
+ * The public methods never block: they post to a lock-free
+ * {@link AudioCommandQueue} that the audio thread drains before each mix pass.
+ * Voices, streams and bus gains are touched only by the audio thread.
+ */
+public class AudioMixer {
+    private static final Logger logger = LoggerFactory.getLogger(AudioMixer.class);
+
+    private static final int CHANNELS = GameConstants.Audio.CHANNELS;
+    private static final int BLOCK_FRAMES = GameConstants.Audio.MIX_BLOCK_FRAMES;
+    private static final int LINE_BLOCKS = 4; // Blocks of latency queued in the output line
+
+    public static final AudioFormat FORMAT = new AudioFormat(
+            GameConstants.Audio.SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    /**
+     * One playback slot. Pooled: voices are reused, never allocated per sound.
+     * A voice plays either a shared decoded buffer or a streamed music track.
+     */
+    static final class Voice {
+        String name;
+        PcmBuffer buffer;
+        MusicStream stream;
+        AudioBus bus;
+        float gain;
+        float pan;
+        boolean loop;
+        int priority;
+        long startOrder;
+        int position; // In frames, buffer voices only
+        boolean active;
+
+        // Fade envelope, stepped once per mix block
+        float fade = 1.0f;
+        float fadeStep = 0.0f;
+        float fadeTarget = 1.0f;
+        boolean stopWhenSilent = false;
+
+        void reset() {
+            if (stream != null) {
+                stream.close();
+            }
+            name = null;
+            buffer = null;
+            stream = null;
+            active = false;
+            position = 0;
+            pan = 0.0f;
+            fade = 1.0f;
+            fadeStep = 0.0f;
+            fadeTarget = 1.0f;
+            stopWhenSilent = false;
+        }
+
+        boolean isFadingOut() {
+            return stopWhenSilent && fadeStep < 0;
+        }
+    }
+
+    private final AudioCommandQueue commands = new AudioCommandQueue(GameConstants.Audio.COMMAND_QUEUE_SIZE);
+
+    // Voice state, owned by the audio thread
+    private final Voice[] voices = new Voice[GameConstants.Audio.MAX_VOICES];
+    private final float[] busGains = new float[AudioBus.values().length];
+    private long voiceSequence = 0;
+
+    // Last command per sound in the current frame, for coalescing duplicates
+    private final Command[] recent = new Command[64];
+    private int recentCount = 0;
+    private volatile long coalescedCount = 0;
+    private volatile int activeVoiceCount = 0;
+
+    // Mix scratch space, only touched by the audio thread
+    private final float[] mixBuffer = new float[BLOCK_FRAMES * CHANNELS];
+    private final byte[] outputBuffer = new byte[BLOCK_FRAMES * CHANNELS * 2];
+
+    private SourceDataLine line;
+    private Thread audioThread;
+    private volatile boolean running = false;
+
+    public AudioMixer() {
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+        for (int i = 0; i < busGains.length; i++) {
+            busGains[i] = 1.0f;
+        }
+        for (int i = 0; i < recent.length; i++) {
+            recent[i] = new Command();
+        }
+    }
+
+    /**
+     * Open the output line and start the audio thread. If no audio device is
+     * available the mixer stays silent and every play call is ignored.
+     */
+    public void start() {
+        if (running) return;
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, outputBuffer.length * LINE_BLOCKS);
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            logger.warn("No audio output available, sound disabled: {}", e.getMessage());
+            line = null;
+            return;
+        }
+
+        running = true;
+        audioThread = new Thread(this::runMixLoop, "Audio-Mixer");
+        audioThread.setDaemon(true);
+        audioThread.setPriority(Thread.MAX_PRIORITY);
+        audioThread.start();
+        logger.info("Audio mixer started: {} voices, {} Hz", voices.length, (int) FORMAT.getSampleRate());
+    }
+
+    /**
+     * Stop the audio thread and close the output line.
+     */
+    public void shutdown() {
+        if (!running) return;
+        running = false;
+        try {
+            audioThread.join(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        line.stop();
+        line.close();
+        logger.info("Audio mixer stopped");
+    }
+
+    public boolean isAvailable() {
+        return running;
+    }
+
+    // ─── Commands (any thread) ───
+    //
+    // None of these touch voices directly. They post to the command queue and
+    // return immediately; the audio thread applies them before its next mix pass.
+
+    /** Start a decoded sound on a fresh voice. */
+    public void play(PcmBuffer buffer, AudioBus bus, float gain, boolean loop, int priority) {
+        play(buffer, bus, gain, 0.0f, loop, priority);
+    }
+
+    /** Start a decoded sound on a fresh voice, panned -1 (left) to 1 (right). */
+    public void play(PcmBuffer buffer, AudioBus bus, float gain, float pan, boolean loop, int priority) {
+        if (buffer == null || buffer.frames == 0) return;
+        Command command = claim(Type.PLAY, buffer.name);
+        if (command == null) return;
+        command.buffer = buffer;
+        command.bus = bus;
+        command.gain = gain;
+        command.pan = pan;
+        command.loop = loop;
+        command.priority = priority;
+        commands.publish(command);
+    }
+
+    /** Stream a music track from the start on a fresh voice. */
+    public void playStream(String name, String path, AudioBus bus, float gain, boolean loop, int priority) {
+        Command command = claim(Type.PLAY_STREAM, name);
+        if (command == null) return;
+        command.path = path;
+        command.bus = bus;
+        command.gain = gain;
+        command.loop = loop;
+        command.priority = priority;
+        commands.publish(command);
+    }
+
+    /**
+     * Loop a sound unless it is already playing. A decoded sound passes its
+     * buffer; a streamed track passes its path. If the sound is fading out it
+     * is faded back in over {@code frames} instead of restarted.
+     */
+    public void loop(String name, PcmBuffer buffer, String path, AudioBus bus, float gain, int priority, int frames) {
+        Command command = claim(Type.LOOP, name);
+        if (command == null) return;
+        command.buffer = buffer;
+        command.path = path;
+        command.bus = bus;
+        command.gain = gain;
+        command.priority = priority;
+        command.frames = frames;
+        commands.publish(command);
+    }
+
+    /**
+     * Fade out every other voice on the track's bus while the track fades in
+     * (looping), or keeps playing if it already is.
+     */
+    public void crossfade(String name, String path, AudioBus bus, float gain, int priority, int frames) {
+        Command command = claim(Type.CROSSFADE, name);
+        if (command == null) return;
+        command.path = path;
+        command.bus = bus;
+        command.gain = gain;
+        command.priority = priority;
+        command.frames = frames;
+        commands.publish(command);
+    }
+
+    /** Stop every voice playing the named sound. */
+    public void stop(String name) {
+        Command command = claim(Type.STOP, name);
+        if (command != null) commands.publish(command);
+    }
+
+    public void stopAll() {
+        Command command = claim(Type.STOP_ALL, null);
+        if (command != null) commands.publish(command);
+    }
+
+    /** Change the gain of voices already playing the named sound. */
+    public void setVoiceGain(String name, float gain) {
+        Command command = claim(Type.SET_VOICE_GAIN, name);
+        if (command == null) return;
+        command.gain = gain;
+        commands.publish(command);
+    }
+
+    public void setBusGain(AudioBus bus, float gain) {
+        Command command = claim(Type.SET_BUS_GAIN, null);
+        if (command == null) return;
+        command.bus = bus;
+        command.gain = gain;
+        commands.publish(command);
+    }
+
+    /**
+     * Mark the end of a game frame. Identical commands posted within one frame
+     * (every spider stopping "music", two tripwires playing "webbed") are
+     * applied once.
+     */
+    public void endFrame() {
+        commands.nextEpoch();
+    }
+
+    /** Voices playing as of the last mix pass. */
+    public int getActiveVoiceCount() {
+        return activeVoiceCount;
+    }
+
+    /** Commands dropped because the queue was full. */
+    public long getDroppedCommandCount() {
+        return commands.getDroppedCount();
+    }
+
+    /** Commands skipped as duplicates within a frame. */
+    public long getCoalescedCommandCount() {
+        return coalescedCount;
+    }
+
+    private Command claim(Type type, String name) {
+        if (!running) return null;
+        Command command = commands.claim();
+        if (command != null) {
+            command.type = type;
+            command.name = name;
+        }
+        return command;
+    }
+
+    // ─── Command handling (audio thread) ───
+
+    private void drainCommands() {
+        Command command;
+        while ((command = commands.poll()) != null) {
+            if (isDuplicate(command)) {
+                coalescedCount++;
+            } else {
+                apply(command);
+            }
+            commands.release(command);
+        }
+    }
+
+    /**
+     * True if this command repeats the last command applied to the same sound
+     * (or bus) in the same frame. Only the last command per key counts, so
+     * "play, stop, play" still ends up playing.
+     */
+    private boolean isDuplicate(Command command) {
+        if (recentCount > 0 && recent[0].epoch != command.epoch) {
+            recentCount = 0; // New frame
+        }
+        if (command.type == Type.STOP_ALL) {
+            boolean duplicate = recentCount == 1 && recent[0].type == Type.STOP_ALL;
+            recentCount = 0; // Everything before a stop-all is moot
+            remember(command, 0);
+            return duplicate;
+        }
+        for (int i = 0; i < recentCount; i++) {
+            if (recent[i].sameKey(command)) {
+                if (recent[i].sameAs(command)) {
+                    return true;
+                }
+                recent[i].copyFrom(command);
+                return false;
+            }
+        }
+        if (recentCount < recent.length) {
+            remember(command, recentCount);
+        }
+        return false;
+    }
+
+    private void remember(Command command, int index) {
+        recent[index].copyFrom(command);
+        recent[index].buffer = null; // Compared by identity only; don't pin it
+        if (index == recentCount) recentCount++;
+    }
+
+    private void apply(Command command) {
+        switch (command.type) {
+            case PLAY:
+            case PLAY_STREAM:
+                startVoice(command, false);
+                break;
+            case LOOP:
+                if (!isPlaying(command.name) && !fadeVoices(command.name, 1.0f, command.frames, false)) {
+                    command.loop = true;
+                    startVoice(command, false);
+                }
+                break;
+            case CROSSFADE:
+                for (Voice voice : voices) {
+                    if (voice.active && voice.bus == command.bus && !voice.name.equals(command.name)) {
+                        startFade(voice, 0.0f, command.frames, true);
+                    }
+                }
+                if (!isPlaying(command.name) && !fadeVoices(command.name, 1.0f, command.frames, false)) {
+                    command.loop = true;
+                    startVoice(command, true);
+                }
+                break;
+            case STOP:
+                for (Voice voice : voices) {
+                    if (voice.active && voice.name.equals(command.name)) {
+                        voice.reset();
+                    }
+                }
+                break;
+            case STOP_ALL:
+                for (Voice voice : voices) {
+                    voice.reset();
+                }
+                break;
+            case SET_VOICE_GAIN:
+                for (Voice voice : voices) {
+                    if (voice.active && voice.name.equals(command.name)) {
+                        voice.gain = command.gain;
+                    }
+                }
+                break;
+            case SET_BUS_GAIN:
+                busGains[command.bus.ordinal()] = command.gain;
+                break;
+        }
+    }
+
+    private void startVoice(Command command, boolean fadeIn) {
+        Voice voice = findVoice(command.priority);
+        if (voice == null) {
+            logger.debug("Voice limit reached, dropped '{}'", command.name);
+            return;
+        }
+        voice.name = command.name;
+        voice.bus = command.bus;
+        voice.gain = command.gain;
+        voice.pan = command.pan;
+        voice.loop = command.loop;
+        voice.priority = command.priority;
+        voice.startOrder = voiceSequence++;
+        voice.position = 0;
+        voice.active = true;
+        if (command.buffer != null) {
+            voice.buffer = command.buffer;
+        } else {
+            voice.stream = new MusicStream(command.name, command.path, command.loop);
+        }
+        if (fadeIn) {
+            voice.fade = 0.0f;
+            startFade(voice, 1.0f, command.frames, false);
+        }
+    }
+
+    /** True if the named sound is playing and not on its way out. */
+    private boolean isPlaying(String name) {
+        for (Voice voice : voices) {
+            if (voice.active && voice.name.equals(name) && !voice.isFadingOut()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Fade all voices of a sound toward a target. Returns false if none are playing. */
+    private boolean fadeVoices(String name, float target, int frames, boolean stopWhenSilent) {
+        boolean found = false;
+        for (Voice voice : voices) {
+            if (voice.active && voice.name.equals(name)) {
+                startFade(voice, target, frames, stopWhenSilent);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private static void startFade(Voice voice, float target, int frames, boolean stopWhenSilent) {
+        voice.fadeTarget = target;
+        voice.stopWhenSilent = stopWhenSilent;
+        float blocks = Math.max(1.0f, frames / (float) BLOCK_FRAMES);
+        voice.fadeStep = (target - voice.fade) / blocks;
+    }
+
+    /**
+     * Free voice if there is one, otherwise the weakest voice the new sound is
+     * allowed to steal, otherwise null.
+     */
+    private Voice findVoice(int priority) {
+        Voice victim = null;
+        for (Voice voice : voices) {
+            if (!voice.active) return voice;
+            if (victim == null
+                    || voice.priority < victim.priority
+                    || (voice.priority == victim.priority && voice.startOrder < victim.startOrder)) {
+                victim = voice;
+            }
+        }
+        if (victim != null && victim.priority <= priority) {
+            logger.debug("Stealing voice '{}' (priority {})", victim.name, victim.priority);
+            victim.reset();
+            return victim;
+        }
+        return null;
+    }
+
+    // ─── Audio thread ───
+
+    private void runMixLoop() {
+        while (running) {
+            drainCommands();
+            mixBlock();
+            // Blocks once the line is full, which paces this thread to real time
+            line.write(outputBuffer, 0, outputBuffer.length);
+        }
+    }
+
+    private void mixBlock() {
+        Arrays.fill(mixBuffer, 0f);
+
+        for (Voice voice : voices) {
+            if (!voice.active) continue;
+
+            float gain = voice.gain * voice.fade * busGains[voice.bus.ordinal()];
+            // Balance law: centred sounds stay at full gain on both sides
+            float gainLeft = gain * Math.min(1.0f, 1.0f - voice.pan);
+            float gainRight = gain * Math.min(1.0f, 1.0f + voice.pan);
+            if (voice.stream != null) {
+                mixStream(voice, gainLeft, gainRight);
+            } else {
+                mixDecoded(voice, gainLeft, gainRight);
+            }
+            if (voice.active) {
+                stepFade(voice);
+            }
+        }
+
+        int active = 0;
+        for (Voice voice : voices) {
+            if (voice.active) active++;
+        }
+        activeVoiceCount = active;
+
+        for (int i = 0; i < mixBuffer.length; i++) {
+            int sample = Math.round(mixBuffer[i]);
+            if (sample > Short.MAX_VALUE) sample = Short.MAX_VALUE;
+            else if (sample < Short.MIN_VALUE) sample = Short.MIN_VALUE;
+            outputBuffer[i * 2] = (byte) sample;
+            outputBuffer[i * 2 + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    private void mixDecoded(Voice voice, float gainLeft, float gainRight) {
+        short[] samples = voice.buffer.samples;
+        int frames = voice.buffer.frames;
+        int position = voice.position;
+
+        for (int f = 0; f < BLOCK_FRAMES; f++) {
+            if (position >= frames) {
+                if (!voice.loop) {
+                    voice.reset();
+                    return;
+                }
+                position = 0;
+            }
+            int s = position * CHANNELS;
+            mixBuffer[f * CHANNELS] += samples[s] * gainLeft;
+            mixBuffer[f * CHANNELS + 1] += samples[s + 1] * gainRight;
+            position++;
+        }
+        voice.position = position;
+    }
+
+    private void mixStream(Voice voice, float gainLeft, float gainRight) {
+        MusicStream stream = voice.stream;
+        stream.fill();
+        stream.read(mixBuffer, BLOCK_FRAMES, gainLeft, gainRight);
+        if (stream.isFinished()) {
+            voice.reset();
+        }
+    }
+
+    private static void stepFade(Voice voice) {
+        if (voice.fadeStep == 0.0f) return;
+        voice.fade += voice.fadeStep;
+        boolean reached = voice.fadeStep > 0 ? voice.fade >= voice.fadeTarget : voice.fade <= voice.fadeTarget;
+        if (reached) {
+            voice.fade = voice.fadeTarget;
+            voice.fadeStep = 0.0f;
+            if (voice.stopWhenSilent && voice.fade <= 0.0f) {
+                voice.reset();
+            }
+        }
+    }
+
+    /**
+     * Convert a 0-1 volume slider value to a linear amplitude, using the same
+     * logarithmic curve the old Clip gain controls used (-80 dB to 0 dB).
+     */
+    public static float volumeToGain(float volume) {
+        if (volume <= 0.0f) return 0.0f;
+        double db = -80.0 + 80.0 * Math.log10(Math.min(1.0f, volume) * 9 + 1);
+        return (float) Math.pow(10.0, db / 20.0);
+    }
+}
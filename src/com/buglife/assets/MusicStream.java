@@ -0,0 +1,220 @@
+package com.buglife.assets;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.config.GameConstants;
+
+/**
+ * A music track decoded on the fly into a small ring buffer.
+ *
+ * Only the audio thread touches a stream. It calls {@link #fill()} before each
+ * mix pass to top the ring up from disk, then {@link #read(float[], int, float, float)}
+ * to mix frames out of it. Resident memory is the ring plus one decode chunk,
+ * no matter how long the track is. Looping reopens the source as soon as it
+ * hits EOF inside the same fill, so the loop point has no gap.
+ */
+final class MusicStream {
+    private static final Logger logger = LoggerFactory.getLogger(MusicStream.class);
+
+    private static final int CHANNELS = GameConstants.Audio.CHANNELS;
+    private static final int RING_FRAMES = GameConstants.Audio.STREAM_RING_FRAMES;
+    private static final int CHUNK_BYTES = 16 * 1024;
+
+    final String name;
+    private final String path;
+    private final boolean loop;
+
+    // Ring of interleaved stereo samples at the mixer rate
+    private final short[] ring = new short[RING_FRAMES * CHANNELS];
+    private int readFrame = 0;
+    private int writeFrame = 0;
+    private int buffered = 0;
+
+    private final byte[] chunk = new byte[CHUNK_BYTES];
+    private AudioInputStream source;
+    private int sourceChannels;
+    private double step; // Source frames per output frame
+    private boolean ended = false;
+    private boolean failed = false;
+
+    // Linear resampler state: the two source frames we are interpolating between
+    private double phase = 0.0;
+    private short prevLeft, prevRight, curLeft, curRight;
+    private boolean primed = false;
+
+    MusicStream(String name, String path, boolean loop) {
+        this.name = name;
+        this.path = path;
+        this.loop = loop;
+    }
+
+    /** True once the track has ended (or failed) and the ring is drained. */
+    boolean isFinished() {
+        return (ended || failed) && buffered == 0;
+    }
+
+    /**
+     * Decode from the source until the ring is full or the track ends.
+     */
+    void fill() {
+        if (failed) return;
+        while (!ended) {
+            boolean reopened = false;
+            if (source == null) {
+                if (!open()) return;
+                reopened = true;
+            }
+            // Read only as many source frames as the free ring space can take after
+            // resampling (minus one frame of interpolation slack)
+            int sourceFrames = (int) ((RING_FRAMES - buffered - 2) * step);
+            if (sourceFrames < 1) {
+                return;
+            }
+            int bytesPerFrame = sourceChannels * 2;
+            int wanted = Math.min(chunk.length / bytesPerFrame, sourceFrames) * bytesPerFrame;
+
+            int n;
+            try {
+                n = readFully(wanted);
+            } catch (IOException e) {
+                logger.error("Music stream read failed: {}", path, e);
+                failed = true;
+                closeSource();
+                return;
+            }
+
+            if (n > 0) {
+                push(n / bytesPerFrame);
+            }
+            if (n < wanted) {
+                // End of file
+                closeSource();
+                if (reopened && n == 0) {
+                    failed = true; // Empty track, don't spin reopening it
+                    return;
+                }
+                if (loop) {
+                    continue; // Reopen immediately so the loop point is seamless
+                }
+                ended = true;
+            }
+        }
+    }
+
+    /**
+     * Mix up to {@code frames} frames into {@code mix}, scaled per channel.
+     * Returns the number of frames actually available.
+     */
+    int read(float[] mix, int frames, float gainLeft, float gainRight) {
+        int count = Math.min(frames, buffered);
+        for (int f = 0; f < count; f++) {
+            int r = readFrame * CHANNELS;
+            mix[f * CHANNELS] += ring[r] * gainLeft;
+            mix[f * CHANNELS + 1] += ring[r + 1] * gainRight;
+            readFrame = (readFrame + 1) % RING_FRAMES;
+        }
+        buffered -= count;
+        return count;
+    }
+
+    void close() {
+        closeSource();
+        failed = true;
+        buffered = 0;
+    }
+
+    // ─── Decoding ───
+
+    private boolean open() {
+        InputStream raw = MusicStream.class.getResourceAsStream(path);
+        if (raw == null) {
+            logger.warn("Sound file not found: {}", path);
+            failed = true;
+            return false;
+        }
+        try {
+            AudioInputStream encoded = AudioSystem.getAudioInputStream(new BufferedInputStream(raw));
+            AudioFormat format = encoded.getFormat();
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                    format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+            source = AudioSystem.getAudioInputStream(pcm, encoded);
+            sourceChannels = pcm.getChannels();
+            step = pcm.getSampleRate() / GameConstants.Audio.SAMPLE_RATE;
+            return true;
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            logger.error("Audio file format not supported: {} - Use WAV format", path, e);
+            failed = true;
+            try {
+                raw.close();
+            } catch (IOException ignored) {
+                // Nothing left to clean up
+            }
+            return false;
+        }
+    }
+
+    private int readFully(int wanted) throws IOException {
+        int total = 0;
+        while (total < wanted) {
+            int n = source.read(chunk, total, wanted - total);
+            if (n < 0) break;
+            total += n;
+        }
+        return total;
+    }
+
+    /** Convert decoded source frames to stereo at the mixer rate and append them to the ring. */
+    private void push(int sourceFrames) {
+        for (int f = 0; f < sourceFrames; f++) {
+            int base = f * sourceChannels * 2;
+            short left = (short) ((chunk[base] & 0xFF) | (chunk[base + 1] << 8));
+            short right = left;
+            if (sourceChannels > 1) {
+                right = (short) ((chunk[base + 2] & 0xFF) | (chunk[base + 3] << 8));
+            }
+
+            if (!primed) {
+                curLeft = left;
+                curRight = right;
+                primed = true;
+                continue;
+            }
+            prevLeft = curLeft;
+            prevRight = curRight;
+            curLeft = left;
+            curRight = right;
+
+            // Emit every output frame that falls between prev and cur
+            while (phase < 1.0) {
+                int w = writeFrame * CHANNELS;
+                ring[w] = (short) (prevLeft + (curLeft - prevLeft) * phase);
+                ring[w + 1] = (short) (prevRight + (curRight - prevRight) * phase);
+                writeFrame = (writeFrame + 1) % RING_FRAMES;
+                buffered++;
+                phase += step;
+            }
+            phase -= 1.0;
+        }
+    }
+
+    private void closeSource() {
+        if (source != null) {
+            try {
+                source.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close music stream {}", path, e);
+            }
+            source = null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.buglife.assets;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+import com.buglife.config.GameConstants;
+
+/**
+ * A fully decoded sound in the mixer's output format: interleaved 16-bit
+ * stereo at {@link GameConstants.Audio#SAMPLE_RATE}.
+ *
+ * One buffer is shared by every voice playing that sound, so two overlapping
+ * "eat" sounds cost one copy of the PCM data, not two.
+ */
+final class PcmBuffer {
+    final String name;
+    final short[] samples; // Interleaved L/R
+    final int frames;
+
+    private PcmBuffer(String name, short[] samples) {
+        this.name = name;
+        this.samples = samples;
+        this.frames = samples.length / GameConstants.Audio.CHANNELS;
+    }
+
+    /** Bytes of PCM held by this buffer. */
+    long sizeBytes() {
+        return (long) samples.length * 2;
+    }
+
+    /**
+     * Decode a WAV (or any format javax.sound can read) into the mixer format.
+     * Mono sources are duplicated to both channels and other sample rates are
+     * linearly resampled.
+     */
+    static PcmBuffer decode(String name, InputStream source) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream raw = AudioSystem.getAudioInputStream(new BufferedInputStream(source))) {
+            AudioFormat sourceFormat = raw.getFormat();
+            AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                    sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(),
+                    sourceFormat.getChannels() * 2, sourceFormat.getSampleRate(), false);
+
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, raw)) {
+                byte[] bytes = readAll(pcm);
+                short[] stereo = toStereo(bytes, pcmFormat.getChannels());
+                short[] resampled = resample(stereo, pcmFormat.getSampleRate(), GameConstants.Audio.SAMPLE_RATE);
+                return new PcmBuffer(name, resampled);
+            }
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            out.write(chunk, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /** Little-endian 16-bit PCM with any channel count to interleaved stereo. */
+    static short[] toStereo(byte[] bytes, int channels) {
+        int frames = bytes.length / (2 * channels);
+        short[] out = new short[frames * 2];
+        for (int f = 0; f < frames; f++) {
+            int base = f * channels * 2;
+            short left = (short) ((bytes[base] & 0xFF) | (bytes[base + 1] << 8));
+            short right = left;
+            if (channels > 1) {
+                right = (short) ((bytes[base + 2] & 0xFF) | (bytes[base + 3] << 8));
+            }
+            out[f * 2] = left;
+            out[f * 2 + 1] = right;
+        }
+        return out;
+    }
+
+    /** Linear-interpolation resample of interleaved stereo. */
+    static short[] resample(short[] stereo, float fromRate, int toRate) {
+        if (Math.abs(fromRate - toRate) < 1f) {
+            return stereo;
+        }
+        int inFrames = stereo.length / 2;
+        int outFrames = (int) ((long) inFrames * toRate / (long) fromRate);
+        short[] out = new short[outFrames * 2];
+        double step = fromRate / toRate;
+        for (int f = 0; f < outFrames; f++) {
+            double pos = f * step;
+            int i = (int) pos;
+            double frac = pos - i;
+            int next = Math.min(i + 1, inFrames - 1);
+            for (int c = 0; c < 2; c++) {
+                double a = stereo[i * 2 + c];
+                double b = stereo[next * 2 + c];
+                out[f * 2 + c] = (short) Math.round(a + (b - a) * frac);
+            }
+        }
+        return out;
+    }
+}
@@ -1,113 +1,304 @@
 package com.buglife.assets;
 
-import javax.sound.sampled.*;
-import java.io.BufferedInputStream;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
 import java.io.InputStream;
-//import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.buglife.config.GameConstants;
+
 public class SoundManager {
 
-    private Map<String, Clip> soundClips; // Stores loaded sound effects
+    private final Map<String, PcmBuffer> sounds; // Decoded effects, shared by every voice playing them
+    private final Map<String, String> musicPaths = new HashMap<>(); // Music tracks, streamed from disk on play
+    private final Map<String, Integer> soundRefs = new HashMap<>(); // Level scopes holding each sound
+    private final Map<String, Float> soundVolumes = new HashMap<>(); // Per-sound volume from setVolume
+    private final AudioMixer mixer;
     private float masterVolume = 0.8f; // 0.0 to 1.0
     private float musicVolume = 0.8f;
     private float sfxVolume = 1.0f;
-    private final String[] musicTracks = {"music", "menuMusic", "chasing"};
+
+    // Positional sounds collected during a frame, flushed to the mixer in endFrame
+    private final SoundEvent[] eventPool = new SoundEvent[GameConstants.Audio.EVENT_POOL_SIZE];
+    private int eventCount = 0;
+    private double listenerX, listenerY;
+    private boolean hasListener = false;
+
+    /**
+     * One positional sound waiting for the end of the frame. Pooled, never
+     * allocated per event.
+     */
+    private static final class SoundEvent {
+        PcmBuffer buffer;
+        float gain;
+        float pan;
+    }
 
     public SoundManager() {
-        soundClips = new HashMap<>();
-        // Pre-load sounds you'll use often
-        
-        loadSound("eat", "/res/sounds/eat_sound.wav");
-        loadSound("webbed", "/res/sounds/web_sound.wav");
-        loadSound("gameOver", "/res/sounds/humming.wav");
-        loadSound("music", "/res/sounds/game_theme.wav");
-        loadSound("struggle", "/res/sounds/struggle.wav");
-        loadSound("menu", "/res/sounds/menu_selection.wav");
-        loadSound("menuMusic", "/res/sounds/menu_music.wav");
-        loadSound("lowhunger", "/res/sounds/low_hunger.wav");
-        loadSound("chasing", "/res/sounds/chasing.wav");
-        // Load others as needed
+        this(true);
+    }
+
+    /**
+     * @param audioOutput false for a silent manager (headless replays and
+     *                    benchmarks): sounds are still loaded and tracked, but
+     *                    the mixer never opens an output line, so every play
+     *                    call is ignored
+     */
+    public SoundManager(boolean audioOutput) {
+        sounds = new HashMap<>();
+        for (int i = 0; i < eventPool.length; i++) {
+            eventPool[i] = new SoundEvent();
+        }
+        mixer = new AudioMixer();
+        if (audioOutput) {
+            mixer.start();
+        }
+        updateAllVolumes();
+
+        // Only menu/game-over sounds stay resident; gameplay sounds are
+        // acquired per level through AssetManager.openLevelScope
+        for (String name : AssetManifest.GLOBAL_SOUNDS) {
+            loadSound(name, AssetManifest.getSoundPath(name));
+        }
+    }
+
+    /**
+     * Take a reference on a manifest sound, loading it on first use.
+     */
+    public void acquireSound(String name) {
+        int refs = soundRefs.merge(name, 1, Integer::sum);
+        if (refs == 1 && !sounds.containsKey(name) && !musicPaths.containsKey(name)) {
+            String path = AssetManifest.getSoundPath(name);
+            if (path == null) {
+                System.err.println("Sound not in manifest: " + name);
+                return;
+            }
+            loadSound(name, path);
+        }
+    }
+
+    /**
+     * Drop a reference taken by {@link #acquireSound(String)}. The decoded data is
+     * freed once nothing holds it, unless it is one of the global sounds.
+     */
+    public void releaseSound(String name) {
+        Integer refs = soundRefs.get(name);
+        if (refs == null) return;
+        if (refs > 1) {
+            soundRefs.put(name, refs - 1);
+            return;
+        }
+        soundRefs.remove(name);
+        if (AssetManifest.GLOBAL_SOUNDS.contains(name)) return;
+
+        if (sounds.remove(name) != null || musicPaths.remove(name) != null) {
+            mixer.stop(name);
+        }
     }
 
     public void loadSound(String name, String path) {
-        try (InputStream audioSrc = getClass().getResourceAsStream(path);
-             InputStream bufferedIn = audioSrc != null ? new BufferedInputStream(audioSrc) : null) {
-            
-            if (bufferedIn == null) {
+        if (AssetManifest.getSoundBus(name) == AudioBus.MUSIC) {
+            // Music is never decoded up front; each play streams it through a small ring buffer
+            musicPaths.put(name, path);
+            return;
+        }
+        try (InputStream audioSrc = getClass().getResourceAsStream(path)) {
+            if (audioSrc == null) {
                 System.err.println("Sound file not found: " + path);
                 return;
             }
+            sounds.put(name, PcmBuffer.decode(name, audioSrc));
 
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-            soundClips.put(name, clip);
-            
         } catch (UnsupportedAudioFileException e) {
             System.err.println("Error: Audio file format not supported: " + path + " - Use WAV format.");
-        } catch (LineUnavailableException e) {
-            System.err.println("Error: Audio line unavailable for: " + path);
-        } catch (Exception e) {
+        } catch (IOException | IllegalArgumentException e) {
             System.err.println("Error loading sound: " + path);
         }
     }
 
     public void playSound(String name) {
-        Clip clip = soundClips.get(name);
-        if (clip != null) {
-            // Stop and reset the clip before playing again
-            if (clip.isRunning()) {
-                clip.stop();
-            }
-            clip.setFramePosition(0); // Rewind to the beginning
-            clip.start();
-        } else {
+        String musicPath = musicPaths.get(name);
+        if (musicPath != null) {
+            // Music restarts from the top instead of layering over itself
+            mixer.stop(name);
+            mixer.playStream(name, musicPath, AudioBus.MUSIC, soundGain(name), false,
+                    GameConstants.Audio.MUSIC_PRIORITY);
+            return;
+        }
+        PcmBuffer buffer = sounds.get(name);
+        if (buffer == null) {
             System.err.println("Sound not found: " + name);
+            return;
         }
+        // Effects get a fresh voice so overlapping sounds don't cut each other off
+        mixer.play(buffer, AudioBus.SFX, soundGain(name), false, GameConstants.Audio.SFX_PRIORITY);
     }
 
     // Special method for looping background music
     public void loopSound(String name) {
-        Clip clip = soundClips.get(name);
-        if (clip != null) {
-            clip.loop(Clip.LOOP_CONTINUOUSLY);
-        } else {
+        String musicPath = musicPaths.get(name);
+        if (musicPath != null) {
+            mixer.loop(name, null, musicPath, AudioBus.MUSIC, soundGain(name),
+                    GameConstants.Audio.MUSIC_PRIORITY, GameConstants.Audio.MUSIC_CROSSFADE_FRAMES);
+            return;
+        }
+        PcmBuffer buffer = sounds.get(name);
+        if (buffer == null) {
             System.err.println("Looping sound not found: " + name);
-            // Try loading it now if not pre-loaded
-            // loadSound(name, "/res/sounds/" + name + ".wav"); // Adjust path as needed
-            // clip = soundClips.get(name);
-            // if (clip != null) clip.loop(Clip.LOOP_CONTINUOUSLY);
+            return;
+        }
+        mixer.loop(name, buffer, null, AudioBus.SFX, soundGain(name), GameConstants.Audio.SFX_PRIORITY, 0);
+    }
+
+    /**
+     * Crossfade to a looping music track: every other music track fades out
+     * while this one fades in (or keeps playing if it already is).
+     */
+    public void crossfadeMusic(String name) {
+        String musicPath = musicPaths.get(name);
+        if (musicPath == null) {
+            System.err.println("Music track not found: " + name);
+            return;
         }
+        mixer.crossfade(name, musicPath, AudioBus.MUSIC, soundGain(name),
+                GameConstants.Audio.MUSIC_PRIORITY, GameConstants.Audio.MUSIC_CROSSFADE_FRAMES);
     }
-    
+
     // Method to stop a specific sound or all sounds
     public void stopSound(String name) {
-         Clip clip = soundClips.get(name);
-         if (clip != null && clip.isRunning()) {
-             clip.stop();
-         }
+        mixer.stop(name);
     }
 
     public void stopAllSounds() {
-        for (Clip clip : soundClips.values()) {
-            if (clip.isRunning()) {
-                clip.stop();
+        eventCount = 0;
+        mixer.stopAll();
+    }
+
+    // ─── Positional sound ───
+
+    /**
+     * Set where the listener is in world pixels (normally the player).
+     * Positional sounds are attenuated and panned relative to this point.
+     */
+    public void setListenerPosition(double worldX, double worldY) {
+        this.listenerX = worldX;
+        this.listenerY = worldY;
+        this.hasListener = true;
+    }
+
+    /**
+     * Play an effect at a world position. Volume falls off with distance from
+     * the listener and the sound is panned toward its side of the screen.
+     * Events too quiet to hear are dropped here, before they reach the mixer.
+     *
+     * Events are held in a fixed pool until {@link #endFrame()}: repeats of
+     * the same sound in one frame merge into the loudest, and when the pool
+     * is full the quietest event gives way.
+     */
+    public void playAt(String name, double worldX, double worldY) {
+        PcmBuffer buffer = sounds.get(name);
+        if (buffer == null) {
+            if (musicPaths.containsKey(name)) {
+                playSound(name); // Music has no position
+            } else {
+                System.err.println("Sound not found: " + name);
             }
+            return;
         }
+
+        float gain = 1.0f;
+        float pan = 0.0f;
+        if (hasListener) {
+            double dx = worldX - listenerX;
+            double dy = worldY - listenerY;
+            gain = distanceGain(Math.sqrt(dx * dx + dy * dy));
+            pan = (float) Math.max(-1.0, Math.min(1.0, dx / GameConstants.Audio.PAN_WIDTH));
+        }
+        if (gain < GameConstants.Audio.MIN_AUDIBLE_GAIN) {
+            return; // Culled: inaudible
+        }
+        queueEvent(buffer, gain, pan);
+    }
+
+    /**
+     * Linear fade from full volume at FULL_VOLUME_DISTANCE to silence at
+     * MAX_AUDIBLE_DISTANCE, squared so the falloff sounds natural.
+     */
+    private static float distanceGain(double distance) {
+        double near = GameConstants.Audio.FULL_VOLUME_DISTANCE;
+        double far = GameConstants.Audio.MAX_AUDIBLE_DISTANCE;
+        if (distance <= near) return 1.0f;
+        if (distance >= far) return 0.0f;
+        double t = 1.0 - (distance - near) / (far - near);
+        return (float) (t * t);
+    }
+
+    private void queueEvent(PcmBuffer buffer, float gain, float pan) {
+        SoundEvent quietest = null;
+        for (int i = 0; i < eventCount; i++) {
+            SoundEvent event = eventPool[i];
+            if (event.buffer == buffer) {
+                if (gain > event.gain) {
+                    event.gain = gain;
+                    event.pan = pan;
+                }
+                return;
+            }
+            if (quietest == null || event.gain < quietest.gain) {
+                quietest = event;
+            }
+        }
+
+        SoundEvent slot;
+        if (eventCount < eventPool.length) {
+            slot = eventPool[eventCount++];
+        } else if (quietest != null && quietest.gain < gain) {
+            slot = quietest;
+        } else {
+            return; // Pool full of louder events
+        }
+        slot.buffer = buffer;
+        slot.gain = gain;
+        slot.pan = pan;
     }
-    
+
+    private void flushEvents() {
+        for (int i = 0; i < eventCount; i++) {
+            SoundEvent event = eventPool[i];
+            String name = event.buffer.name;
+            mixer.play(event.buffer, AudioBus.SFX, soundGain(name) * event.gain, event.pan, false,
+                    GameConstants.Audio.SFX_PRIORITY);
+            event.buffer = null;
+        }
+        eventCount = 0;
+    }
+
+    /**
+     * Mark the end of a game frame: send this frame's positional sounds to the
+     * mixer and let it coalesce duplicate commands from this frame. Called once
+     * per tick by the game loop.
+     */
+    public void endFrame() {
+        flushEvents();
+        mixer.endFrame();
+    }
+
+    /**
+     * Stop the audio thread and release the output line. Call once on exit.
+     */
+    public void shutdown() {
+        mixer.shutdown();
+    }
+
     /**
      * Set volume for a specific sound (0.0 to 1.0)
      */
     public void setVolume(String soundName, float volume) {
-        Clip clip = soundClips.get(soundName);
-        if (clip != null) {
-            setClipVolume(clip, volume * masterVolume);
-        }
+        soundVolumes.put(soundName, Math.max(0.0f, Math.min(1.0f, volume)));
+        mixer.setVoiceGain(soundName, soundGain(soundName));
     }
-    
+
     /**
      * Set master volume affecting all sounds (0.0 to 1.0)
      */
@@ -115,91 +306,45 @@ public class SoundManager {
         this.masterVolume = Math.max(0.0f, Math.min(1.0f, volume));
         updateAllVolumes();
     }
-    
+
     /**
-     * Set music volume for background music tracks (0.0 to 1.0)
+     * Set music volume for the music bus (0.0 to 1.0)
      */
     public void setMusicVolume(float volume) {
         this.musicVolume = Math.max(0.0f, Math.min(1.0f, volume));
-        for (String musicName : musicTracks) {
-            Clip clip = soundClips.get(musicName);
-            if (clip != null) {
-                setClipVolume(clip, musicVolume * masterVolume);
-            }
-        }
+        mixer.setBusGain(AudioBus.MUSIC, AudioMixer.volumeToGain(musicVolume * masterVolume));
     }
-    
+
     /**
-     * Set SFX volume for sound effects (0.0 to 1.0)
+     * Set SFX volume for the effects bus (0.0 to 1.0)
      */
     public void setSFXVolume(float volume) {
         this.sfxVolume = Math.max(0.0f, Math.min(1.0f, volume));
-        for (Map.Entry<String, Clip> entry : soundClips.entrySet()) {
-            boolean isMusic = false;
-            for (String musicName : musicTracks) {
-                if (entry.getKey().equals(musicName)) {
-                    isMusic = true;
-                    break;
-                }
-            }
-            if (!isMusic) {
-                setClipVolume(entry.getValue(), sfxVolume * masterVolume);
-            }
-        }
+        mixer.setBusGain(AudioBus.SFX, AudioMixer.volumeToGain(sfxVolume * masterVolume));
     }
-    
+
     /**
-     * Update all volumes based on current settings
+     * Update both bus gains based on current settings
      */
     private void updateAllVolumes() {
-        for (Map.Entry<String, Clip> entry : soundClips.entrySet()) {
-            boolean isMusic = false;
-            for (String musicName : musicTracks) {
-                if (entry.getKey().equals(musicName)) {
-                    isMusic = true;
-                    break;
-                }
-            }
-            float volume = isMusic ? musicVolume : sfxVolume;
-            setClipVolume(entry.getValue(), volume * masterVolume);
-        }
+        mixer.setBusGain(AudioBus.MUSIC, AudioMixer.volumeToGain(musicVolume * masterVolume));
+        mixer.setBusGain(AudioBus.SFX, AudioMixer.volumeToGain(sfxVolume * masterVolume));
     }
-    
-    /**
-     * Set volume on a clip using FloatControl (converts 0-1 range to decibel range)
-     */
-    private void setClipVolume(Clip clip, float volume) {
-        if (clip == null) return;
-        
-        try {
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            float min = gainControl.getMinimum(); // typically -80.0 dB
-            float max = gainControl.getMaximum(); // typically 6.0 dB
-            
-            // Convert linear 0-1 to logarithmic decibel scale
-            float gain;
-            if (volume <= 0.0f) {
-                gain = min;
-            } else {
-                // Logarithmic mapping for natural volume perception
-                gain = min + (max - min) * (float) (Math.log10(volume * 9 + 1) / Math.log10(10));
-            }
-            
-            gainControl.setValue(gain);
-        } catch (IllegalArgumentException e) {
-            System.err.println("Volume control not supported for this clip");
-        }
+
+    private float soundGain(String name) {
+        Float volume = soundVolumes.get(name);
+        return volume == null ? 1.0f : AudioMixer.volumeToGain(volume);
     }
-    
+
     public float getMasterVolume() {
         return masterVolume;
     }
-    
+
     public float getMusicVolume() {
         return musicVolume;
     }
-    
+
     public float getSFXVolume() {
         return sfxVolume;
     }
-}
\ No newline at end of file
+}
@@ -7,148 +7,293 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Centralized configuration manager for loading and accessing game settings.
  * Uses Jackson for JSON parsing and provides type-safe access to config values.
+ *
+ * Gameplay values are bound once per load into an immutable {@link GameConfig}
+ * snapshot; read those through GameConfig.current(). The path getters below
+ * are for one-off startup values.
+ *
+ * HOT RELOAD:
+ *   startWatching() watches the directory config.json was loaded from and
+ *   reloads whenever it or keybindings.json changes, publishing a new
+ *   snapshot. Run with -Dbuglife.configDir=src/main/resources to load (and
+ *   watch) the source files instead of the copies on the classpath. A file
+ *   that fails to parse (e.g. half-saved) is ignored and the previous
+ *   snapshot stays in place.
  */
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
+    private static final String CONFIG_FILE = "config.json";
+    private static final String KEYBINDINGS_FILE = "keybindings.json";
+    private static final String CONFIG_DIR_PROPERTY = "buglife.configDir";
+    private static final long RELOAD_SETTLE_MS = 100; // Editors often write a file in several steps
+
     private static ConfigManager instance;
-    
+
     private final ObjectMapper mapper;
-    private JsonNode gameConfig;
-    private JsonNode keybindings;
-    private final Map<String, Object> cache;
-    
+    private final Path configDir; // Directory the files are read from, or null for the classpath
+    private volatile Loaded loaded; // Swapped whole on reload, never modified in place
+    private final Map<String, Object> runtimeValues = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    /**
+     * One load of the config files, published as a unit so a reader never
+     * pairs one load's root with another load's cached path lookups.
+     */
+    private static final class Loaded {
+        final JsonNode gameConfig;
+        final JsonNode keybindings;
+        final Map<String, JsonNode> pathCache = new ConcurrentHashMap<>();
+
+        Loaded(JsonNode gameConfig, JsonNode keybindings) {
+            this.gameConfig = gameConfig;
+            this.keybindings = keybindings;
+        }
+    }
+
     private ConfigManager() {
         this.mapper = new ObjectMapper();
-        this.cache = new HashMap<>();
+        String dir = System.getProperty(CONFIG_DIR_PROPERTY);
+        this.configDir = dir != null ? Paths.get(dir) : null;
         loadConfigurations();
     }
-    
-    public static ConfigManager getInstance() {
+
+    public static synchronized ConfigManager getInstance() {
         if (instance == null) {
             instance = new ConfigManager();
         }
         return instance;
     }
-    
+
     /**
-     * Load all configuration files
+     * Load all configuration files and publish a new snapshot
      */
     private void loadConfigurations() {
         try {
-            gameConfig = loadJsonResource("/config.json");
-            keybindings = loadJsonResource("/keybindings.json");
+            JsonNode config = loadJson(CONFIG_FILE);
+            JsonNode bindings = loadJson(KEYBINDINGS_FILE);
+            GameConfig snapshot = GameConfig.bind(config);
+            loaded = new Loaded(config, bindings);
+            GameConfig.publish(snapshot);
             logger.info("Configuration files loaded successfully");
         } catch (IOException e) {
+            if (loaded != null) {
+                logger.warn("Failed to reload configuration files, keeping the previous ones: {}", e.getMessage());
+                return;
+            }
             logger.error("Failed to load configuration files", e);
             // Use default values
-            gameConfig = mapper.createObjectNode();
-            keybindings = mapper.createObjectNode();
+            loaded = new Loaded(mapper.createObjectNode(), mapper.createObjectNode());
+            GameConfig.publish(GameConfig.DEFAULTS);
         }
     }
-    
+
     /**
-     * Load a JSON resource file
+     * Load a JSON file from the config directory, or from the classpath root
      */
-    private JsonNode loadJsonResource(String resourcePath) throws IOException {
-        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
+    private JsonNode loadJson(String fileName) throws IOException {
+        if (configDir != null) {
+            try (InputStream is = Files.newInputStream(configDir.resolve(fileName))) {
+                return mapper.readTree(is);
+            }
+        }
+        try (InputStream is = getClass().getResourceAsStream("/" + fileName)) {
             if (is == null) {
-                throw new IOException("Resource not found: " + resourcePath);
+                throw new IOException("Resource not found: /" + fileName);
             }
             return mapper.readTree(is);
         }
     }
-    
+
     /**
      * Reload configurations from disk
      */
     public void reload() {
-        cache.clear();
         loadConfigurations();
         logger.info("Configuration reloaded");
     }
-    
+
+    // ========== HOT RELOAD ==========
+
+    /**
+     * Start watching the config files for changes. Does nothing when they
+     * come from inside a jar, since those can't change.
+     */
+    public synchronized void startWatching() {
+        if (watchService != null) return;
+
+        Path dir = configDir != null ? configDir : classpathDirectory();
+        if (dir == null) {
+            logger.debug("Config files are not on the file system, hot reload disabled");
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            logger.warn("Could not watch {} for config changes", dir, e);
+            watchService = null;
+            return;
+        }
+
+        WatchService service = watchService;
+        Thread watcher = new Thread(() -> watch(service), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching {} for config changes", dir);
+    }
+
+    public synchronized void stopWatching() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Error closing config watcher", e);
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path) {
+                        String name = ((Path) context).getFileName().toString();
+                        changed |= name.equals(CONFIG_FILE) || name.equals(KEYBINDINGS_FILE);
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    Thread.sleep(RELOAD_SETTLE_MS);
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stopWatching()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Path classpathDirectory() {
+        URL url = getClass().getResource("/" + CONFIG_FILE);
+        if (url == null || !"file".equals(url.getProtocol())) return null;
+        try {
+            return Paths.get(url.toURI()).getParent();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // ========== PATH LOOKUPS ==========
+
     /**
      * Get a configuration value by path (e.g., "player.normalSpeed")
      */
     public <T> T get(String path, Class<T> type, T defaultValue) {
-        String cacheKey = path + ":" + type.getName();
-        
-        if (cache.containsKey(cacheKey)) {
-            return type.cast(cache.get(cacheKey));
+        JsonNode node = resolve(path);
+        if (node == null) {
+            logger.warn("Config path not found: {}, using default: {}", path, defaultValue);
+            return defaultValue;
         }
-        
         try {
-            JsonNode node = getNodeByPath(gameConfig, path);
-            if (node == null || node.isMissingNode()) {
-                logger.warn("Config path not found: {}, using default: {}", path, defaultValue);
-                return defaultValue;
-            }
-            
-            T value = mapper.treeToValue(node, type);
-            cache.put(cacheKey, value);
-            return value;
+            return mapper.treeToValue(node, type);
         } catch (Exception e) {
             logger.error("Error reading config path: " + path, e);
             return defaultValue;
         }
     }
-    
+
     /**
      * Get an integer configuration value
      */
     public int getInt(String path, int defaultValue) {
-        return get(path, Integer.class, defaultValue);
+        JsonNode node = resolve(path);
+        return node != null ? node.asInt(defaultValue) : defaultValue;
     }
-    
+
     /**
      * Get a double configuration value
      */
     public double getDouble(String path, double defaultValue) {
-        return get(path, Double.class, defaultValue);
+        JsonNode node = resolve(path);
+        return node != null ? node.asDouble(defaultValue) : defaultValue;
     }
-    
+
     /**
      * Get a boolean configuration value
      */
     public boolean getBoolean(String path, boolean defaultValue) {
-        return get(path, Boolean.class, defaultValue);
+        JsonNode node = resolve(path);
+        return node != null ? node.asBoolean(defaultValue) : defaultValue;
     }
-    
+
     /**
      * Get a string configuration value
      */
     public String getString(String path, String defaultValue) {
-        return get(path, String.class, defaultValue);
+        JsonNode node = resolve(path);
+        return node != null ? node.asText(defaultValue) : defaultValue;
     }
-    
+
+    /**
+     * The node at a path, or null if there is none. Cached until the next reload.
+     */
+    private JsonNode resolve(String path) {
+        Loaded current = loaded;
+        JsonNode node = current.pathCache.get(path);
+        if (node == null) {
+            node = getNodeByPath(current.gameConfig, path);
+            if (node == null || node.isMissingNode()) {
+                return null;
+            }
+            current.pathCache.put(path, node);
+        }
+        return node;
+    }
+
     /**
      * Get a keybinding by action name
      */
     public String getKeybinding(String action, String defaultKey) {
         try {
-            JsonNode bindingsNode = keybindings.get("keybindings");
+            JsonNode bindings = loaded.keybindings;
+            JsonNode bindingsNode = bindings.get("keybindings");
             if (bindingsNode != null && bindingsNode.has(action)) {
                 return bindingsNode.get(action).asText();
             }
-            
+
             // Check alternate keys
-            JsonNode alternateNode = keybindings.get("alternateKeys");
+            JsonNode alternateNode = bindings.get("alternateKeys");
             if (alternateNode != null && alternateNode.has(action)) {
                 return alternateNode.get(action).asText();
             }
         } catch (Exception e) {
             logger.error("Error reading keybinding: " + action, e);
         }
-        
+
         return defaultKey;
     }
-    
+
     /**
      * Navigate JSON path (dot-separated)
      */
@@ -156,33 +301,33 @@ public class ConfigManager {
         if (root == null || path == null || path.isEmpty()) {
             return null;
         }
-        
+
         String[] parts = path.split("\\.");
         JsonNode current = root;
-        
+
         for (String part : parts) {
             if (current == null || !current.has(part)) {
                 return null;
             }
             current = current.get(part);
         }
-        
+
         return current;
     }
-    
+
     /**
-     * Set a runtime configuration value (not persisted)
+     * Set a runtime configuration value (not persisted, survives reloads)
      */
     public void setRuntimeValue(String key, Object value) {
-        cache.put(key, value);
+        runtimeValues.put(key, value);
     }
-    
+
     /**
      * Get a runtime configuration value
      */
     @SuppressWarnings("unchecked")
     public <T> T getRuntimeValue(String key, T defaultValue) {
-        Object value = cache.get(key);
+        Object value = runtimeValues.get(key);
         if (value == null) {
             return defaultValue;
         }
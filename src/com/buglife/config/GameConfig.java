@@ -0,0 +1,156 @@
+package com.buglife.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An immutable, typed snapshot of the tunable values in config.json.
+ *
+ * ConfigManager binds the JSON into a new snapshot whenever the file is
+ * (re)loaded and publishes it here, so gameplay code reads a field of a
+ * record instead of walking a JSON tree:
+ *
+ *   double speed = GameConfig.current().spider().chaseSpeed();
+ *
+ * A snapshot never changes. Code that needs several values to agree within a
+ * tick should read current() once and hold on to the snapshot.
+ *
+ * Missing keys fall back to the defaults below, which are also what
+ * current() returns before ConfigManager has loaded anything (tools, tests).
+ *
+ * Spider archetypes ("spiderArchetypes" in config.json) are named variations
+ * on the "spider" section: each lists only the keys it changes. Levels can
+ * override archetypes again; see SpiderParams.
+ */
+public record GameConfig(Player player, Spider spider, Map<String, Spider> spiderArchetypes,
+                         Audio audio, Display display) {
+
+    /** The archetype a spider gets when its level doesn't name one: the "spider" section itself. */
+    public static final String DEFAULT_ARCHETYPE = "default";
+
+    public static final GameConfig DEFAULTS = new GameConfig(
+            new Player(1.8, 0.5, 4.0, 100, 120, 8, 15, 60, 15),
+            new Spider(1.0, 3.0, 1.7, 3.5, 200, 300, 300, 250, 150, 80),
+            Map.of(),
+            new Audio(1.0f, 0.8f, 1.0f, false),
+            new Display(1366, 768, 60, true, "Lullaby Down Below"));
+
+    private static volatile GameConfig current = DEFAULTS;
+
+    /** The most recently published snapshot. */
+    public static GameConfig current() {
+        return current;
+    }
+
+    static void publish(GameConfig config) {
+        current = config;
+    }
+
+    /** Tuning for a spider archetype; "default" is the spider section. Null if there is no such archetype. */
+    public Spider spiderArchetype(String name) {
+        return DEFAULT_ARCHETYPE.equals(name) ? spider : spiderArchetypes.get(name);
+    }
+
+    // ========== SECTIONS ==========
+
+    public record Player(double normalSpeed, double slowSpeed, double boostSpeed, int maxHunger,
+                         int hungerDrainInterval, int dashSpeed, int dashDuration, int dashCooldown,
+                         int dashHungerCost) {
+
+        static Player bind(JsonNode node, Player d) {
+            return new Player(
+                    node.path("normalSpeed").asDouble(d.normalSpeed),
+                    node.path("slowSpeed").asDouble(d.slowSpeed),
+                    node.path("boostSpeed").asDouble(d.boostSpeed),
+                    node.path("maxHunger").asInt(d.maxHunger),
+                    node.path("hungerDrainInterval").asInt(d.hungerDrainInterval),
+                    node.path("dashSpeed").asInt(d.dashSpeed),
+                    node.path("dashDuration").asInt(d.dashDuration),
+                    node.path("dashCooldown").asInt(d.dashCooldown),
+                    node.path("dashHungerCost").asInt(d.dashHungerCost));
+        }
+    }
+
+    /** Spider tuning. Speeds are pixels per tick, radii pixels, durations ticks. */
+    public record Spider(double patrolSpeed, double chaseSpeed, double slowChaseSpeed, double investigateSpeed,
+                         int detectionRadius, int loseSightDuration, int investigationDuration,
+                         int toyHearingRadius, int toyOverrideRadius, int pounceRadius) {
+
+        /** Every key a spider section (or a level's archetype override) may set. */
+        public static final Set<String> KEYS = Set.of("patrolSpeed", "chaseSpeed", "slowChaseSpeed",
+                "investigateSpeed", "detectionRadius", "loseSightDuration", "investigationDuration",
+                "toyHearingRadius", "toyOverrideRadius", "pounceRadius");
+
+        static Spider bind(JsonNode node, Spider d) {
+            return new Spider(
+                    node.path("patrolSpeed").asDouble(d.patrolSpeed),
+                    node.path("chaseSpeed").asDouble(d.chaseSpeed),
+                    node.path("slowChaseSpeed").asDouble(d.slowChaseSpeed),
+                    node.path("investigateSpeed").asDouble(d.investigateSpeed),
+                    node.path("detectionRadius").asInt(d.detectionRadius),
+                    node.path("loseSightDuration").asInt(d.loseSightDuration),
+                    node.path("investigationDuration").asInt(d.investigationDuration),
+                    node.path("toyHearingRadius").asInt(d.toyHearingRadius),
+                    node.path("toyOverrideRadius").asInt(d.toyOverrideRadius),
+                    node.path("pounceRadius").asInt(d.pounceRadius));
+        }
+
+        /** This tuning with some keys replaced (keys outside {@link #KEYS} are ignored). */
+        public Spider with(Map<String, Double> overrides) {
+            ObjectNode node = JsonNodeFactory.instance.objectNode();
+            overrides.forEach(node::put);
+            return bind(node, this);
+        }
+    }
+
+    public record Audio(float masterVolume, float musicVolume, float sfxVolume, boolean muteAll) {
+
+        static Audio bind(JsonNode node, Audio d) {
+            return new Audio(
+                    (float) node.path("masterVolume").asDouble(d.masterVolume),
+                    (float) node.path("musicVolume").asDouble(d.musicVolume),
+                    (float) node.path("sfxVolume").asDouble(d.sfxVolume),
+                    node.path("muteAll").asBoolean(d.muteAll));
+        }
+    }
+
+    /** Window and frame settings; targetFps comes from the "game" section. */
+    public record Display(int virtualWidth, int virtualHeight, int targetFps, boolean fullscreen, String windowTitle) {
+
+        static Display bind(JsonNode node, JsonNode game, Display d) {
+            return new Display(
+                    node.path("virtualWidth").asInt(d.virtualWidth),
+                    node.path("virtualHeight").asInt(d.virtualHeight),
+                    game.path("targetFPS").asInt(d.targetFps),
+                    node.path("fullscreen").asBoolean(d.fullscreen),
+                    node.path("windowTitle").asText(d.windowTitle));
+        }
+    }
+
+    /** Bind a parsed config.json, taking anything it leaves out from DEFAULTS. */
+    static GameConfig bind(JsonNode root) {
+        if (root == null) {
+            root = MissingNode.getInstance();
+        }
+        Spider spider = Spider.bind(root.path("spider"), DEFAULTS.spider);
+        Map<String, Spider> archetypes = new TreeMap<>();
+        for (Map.Entry<String, JsonNode> e : root.path("spiderArchetypes").properties()) {
+            archetypes.put(e.getKey(), Spider.bind(e.getValue(), spider));
+        }
+        archetypes.remove(DEFAULT_ARCHETYPE);
+
+        return new GameConfig(
+                Player.bind(root.path("player"), DEFAULTS.player),
+                spider,
+                Collections.unmodifiableMap(archetypes),
+                Audio.bind(root.path("audio"), DEFAULTS.audio),
+                Display.bind(root.path("display"), root.path("game"), DEFAULTS.display));
+    }
+}
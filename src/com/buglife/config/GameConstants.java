@@ -1,65 +1,17 @@
 package com.buglife.config;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Game-wide constants for gameplay mechanics and balance.
- * Values are loaded from config.json at startup, with hardcoded defaults as fallback.
+ * Tunable values (speeds, hunger, detection radius...) live in config.json
+ * and are read through {@link GameConfig#current()}, so they can change at runtime.
  */
 public final class GameConstants {
-    private static final Logger logger = LoggerFactory.getLogger(GameConstants.class);
-    private static boolean initialized = false;
-    
+
     // Prevent instantiation
     private GameConstants() {
         throw new AssertionError("Constants class should not be instantiated");
     }
-    
-    /**
-     * Initialize all constants from config. Call this once at game startup.
-     */
-    public static void initialize() {
-        if (initialized) return;
-        
-        ConfigManager config = ConfigManager.getInstance();
-        
-        // Load Player constants
-        Player.NORMAL_SPEED = config.getDouble("player.normalSpeed", 1.8);
-        Player.SLOW_SPEED = config.getDouble("player.slowSpeed", 0.5);
-        Player.BOOST_SPEED = config.getDouble("player.boostSpeed", 4.0);
-        Player.MAX_HUNGER = config.getInt("player.maxHunger", 100);
-        Player.HUNGER_DRAIN_INTERVAL = config.getInt("player.hungerDrainInterval", 120);
-        Player.DASH_SPEED = config.getInt("player.dashSpeed", 8);
-        Player.DASH_DURATION = config.getInt("player.dashDuration", 15);
-        Player.DASH_COOLDOWN = config.getInt("player.dashCooldown", 60);
-        Player.DASH_HUNGER_COST = config.getInt("player.dashHungerCost", 15);
-        
-        // Load Spider constants
-        Spider.PATROL_SPEED = config.getDouble("spider.patrolSpeed", 1.0);
-        Spider.CHASE_SPEED = config.getDouble("spider.chaseSpeed", 3.0);
-        Spider.SLOW_CHASE_SPEED = config.getDouble("spider.slowChaseSpeed", 1.7);
-        Spider.INVESTIGATE_SPEED = config.getDouble("spider.investigateSpeed", 3.5);
-        Spider.DETECTION_RADIUS = config.getInt("spider.detectionRadius", 200);
-        Spider.LOSE_SIGHT_DURATION = config.getInt("spider.loseSightDuration", 300);
-        
-        logger.info("GameConstants initialized from config.json");
-        logger.info("Player speeds - Normal: {}, Slow: {}, Boost: {}, Dash: {}", 
-            Player.NORMAL_SPEED, Player.SLOW_SPEED, Player.BOOST_SPEED, Player.DASH_SPEED);
-        
-        initialized = true;
-    }
-    
-    /**
-     * Force reload of constants from config (useful for hot-reload during development)
-     */
-    public static void reload() {
-        initialized = false;
-        ConfigManager.getInstance().reload();
-        initialize();
-        logger.info("GameConstants reloaded from config.json");
-    }
-    
+
     // === DISPLAY SETTINGS ===
     public static final int VIRTUAL_WIDTH = 1366;
     public static final int VIRTUAL_HEIGHT = 768;
@@ -68,18 +20,7 @@ public final class GameConstants {
     
     // === PLAYER CONSTANTS ===
     public static final class Player {
-        // Configurable values (loaded from config.json)
-        public static double NORMAL_SPEED = 1.8;
-        public static double SLOW_SPEED = 0.5;
-        public static double BOOST_SPEED = 4.0;
-        public static int MAX_HUNGER = 100;
-        public static int HUNGER_DRAIN_INTERVAL = 120;
-        public static int DASH_SPEED = 8;
-        public static int DASH_DURATION = 15;
-        public static int DASH_COOLDOWN = 60;
-        public static int DASH_HUNGER_COST = 15;
-        
-        // Fixed constants (not configurable)
+        // Fixed constants (tunable ones are in GameConfig.Player)
         public static final int HUNGER_DEATH_THRESHOLD = 0;
         public static final int LOW_HUNGER_THRESHOLD = 0;
         public static final int CRY_DEATH_DURATION = 20 * 60;
@@ -95,27 +36,23 @@ public final class GameConstants {
     
     // === SPIDER CONSTANTS ===
     public static final class Spider {
-        // Configurable values (loaded from config.json)
-        public static double PATROL_SPEED = 1.0;
-        public static double CHASE_SPEED = 3.0;
-        public static double SLOW_CHASE_SPEED = 1.7;
-        public static double INVESTIGATE_SPEED = 3.5;
-        public static int DETECTION_RADIUS = 200;
-        public static int LOSE_SIGHT_DURATION = 300;
-        
-        // Fixed constants
+        // Fixed constants (tunable ones are in GameConfig.Spider)
         public static final int CAPTURE_RADIUS = 80;
         public static final int INVESTIGATION_DURATION = 300;
         public static final int WIDTH = 48;
         public static final int HEIGHT = 48;
         public static final int ANIMATION_SPEED = 5;
+        public static final int PARALLEL_THINK_MIN = 128; // Fewer spiders think on the game thread
+        public static final int THINK_BATCH_SIZE = 64;    // Spiders per fork-join task
     }
     
     // === WORLD CONSTANTS ===
     public static final class World {
         public static final int TILE_SIZE = 64;
         public static final String DEFAULT_LEVEL = "/res/maps/level1.txt";
-        public static final int MAX_TILE_TYPES = 50;
+        public static final int CHUNK_EVICT_TICKS = 180;    // Unretained chunks are dropped after 3 seconds
+        public static final int CHUNK_SWEEP_INTERVAL = 30;  // Ticks between eviction sweeps
+        public static final int CHUNK_VIEW_MARGIN = 1;      // Chunks kept loaded beyond each screen edge
     }
     
     // === FOOD CONSTANTS ===
@@ -140,6 +77,24 @@ public final class GameConstants {
         public static final int HEIGHT = 32;
     }
     
+    // === AUDIO CONSTANTS ===
+    public static final class Audio {
+        public static final int SAMPLE_RATE = 44100;
+        public static final int CHANNELS = 2;
+        public static final int MIX_BLOCK_FRAMES = 512; // ~11.6ms per mix pass
+        public static final int MAX_VOICES = 24;
+        public static final int MUSIC_PRIORITY = 100;
+        public static final int SFX_PRIORITY = 10;
+        public static final int STREAM_RING_FRAMES = 16384; // ~370ms of buffered music per stream
+        public static final int MUSIC_CROSSFADE_FRAMES = 44100; // 1s crossfade between music tracks
+        public static final int COMMAND_QUEUE_SIZE = 1024; // Power of two
+        public static final int EVENT_POOL_SIZE = 16; // Positional sounds kept per frame
+        public static final double FULL_VOLUME_DISTANCE = 128; // Pixels
+        public static final double MAX_AUDIBLE_DISTANCE = 900; // Pixels, silent beyond this
+        public static final double PAN_WIDTH = 683; // Half the virtual screen width
+        public static final float MIN_AUDIBLE_GAIN = 0.02f; // Quieter events are culled
+    }
+    
     // === SNAIL CONSTANTS ===
     public static final class Snail {
         public static final int WIDTH = 64;
@@ -147,6 +102,11 @@ public final class GameConstants {
         public static final int ANIMATION_SPEED = 10;
     }
     
+    // === SAVE CONSTANTS ===
+    public static final class Save {
+        public static final int CHECKPOINT_INTERVAL_TICKS = 60 * 10; // Autosave every 10 seconds of play
+    }
+    
     // === CAMERA CONSTANTS ===
     public static final class Camera {
         public static final int DEAD_ZONE_WIDTH = 200;
@@ -1,5 +1,6 @@
 package com.buglife.engine.editor.data;
 
+import com.buglife.world.TileGridParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
@@ -72,32 +73,19 @@ public class LevelDataIO {
      * Import tile data from legacy text map format with custom name.
      */
     public static LevelData importFromTextMap(File mapFile, String name) throws IOException {
-        List<List<Integer>> rows = new ArrayList<>();
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(mapFile))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                List<Integer> row = new ArrayList<>();
-                String[] nums = line.trim().split("\\s+");
-                for (String num : nums) {
-                    row.add(Integer.parseInt(num));
-                }
-                rows.add(row);
-            }
+        TileGridParser.Grid grid;
+        try (InputStream in = new FileInputStream(mapFile)) {
+            grid = TileGridParser.parse(in);
         }
         
-        if (rows.isEmpty()) {
+        if (grid.height == 0) {
             throw new IOException("Empty map file");
         }
         
-        int height = rows.size();
-        int width = rows.get(0).size();
-        
-        LevelData data = new LevelData(name, width, height);
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                data.setTile(x, y, rows.get(y).get(x));
+        LevelData data = new LevelData(name, grid.width, grid.height);
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                data.setTile(x, y, grid.get(x, y));
             }
         }
         
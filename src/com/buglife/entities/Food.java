@@ -24,6 +24,7 @@ public class Food {
     }
 
     private FoodType type;
+    private int spawnId = -1; // Stable level spawn ID, -1 if not from a spawn
 
     public Food(int x, int y, int size, FoodType type) {
         this.x = x;
@@ -74,5 +75,8 @@ public class Food {
     public int getCenterY() { return y + size / 2; }
     public double getRadius() { return size / 2.0; }
     public FoodType getType() { return type; }
+
+    public int getSpawnId() { return spawnId; }
+    public void setSpawnId(int spawnId) { this.spawnId = spawnId; }
     public int getHungerValue() { return type.hungerRestore; }
 }
\ No newline at end of file
@@ -11,7 +11,10 @@ import org.slf4j.LoggerFactory;
 
 import com.buglife.assets.SoundManager;
 import com.buglife.assets.AssetManager;
+import com.buglife.assets.AssetManifest;
+import com.buglife.replay.StateHash;
 import com.buglife.world.World;
+import com.buglife.config.GameConfig;
 import com.buglife.config.GameConstants;
 import com.buglife.config.TileConstants;
 
@@ -29,7 +32,7 @@ public class Player {
     private double currentSpeed; // How fast we are moving RIGHT NOW
     private int speedBoostTimer = 0;
 
-    private int hunger = GameConstants.Player.MAX_HUNGER;
+    private int hunger = GameConfig.current().player().maxHunger();
     private int collisionRadius;
     private int hungerDrainTimer = 0;
     private boolean isCrying = false;
@@ -91,11 +94,12 @@ public class Player {
      * Get current movement speed
      */
     public double getSpeed() {
+        GameConfig.Player tuning = GameConfig.current().player();
         if (isDashing)
-            return GameConstants.Player.DASH_SPEED;
+            return tuning.dashSpeed();
         if (speedBoostTimer > 0)
-            return GameConstants.Player.BOOST_SPEED;
-        return GameConstants.Player.NORMAL_SPEED;
+            return tuning.boostSpeed();
+        return tuning.normalSpeed();
     }
 
     /**
@@ -114,10 +118,11 @@ public class Player {
     }
 
     public void eat(Food food) {
+        GameConfig.Player tuning = GameConfig.current().player();
         // 1. Restore Hunger
         this.hunger += food.getHungerValue();
-        if (this.hunger > GameConstants.Player.MAX_HUNGER) {
-            this.hunger = GameConstants.Player.MAX_HUNGER;
+        if (this.hunger > tuning.maxHunger()) {
+            this.hunger = tuning.maxHunger();
         }
 
         // 2. Check Properties
@@ -130,39 +135,40 @@ public class Player {
 
     // In Player.java
     public void dash(int directionX, int directionY, SoundManager soundManager) {
+        GameConfig.Player tuning = GameConfig.current().player();
         // Check if player has enough hunger and cooldown is ready
-        if (dashCooldown <= 0 && !isDashing && hunger >= GameConstants.Player.DASH_HUNGER_COST) {
+        if (dashCooldown <= 0 && !isDashing && hunger >= tuning.dashHungerCost()) {
             // Normalize direction
             double length = Math.sqrt(directionX * directionX + directionY * directionY);
             if (length > 0) {
-                dashVelX = (directionX / length) * GameConstants.Player.DASH_SPEED;
-                dashVelY = (directionY / length) * GameConstants.Player.DASH_SPEED;
+                dashVelX = (directionX / length) * tuning.dashSpeed();
+                dashVelY = (directionY / length) * tuning.dashSpeed();
             } else {
                 // If no direction, dash in the direction the player is facing
                 switch (currentState) {
                     case WALKING_UP:
-                        dashVelY = -GameConstants.Player.DASH_SPEED;
+                        dashVelY = -tuning.dashSpeed();
                         break;
                     case WALKING_DOWN:
-                        dashVelY = GameConstants.Player.DASH_SPEED;
+                        dashVelY = tuning.dashSpeed();
                         break;
                     case WALKING_LEFT:
-                        dashVelX = -GameConstants.Player.DASH_SPEED;
+                        dashVelX = -tuning.dashSpeed();
                         break;
                     case WALKING_RIGHT:
-                        dashVelX = GameConstants.Player.DASH_SPEED;
+                        dashVelX = tuning.dashSpeed();
                         break;
                     default:
-                        dashVelY = GameConstants.Player.DASH_SPEED; // Default down
+                        dashVelY = tuning.dashSpeed(); // Default down
                 }
             }
 
             isDashing = true;
-            dashDuration = GameConstants.Player.DASH_DURATION;
-            dashCooldown = GameConstants.Player.DASH_COOLDOWN;
+            dashDuration = tuning.dashDuration();
+            dashCooldown = tuning.dashCooldown();
 
             // Consume hunger for the dash
-            this.hunger -= GameConstants.Player.DASH_HUNGER_COST;
+            this.hunger -= tuning.dashHungerCost();
             if (this.hunger < 0) {
                 this.hunger = 0;
             }
@@ -181,7 +187,7 @@ public class Player {
         this.y = 2484.0;
 
         // Reset hunger and crying state
-        this.hunger = GameConstants.Player.MAX_HUNGER;
+        this.hunger = GameConfig.current().player().maxHunger();
         this.isCrying = false;
         this.diedFromWeb = false;
 
@@ -326,10 +332,10 @@ public class Player {
 
         try {
             // Load main sprite sheet
-            BufferedImage spriteSheet = AssetManager.getInstance().loadImage("/res/sprites/player/pla.png");
+            BufferedImage spriteSheet = AssetManager.getInstance().getOrLoadImage(AssetManifest.PLAYER_SHEET);
 
             // Load webbed state sprite in the same try block
-            webbedSprite = AssetManager.getInstance().loadImage("/res/sprites/player/webbed_state.png");
+            webbedSprite = AssetManager.getInstance().getOrLoadImage(AssetManifest.PLAYER_WEBBED);
             if (webbedSprite == null) {
                 logger.error("Failed to load webbed state sprite: /res/sprites/player/webbed_state.png");
             }
@@ -398,7 +404,7 @@ public class Player {
     }
 
     private void checkLowHunger(SoundManager soundManager) {
-        int hungerPercentage = (hunger * 100) / GameConstants.Player.MAX_HUNGER;
+        int hungerPercentage = (hunger * 100) / GameConfig.current().player().maxHunger();
 
         if (hungerPercentage <= GameConstants.Player.LOW_HUNGER_THRESHOLD && !isLowHungerWarningPlayed) {
             soundManager.playSound("lowhunger");
@@ -416,7 +422,7 @@ public class Player {
             }
         } else {
             hungerDrainTimer++;
-            if (hungerDrainTimer > 120) {
+            if (hungerDrainTimer > GameConfig.current().player().hungerDrainInterval()) {
                 this.hunger--;
                 hungerDrainTimer = 0;
                 if (this.hunger <= 0) {
@@ -441,7 +447,7 @@ public class Player {
         // Inside Player.java's update() method...
 
         if (speedBoostTimer > 0) {
-            this.currentSpeed = GameConstants.Player.BOOST_SPEED; // Use the boost speed
+            this.currentSpeed = GameConfig.current().player().boostSpeed(); // Use the boost speed
             speedBoostTimer--; // Tick down the timer
         } else {
             // Normal logic when not boosted
@@ -450,9 +456,9 @@ public class Player {
             int tileID = world.getTileIdAt(playerTileCol, playerTileRow);
 
             if (tileID == TileConstants.STICKY_FLOOR) { // Sticky floor
-                this.currentSpeed = GameConstants.Player.SLOW_SPEED;
+                this.currentSpeed = GameConfig.current().player().slowSpeed();
             } else {
-                this.currentSpeed = GameConstants.Player.NORMAL_SPEED;
+                this.currentSpeed = GameConfig.current().player().normalSpeed();
             }
         }
 
@@ -610,6 +616,15 @@ public class Player {
         return (int) this.y;
     }
 
+    /** Exact (sub-pixel) position, for snapshots. */
+    public double getExactX() {
+        return this.x;
+    }
+
+    public double getExactY() {
+        return this.y;
+    }
+
     /**
      * Set the player's position (used when loading from save).
      */
@@ -622,13 +637,20 @@ public class Player {
      * Set the player's hunger level (used when loading from save).
      */
     public void setHunger(int hunger) {
-        this.hunger = Math.max(0, Math.min(hunger, GameConstants.Player.MAX_HUNGER));
+        this.hunger = Math.max(0, Math.min(hunger, GameConfig.current().player().maxHunger()));
         // Reset crying state based on hunger
         if (this.hunger > 0) {
             this.isCrying = false;
         }
     }
 
+    /**
+     * Set whether the player is crying (used when loading from save).
+     */
+    public void setCrying(boolean crying) {
+        this.isCrying = crying;
+    }
+
     /**
      * Set the speed boost timer (used when loading from save).
      */
@@ -636,6 +658,38 @@ public class Player {
         this.speedBoostTimer = Math.max(0, timer);
     }
 
+    /**
+     * Hash of everything update() carries from one tick to the next
+     * (position, timers, web and dash state, held movement keys), for
+     * replay checks. See StateHash.
+     */
+    public long stateHash() {
+        long h = StateHash.seed();
+        h = StateHash.mix(h, x);
+        h = StateHash.mix(h, y);
+        h = StateHash.mix(h, currentSpeed);
+        h = StateHash.mix(h, facingDirection != null ? facingDirection.hashCode() : 0);
+        h = StateHash.mix(h, currentState.ordinal());
+        h = StateHash.mix(h, (movingUp ? 1 : 0) | (movingDown ? 2 : 0) | (movingLeft ? 4 : 0) | (movingRight ? 8 : 0));
+        h = StateHash.mix(h, hunger);
+        h = StateHash.mix(h, hungerDrainTimer);
+        h = StateHash.mix(h, isCrying);
+        h = StateHash.mix(h, cryDeathTimer);
+        h = StateHash.mix(h, speedBoostTimer);
+        h = StateHash.mix(h, isDashing);
+        h = StateHash.mix(h, dashDuration);
+        h = StateHash.mix(h, dashCooldown);
+        h = StateHash.mix(h, dashVelX);
+        h = StateHash.mix(h, dashVelY);
+        h = StateHash.mix(h, webStrength);
+        h = StateHash.mix(h, webbedTimer);
+        h = StateHash.mix(h, immunityTimer);
+        h = StateHash.mix(h, diedFromWeb);
+        h = StateHash.mix(h, onLevelCompleteTile);
+        h = StateHash.mix(h, animationTick);
+        return StateHash.mix(h, currentFrame);
+    }
+
     /**
      * Returns the player's collision bounds. Super useful later!
      * 
@@ -2,6 +2,7 @@ package com.buglife.entities;
 
 import com.buglife.world.World;
 import com.buglife.assets.AssetManager;
+import com.buglife.assets.AssetManifest;
 // import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -74,7 +75,7 @@ public class Snail {
     private void loadAnimations() {
         idleFrames = new ArrayList<>();
         try {
-            BufferedImage spriteSheet = AssetManager.getInstance().loadImage("/res/sprites/snail/snail.png");
+            BufferedImage spriteSheet = AssetManager.getInstance().getOrLoadImage(AssetManifest.SNAIL_SHEET);
             if (spriteSheet == null) {
                 System.err.println("Failed to load snail sprite sheet!");
                 return;
@@ -278,6 +279,10 @@ public class Snail {
         g2d.drawString(line.toString(), x, lineY);
     }
 
+    public int getCurrentLocationIndex() {
+        return currentLocationIndex;
+    }
+
     public int getLocationsCount() {
         return locations != null ? locations.size() : 0;
     }
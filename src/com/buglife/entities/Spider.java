@@ -8,10 +8,13 @@ import java.awt.BasicStroke;
 
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.buglife.assets.SoundManager;
 import com.buglife.assets.AssetManager;
+import com.buglife.assets.AssetManifest;
+import com.buglife.replay.StateHash;
 import com.buglife.utils.PerformanceMonitor;
 //import com.buglife.entities.Player.PlayerState;
 import com.buglife.world.World;
@@ -26,10 +29,7 @@ public class Spider {
     private double x, y;
     private int width = 48, height = 48;
     private double speed;
-    private final double PATROL_SPEED = 1; // default patrol movement speed (pixels/frame)
-    private final double CHASE_SPEED = 3; // speed when actively chasing (adjust this)
-    private final double SLOW_CHASE_SPEED = 1.7; // slow chase speed (used when not "crying")
-    private final double INVESTIGATE_SPEED = 3.5;
+    private SpiderParams params; // This spider's archetype, resolved for the level (see SpiderParams)
 
     private double rotationAngle = 90; // Start facing right (90 degrees from North)
 
@@ -50,6 +50,8 @@ public class Spider {
     private Point returnPoint;
     private int loseSightTimer; // A countdown for when it loses the player
     private Player targetPlayer; // A reference to the player it's hunting
+    private SoundIntent[] soundIntents = new SoundIntent[4]; // Queued by think(), played by apply()
+    private int soundIntentCount;
 
     // Inside the Spider.java class
     public enum SpiderState {
@@ -62,11 +64,21 @@ public class Spider {
 
     private SpiderState currentState; // A variable to hold the spider's current mood
 
+    public SpiderParams getParams() {
+        return params;
+    }
+
+    /** Swap in a re-resolved block (config.json was hot-reloaded); takes effect next update. */
+    public void setParams(SpiderParams params) {
+        this.params = params;
+    }
+
     public void setReturnPoint(Point p) {
         this.returnPoint = p;
     }
 
-    public Spider(List<Point> tilePath) {
+    public Spider(List<Point> tilePath, SpiderParams params) {
+        this.params = params;
         // Convert the tile-based path to a pixel-based path
         this.patrolPath = new ArrayList<>();
         this.currentState = SpiderState.PATROLLING;
@@ -85,7 +97,7 @@ public class Spider {
         }
 
         // set default speed
-        this.speed = PATROL_SPEED;
+        this.speed = params.patrolSpeed;
 
         loadSprites();
     }
@@ -103,17 +115,16 @@ public class Spider {
         // 1. Simple distance check first (is the player even close enough?)
         double dx = player.getCenterX() - getCenterX();
         double dy = player.getCenterY() - getCenterY();
-        double distance = Math.sqrt(dx * dx + dy * dy);
         int playerTileCol = player.getCenterX() / World.TILE_SIZE;
         int playerTileRow = player.getCenterY() / World.TILE_SIZE;
         if (world.getTileIdAt(playerTileCol, playerTileRow) == TileConstants.SHADOW_TILE) { // Is it a shadow tile?
             return false; // I can't see anything!
         }
 
-        int detectionRadius = 200; // How far the spider can see
-        if (distance > detectionRadius) {
+        if (dx * dx + dy * dy > params.detectionRadiusSq) { // How far the spider can see
             return false;
         }
+        double distance = Math.sqrt(dx * dx + dy * dy);
 
         // 2. Line-of-sight check (is a wall in the way?)
         // We'll check a few points on the line between the spider and player.
@@ -133,8 +144,8 @@ public class Spider {
         walkingFrames = new BufferedImage[TOTAL_FRAMES];
         try {
             // Load the original bug sprites
-            walkingFrames[0] = AssetManager.getInstance().loadImage("/res/sprites/spider/Walk_0001.png");
-            walkingFrames[1] = AssetManager.getInstance().loadImage("/res/sprites/spider/Walk_0002.png");
+            walkingFrames[0] = AssetManager.getInstance().getOrLoadImage(AssetManifest.SPIDER_WALK_1);
+            walkingFrames[1] = AssetManager.getInstance().getOrLoadImage(AssetManifest.SPIDER_WALK_2);
         } catch (Exception e) {
             logger.error("Failed to load spider sprites", e);
         }
@@ -152,8 +163,7 @@ public class Spider {
             this.targetPlayer = targetPlayer; // Make sure it knows who to chase
             this.returnPoint = new Point(getCenterX(), getCenterY()); // Set return point
             this.currentState = SpiderState.CHASING;
-            soundManager.stopSound("music");
-            soundManager.playSound("chasing");
+            soundManager.crossfadeMusic("chasing");
         }
     }
 
@@ -180,10 +190,11 @@ public class Spider {
     public void hearNoise(Point noiseLocation, int soundRadius) {
         // Ignore noise if we are already busy killing the player
         if (currentState != SpiderState.CHASING) {
-            double dist = Math.sqrt(Math.pow(noiseLocation.x - getCenterX(), 2) + Math.pow(noiseLocation.y - getCenterY(), 2));
-            
+            long dx = noiseLocation.x - getCenterX();
+            long dy = noiseLocation.y - getCenterY();
+
             // Use the Trip Wire's specific radius
-            if (dist < soundRadius) { 
+            if (dx * dx + dy * dy < (long) soundRadius * soundRadius) {
                 // CRITICAL: Only update 'returnPoint' if we were patrolling.
                 // If we were already investigating or returning, we want to remember 
                 // our ORIGINAL patrol post, not the random spot we are standing in now.
@@ -193,16 +204,25 @@ public class Spider {
                 
                 this.investigationPoint = noiseLocation;
                 this.currentState = SpiderState.INVESTIGATING;
-                this.investigationTimer = 300; // 5 Seconds (60 frames * 5)
+                this.investigationTimer = params.investigationDuration; // 5 seconds by default
             }
         }
     }
     
 
-    // In Spider.java, replace the entire update method.
-    // In Spider.java
-
+    /** One tick on its own: {@link #think} then {@link #apply}. */
     public void update(Player player, World world, SoundManager soundManager, Toy toy) {
+        think(player, world, toy);
+        apply(soundManager);
+    }
+
+    /**
+     * The spider's half of a tick: move and change state, reading the
+     * player, toy and world but writing nothing except this spider's own
+     * fields. Music changes are queued and played by {@link #apply}, so
+     * every spider of a level can think at once (see SpiderUpdater).
+     */
+    public void think(Player player, World world, Toy toy) {
         this.targetPlayer = player;
 
         if (player.isCrying()) {
@@ -210,21 +230,21 @@ public class Spider {
             this.returnPoint = new Point(getCenterX(), getCenterY());
             currentState = SpiderState.CHASING;
             // (Your existing crying chase logic...)
-            speed = 3; // Fast!
+            speed = params.chaseSpeed; // Fast!
             chase(targetPlayer);
             return; // Skip the rest of the state machine
         }
         if (toy != null && toy.isMakingNoise()) {
             double dxToy = toy.getCenterX() - getCenterX();
             double dyToy = toy.getCenterY() - getCenterY();
-            double distanceToToy = Math.sqrt(dxToy * dxToy + dyToy * dyToy);
+            double distanceToToySq = dxToy * dxToy + dyToy * dyToy;
 
             // If toy is within detection radius and not already chasing player closely
-            if (distanceToToy < 250) { // Toy detection radius
-                if (currentState != SpiderState.CHASING || distanceToToy < 150) {
+            if (distanceToToySq < params.toyHearingRadiusSq) {
+                if (currentState != SpiderState.CHASING || distanceToToySq < params.toyOverrideRadiusSq) {
                     currentState = SpiderState.DISTRACTED;
                     this.returnPoint = new Point(getCenterX(), getCenterY());
-                    soundManager.stopSound("chasing");
+                    emit(SoundIntent.STOP_CHASING);
                 }
             }
         }
@@ -238,15 +258,14 @@ public class Spider {
                 
                     this.returnPoint = new Point(getCenterX(), getCenterY());
                     currentState = SpiderState.CHASING;
-                    soundManager.stopSound("music");
-                    soundManager.playSound("chasing");
-                    loseSightTimer = 300;
+                    emit(SoundIntent.CROSSFADE_TO_CHASING);
+                    loseSightTimer = params.loseSightDuration;
                 }
                 break;
 
             case INVESTIGATING:
                 // --- THE GHOST LOGIC ---
-                speed = INVESTIGATE_SPEED;
+                speed = params.investigateSpeed;
                 
                 double dxNoise = investigationPoint.x - getCenterX();
                 double dyNoise = investigationPoint.y - getCenterY();
@@ -272,12 +291,12 @@ public class Spider {
                 break;
             case DISTRACTED:
                 // Go to the toy!
-                soundManager.stopSound("music");
+                emit(SoundIntent.STOP_MUSIC);
                 if (toy != null && toy.isMakingNoise()) {
                     double dx = toy.getCenterX() - getCenterX();
                     double dy = toy.getCenterY() - getCenterY();
                     double dist = Math.sqrt(dx * dx + dy * dy);
-                    speed = SLOW_CHASE_SPEED;
+                    speed = params.slowChaseSpeed;
 
                     
                     // soundManager.playSound("chasing");
@@ -307,13 +326,10 @@ public class Spider {
                     if (canSeePlayer(targetPlayer, world)) {
                         double dxPlayer = targetPlayer.getCenterX() - getCenterX();
                         double dyPlayer = targetPlayer.getCenterY() - getCenterY();
-                        double distToPlayer = Math.sqrt(dxPlayer * dxPlayer + dyPlayer * dyPlayer);
-
-                        if (distToPlayer < 80) {
+                        if (dxPlayer * dxPlayer + dyPlayer * dyPlayer < params.pounceRadiusSq) {
                             currentState = SpiderState.CHASING;
-                            soundManager.stopSound("music");
-                            soundManager.playSound("chasing");
-                            loseSightTimer = 300;
+                            emit(SoundIntent.CROSSFADE_TO_CHASING);
+                            loseSightTimer = params.loseSightDuration;
                         }
                     } else {
                         currentState = SpiderState.RETURNING;
@@ -331,35 +347,33 @@ public class Spider {
                 // First, check if our target is already webbed.
                 if (targetPlayer.isWebbed()) {
                     currentState = SpiderState.RETURNING;// My job here is done.
-                    soundManager.stopSound("chasing");
-                    soundManager.playSound("music");
+                    emit(SoundIntent.CROSSFADE_TO_MUSIC);
                     break; // Immediately exit the CHASING logic.
                 }
 
                 if (player.isCrying()) {
                     // previously: speed = 3;
-                    speed = CHASE_SPEED;
+                    speed = params.chaseSpeed;
                     chase(targetPlayer);
                 } else {
                     // previously: speed = 1;
-                    speed = SLOW_CHASE_SPEED;
+                    speed = params.slowChaseSpeed;
                     // If the player isn't webbed, continue the hunt as normal.
                     if (canSeePlayer(targetPlayer, world)) {
                         chase(targetPlayer);
-                        loseSightTimer = 300;
+                        loseSightTimer = params.loseSightDuration;
                     } else {
                         loseSightTimer--;
                         if (loseSightTimer <= 0) {
                             currentState = SpiderState.RETURNING;
-                            soundManager.stopSound("chasing");
-                            soundManager.playSound("music");
+                            emit(SoundIntent.CROSSFADE_TO_MUSIC);
                         }
                     }
                 }
                 break;
             case RETURNING:
                 // Check if we've made it back to our post.
-                speed = PATROL_SPEED;
+                speed = params.patrolSpeed;
                 double dx = returnPoint.x - getCenterX();
                 double dy = returnPoint.y - getCenterY();
                 double distanceToPost = Math.sqrt(dx * dx + dy * dy);
@@ -367,8 +381,7 @@ public class Spider {
                 if (distanceToPost < 5) {
                     // We're back! Resume normal patrol.
                     currentState = SpiderState.PATROLLING;
-                    soundManager.stopSound("chasing");
-                    soundManager.playSound("music");
+                    emit(SoundIntent.CROSSFADE_TO_MUSIC);
                 } else {
                     // If not, take the shortest path back.
                     returnToPost();
@@ -378,9 +391,8 @@ public class Spider {
                 // Don't disturb a spider that's already webbed its prey and is returning.
                 if (canSeePlayer(targetPlayer, world) && !targetPlayer.isWebbed()) {
                     currentState = SpiderState.CHASING;
-                    soundManager.stopSound("music");
-                    soundManager.playSound("chasing"); // Play sound when seeing player while returning
-                    loseSightTimer = 300;
+                    emit(SoundIntent.CROSSFADE_TO_CHASING); // Play sound when seeing player while returning
+                    loseSightTimer = params.loseSightDuration;
                 }
                 break;
         }
@@ -392,6 +404,37 @@ public class Spider {
         }
     }
 
+    // ─── Think / apply ───
+
+    /** A music change asked for while thinking, played in apply(). */
+    private enum SoundIntent {
+        CROSSFADE_TO_CHASING, CROSSFADE_TO_MUSIC, STOP_CHASING, STOP_MUSIC;
+
+        void play(SoundManager soundManager) {
+            switch (this) {
+                case CROSSFADE_TO_CHASING: soundManager.crossfadeMusic("chasing"); break;
+                case CROSSFADE_TO_MUSIC: soundManager.crossfadeMusic("music"); break;
+                case STOP_CHASING: soundManager.stopSound("chasing"); break;
+                case STOP_MUSIC: soundManager.stopSound("music"); break;
+            }
+        }
+    }
+
+    private void emit(SoundIntent intent) {
+        if (soundIntentCount == soundIntents.length) {
+            soundIntents = Arrays.copyOf(soundIntents, soundIntentCount * 2);
+        }
+        soundIntents[soundIntentCount++] = intent;
+    }
+
+    /** Play the sound changes the last think() queued, in the order it made them. */
+    public void apply(SoundManager soundManager) {
+        for (int i = 0; i < soundIntentCount; i++) {
+            soundIntents[i].play(soundManager);
+        }
+        soundIntentCount = 0;
+    }
+
     public void draw(Graphics g) {
         PerformanceMonitor monitor = PerformanceMonitor.getInstance();
         
@@ -576,6 +619,86 @@ public class Spider {
 
     }
 
+    // ─── Snapshots ───
+
+    /**
+     * Plain copy of a spider's mutable state for world snapshots. Reused
+     * between captures, so taking a checkpoint doesn't allocate.
+     */
+    public static final class Snapshot {
+        public SpiderState state;
+        public double x, y;
+        public double speed;
+        public double rotationAngle;
+        public int currentTargetIndex;
+        public boolean movingForward;
+        public int returnX, returnY;
+        public boolean investigating;      // Whether investigationX/Y hold a noise location
+        public int investigationX, investigationY;
+        public int investigationTimer;
+        public int loseSightTimer;
+        public int currentFrame;
+        public int animationTick;
+    }
+
+    public void captureState(Snapshot out) {
+        out.state = currentState;
+        out.x = x;
+        out.y = y;
+        out.speed = speed;
+        out.rotationAngle = rotationAngle;
+        out.currentTargetIndex = currentTargetIndex;
+        out.movingForward = isMovingForward;
+        out.returnX = returnPoint.x;
+        out.returnY = returnPoint.y;
+        out.investigating = investigationPoint != null;
+        out.investigationX = investigationPoint != null ? investigationPoint.x : 0;
+        out.investigationY = investigationPoint != null ? investigationPoint.y : 0;
+        out.investigationTimer = investigationTimer;
+        out.loseSightTimer = loseSightTimer;
+        out.currentFrame = currentFrame;
+        out.animationTick = animationTick;
+    }
+
+    public void restoreState(Snapshot in) {
+        currentState = in.state != null ? in.state : SpiderState.PATROLLING;
+        x = in.x;
+        y = in.y;
+        speed = in.speed;
+        rotationAngle = in.rotationAngle;
+        currentTargetIndex = patrolPath.isEmpty() ? 0 : Math.max(0, Math.min(in.currentTargetIndex, patrolPath.size() - 1));
+        isMovingForward = in.movingForward;
+        returnPoint = new Point(in.returnX, in.returnY);
+        investigationPoint = in.investigating ? new Point(in.investigationX, in.investigationY) : null;
+        investigationTimer = in.investigationTimer;
+        loseSightTimer = in.loseSightTimer;
+        currentFrame = in.currentFrame % TOTAL_FRAMES;
+        animationTick = in.animationTick;
+    }
+
+    /** Hash of the fields captureState copies, straight from the live spider (see StateHash). */
+    public long stateHash() {
+        long h = StateHash.seed();
+        h = StateHash.mix(h, currentState != null ? currentState.ordinal() : -1);
+        h = StateHash.mix(h, x);
+        h = StateHash.mix(h, y);
+        h = StateHash.mix(h, speed);
+        h = StateHash.mix(h, rotationAngle);
+        h = StateHash.mix(h, currentTargetIndex);
+        h = StateHash.mix(h, isMovingForward);
+        h = StateHash.mix(h, returnPoint.x);
+        h = StateHash.mix(h, returnPoint.y);
+        h = StateHash.mix(h, investigationPoint != null);
+        if (investigationPoint != null) {
+            h = StateHash.mix(h, investigationPoint.x);
+            h = StateHash.mix(h, investigationPoint.y);
+        }
+        h = StateHash.mix(h, investigationTimer);
+        h = StateHash.mix(h, loseSightTimer);
+        h = StateHash.mix(h, currentFrame);
+        return StateHash.mix(h, animationTick);
+    }
+
     public double getRadius() {
         // My radius is just half my width!
         return width / 2.0;
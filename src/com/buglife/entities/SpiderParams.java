@@ -0,0 +1,122 @@
+package com.buglife.entities;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.config.GameConfig;
+import com.buglife.levels.LevelConfig;
+
+/**
+ * One spider archetype's tuning, resolved for one level: config.json's
+ * "spider" section, then the archetype's changes from "spiderArchetypes",
+ * then the level's # SPIDER_ARCHETYPES overrides.
+ *
+ * Everything the AI compares against is a final field, with radii already
+ * squared so range checks don't need a square root. PlayingState resolves a
+ * {@link Table} when the level loads (and again if config.json is
+ * hot-reloaded) and hands each Spider its block.
+ */
+public final class SpiderParams {
+    private static final Logger logger = LoggerFactory.getLogger(SpiderParams.class);
+
+    public final String archetype;
+
+    // Speeds (pixels/tick)
+    public final double patrolSpeed;
+    public final double chaseSpeed;
+    public final double slowChaseSpeed;
+    public final double investigateSpeed;
+
+    // Radii (pixels) and their squares
+    public final int detectionRadius;
+    public final long detectionRadiusSq;
+    public final long toyHearingRadiusSq;   // A noisy toy this close distracts the spider...
+    public final long toyOverrideRadiusSq;  // ...even mid-chase if it's this close
+    public final long pounceRadiusSq;       // A distracted spider goes for a visible player this close
+
+    // Durations (ticks)
+    public final int loseSightDuration;
+    public final int investigationDuration;
+
+    private SpiderParams(String archetype, GameConfig.Spider tuning) {
+        this.archetype = archetype;
+        this.patrolSpeed = tuning.patrolSpeed();
+        this.chaseSpeed = tuning.chaseSpeed();
+        this.slowChaseSpeed = tuning.slowChaseSpeed();
+        this.investigateSpeed = tuning.investigateSpeed();
+        this.detectionRadius = tuning.detectionRadius();
+        this.detectionRadiusSq = square(tuning.detectionRadius());
+        this.toyHearingRadiusSq = square(tuning.toyHearingRadius());
+        this.toyOverrideRadiusSq = square(tuning.toyOverrideRadius());
+        this.pounceRadiusSq = square(tuning.pounceRadius());
+        this.loseSightDuration = tuning.loseSightDuration();
+        this.investigationDuration = tuning.investigationDuration();
+    }
+
+    private static long square(int radius) {
+        return (long) radius * radius;
+    }
+
+    /** The default archetype with no level overrides (tools, spiders spawned outside a level). */
+    public static SpiderParams defaults() {
+        return new SpiderParams(GameConfig.DEFAULT_ARCHETYPE, GameConfig.current().spider());
+    }
+
+    // ========== RESOLUTION ==========
+
+    /**
+     * Resolve every archetype a level can use: those in config.json plus any
+     * the level's overrides introduce (built on the default archetype).
+     */
+    public static Table resolve(GameConfig config, LevelConfig level) {
+        Map<String, Map<String, Double>> overrides = level.getSpiderArchetypeOverrides();
+        Map<String, SpiderParams> params = new HashMap<>();
+
+        params.put(GameConfig.DEFAULT_ARCHETYPE, resolveOne(GameConfig.DEFAULT_ARCHETYPE, config.spider(), overrides));
+        for (Map.Entry<String, GameConfig.Spider> archetype : config.spiderArchetypes().entrySet()) {
+            params.put(archetype.getKey(), resolveOne(archetype.getKey(), archetype.getValue(), overrides));
+        }
+        for (String name : overrides.keySet()) {
+            if (!params.containsKey(name)) {
+                params.put(name, resolveOne(name, config.spider(), overrides));
+            }
+        }
+        return new Table(config, Collections.unmodifiableMap(params));
+    }
+
+    private static SpiderParams resolveOne(String name, GameConfig.Spider base,
+                                           Map<String, Map<String, Double>> overrides) {
+        Map<String, Double> levelValues = overrides.get(name);
+        return new SpiderParams(name, levelValues == null ? base : base.with(levelValues));
+    }
+
+    /** The resolved archetypes for one level under one config snapshot. */
+    public static final class Table {
+        private final GameConfig config;
+        private final Map<String, SpiderParams> params;
+
+        private Table(GameConfig config, Map<String, SpiderParams> params) {
+            this.config = config;
+            this.params = params;
+        }
+
+        /** The snapshot this table was resolved from. */
+        public GameConfig getConfig() {
+            return config;
+        }
+
+        /** An archetype's block; an unknown name is logged and gets the default archetype. */
+        public SpiderParams get(String archetype) {
+            SpiderParams block = params.get(archetype);
+            if (block == null) {
+                logger.warn("Unknown spider archetype '{}', using {}", archetype, GameConfig.DEFAULT_ARCHETYPE);
+                block = params.get(GameConfig.DEFAULT_ARCHETYPE);
+            }
+            return block;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.buglife.entities;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.buglife.assets.SoundManager;
+import com.buglife.config.GameConstants;
+import com.buglife.world.World;
+
+/**
+ * Runs one tick of a level's spiders in two phases.
+ *
+ * Think: every spider moves and changes state ({@link Spider#think}). A
+ * spider reads the player, the toy and the world and writes only its own
+ * fields, and nothing reads a spider's fields until the phase is over, so
+ * with enough spiders the list is split across a fork-join pool. The player
+ * and toy are updated outside the phase, and the world's tiles never change
+ * (decoded chunks are immutable; see ChunkCache), so every spider sees the
+ * same state it would have seen in a plain loop.
+ *
+ * Apply: on the calling thread, in list order, each spider plays the music
+ * changes it queued ({@link Spider#apply}). That is the only thing a spider
+ * did outside itself, and doing it in list order makes the same SoundManager
+ * calls in the same order as the sequential loop this replaces.
+ *
+ * The result is bit-identical to updating the spiders one after another;
+ * SpiderUpdateBenchmark checks that and measures the speedup.
+ */
+public final class SpiderUpdater {
+
+    private final ForkJoinPool pool;
+    private final int parallelMin; // Smaller lists think on the calling thread
+    private boolean parallel = true;
+
+    public SpiderUpdater() {
+        this(ForkJoinPool.commonPool(), GameConstants.Spider.PARALLEL_THINK_MIN);
+    }
+
+    public SpiderUpdater(ForkJoinPool pool, int parallelMin) {
+        this.pool = pool;
+        this.parallelMin = parallelMin;
+    }
+
+    /** Whether large spider lists think on the pool (default) or on the calling thread. */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** Think and apply every spider in {@code spiders} (null entries are skipped). */
+    public void update(List<Spider> spiders, Player player, World world, SoundManager soundManager, Toy toy) {
+        int count = spiders.size();
+        // A one-thread pool would only add a hand-off: the caller waits while it works
+        if (parallel && count >= parallelMin && pool.getParallelism() > 1) {
+            pool.invoke(new ThinkTask(spiders, 0, count, player, world, toy));
+        } else {
+            think(spiders, 0, count, player, world, toy);
+        }
+
+        for (int i = 0; i < count; i++) {
+            Spider spider = spiders.get(i);
+            if (spider != null) {
+                spider.apply(soundManager);
+            }
+        }
+    }
+
+    private static void think(List<Spider> spiders, int from, int to, Player player, World world, Toy toy) {
+        for (int i = from; i < to; i++) {
+            Spider spider = spiders.get(i);
+            if (spider != null) {
+                spider.think(player, world, toy);
+            }
+        }
+    }
+
+    /** Thinks spiders [from, to), splitting in halves down to THINK_BATCH_SIZE. */
+    private static final class ThinkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Spider> spiders;
+        private final int from, to;
+        private final Player player;
+        private final World world;
+        private final Toy toy;
+
+        ThinkTask(List<Spider> spiders, int from, int to, Player player, World world, Toy toy) {
+            this.spiders = spiders;
+            this.from = from;
+            this.to = to;
+            this.player = player;
+            this.world = world;
+            this.toy = toy;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GameConstants.Spider.THINK_BATCH_SIZE) {
+                think(spiders, from, to, player, world, toy);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ThinkTask(spiders, from, mid, player, world, toy),
+                    new ThinkTask(spiders, mid, to, player, world, toy));
+        }
+    }
+}
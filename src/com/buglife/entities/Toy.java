@@ -10,11 +10,14 @@ import org.slf4j.LoggerFactory;
 
 import com.buglife.world.World;
 import com.buglife.assets.AssetManager;
+import com.buglife.assets.AssetManifest;
+import com.buglife.replay.StateHash;
 
 public class Toy {
     private static final Logger logger = LoggerFactory.getLogger(Toy.class);
     private double x, y;
-    private int width = 24, height = 24;
+    public static final int SIZE = 24;
+    private int width = SIZE, height = SIZE;
     private boolean active = false;
     private boolean makingNoise = false;
     private int noiseTimer = 0;
@@ -56,7 +59,7 @@ public class Toy {
 
     private void loadSprite() {
         try {
-            sprite = AssetManager.getInstance().loadImage("/res/sprites/items/toy1.png");
+            sprite = AssetManager.getInstance().getOrLoadImage(AssetManifest.TOY_SPRITE);
         } catch (Exception e) {
             logger.error("Failed to load toy sprite, drawing fallback box", e);
             sprite = null;
@@ -160,4 +163,52 @@ public class Toy {
     public boolean isMakingNoise() { return active && makingNoise; }
     public int getCenterX() { return (int)x + width / 2; }
     public int getCenterY() { return (int)y + height / 2; }
-}
\ No newline at end of file
+
+    // ─── Snapshots ───
+
+    /** Plain copy of the toy's mutable state for world snapshots. Reused between captures. */
+    public static final class Snapshot {
+        public double x, y;
+        public double velX, velY;
+        public boolean active;
+        public boolean makingNoise;
+        public int noiseTimer;
+        public boolean spawned;
+        public boolean carried;
+    }
+
+    public void captureState(Snapshot out) {
+        out.x = x;
+        out.y = y;
+        out.velX = velX;
+        out.velY = velY;
+        out.active = active;
+        out.makingNoise = makingNoise;
+        out.noiseTimer = noiseTimer;
+        out.spawned = isSpawned;
+        out.carried = isCarried;
+    }
+
+    public void restoreState(Snapshot in) {
+        x = in.x;
+        y = in.y;
+        velX = in.velX;
+        velY = in.velY;
+        active = in.active;
+        makingNoise = in.makingNoise;
+        noiseTimer = in.noiseTimer;
+        isSpawned = in.spawned;
+        isCarried = in.carried;
+    }
+
+    /** Hash of the fields captureState copies (see StateHash). */
+    public long stateHash() {
+        long h = StateHash.seed();
+        h = StateHash.mix(h, x);
+        h = StateHash.mix(h, y);
+        h = StateHash.mix(h, velX);
+        h = StateHash.mix(h, velY);
+        h = StateHash.mix(h, (active ? 1 : 0) | (makingNoise ? 2 : 0) | (isSpawned ? 4 : 0) | (isCarried ? 8 : 0));
+        return StateHash.mix(h, noiseTimer);
+    }
+}
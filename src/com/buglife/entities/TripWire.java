@@ -9,12 +9,18 @@ public class TripWire {
     private int x, y;
     private int width = 32, height = 32;
     private boolean broken = false;
+    private final int id; // Stable level spawn ID, -1 if not from a spawn
     
     private int soundRadius = 500; // Default radius, adjustable via setter
 
     public TripWire(int x, int y) {
+        this(x, y, -1);
+    }
+
+    public TripWire(int x, int y, int id) {
         this.x = x;
         this.y = y;
+        this.id = id;
     }
 
     public void draw(Graphics2D g) {
@@ -55,6 +61,7 @@ public class TripWire {
     public int getX() { return x; }
     public int getY() { return y; }
     public boolean isBroken() { return broken; }
+    public int getId() { return id; }
     
     public int getSoundRadius() { return soundRadius; }
     public void setSoundRadius(int radius) { this.soundRadius = radius; }
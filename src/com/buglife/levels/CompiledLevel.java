@@ -0,0 +1,692 @@
+package com.buglife.levels;
+
+import java.awt.Point;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.assets.AssetManifest;
+import com.buglife.entities.Food;
+import com.buglife.world.TileGridParser;
+
+/**
+ * A level baked into one binary file: the tile grid in 32x32 chunks, the
+ * solidity of every tile type it uses and every entity table from the
+ * level's {@link LevelConfig}.
+ *
+ * {@link LevelCompiler} writes res/levels/LEVEL.lvl at build time from
+ * res/maps/LEVEL.txt (tile grid and # sections), so loading a level is a
+ * single memory-mapped read instead of two text parses.
+ *
+ * Only the header and entity tables are decoded up front. The tile grid stays
+ * in the (mapped) file as run-length encoded chunks, and World decodes a
+ * chunk with {@link #readChunk} when something first gets near it, so a huge
+ * map costs a few bytes per chunk until the player or a spider arrives.
+ *
+ * Cells store an index into the level's tile palette (the distinct tile IDs
+ * it uses), so tile IDs can be any int while a chunk stays 16 bits per cell.
+ *
+ * FILE LAYOUT (big-endian):
+ *
+ *   header     "BLVL", u16 version, u16 chunk size, name, i32 width, i32 height
+ *   spawns     i32 player x, y (px), u8 has toy, i32 toy x, y (px)
+ *   mechanics  u8 bitmask (dash, toy, tripwires, speed boost food)
+ *   palette    i32 count, then i32 tile ID, u8 solid each, IDs ascending
+ *   tripwires  i32 count, then i32 x, y (px) each
+ *   spiders    i32 count, then description, archetype, i32 waypoint count, i32 x, y (tiles) each
+ *   archetypes i32 count, then name, i32 setting count, then key, f64 value each
+ *   snails     i32 count, then description, i32 x, y (px), u8 requires interaction,
+ *              i32 line count, lines
+ *   food       i32 count, then description, i32 x, y (tiles), type name
+ *   chunks     i32 offset per chunk (row-major over the chunk grid, relative to
+ *              the first chunk's data) plus one end offset, then each chunk's
+ *              in-map cells row by row as (u16 run length, u16 palette index) runs
+ *   trailer    i32 CRC32 of everything before it
+ *
+ * Strings are an i16 byte length (-1 for null) followed by UTF-8 bytes.
+ *
+ * When a level has no compiled file (e.g. running straight from an IDE that
+ * never ran the Maven build) or the .txt is newer than the .lvl, it is
+ * compiled in memory from the same sources instead.
+ */
+public final class CompiledLevel implements LevelConfig {
+    private static final Logger logger = LoggerFactory.getLogger(CompiledLevel.class);
+
+    public static final String MAPS_DIR = "/res/maps/";
+    public static final String LEVELS_DIR = "/res/levels/";
+    public static final String EXTENSION = ".lvl";
+
+    /** Chunks are CHUNK_SIZE x CHUNK_SIZE tiles. */
+    public static final int CHUNK_SIZE = 32;
+    /** Cells per chunk; cell (col, row) of a chunk is at row * CHUNK_SIZE + col. */
+    public static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+
+    static final int MAGIC = 0x424C564C; // "BLVL"
+    static final int VERSION = 3;
+
+    private static final int MAX_PALETTE = 0xFFFF; // Palette indices are u16
+    /** readChunk's cell value past the edge of the map (as an unsigned 16-bit value). */
+    public static final int OFF_MAP = 0xFFFF;
+    private static final int MAX_RUN = 0xFFFF;
+
+    private static final int MECH_DASH = 1;
+    private static final int MECH_TOY = 1 << 1;
+    private static final int MECH_TRIPWIRES = 1 << 2;
+    private static final int MECH_SPEED_BOOST_FOOD = 1 << 3;
+
+    private final String levelName;
+    private final int width;
+    private final int height;
+    private final int[] palette;
+    private final boolean[] paletteSolid;
+
+    // The whole file, read-only (mapped or heap); chunks are decoded from it on demand
+    private final ByteBuffer data;
+    private final int chunkDataStart;
+    private final int[] chunkOffsets; // One per chunk plus the end offset
+
+    private final Point playerSpawn;
+    private final Point toySpawn;
+    private final int mechanics;
+    private final List<Point> tripWires;
+    private final List<SpiderPatrolData> spiders;
+    private final Map<String, Map<String, Double>> spiderArchetypes;
+    private final List<SnailLocationData> snails;
+    private final List<FoodSpawnData> foods;
+
+    private CompiledLevel(String levelName, int width, int height, int[] palette, boolean[] paletteSolid,
+                          ByteBuffer data, int chunkDataStart, int[] chunkOffsets,
+                          Point playerSpawn, Point toySpawn, int mechanics, List<Point> tripWires,
+                          List<SpiderPatrolData> spiders, Map<String, Map<String, Double>> spiderArchetypes,
+                          List<SnailLocationData> snails, List<FoodSpawnData> foods) {
+        this.levelName = levelName;
+        this.width = width;
+        this.height = height;
+        this.palette = palette;
+        this.paletteSolid = paletteSolid;
+        this.data = data;
+        this.chunkDataStart = chunkDataStart;
+        this.chunkOffsets = chunkOffsets;
+        this.playerSpawn = playerSpawn;
+        this.toySpawn = toySpawn;
+        this.mechanics = mechanics;
+        this.tripWires = Collections.unmodifiableList(tripWires);
+        this.spiders = Collections.unmodifiableList(spiders);
+        this.spiderArchetypes = Collections.unmodifiableMap(spiderArchetypes);
+        this.snails = Collections.unmodifiableList(snails);
+        this.foods = Collections.unmodifiableList(foods);
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Load a level from res/levels/LEVEL.lvl, or compile it in memory from
+     * res/maps/LEVEL.txt and its config if there is no up-to-date compiled file.
+     */
+    public static CompiledLevel load(String levelName) {
+        URL compiled = CompiledLevel.class.getResource(LEVELS_DIR + levelName + EXTENSION);
+        if (compiled != null && !isOutOfDate(compiled, levelName)) {
+            try {
+                return decode(read(compiled));
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable compiled level {}: {}", compiled, e.getMessage());
+            }
+        }
+        logger.debug("No compiled {}{} — compiling from map and config", levelName, EXTENSION);
+        return compile(levelName);
+    }
+
+    /**
+     * Compile a level in memory from its map resource and LevelConfig. A
+     * missing map gives a 0x0 grid, which World treats as solid everywhere.
+     */
+    public static CompiledLevel compile(String levelName) {
+        return compile(levelName, readMap(MAPS_DIR + levelName + ".txt"), LevelRegistry.getInstance().getConfig(levelName));
+    }
+
+    private static TileGridParser.Grid readMap(String mapPath) {
+        try (InputStream is = CompiledLevel.class.getResourceAsStream(mapPath)) {
+            if (is != null) {
+                return TileGridParser.parse(is);
+            }
+            logger.error("Map file not found: {}", mapPath);
+        } catch (IOException e) {
+            logger.error("Failed to load map file: {}", mapPath, e);
+        }
+        return TileGridParser.Grid.EMPTY;
+    }
+
+    /**
+     * Bake a parsed grid and a config into a compiled level. Solidity comes
+     * from the asset manifest's tile table; tile IDs it doesn't know are open.
+     *
+     * @throws IllegalArgumentException if the map uses more than 65535 distinct tile IDs
+     */
+    public static CompiledLevel compile(String levelName, TileGridParser.Grid grid, LevelConfig config) {
+        try {
+            return decode(ByteBuffer.wrap(encode(levelName, grid, config)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Freshly encoded level " + levelName + " did not decode", e);
+        }
+    }
+
+    /**
+     * A compiled file on disk whose map sits next to it on the classpath and
+     * has been edited since (dev builds only; inside a jar nothing is stale).
+     */
+    private static boolean isOutOfDate(URL compiled, String levelName) {
+        URL map = CompiledLevel.class.getResource(MAPS_DIR + levelName + ".txt");
+        if (map == null || !"file".equals(compiled.getProtocol()) || !"file".equals(map.getProtocol())) {
+            return false;
+        }
+        try {
+            File lvl = new File(compiled.toURI());
+            File txt = new File(map.toURI());
+            return txt.lastModified() > lvl.lastModified();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** Map a file: resource straight into memory; anything else (a jar entry) is read into a heap buffer. */
+    private static ByteBuffer read(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                Path path = Paths.get(url.toURI());
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            } catch (URISyntaxException e) {
+                throw new IOException("Bad compiled level URL: " + url, e);
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    // ========== BINARY FORMAT ==========
+
+    /**
+     * Decode a compiled level. The header and entity tables are copied out;
+     * the buffer itself is kept for {@link #readChunk}, so it must not be
+     * modified afterwards. Every chunk's runs are checked here, so reading a
+     * chunk later can't fail.
+     *
+     * @throws IOException if the magic, version or checksum is wrong or the data is malformed
+     */
+    public static CompiledLevel decode(ByteBuffer buffer) throws IOException {
+        ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < 12) {
+            throw new IOException("Compiled level too short");
+        }
+
+        ByteBuffer body = in.duplicate();
+        body.limit(in.limit() - 4);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != in.getInt(in.limit() - 4)) {
+            throw new IOException("Compiled level checksum mismatch");
+        }
+        in.limit(in.limit() - 4);
+
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a compiled level");
+            }
+            int version = in.getShort() & 0xFFFF;
+            if (version != VERSION) {
+                throw new IOException("Unsupported compiled level version " + version);
+            }
+            int chunkSize = in.getShort() & 0xFFFF;
+            if (chunkSize != CHUNK_SIZE) {
+                throw new IOException("Unsupported chunk size " + chunkSize);
+            }
+
+            String levelName = readString(in);
+            int width = in.getInt();
+            int height = in.getInt();
+            if (width < 0 || height < 0 || (long) width * height > Integer.MAX_VALUE) {
+                throw new IOException("Bad compiled level size " + width + "x" + height);
+            }
+
+            Point playerSpawn = new Point(in.getInt(), in.getInt());
+            boolean hasToy = in.get() != 0;
+            Point toySpawn = new Point(in.getInt(), in.getInt());
+            int mechanics = in.get() & 0xFF;
+
+            int paletteSize = in.getInt();
+            if (paletteSize < 0 || paletteSize > MAX_PALETTE) {
+                throw new IOException("Bad tile palette size " + paletteSize);
+            }
+            int[] palette = new int[paletteSize];
+            boolean[] paletteSolid = new boolean[paletteSize];
+            for (int i = 0; i < paletteSize; i++) {
+                palette[i] = in.getInt();
+                paletteSolid[i] = in.get() != 0;
+            }
+
+            List<Point> tripWires = new ArrayList<>();
+            for (int i = 0, n = in.getInt(); i < n; i++) {
+                tripWires.add(new Point(in.getInt(), in.getInt()));
+            }
+
+            List<SpiderPatrolData> spiders = new ArrayList<>();
+            for (int i = 0, n = in.getInt(); i < n; i++) {
+                String description = readString(in);
+                String archetype = readString(in);
+                SpiderPatrolData.CustomBuilder patrol = SpiderPatrolData.custom();
+                for (int j = 0, points = in.getInt(); j < points; j++) {
+                    patrol.addPoint(in.getInt(), in.getInt());
+                }
+                spiders.add(patrol.build().describe(description).archetype(archetype));
+            }
+
+            Map<String, Map<String, Double>> spiderArchetypes = new TreeMap<>();
+            for (int i = 0, n = in.getInt(); i < n; i++) {
+                String name = readString(in);
+                Map<String, Double> values = new TreeMap<>();
+                for (int j = 0, settings = in.getInt(); j < settings; j++) {
+                    values.put(readString(in), in.getDouble());
+                }
+                spiderArchetypes.put(name, Collections.unmodifiableMap(values));
+            }
+
+            List<SnailLocationData> snails = new ArrayList<>();
+            for (int i = 0, n = in.getInt(); i < n; i++) {
+                String description = readString(in);
+                SnailLocationData snail = SnailLocationData.at(in.getInt(), in.getInt());
+                if (in.get() != 0) {
+                    snail.requiresInteraction();
+                } else {
+                    snail.autoAdvance();
+                }
+                String[] lines = new String[in.getInt()];
+                for (int j = 0; j < lines.length; j++) {
+                    lines[j] = readString(in);
+                }
+                snails.add(snail.withDialogue(lines).describe(description));
+            }
+
+            List<FoodSpawnData> foods = new ArrayList<>();
+            for (int i = 0, n = in.getInt(); i < n; i++) {
+                String description = readString(in);
+                int tileX = in.getInt();
+                int tileY = in.getInt();
+                Food.FoodType type = Food.FoodType.valueOf(readString(in));
+                foods.add(FoodSpawnData.atTile(tileX, tileY, type).describe(description));
+            }
+
+            int chunkColumns = chunkCount(width);
+            int chunkRows = chunkCount(height);
+            int[] chunkOffsets = new int[chunkColumns * chunkRows + 1];
+            for (int i = 0; i < chunkOffsets.length; i++) {
+                chunkOffsets[i] = in.getInt();
+            }
+            int chunkDataStart = in.position();
+            if ((long) chunkDataStart + chunkOffsets[chunkOffsets.length - 1] != in.limit()) {
+                throw new IOException("Chunk table does not match the chunk data");
+            }
+            for (int cy = 0; cy < chunkRows; cy++) {
+                for (int cx = 0; cx < chunkColumns; cx++) {
+                    int cells = Math.min(CHUNK_SIZE, width - cx * CHUNK_SIZE)
+                            * Math.min(CHUNK_SIZE, height - cy * CHUNK_SIZE);
+                    checkChunk(in, chunkDataStart, chunkOffsets, cy * chunkColumns + cx, cells, paletteSize);
+                }
+            }
+
+            // Absolute indices into the duplicate are indices into the original buffer too
+            return new CompiledLevel(levelName, width, height, palette, paletteSolid,
+                    buffer.asReadOnlyBuffer(), chunkDataStart, chunkOffsets,
+                    playerSpawn, hasToy ? toySpawn : null, mechanics, tripWires, spiders, spiderArchetypes,
+                    snails, foods);
+        } catch (RuntimeException e) {
+            // BufferUnderflowException, NegativeArraySizeException, unknown food type...
+            throw new IOException("Corrupt compiled level: " + e, e);
+        }
+    }
+
+    /** Check that a chunk's runs cover exactly its in-map cells, with valid palette indices. */
+    private static void checkChunk(ByteBuffer in, int chunkDataStart, int[] offsets, int chunk,
+                                   int cells, int paletteSize) throws IOException {
+        int pos = chunkDataStart + offsets[chunk];
+        int end = chunkDataStart + offsets[chunk + 1];
+        if (offsets[chunk] < 0 || pos > end || ((end - pos) & 3) != 0) {
+            throw new IOException("Bad offsets for chunk " + chunk);
+        }
+        int covered = 0;
+        for (; pos < end; pos += 4) {
+            covered += in.getShort(pos) & 0xFFFF;
+            if ((in.getShort(pos + 2) & 0xFFFF) >= paletteSize) {
+                throw new IOException("Bad palette index in chunk " + chunk);
+            }
+        }
+        if (covered != cells) {
+            throw new IOException("Chunk " + chunk + " covers " + covered + " cells, expected " + cells);
+        }
+    }
+
+    /**
+     * Encode a parsed grid and a config in the .lvl format, checksum included.
+     *
+     * @throws IllegalArgumentException if the map uses more than 65535 distinct tile IDs
+     */
+    public static byte[] encode(String levelName, TileGridParser.Grid grid, LevelConfig config) {
+        int width = grid.width;
+        int height = grid.height;
+        int[] tiles = grid.getTiles();
+
+        int[] palette = Arrays.stream(tiles, 0, width * height).distinct().sorted().toArray();
+        if (palette.length > MAX_PALETTE) {
+            throw new IllegalArgumentException(levelName + " uses " + palette.length
+                    + " distinct tile IDs, more than " + MAX_PALETTE);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024 + width * height / 8);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(CHUNK_SIZE);
+            writeString(out, levelName);
+            out.writeInt(width);
+            out.writeInt(height);
+
+            Point spawn = config.getPlayerSpawn();
+            Point toySpawn = config.getToySpawn();
+            out.writeInt(spawn.x);
+            out.writeInt(spawn.y);
+            out.writeByte(toySpawn != null ? 1 : 0);
+            out.writeInt(toySpawn != null ? toySpawn.x : 0);
+            out.writeInt(toySpawn != null ? toySpawn.y : 0);
+
+            MechanicsConfig mechanics = config.getMechanicsEnabled();
+            out.writeByte((mechanics.isDashEnabled() ? MECH_DASH : 0)
+                    | (mechanics.isToyEnabled() ? MECH_TOY : 0)
+                    | (mechanics.isTripWiresEnabled() ? MECH_TRIPWIRES : 0)
+                    | (mechanics.isSpeedBoostFoodEnabled() ? MECH_SPEED_BOOST_FOOD : 0));
+
+            out.writeInt(palette.length);
+            for (int id : palette) {
+                AssetManifest.TileSpec spec = AssetManifest.getTile(id);
+                out.writeInt(id);
+                out.writeByte(spec != null && spec.solid ? 1 : 0);
+            }
+
+            out.writeInt(config.getTripWirePositions().size());
+            for (Point p : config.getTripWirePositions()) {
+                out.writeInt(p.x);
+                out.writeInt(p.y);
+            }
+
+            out.writeInt(config.getSpiderPatrols().size());
+            for (SpiderPatrolData spider : config.getSpiderPatrols()) {
+                writeString(out, spider.getDescription());
+                writeString(out, spider.getArchetype());
+                List<Point> waypoints = spider.getWaypoints();
+                out.writeInt(waypoints.size());
+                for (Point p : waypoints) {
+                    out.writeInt(p.x);
+                    out.writeInt(p.y);
+                }
+            }
+
+            Map<String, Map<String, Double>> archetypes = config.getSpiderArchetypeOverrides();
+            out.writeInt(archetypes.size());
+            for (Map.Entry<String, Map<String, Double>> archetype : archetypes.entrySet()) {
+                writeString(out, archetype.getKey());
+                out.writeInt(archetype.getValue().size());
+                for (Map.Entry<String, Double> setting : archetype.getValue().entrySet()) {
+                    writeString(out, setting.getKey());
+                    out.writeDouble(setting.getValue());
+                }
+            }
+
+            out.writeInt(config.getSnailLocations().size());
+            for (SnailLocationData snail : config.getSnailLocations()) {
+                writeString(out, snail.getDescription());
+                out.writeInt(snail.getPosition().x);
+                out.writeInt(snail.getPosition().y);
+                out.writeByte(snail.isInteractionRequired() ? 1 : 0);
+                String[] lines = snail.getDialogue();
+                out.writeInt(lines.length);
+                for (String line : lines) {
+                    writeString(out, line);
+                }
+            }
+
+            out.writeInt(config.getFoodSpawns().size());
+            for (FoodSpawnData food : config.getFoodSpawns()) {
+                writeString(out, food.getDescription());
+                out.writeInt(food.getTilePosition().x);
+                out.writeInt(food.getTilePosition().y);
+                writeString(out, food.getType().name());
+            }
+
+            // Runs go to their own buffer first so the offset table can precede them
+            int chunkColumns = chunkCount(width);
+            int chunkRows = chunkCount(height);
+            ByteArrayOutputStream chunkBytes = new ByteArrayOutputStream(chunkColumns * chunkRows * 64);
+            DataOutputStream chunkOut = new DataOutputStream(chunkBytes);
+            int[] offsets = new int[chunkColumns * chunkRows + 1];
+            for (int cy = 0; cy < chunkRows; cy++) {
+                for (int cx = 0; cx < chunkColumns; cx++) {
+                    offsets[cy * chunkColumns + cx] = chunkOut.size();
+                    writeChunkRuns(chunkOut, tiles, width, height, cx, cy, palette);
+                }
+            }
+            offsets[offsets.length - 1] = chunkOut.size();
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            chunkBytes.writeTo(out);
+
+            out.flush();
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory write failed", e); // ByteArrayOutputStream never throws
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeChunkRuns(DataOutputStream out, int[] tiles, int width, int height,
+                                       int cx, int cy, int[] palette) throws IOException {
+        int startCol = cx * CHUNK_SIZE;
+        int startRow = cy * CHUNK_SIZE;
+        int endCol = Math.min(width, startCol + CHUNK_SIZE);
+        int endRow = Math.min(height, startRow + CHUNK_SIZE);
+
+        int runIndex = -1;
+        int runLength = 0;
+        for (int row = startRow; row < endRow; row++) {
+            for (int col = startCol; col < endCol; col++) {
+                int index = Arrays.binarySearch(palette, tiles[row * width + col]);
+                if (index == runIndex && runLength < MAX_RUN) {
+                    runLength++;
+                    continue;
+                }
+                if (runLength > 0) {
+                    out.writeShort(runLength);
+                    out.writeShort(runIndex);
+                }
+                runIndex = index;
+                runLength = 1;
+            }
+        }
+        if (runLength > 0) {
+            out.writeShort(runLength);
+            out.writeShort(runIndex);
+        }
+    }
+
+    /** A copy of this level's .lvl file. */
+    public byte[] encode() {
+        ByteBuffer copy = data.duplicate();
+        byte[] bytes = new byte[copy.remaining()];
+        copy.get(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length > Short.MAX_VALUE) {
+            throw new IOException("String too long for compiled level: " + utf8.length + " bytes");
+        }
+        out.writeShort(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length < 0) return null;
+        byte[] utf8 = new byte[length];
+        in.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static int chunkCount(int tiles) {
+        return (tiles + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    // ========== TILES ==========
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getChunkColumns() {
+        return chunkCount(width);
+    }
+
+    public int getChunkRows() {
+        return chunkCount(height);
+    }
+
+    /** The distinct tile IDs the map uses, ascending; chunk cells index into this. */
+    public int[] getTilePalette() {
+        return palette.clone();
+    }
+
+    /** Whether the tile at a palette index blocks movement. */
+    public boolean isPaletteSolid(int index) {
+        return paletteSolid[index];
+    }
+
+    /**
+     * Decode one chunk. Only absolute reads touch the shared buffer, so any
+     * number of threads can call this at once.
+     *
+     * @param cells receives CHUNK_CELLS palette indices as unsigned 16-bit values
+     *              (read them with {@code & 0xFFFF}); 0xFFFF past the edge of the map,
+     *              which is never a valid index since the palette has at most MAX_PALETTE entries
+     * @param solid receives CHUNK_CELLS / 64 words; bit i is set if cell i is solid
+     */
+    public void readChunk(int cx, int cy, short[] cells, long[] solid) {
+        Arrays.fill(cells, (short) OFF_MAP);
+        Arrays.fill(solid, 0L);
+
+        int chunkWidth = Math.min(CHUNK_SIZE, width - cx * CHUNK_SIZE);
+        int chunk = cy * getChunkColumns() + cx;
+        int end = chunkDataStart + chunkOffsets[chunk + 1];
+
+        int row = 0;
+        int col = 0;
+        for (int pos = chunkDataStart + chunkOffsets[chunk]; pos < end; pos += 4) {
+            int length = data.getShort(pos) & 0xFFFF;
+            short index = data.getShort(pos + 2); // u16; stored as is, callers mask
+            boolean isSolid = paletteSolid[index & 0xFFFF];
+            for (int k = 0; k < length; k++) {
+                int cell = row * CHUNK_SIZE + col;
+                cells[cell] = index;
+                if (isSolid) {
+                    solid[cell >>> 6] |= 1L << cell;
+                }
+                if (++col == chunkWidth) {
+                    col = 0;
+                    row++;
+                }
+            }
+        }
+    }
+
+    // ========== LEVEL CONFIG ==========
+
+    @Override
+    public String getLevelName() {
+        return levelName;
+    }
+
+    @Override
+    public Point getPlayerSpawn() {
+        return new Point(playerSpawn);
+    }
+
+    @Override
+    public MechanicsConfig getMechanicsEnabled() {
+        MechanicsConfig config = new MechanicsConfig();
+        if ((mechanics & MECH_DASH) != 0) config.enableDash();
+        if ((mechanics & MECH_TOY) != 0) config.enableToy();
+        if ((mechanics & MECH_TRIPWIRES) != 0) config.enableTripWires();
+        if ((mechanics & MECH_SPEED_BOOST_FOOD) != 0) config.enableSpeedBoostFood();
+        return config;
+    }
+
+    @Override
+    public Point getToySpawn() {
+        return toySpawn == null ? null : new Point(toySpawn);
+    }
+
+    @Override
+    public List<Point> getTripWirePositions() {
+        return tripWires;
+    }
+
+    @Override
+    public List<SpiderPatrolData> getSpiderPatrols() {
+        return spiders;
+    }
+
+    @Override
+    public Map<String, Map<String, Double>> getSpiderArchetypeOverrides() {
+        return spiderArchetypes;
+    }
+
+    @Override
+    public List<SnailLocationData> getSnailLocations() {
+        return snails;
+    }
+
+    @Override
+    public List<FoodSpawnData> getFoodSpawns() {
+        return foods;
+    }
+}
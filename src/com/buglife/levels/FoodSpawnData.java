@@ -2,6 +2,7 @@ package com.buglife.levels;
 
 import java.awt.Point;
 import com.buglife.entities.Food;
+import com.buglife.world.World;
 
 /**
  * Defines a food spawn location and type.
@@ -19,6 +20,9 @@ import com.buglife.entities.Food;
  */
 public class FoodSpawnData {
     
+    /** Size in pixels of a spawned food item. */
+    public static final int FOOD_SIZE = 20;
+    
     private final Point tilePosition;
     private final Food.FoodType type;
     private String description; // Optional: for documentation
@@ -81,6 +85,25 @@ public class FoodSpawnData {
         return type;
     }
     
+    /** Stable ID of this spawn within its level (see {@link SpawnId}). */
+    public int getId() {
+        return SpawnId.ofTile(tilePosition.x, tilePosition.y);
+    }
+    
+    /** Top-left pixel where this food is placed: a quarter tile in from the tile corner. */
+    public Point getPixelPosition() {
+        return new Point(tilePosition.x * World.TILE_SIZE + World.TILE_SIZE / 4,
+                         tilePosition.y * World.TILE_SIZE + World.TILE_SIZE / 4);
+    }
+    
+    /** Create the food entity for this spawn, tagged with the spawn's ID. */
+    public Food createFood() {
+        Point pixel = getPixelPosition();
+        Food food = new Food(pixel.x, pixel.y, FOOD_SIZE, type);
+        food.setSpawnId(getId());
+        return food;
+    }
+    
     /** Check if this is a speed boost food type */
     public boolean isSpeedBoostFood() {
         return type == Food.FoodType.ENERGY_SEED;
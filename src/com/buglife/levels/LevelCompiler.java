@@ -0,0 +1,69 @@
+package com.buglife.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.buglife.world.TileGridParser;
+
+/**
+ * Build step: compiles every res/maps/LEVEL.txt (tile grid plus # sections)
+ * into a binary LEVEL.lvl (see {@link CompiledLevel} for the format).
+ *
+ * Maven runs this in the process-classes phase and writes into
+ * target/classes/res/levels, so the compiled files ship in the jar next to
+ * the maps. A level that fails to compile is reported and skipped; the game
+ * then compiles it in memory at load time as before.
+ *
+ * Usage: LevelCompiler [mapsDir] [outputDir]
+ *        (defaults: res/maps target/classes/res/levels)
+ */
+public final class LevelCompiler {
+
+    private LevelCompiler() {}
+
+    public static void main(String[] args) throws IOException {
+        Path mapsDir = Paths.get(args.length > 0 ? args[0] : "res/maps");
+        Path outputDir = Paths.get(args.length > 1 ? args[1] : "target/classes/res/levels");
+        Files.createDirectories(outputDir);
+
+        List<Path> maps = new ArrayList<>();
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(mapsDir, "*.txt")) {
+            dir.forEach(maps::add);
+        }
+        maps.sort(null);
+
+        int compiled = 0;
+        int failed = 0;
+        for (Path map : maps) {
+            String fileName = map.getFileName().toString();
+            String levelName = fileName.substring(0, fileName.length() - ".txt".length());
+            try {
+                TileGridParser.Grid grid;
+                try (InputStream in = Files.newInputStream(map)) {
+                    grid = TileGridParser.parse(in);
+                }
+                TxtBackedLevelConfig config;
+                try (InputStream in = Files.newInputStream(map)) {
+                    config = TxtBackedLevelConfig.parse(levelName, in);
+                }
+                CompiledLevel level = CompiledLevel.compile(levelName, grid, config);
+                byte[] bytes = level.encode();
+                Files.write(outputDir.resolve(levelName + CompiledLevel.EXTENSION), bytes);
+                System.out.printf("[LevelCompiler] %s: %dx%d, %d spiders, %d food -> %d bytes%n",
+                        levelName, level.getWidth(), level.getHeight(), level.getSpiderPatrols().size(),
+                        level.getFoodSpawns().size(), bytes.length);
+                compiled++;
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[LevelCompiler] Failed to compile " + fileName + ": " + e);
+                failed++;
+            }
+        }
+        System.out.println("[LevelCompiler] Compiled " + compiled + " level(s), " + failed + " failed");
+    }
+}
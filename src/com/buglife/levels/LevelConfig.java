@@ -1,21 +1,24 @@
 package com.buglife.levels;
 
 import java.awt.Point;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for level configuration.
  * 
- * Each level (Level1Config, Level2Config, etc.) implements this interface
- * to define all spawns, positions, and mechanics for that level.
+ * Defines all spawns, positions, and mechanics for a level. Levels are
+ * read from the # sections of their map files by {@link TxtBackedLevelConfig}
+ * and looked up through {@link LevelRegistry}.
  * 
  * HOW TO CREATE A NEW LEVEL:
- * 1. Create a new file: LevelXConfig.java
- * 2. Implement this interface
- * 3. Define your spawns and mechanics
- * 4. Register it in LevelConfigFactory
+ * 1. Create a new map file: res/maps/levelX.txt
+ * 2. Add # sections below the tile grid for spawns and mechanics
+ * 3. List it in res/maps/levels.json: under "order" to put it in the
+ *    campaign, or under "extra" to offer it in the debug level menu
  * 
- * See Level1Config.java for a complete example.
+ * See res/maps/level_test.txt for an example using every section.
  */
 public interface LevelConfig {
     
@@ -73,6 +76,18 @@ public interface LevelConfig {
      *   );
      */
     List<SpiderPatrolData> getSpiderPatrols();
+
+    /**
+     * Per-level changes to spider archetypes, for difficulty scaling:
+     * archetype name -> (config key -> value), applied on top of config.json.
+     * Keys are those of GameConfig.Spider (e.g. "chaseSpeed", "detectionRadius").
+     *
+     * Example:
+     *   return Map.of("default", Map.of("detectionRadius", 240.0));
+     */
+    default Map<String, Map<String, Double>> getSpiderArchetypeOverrides() {
+        return Collections.emptyMap();
+    }
     
     // ========== SNAILS ==========
     
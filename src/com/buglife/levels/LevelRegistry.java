@@ -0,0 +1,212 @@
+package com.buglife.levels;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * Every level the game knows about, read from res/maps.
+ *
+ * A level is a res/maps/LEVEL.txt file: the tile grid, then the # sections
+ * parsed by {@link TxtBackedLevelConfig}. Adding a level means adding a map
+ * file (and listing it in the manifest if it belongs in the campaign) — no
+ * Java class, no factory case.
+ *
+ * res/maps/levels.json holds the campaign order ("order"), which
+ * PlayingState's level progression reads, and the dev maps outside the
+ * campaign ("extra": level3-5, level_test). Those are loadable by name and
+ * listed by {@link #discoverLevels()} for the debug level menu and
+ * MapPreviewTool; listing them in the manifest is what makes them show up
+ * inside a jar, where res/maps can't be scanned.
+ *
+ * Parsed configs are immutable and cached. A map loaded from a file on disk
+ * is re-parsed when its modification time changes, so edits show up on the
+ * next level load without a restart; maps inside a jar never change.
+ *
+ * USAGE:
+ *   LevelConfig config = LevelRegistry.getInstance().getConfig("level1");
+ */
+public final class LevelRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(LevelRegistry.class);
+
+    private static final String MAPS_DIR = CompiledLevel.MAPS_DIR;
+    private static final String MANIFEST = MAPS_DIR + "levels.json";
+    private static final String MAP_EXTENSION = ".txt";
+
+    private static LevelRegistry instance;
+
+    private final List<String> levelOrder;
+    private final List<String> extraLevels;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /** A parsed config, the file it came from (null inside a jar) and that file's modification time. */
+    private static final class Entry {
+        final TxtBackedLevelConfig config;
+        final File file;
+        final long lastModified;
+
+        Entry(TxtBackedLevelConfig config, File file, long lastModified) {
+            this.config = config;
+            this.file = file;
+            this.lastModified = lastModified;
+        }
+
+        boolean isCurrent() {
+            return file == null || file.lastModified() == lastModified;
+        }
+    }
+
+    private LevelRegistry() {
+        JsonNode manifest = loadManifest();
+        List<String> order = readNames(manifest.path("order"));
+        if (order.isEmpty()) {
+            logger.error("Level manifest {} lists no levels", MANIFEST);
+            order = List.of("level1");
+        }
+        this.levelOrder = order;
+        this.extraLevels = readNames(manifest.path("extra"));
+    }
+
+    public static synchronized LevelRegistry getInstance() {
+        if (instance == null) {
+            instance = new LevelRegistry();
+        }
+        return instance;
+    }
+
+    // ========== LEVEL ORDER ==========
+
+    /** The campaign, first level first, as listed in res/maps/levels.json. */
+    public List<String> getLevelOrder() {
+        return levelOrder;
+    }
+
+    /**
+     * The campaign levels, then the manifest's extra dev maps, then any other
+     * maps found in res/maps, for the debug level menu and dev tools. Maps
+     * inside a jar can't be listed, so there it is just the manifest's levels.
+     */
+    public List<String> discoverLevels() {
+        List<String> levels = new ArrayList<>(levelOrder);
+        for (String level : extraLevels) {
+            if (!levels.contains(level)) levels.add(level);
+        }
+        File dir = toFile(LevelRegistry.class.getResource(MAPS_DIR));
+        String[] names = dir == null ? null : dir.list((d, name) -> name.endsWith(MAP_EXTENSION));
+        if (names != null) {
+            TreeSet<String> extra = new TreeSet<>();
+            for (String name : names) {
+                extra.add(name.substring(0, name.length() - MAP_EXTENSION.length()));
+            }
+            extra.removeAll(levels);
+            levels.addAll(extra);
+        }
+        return levels;
+    }
+
+    /** The parsed manifest, or an empty object if it is missing or unreadable. */
+    private static JsonNode loadManifest() {
+        try (InputStream in = LevelRegistry.class.getResourceAsStream(MANIFEST)) {
+            if (in == null) {
+                logger.error("Level manifest not found: {}", MANIFEST);
+                return MissingNode.getInstance();
+            }
+            return new ObjectMapper().readTree(in);
+        } catch (IOException e) {
+            logger.error("Failed to read level manifest: {}", MANIFEST, e);
+            return MissingNode.getInstance();
+        }
+    }
+
+    private static List<String> readNames(JsonNode array) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode name : array) {
+            names.add(name.asText());
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    // ========== CONFIGS ==========
+
+    /** Whether res/maps/LEVEL.txt exists. */
+    public boolean hasLevel(String levelName) {
+        return levelName != null && mapUrl(levelName) != null;
+    }
+
+    /**
+     * Get the configuration for a level, parsing its map on first use or
+     * after the file has changed.
+     *
+     * @param levelName The level name (e.g., "level1", "level2", "level_test")
+     * @return The LevelConfig for that level, or the first campaign level's as fallback
+     */
+    public LevelConfig getConfig(String levelName) {
+        Entry entry = levelName == null ? null : cache.get(levelName);
+        if (entry != null && entry.isCurrent()) {
+            return entry.config;
+        }
+
+        URL url = levelName == null ? null : mapUrl(levelName);
+        if (url == null) {
+            String fallback = levelOrder.get(0);
+            logger.warn("Unknown level: {}, using {}", levelName, fallback);
+            if (fallback.equals(levelName)) {
+                throw new IllegalStateException("Map for first level " + fallback + " is missing");
+            }
+            return getConfig(fallback);
+        }
+
+        File file = toFile(url);
+        long lastModified = file == null ? 0 : file.lastModified();
+        entry = new Entry(parse(levelName, url), file, lastModified);
+        cache.put(levelName, entry);
+        return entry.config;
+    }
+
+    /** Drop every cached config (e.g. after a tool rewrites several maps at once). */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    private static TxtBackedLevelConfig parse(String levelName, URL url) {
+        try (InputStream in = url.openStream()) {
+            TxtBackedLevelConfig config = TxtBackedLevelConfig.parse(levelName, in);
+            if (!config.hasEntityData()) {
+                logger.warn("Map {} has no entity sections", levelName);
+            }
+            logger.debug("Parsed level config for {}", levelName);
+            return config;
+        } catch (IOException e) {
+            logger.error("Failed to read level {}, using an empty config", levelName, e);
+            return TxtBackedLevelConfig.empty(levelName);
+        }
+    }
+
+    private static URL mapUrl(String levelName) {
+        return LevelRegistry.class.getResource(MAPS_DIR + levelName + MAP_EXTENSION);
+    }
+
+    private static File toFile(URL url) {
+        if (url == null || !"file".equals(url.getProtocol())) return null;
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
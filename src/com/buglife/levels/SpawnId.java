@@ -0,0 +1,44 @@
+package com.buglife.levels;
+
+import com.buglife.world.World;
+
+/**
+ * Stable IDs for things placed by a level config (food, tripwires).
+ * 
+ * An ID is the tile the thing sits in, packed into one int:
+ * {@code (tileY << 16) | tileX}. It doesn't depend on the order of the
+ * config's lists, so adding or reordering spawns in a level never changes the
+ * IDs of the others, and old saves keep pointing at the right objects.
+ * 
+ * Two spawns of the same kind must not share a tile; TxtBackedLevelConfig
+ * rejects a map where they do.
+ */
+public final class SpawnId {
+
+    /** Marks an entity that wasn't created from a level spawn. */
+    public static final int NONE = -1;
+
+    private static final int TRIPWIRE_SIZE = 32; // TripWire's width and height in pixels
+
+    private SpawnId() {}
+
+    /** ID of a spawn at tile coordinates. */
+    public static int ofTile(int tileX, int tileY) {
+        return (tileY << 16) | (tileX & 0xFFFF);
+    }
+
+    /** ID of a spawn whose center is at this pixel position. */
+    public static int ofPixelCenter(int centerX, int centerY) {
+        return ofTile(centerX / World.TILE_SIZE, centerY / World.TILE_SIZE);
+    }
+
+    /** ID of a tripwire whose top-left corner is at this pixel position (the level config's tripwire positions). */
+    public static int ofTripWire(int x, int y) {
+        return ofPixelCenter(x + TRIPWIRE_SIZE / 2, y + TRIPWIRE_SIZE / 2);
+    }
+
+    /** Readable form of an ID, for error messages. */
+    public static String describe(int id) {
+        return "tile (" + (id & 0xFFFF) + ", " + (id >>> 16) + ")";
+    }
+}
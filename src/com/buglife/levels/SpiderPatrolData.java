@@ -4,6 +4,8 @@ import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.buglife.config.GameConfig;
+
 /**
  * Defines a spider's patrol path using TILE coordinates.
  * 
@@ -25,11 +27,15 @@ import java.util.List;
  *       .addPoint(10, 10)
  *       .addPoint(5, 10)
  *       .build()
+ *
+ *   // Any of the above with a tuning archetype from config.json
+ *   SpiderPatrolData.vertical(8, 5, 20).archetype("sentry")
  */
 public class SpiderPatrolData {
     
     private final List<Point> waypoints;
     private String description; // Optional: for documentation
+    private String archetype = GameConfig.DEFAULT_ARCHETYPE; // Tuning block from config.json
     
     private SpiderPatrolData(List<Point> waypoints) {
         this.waypoints = waypoints;
@@ -126,6 +132,18 @@ public class SpiderPatrolData {
         return description;
     }
     
+    // ========== ARCHETYPE ==========
+
+    /** Use a named spider archetype (config.json "spiderArchetypes") instead of the default tuning. */
+    public SpiderPatrolData archetype(String archetype) {
+        this.archetype = archetype;
+        return this;
+    }
+
+    public String getArchetype() {
+        return archetype;
+    }
+
     // ========== GETTER ==========
     
     public List<Point> getWaypoints() {
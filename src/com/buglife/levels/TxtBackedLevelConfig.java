@@ -0,0 +1,481 @@
+package com.buglife.levels;
+
+import java.awt.Point;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.buglife.config.GameConfig;
+import com.buglife.entities.Food;
+
+/**
+ * A LevelConfig read from the # sections at the bottom of a .txt map file.
+ * This is how every level is defined: edit the sections, save, and the
+ * {@link LevelRegistry} picks up the change.
+ *
+ * Supported sections:
+ *   # PLAYER_SPAWN
+ *   pixelX pixelY
+ *
+ *   # TOY_SPAWN
+ *   pixelX pixelY   (or: none)
+ *
+ *   # SPIDERS
+ *   rectangle left top right bottom [description]
+ *   horizontal startX endX y [description]
+ *   vertical x startY endY [description]
+ *   custom x1,y1 x2,y2 x3,y3 ... [description]
+ *   (any of these may put @archetype before the description, e.g.
+ *    vertical 8 5 20 @sentry Guards the ladder)
+ *
+ *   # SPIDER_ARCHETYPES
+ *   archetype key=value key=value ...   (overrides config.json for this level,
+ *                                        e.g. default detectionRadius=240)
+ *
+ *   # SNAILS
+ *   pixelX pixelY interaction(true/false) dialogue line 1|line 2|line 3
+ *
+ *   # FOOD
+ *   berry tileX tileY [description]
+ *   energy_seed tileX tileY [description]
+ *
+ *   # TRIPWIRES
+ *   pixelX pixelY   (or: none)
+ *
+ *   # MECHANICS
+ *   dash true/false
+ *   toy true/false
+ *   speedboost true/false
+ *   tripwires true/false
+ *
+ * Two food spawns, or two tripwires, in the same tile would share a
+ * {@link SpawnId}, so a map that has them is rejected when it is parsed.
+ *
+ * A parsed config never changes: lists are unmodifiable and points and
+ * mechanics are handed out as copies, so one instance can be cached and
+ * shared.
+ */
+public final class TxtBackedLevelConfig implements LevelConfig {
+
+    /** Used when a map has no # PLAYER_SPAWN section (tile 1,1 like LevelData). */
+    private static final Point DEFAULT_PLAYER_SPAWN = new Point(64, 64);
+
+    private final String levelName;
+    private final Point playerSpawn;
+    private final Point toySpawn;
+    private final boolean dash;
+    private final boolean toy;
+    private final boolean speedBoostFood;
+    private final boolean tripWires;
+    private final List<SpiderPatrolData> spiders;
+    private final Map<String, Map<String, Double>> spiderArchetypes;
+    private final List<SnailLocationData> snails;
+    private final List<FoodSpawnData> food;
+    private final List<Point> tripwirePositions;
+    private final boolean hasEntityData;
+
+    private TxtBackedLevelConfig(Builder b) {
+        this.levelName = b.levelName;
+        this.playerSpawn = b.playerSpawn != null ? b.playerSpawn : DEFAULT_PLAYER_SPAWN;
+        this.toySpawn = b.toySpawn;
+        this.dash = b.dash;
+        this.toy = b.toy;
+        this.speedBoostFood = b.speedBoostFood;
+        this.tripWires = b.tripWires;
+        this.spiders = Collections.unmodifiableList(b.spiders);
+        Map<String, Map<String, Double>> archetypes = new TreeMap<>();
+        b.spiderArchetypes.forEach((name, values) -> archetypes.put(name, Collections.unmodifiableMap(values)));
+        this.spiderArchetypes = Collections.unmodifiableMap(archetypes);
+        this.snails = Collections.unmodifiableList(b.snails);
+        this.food = Collections.unmodifiableList(b.food);
+        this.tripwirePositions = Collections.unmodifiableList(b.tripwires);
+        this.hasEntityData = !b.spiders.isEmpty() || !b.snails.isEmpty() || !b.food.isEmpty()
+                || !b.tripwires.isEmpty() || b.playerSpawn != null || b.toySpawn != null;
+    }
+
+    /** Whether the file had any entity data at all (as opposed to a bare tile grid). */
+    public boolean hasEntityData() {
+        return hasEntityData;
+    }
+
+    @Override public String getLevelName() { return levelName; }
+    @Override public Point getPlayerSpawn() { return new Point(playerSpawn); }
+    @Override public Point getToySpawn() { return toySpawn == null ? null : new Point(toySpawn); }
+    @Override public List<SpiderPatrolData> getSpiderPatrols() { return spiders; }
+    @Override public Map<String, Map<String, Double>> getSpiderArchetypeOverrides() { return spiderArchetypes; }
+    @Override public List<SnailLocationData> getSnailLocations() { return snails; }
+    @Override public List<FoodSpawnData> getFoodSpawns() { return food; }
+    @Override public List<Point> getTripWirePositions() { return tripwirePositions; }
+
+    @Override
+    public MechanicsConfig getMechanicsEnabled() {
+        MechanicsConfig mechanics = new MechanicsConfig();
+        if (dash) mechanics.enableDash();
+        if (toy) mechanics.enableToy();
+        if (speedBoostFood) mechanics.enableSpeedBoostFood();
+        if (tripWires) mechanics.enableTripWires();
+        return mechanics;
+    }
+
+    // ========== PARSING ==========
+
+    /**
+     * Parse the entity sections of a .txt map. The tile grid above the first
+     * # line is skipped; the stream is read to the end but not closed.
+     * Lines that can't be parsed are reported on stderr and skipped.
+     *
+     * @throws IOException if the stream can't be read, or two food spawns or
+     *         two tripwires share a tile (the message names both lines)
+     */
+    public static TxtBackedLevelConfig parse(String levelName, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Builder config = new Builder(levelName);
+
+        String currentSection = null;
+        int lineNumber = 0;
+        String raw;
+        while ((raw = reader.readLine()) != null) {
+            lineNumber++;
+            String line = raw.trim();
+            if (line.isEmpty()) continue;
+
+            // Section header
+            if (line.startsWith("#")) {
+                currentSection = line.substring(1).trim().toUpperCase();
+                continue;
+            }
+            if (currentSection == null) continue; // Still in the tile grid
+
+            try {
+                switch (currentSection) {
+                    case "PLAYER_SPAWN":
+                        parsePlayerSpawn(config, line);
+                        break;
+                    case "TOY_SPAWN":
+                        parseToySpawn(config, line);
+                        break;
+                    case "SPIDERS":
+                        parseSpider(config, line);
+                        break;
+                    case "SPIDER_ARCHETYPES":
+                        parseSpiderArchetype(config, line);
+                        break;
+                    case "SNAILS":
+                        parseSnail(config, line);
+                        break;
+                    case "FOOD":
+                        parseFood(config, line, lineNumber);
+                        break;
+                    case "TRIPWIRES":
+                        parseTripwire(config, line, lineNumber);
+                        break;
+                    case "MECHANICS":
+                        parseMechanic(config, line);
+                        break;
+                }
+            } catch (RuntimeException e) {
+                System.err.println("[TxtBackedLevelConfig] Warning: " + levelName + " line " + lineNumber
+                        + ": could not parse \"" + line + "\" (" + e.getMessage() + ")");
+            }
+        }
+        return new TxtBackedLevelConfig(config);
+    }
+
+    /** A config with no entities and the default spawn, for a map that couldn't be read. */
+    static TxtBackedLevelConfig empty(String levelName) {
+        return new TxtBackedLevelConfig(new Builder(levelName));
+    }
+
+    /** Mutable state while parsing; frozen into the config at the end. */
+    private static final class Builder {
+        final String levelName;
+        Point playerSpawn;
+        Point toySpawn;
+        boolean dash;
+        boolean toy;
+        boolean speedBoostFood;
+        boolean tripWires;
+        final List<SpiderPatrolData> spiders = new ArrayList<>();
+        final Map<String, Map<String, Double>> spiderArchetypes = new TreeMap<>();
+        final List<SnailLocationData> snails = new ArrayList<>();
+        final List<FoodSpawnData> food = new ArrayList<>();
+        final List<Point> tripwires = new ArrayList<>();
+        final Map<Integer, Integer> foodLines = new HashMap<>();     // Spawn ID -> line it was defined on
+        final Map<Integer, Integer> tripwireLines = new HashMap<>();
+
+        Builder(String levelName) {
+            this.levelName = levelName;
+        }
+    }
+
+    private static void parsePlayerSpawn(Builder config, String line) {
+        String[] parts = line.split("\\s+");
+        config.playerSpawn = new Point(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    private static void parseToySpawn(Builder config, String line) {
+        if (line.equalsIgnoreCase("none")) return;
+        String[] parts = line.split("\\s+");
+        config.toySpawn = new Point(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    private static void parseSpider(Builder config, String line) {
+        String[] parts = line.split("\\s+", 2);
+        String type = parts[0].toLowerCase();
+        String rest = parts.length > 1 ? parts[1] : "";
+        String[] args = rest.split("\\s+");
+
+        SpiderPatrolData patrol;
+        int next; // First argument after the patrol's own
+
+        switch (type) {
+            case "rectangle": {
+                int left = Integer.parseInt(args[0]);
+                int top = Integer.parseInt(args[1]);
+                int right = Integer.parseInt(args[2]);
+                int bottom = Integer.parseInt(args[3]);
+                patrol = SpiderPatrolData.rectangle(left, top, right, bottom);
+                next = 4;
+                break;
+            }
+            case "horizontal": {
+                int startX = Integer.parseInt(args[0]);
+                int endX = Integer.parseInt(args[1]);
+                int y = Integer.parseInt(args[2]);
+                patrol = SpiderPatrolData.horizontal(startX, endX, y);
+                next = 3;
+                break;
+            }
+            case "vertical": {
+                int x = Integer.parseInt(args[0]);
+                int startY = Integer.parseInt(args[1]);
+                int endY = Integer.parseInt(args[2]);
+                patrol = SpiderPatrolData.vertical(x, startY, endY);
+                next = 3;
+                break;
+            }
+            case "custom": {
+                SpiderPatrolData.CustomBuilder builder = SpiderPatrolData.custom();
+                int waypointEnd = 0;
+                for (int j = 0; j < args.length; j++) {
+                    if (args[j].contains(",")) {
+                        String[] xy = args[j].split(",");
+                        builder.addPoint(Integer.parseInt(xy[0]), Integer.parseInt(xy[1]));
+                        waypointEnd = j + 1;
+                    } else {
+                        break;
+                    }
+                }
+                patrol = builder.build();
+                next = waypointEnd;
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown patrol type " + type);
+        }
+
+        if (next < args.length && args[next].startsWith("@")) {
+            patrol.archetype(args[next].substring(1));
+            next++;
+        }
+        if (next < args.length) {
+            patrol.describe(joinFrom(args, next));
+        }
+        config.spiders.add(patrol);
+    }
+
+    private static void parseSpiderArchetype(Builder config, String line) {
+        // Format: archetype key=value key=value ...
+        String[] parts = line.split("\\s+");
+        Map<String, Double> values = new TreeMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            String[] kv = parts[i].split("=", 2);
+            if (kv.length != 2 || !GameConfig.Spider.KEYS.contains(kv[0])) {
+                throw new IllegalArgumentException("unknown spider setting " + parts[i]);
+            }
+            values.put(kv[0], Double.parseDouble(kv[1]));
+        }
+        config.spiderArchetypes.computeIfAbsent(parts[0], k -> new TreeMap<>()).putAll(values);
+    }
+
+    private static void parseSnail(Builder config, String line) {
+        // Format: pixelX pixelY interaction(true/false) dialogue1|dialogue2|...
+        String[] parts = line.split("\\s+", 4);
+        int px = Integer.parseInt(parts[0]);
+        int py = Integer.parseInt(parts[1]);
+        boolean interaction = Boolean.parseBoolean(parts[2]);
+        SnailLocationData snail = SnailLocationData.at(px, py);
+        if (parts.length > 3) {
+            String[] dialogueLines = parts[3].split("\\|");
+            snail.withDialogue(dialogueLines);
+        }
+        if (interaction) snail.requiresInteraction();
+        else snail.autoAdvance();
+        config.snails.add(snail);
+    }
+
+    private static void parseFood(Builder config, String line, int lineNumber) throws IOException {
+        // Format: type tileX tileY [description]
+        String[] parts = line.split("\\s+", 4);
+        String type = parts[0].toLowerCase();
+        int tx = Integer.parseInt(parts[1]);
+        int ty = Integer.parseInt(parts[2]);
+        FoodSpawnData fd;
+        if (type.equals("energy_seed")) {
+            fd = FoodSpawnData.energySeed(tx, ty);
+        } else {
+            fd = FoodSpawnData.berry(tx, ty);
+        }
+        if (parts.length > 3) fd.describe(parts[3]);
+        claimTile(config, config.foodLines, fd.getId(), "food", lineNumber);
+        config.food.add(fd);
+    }
+
+    private static void parseTripwire(Builder config, String line, int lineNumber) throws IOException {
+        if (line.equalsIgnoreCase("none")) return;
+        String[] parts = line.split("\\s+");
+        Point position = new Point(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        claimTile(config, config.tripwireLines, SpawnId.ofTripWire(position.x, position.y), "tripwire", lineNumber);
+        config.tripwires.add(position);
+    }
+
+    /** Record that a spawn of one kind sits at this ID, or fail if another already does. */
+    private static void claimTile(Builder config, Map<Integer, Integer> claimed, int id, String kind,
+                                  int lineNumber) throws IOException {
+        Integer firstLine = claimed.putIfAbsent(id, lineNumber);
+        if (firstLine != null) {
+            throw new IOException(config.levelName + ".txt line " + lineNumber + ": " + kind + " in "
+                    + SpawnId.describe(id) + " duplicates the " + kind + " on line " + firstLine
+                    + " (two spawns of the same kind can't share a tile)");
+        }
+    }
+
+    private static void parseMechanic(Builder config, String line) {
+        String[] parts = line.split("\\s+");
+        String key = parts[0].toLowerCase();
+        boolean val = Boolean.parseBoolean(parts[1]);
+        switch (key) {
+            case "dash":       config.dash = val; break;
+            case "toy":        config.toy = val; break;
+            case "speedboost": config.speedBoostFood = val; break;
+            case "tripwires":  config.tripWires = val; break;
+        }
+    }
+
+    private static String joinFrom(String[] parts, int startIndex) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = startIndex; i < parts.length; i++) {
+            if (i > startIndex) sb.append(" ");
+            sb.append(parts[i]);
+        }
+        return sb.toString();
+    }
+
+    // ========== WRITING ==========
+
+    /**
+     * Write a config as # sections in the format {@link #parse} reads, for
+     * appending below a tile grid. Patrols are written as rectangle,
+     * horizontal or vertical when their waypoints have that shape, and as
+     * custom otherwise.
+     */
+    public static String format(LevelConfig config) {
+        StringBuilder out = new StringBuilder();
+        Point spawn = config.getPlayerSpawn();
+        out.append("# PLAYER_SPAWN\n").append(spawn.x).append(' ').append(spawn.y).append("\n\n");
+
+        Point toySpawn = config.getToySpawn();
+        out.append("# TOY_SPAWN\n")
+           .append(toySpawn == null ? "none" : toySpawn.x + " " + toySpawn.y).append("\n\n");
+
+        out.append("# SPIDERS\n");
+        for (SpiderPatrolData patrol : config.getSpiderPatrols()) {
+            out.append(formatPatrol(patrol.getWaypoints()));
+            if (!GameConfig.DEFAULT_ARCHETYPE.equals(patrol.getArchetype())) {
+                out.append(" @").append(patrol.getArchetype());
+            }
+            appendDescription(out, patrol.getDescription());
+        }
+
+        if (!config.getSpiderArchetypeOverrides().isEmpty()) {
+            out.append("\n# SPIDER_ARCHETYPES\n");
+            config.getSpiderArchetypeOverrides().forEach((name, values) -> {
+                out.append(name);
+                values.forEach((key, value) -> out.append(' ').append(key).append('=').append(formatNumber(value)));
+                out.append('\n');
+            });
+        }
+
+        out.append("\n# SNAILS\n");
+        for (SnailLocationData snail : config.getSnailLocations()) {
+            Point p = snail.getPosition();
+            out.append(p.x).append(' ').append(p.y).append(' ').append(snail.isInteractionRequired())
+               .append(' ').append(String.join("|", snail.getDialogue())).append('\n');
+        }
+
+        out.append("\n# FOOD\n");
+        for (FoodSpawnData food : config.getFoodSpawns()) {
+            Point tile = food.getTilePosition();
+            out.append(food.getType() == Food.FoodType.ENERGY_SEED ? "energy_seed" : "berry")
+               .append(' ').append(tile.x).append(' ').append(tile.y);
+            appendDescription(out, food.getDescription());
+        }
+
+        out.append("\n# TRIPWIRES\n");
+        if (config.getTripWirePositions().isEmpty()) {
+            out.append("none\n");
+        }
+        for (Point p : config.getTripWirePositions()) {
+            out.append(p.x).append(' ').append(p.y).append('\n');
+        }
+
+        MechanicsConfig mechanics = config.getMechanicsEnabled();
+        out.append("\n# MECHANICS\n")
+           .append("dash ").append(mechanics.isDashEnabled()).append('\n')
+           .append("toy ").append(mechanics.isToyEnabled()).append('\n')
+           .append("speedboost ").append(mechanics.isSpeedBoostFoodEnabled()).append('\n')
+           .append("tripwires ").append(mechanics.isTripWiresEnabled()).append('\n');
+        return out.toString();
+    }
+
+    private static String formatNumber(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static String formatPatrol(List<Point> w) {
+        if (w.size() == 5 && w.get(0).equals(w.get(4))
+                && w.get(0).y == w.get(1).y && w.get(1).x == w.get(2).x
+                && w.get(2).y == w.get(3).y && w.get(3).x == w.get(0).x
+                && w.get(0).x < w.get(1).x && w.get(0).y < w.get(3).y) {
+            return "rectangle " + w.get(0).x + " " + w.get(0).y + " " + w.get(2).x + " " + w.get(2).y;
+        }
+        if (w.size() == 3 && w.get(0).equals(w.get(2))) {
+            if (w.get(0).y == w.get(1).y) {
+                return "horizontal " + w.get(0).x + " " + w.get(1).x + " " + w.get(0).y;
+            }
+            if (w.get(0).x == w.get(1).x) {
+                return "vertical " + w.get(0).x + " " + w.get(0).y + " " + w.get(1).y;
+            }
+        }
+        StringBuilder custom = new StringBuilder("custom");
+        for (Point p : w) {
+            custom.append(' ').append(p.x).append(',').append(p.y);
+        }
+        return custom.toString();
+    }
+
+    private static void appendDescription(StringBuilder out, String description) {
+        if (description != null && !description.isEmpty()) {
+            out.append(' ').append(description);
+        }
+        out.append('\n');
+    }
+}
@@ -7,6 +7,7 @@ import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
@@ -16,7 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import com.buglife.assets.SoundManager;
 import com.buglife.config.ConfigManager;
-import com.buglife.config.GameConstants;
+import com.buglife.config.GameConfig;
 import com.buglife.save.SaveManager;
 import com.buglife.save.UserProfile;
 import com.buglife.utils.PerformanceMonitor;
@@ -31,22 +32,24 @@ public class Game implements Runnable {
     public static Font Tiny5;
     private SoundManager soundManager;
     private ConfigManager configManager;
+    private GameConfig appliedConfig; // Snapshot whose audio settings the mixer currently reflects
     volatile boolean running = false;
 
     public Game() {
         // 0. Initialize ConfigManager first
         configManager = ConfigManager.getInstance();
-        GameConstants.initialize();
-        FPS = configManager.getInt("game.targetFPS", 60);
+        configManager.startWatching(); // Edits to config.json apply while the game runs
+        appliedConfig = GameConfig.current();
+        FPS = appliedConfig.display().targetFps();
         logger.info("Target FPS set to: {}", FPS);
         
-        // 0.5. Ensure saves directory exists
+        // 0.5. Ensure saves directory exists, and start indexing local profiles
         UserProfile.ensureSavesDirectory();
+        UserProfile.preloadRegistry();
 
         // 1. Load assets first
         loadCustomFont();
         soundManager = new SoundManager();
-        soundManager.loadSound("music", "/res/sounds/game_theme.wav");
         soundManager.loopSound("menuMusic");
 
         // 2. Create the panel that will hold the game
@@ -55,7 +58,7 @@ public class Game implements Runnable {
         // 3. Create and configure the main window (the JFrame)
         window = new JFrame();
         window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        window.setTitle("Lullaby Down Below");
+        window.setTitle(appliedConfig.display().windowTitle());
         window.setUndecorated(true); // Remove title bar for fullscreen
         window.setResizable(false);
         
@@ -111,7 +114,9 @@ public class Game implements Runnable {
             // UPDATE PHASE - Track timing
             // ============================================================
             long updateStart = System.nanoTime();
+            applyConfigChanges();
             gamePanel.updateGame();
+            soundManager.endFrame();
             long updateEnd = System.nanoTime();
             double updateMs = (updateEnd - updateStart) / 1_000_000.0;
 
@@ -149,13 +154,34 @@ public class Game implements Runnable {
         }
     }
 
+    /**
+     * Push a hot-reloaded config.json's audio settings into the mixer. Runs on
+     * the game thread, which owns the mixer's command queue; everything else
+     * reads GameConfig.current() directly.
+     */
+    private void applyConfigChanges() {
+        GameConfig config = GameConfig.current();
+        if (config == appliedConfig) return;
+
+        GameConfig.Audio audio = config.audio();
+        if (!audio.equals(appliedConfig.audio())) {
+            soundManager.setMasterVolume(audio.muteAll() ? 0f : audio.masterVolume());
+            soundManager.setMusicVolume(audio.musicVolume());
+            soundManager.setSFXVolume(audio.sfxVolume());
+            logger.info("Applied audio settings from config: {}", audio);
+        }
+        appliedConfig = config;
+    }
+
     /**
      * Cleanup and shutdown procedure.
      */
     public void cleanup() {
         running = false;
+        ConfigManager.getInstance().stopWatching();
 
-        // Shutdown save manager (cloud services)
+        // Let queued local saves reach the disk, then shut down save services
+        SaveManager.awaitPendingSaves(5, TimeUnit.SECONDS);
         SaveManager.shutdown();
 
         try {
@@ -172,6 +198,7 @@ public class Game implements Runnable {
 
         if (soundManager != null) {
             soundManager.stopAllSounds();
+            soundManager.shutdown();
         }
 
         if (window != null) {
@@ -70,7 +70,7 @@ public class GamePanel extends JPanel {
         PerformanceMonitor monitor = PerformanceMonitor.getInstance();
         
         // Calculate overlay height dynamically
-        int baseHeight = 200;  // Base height for main info
+        int baseHeight = 220;  // Base height for main info
         int spiderMenuHeight = monitor.isSpiderTogglesVisible() ? 100 : 0;
         int totalHeight = baseHeight + spiderMenuHeight;
         
@@ -111,6 +111,9 @@ public class GamePanel extends JPanel {
                 monitor.getCurrentLevel(), monitor.getSpiderCount(), 
                 monitor.getSnailCount(), monitor.getFoodCount()), 20, y);
         y += 20;
+        g.drawString(String.format("Tick: %d | State hash: %016x",
+                monitor.getSimulationTick(), monitor.getStateHash()), 20, y);
+        y += 20;
         
         // Controls
         g.setFont(new java.awt.Font("Monospaced", java.awt.Font.PLAIN, 12));
@@ -1,6 +1,9 @@
 package com.buglife.main;
 
 import java.awt.Graphics2D;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import com.buglife.assets.SoundManager;
 import com.buglife.states.GameState;
 import com.buglife.states.IdentifyState;
@@ -32,6 +35,11 @@ public class GameStateManager {
     private SoundManager soundManager;
     private GamePanel gamePanel; // Reference to parent panel for context
 
+    // Key events arrive on the AWT thread; states get them at the start of
+    // the next update, on the game thread, so input always lands between ticks
+    private record KeyInput(int keyCode, boolean pressed) {}
+    private final Queue<KeyInput> pendingKeys = new ConcurrentLinkedQueue<>();
+
     // Cache states to avoid repeated instantiation
     private IdentifyState identifyState;
     private MenuState menuState;
@@ -125,6 +133,16 @@ public class GameStateManager {
         // Apply any pending state changes at the beginning of the update loop
         applyStateChange();
 
+        KeyInput key;
+        while ((key = pendingKeys.poll()) != null) {
+            if (currentState == null) continue;
+            if (key.pressed()) {
+                currentState.keyPressed(key.keyCode());
+            } else {
+                currentState.keyReleased(key.keyCode());
+            }
+        }
+
         if (currentState != null) {
             currentState.update();
         }
@@ -140,21 +158,17 @@ public class GameStateManager {
     }
 
     /**
-     * Handle key press events.
+     * Handle key press events. Delivered to the state on the next update.
      */
     public void keyPressed(int keyCode) {
-        if (currentState != null) {
-            currentState.keyPressed(keyCode);
-        }
+        pendingKeys.add(new KeyInput(keyCode, true));
     }
 
     /**
-     * Handle key release events.
+     * Handle key release events. Delivered to the state on the next update.
      */
     public void keyReleased(int keyCode) {
-        if (currentState != null) {
-            currentState.keyReleased(keyCode);
-        }
+        pendingKeys.add(new KeyInput(keyCode, false));
     }
 
     /**
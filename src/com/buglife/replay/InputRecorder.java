@@ -0,0 +1,73 @@
+package com.buglife.replay;
+
+import java.util.Arrays;
+
+import com.buglife.config.GameConfig;
+
+/**
+ * Collects the key events and per-tick state hashes of one level run into
+ * a {@link ReplayLog}.
+ *
+ * PlayingState makes one when a level starts fresh, passes it every key
+ * event along with its tick counter (events are delivered between ticks, so
+ * the tick says which update they came before) and the StateHash after
+ * every tick, and finishes it with the final tick and state when the level
+ * ends.
+ */
+public final class InputRecorder {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final String levelName;
+    private final int configFingerprint;
+    private int[] ticks = new int[INITIAL_CAPACITY];
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int count;
+    private int[] tickHashes = new int[INITIAL_CAPACITY * StateHash.COMPONENT_COUNT];
+    private int hashedTicks;
+
+    public InputRecorder(String levelName, GameConfig config) {
+        this.levelName = levelName;
+        this.configFingerprint = config.hashCode();
+    }
+
+    public void keyPressed(int tick, int keyCode) {
+        add(tick, keyCode << 1 | ReplayLog.PRESS);
+    }
+
+    public void keyReleased(int tick, int keyCode) {
+        add(tick, keyCode << 1 | ReplayLog.RELEASE);
+    }
+
+    private void add(int tick, int key) {
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            keys = Arrays.copyOf(keys, count * 2);
+        }
+        ticks[count] = tick;
+        keys[count] = key;
+        count++;
+    }
+
+    /** Record the state after {@code tick}; ticks must come in order from 1. */
+    public void tickHashed(int tick, StateHash hash) {
+        if (tick != hashedTicks + 1) {
+            throw new IllegalStateException("Tick " + tick + " hashed after tick " + hashedTicks);
+        }
+        int offset = hashedTicks * StateHash.COMPONENT_COUNT;
+        if (offset == tickHashes.length) {
+            tickHashes = Arrays.copyOf(tickHashes, offset * 2);
+        }
+        hash.copyTo(tickHashes, offset);
+        hashedTicks++;
+    }
+
+    /** End the log on {@code finalTick}, recording its hash first if that tick wasn't yet. */
+    public ReplayLog finish(int finalTick, StateHash hash) {
+        if (hashedTicks < finalTick) {
+            tickHashed(finalTick, hash);
+        }
+        return new ReplayLog(levelName, configFingerprint, Arrays.copyOf(ticks, count),
+                Arrays.copyOf(keys, count), finalTick, hash.combined(),
+                Arrays.copyOf(tickHashes, hashedTicks * StateHash.COMPONENT_COUNT));
+    }
+}
@@ -0,0 +1,232 @@
+package com.buglife.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One recorded run of a level: every key event PlayingState received,
+ * stamped with the simulation tick it arrived before, the world state hash
+ * (StateHash components) after every tick, and the tick and combined hash
+ * the run ended on.
+ *
+ * The simulation has no other inputs (no randomness, no wall-clock time), so
+ * starting the same level under the same config.json and feeding the events
+ * back at the same ticks must go through the same hashes. ReplayDriver
+ * checks that tick by tick and names the first tick and entity that differ.
+ *
+ * Run the game with -Dbuglife.replayDir=replays to write a log every time a
+ * level ends (completed, game over, quit, or switched away from).
+ *
+ * File layout (.replay), integers as LEB128 varints unless noted:
+ *   "BRPL", u8 version
+ *   level name (u16 length + UTF-8)
+ *   i32 config fingerprint (GameConfig.hashCode of the snapshot at level start)
+ *   events: tick delta, u8 PRESS/RELEASE, key code
+ *   end:    tick delta to the final tick, u8 END, i64 state hash
+ *   hashes: tick count, then for ticks 1..count a u8 mask of the StateHash
+ *           components that changed since the previous tick (all of them
+ *           for tick 1), followed by each changed component as an i32
+ *
+ * Version 1 logs (no per-tick hashes, a different end hash) are not read.
+ */
+public final class ReplayLog {
+    private static final Logger logger = LoggerFactory.getLogger(ReplayLog.class);
+
+    public static final String EXTENSION = ".replay";
+
+    private static final byte[] MAGIC = { 'B', 'R', 'P', 'L' };
+    private static final int VERSION = 2;
+
+    static final int PRESS = 0;
+    static final int RELEASE = 1;
+    static final int END = 2;
+
+    private final String levelName;
+    private final int configFingerprint;
+    private final int[] eventTicks;
+    private final int[] eventKeys; // keyCode << 1 | RELEASE
+    private final int finalTick;
+    private final long finalHash;
+    private final int[] tickHashes; // StateHash.COMPONENT_COUNT per tick, from tick 1
+
+    ReplayLog(String levelName, int configFingerprint, int[] eventTicks, int[] eventKeys,
+              int finalTick, long finalHash, int[] tickHashes) {
+        this.levelName = levelName;
+        this.configFingerprint = configFingerprint;
+        this.eventTicks = eventTicks;
+        this.eventKeys = eventKeys;
+        this.finalTick = finalTick;
+        this.finalHash = finalHash;
+        this.tickHashes = tickHashes;
+    }
+
+    // ========== GETTERS ==========
+
+    public String getLevelName() { return levelName; }
+    public int getConfigFingerprint() { return configFingerprint; }
+    public int getFinalTick() { return finalTick; }
+    public long getFinalHash() { return finalHash; }
+
+    public int getEventCount() { return eventTicks.length; }
+    public int getEventTick(int index) { return eventTicks[index]; }
+    public int getEventKeyCode(int index) { return eventKeys[index] >>> 1; }
+    public boolean isEventPress(int index) { return (eventKeys[index] & 1) == PRESS; }
+
+    /** Ticks with a recorded state hash: 1..getHashedTickCount(). */
+    public int getHashedTickCount() { return tickHashes.length / StateHash.COMPONENT_COUNT; }
+
+    /** Whether {@code hash} is the state recorded after {@code tick}. */
+    public boolean tickMatches(int tick, StateHash hash) {
+        return hash.matches(tickHashes, tickOffset(tick));
+    }
+
+    /** What differs between {@code hash} and the state recorded after {@code tick} (see StateHash.describeDifference). */
+    public String describeTickDifference(int tick, StateHash hash) {
+        return hash.describeDifference(tickHashes, tickOffset(tick));
+    }
+
+    private int tickOffset(int tick) {
+        if (tick < 1 || tick > getHashedTickCount()) throw new IndexOutOfBoundsException(tick);
+        return (tick - 1) * StateHash.COMPONENT_COUNT;
+    }
+
+    // ========== ENCODING ==========
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + eventTicks.length * 3 + tickHashes.length * 3);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(levelName);
+            out.writeInt(configFingerprint);
+            int lastTick = 0;
+            for (int i = 0; i < eventTicks.length; i++) {
+                writeVarint(out, eventTicks[i] - lastTick);
+                out.writeByte(eventKeys[i] & 1);
+                writeVarint(out, eventKeys[i] >>> 1);
+                lastTick = eventTicks[i];
+            }
+            writeVarint(out, finalTick - lastTick);
+            out.writeByte(END);
+            out.writeLong(finalHash);
+
+            int components = StateHash.COMPONENT_COUNT;
+            writeVarint(out, getHashedTickCount());
+            for (int base = 0; base < tickHashes.length; base += components) {
+                int mask = 0;
+                for (int c = 0; c < components; c++) {
+                    if (base == 0 || tickHashes[base + c] != tickHashes[base - components + c]) mask |= 1 << c;
+                }
+                out.writeByte(mask);
+                for (int c = 0; c < components; c++) {
+                    if ((mask & 1 << c) != 0) out.writeInt(tickHashes[base + c]);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // In-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ReplayLog decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        for (byte b : MAGIC) {
+            if (in.readByte() != b) throw new IOException("Not a replay log");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+        String levelName = in.readUTF();
+        int fingerprint = in.readInt();
+
+        int[] ticks = new int[16];
+        int[] keys = new int[16];
+        int count = 0;
+        int tick = 0;
+        while (true) {
+            tick += readVarint(in);
+            int kind = in.readUnsignedByte();
+            if (kind == END) break;
+            if (kind != PRESS && kind != RELEASE) throw new IOException("Bad replay event kind " + kind);
+            if (count == ticks.length) {
+                ticks = Arrays.copyOf(ticks, count * 2);
+                keys = Arrays.copyOf(keys, count * 2);
+            }
+            ticks[count] = tick;
+            keys[count] = readVarint(in) << 1 | kind;
+            count++;
+        }
+        long hash = in.readLong();
+
+        int components = StateHash.COMPONENT_COUNT;
+        int hashedTicks = readVarint(in);
+        if (hashedTicks < 0 || hashedTicks > data.length) throw new IOException("Bad hashed tick count " + hashedTicks);
+        int[] tickHashes = new int[hashedTicks * components];
+        for (int base = 0; base < tickHashes.length; base += components) {
+            int mask = in.readUnsignedByte();
+            for (int c = 0; c < components; c++) {
+                if ((mask & 1 << c) != 0) {
+                    tickHashes[base + c] = in.readInt();
+                } else if (base == 0) {
+                    throw new IOException("First tick hash is incomplete");
+                } else {
+                    tickHashes[base + c] = tickHashes[base - components + c];
+                }
+            }
+        }
+        return new ReplayLog(levelName, fingerprint, Arrays.copyOf(ticks, count),
+                Arrays.copyOf(keys, count), tick, hash, tickHashes);
+    }
+
+    public static ReplayLog read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    public void write(Path file) throws IOException {
+        Files.write(file, encode());
+    }
+
+    /** A sink that writes each finished log to {@code dir} as LEVEL_yyyyMMdd_HHmmss.replay. */
+    public static Consumer<ReplayLog> directorySink(Path dir) {
+        return log -> {
+            String stamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+            Path file = dir.resolve(log.levelName + "_" + stamp + EXTENSION);
+            try {
+                Files.createDirectories(dir);
+                log.write(file);
+                logger.info("Replay written: {} ({} ticks, {} events)", file, log.finalTick, log.getEventCount());
+            } catch (IOException e) {
+                logger.warn("Could not write replay {}", file, e);
+            }
+        };
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,175 @@
+package com.buglife.replay;
+
+import java.util.Arrays;
+
+/**
+ * The world state of one simulation tick, folded into a few 32-bit
+ * components: the player, the toy, the rest of the world (snail, food,
+ * tripwires) and two sums over the spiders.
+ *
+ * PlayingState refills one of these after every update() without copying
+ * any state: each entity hashes its own fields (stateHash()), food and
+ * tripwires are kept as running sums updated when one is eaten or
+ * triggered, so a tick costs a few multiplies per spider. Replay logs keep
+ * every tick's components and ReplayDriver compares them, which gives the
+ * first tick two runs part ways and what part of the world differs.
+ *
+ * The spider sums are what make "which spider" answerable from a few bytes:
+ * with h(i) the i-th spider's hash reduced mod the prime P = 2^31 - 1,
+ *
+ *   SPIDERS          = sum h(i)           mod P
+ *   SPIDERS_WEIGHTED = sum (i + 1) h(i)   mod P
+ *
+ * If only spider k differs between two runs, the weighted difference is
+ * (k + 1) times the plain one, so k falls out of one modular division. When
+ * several spiders differ at once the quotient is just a number, usually out
+ * of range, and the difference is reported for the spiders as a whole.
+ */
+public final class StateHash {
+
+    public static final int PLAYER = 0;
+    public static final int TOY = 1;
+    public static final int WORLD = 2;
+    public static final int SPIDERS = 3;
+    public static final int SPIDERS_WEIGHTED = 4;
+    public static final int COMPONENT_COUNT = 5;
+
+    private static final long P = 0x7FFFFFFFL; // 2^31 - 1
+
+    private static final long SEED = 0xCBF29CE484222325L;
+    private static final long PRIME = 0x100000001B3L;
+
+    private final int[] components = new int[COMPONENT_COUNT];
+    private int spiderCount;
+
+    // ========== HASHING HELPERS ==========
+
+    /** Start value for a {@link #mix} chain. */
+    public static long seed() {
+        return SEED;
+    }
+
+    /** Fold one value into a running hash (FNV-style multiply, then a shift to spread high bits down). */
+    public static long mix(long h, long value) {
+        h = (h ^ value) * PRIME;
+        return h ^ (h >>> 29);
+    }
+
+    /** Doubles are hashed by their exact bits, so -0.0 and 0.0 differ and every ULP counts. */
+    public static long mix(long h, double value) {
+        return mix(h, Double.doubleToRawLongBits(value));
+    }
+
+    public static long mix(long h, boolean value) {
+        return mix(h, value ? 1 : 0);
+    }
+
+    /**
+     * One element's contribution to an order-independent set hash: add it
+     * when the element appears, subtract it when it goes.
+     */
+    public static long setElement(int id) {
+        return mix(SEED, id);
+    }
+
+    // ========== FILLING ==========
+
+    /** Start a new tick: spider sums back to zero. */
+    public void beginTick() {
+        components[SPIDERS] = 0;
+        components[SPIDERS_WEIGHTED] = 0;
+        spiderCount = 0;
+    }
+
+    public void setPlayer(long hash) {
+        components[PLAYER] = fold(hash);
+    }
+
+    public void setToy(long hash) {
+        components[TOY] = fold(hash);
+    }
+
+    public void setWorld(long hash) {
+        components[WORLD] = fold(hash);
+    }
+
+    /** Add the next spider (call in spider list order, starting from index 0). */
+    public void addSpider(long hash) {
+        long h = Long.remainderUnsigned(hash, P);
+        long weight = ++spiderCount;
+        components[SPIDERS] = (int) ((components[SPIDERS] + h) % P);
+        components[SPIDERS_WEIGHTED] = (int) ((components[SPIDERS_WEIGHTED] + weight * h) % P);
+    }
+
+    private static int fold(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    // ========== READING ==========
+
+    public int get(int component) {
+        return components[component];
+    }
+
+    public int getSpiderCount() {
+        return spiderCount;
+    }
+
+    /** All components in one 64-bit value, for the overlay and a replay's end record. */
+    public long combined() {
+        long h = SEED;
+        for (int component : components) {
+            h = mix(h, component);
+        }
+        return h;
+    }
+
+    /** Copy the components into {@code out} at {@code offset}. */
+    public void copyTo(int[] out, int offset) {
+        System.arraycopy(components, 0, out, offset, COMPONENT_COUNT);
+    }
+
+    /** Whether {@code other} (COMPONENT_COUNT values from {@code offset}) holds the same components. */
+    public boolean matches(int[] other, int offset) {
+        return Arrays.equals(components, 0, COMPONENT_COUNT, other, offset, offset + COMPONENT_COUNT);
+    }
+
+    /**
+     * Name the part of the world that differs between this tick and
+     * {@code other} (components from {@code offset}, as stored by ReplayLog):
+     * "player", "toy", "world (snail, food, tripwires)", "spider #k" or
+     * "several spiders". Null if nothing differs.
+     */
+    public String describeDifference(int[] other, int offset) {
+        StringBuilder out = new StringBuilder();
+        if (components[PLAYER] != other[offset + PLAYER]) append(out, "player");
+        if (components[TOY] != other[offset + TOY]) append(out, "toy");
+        if (components[WORLD] != other[offset + WORLD]) append(out, "world (snail, food, tripwires)");
+
+        long d0 = Math.floorMod((long) components[SPIDERS] - other[offset + SPIDERS], P);
+        long d1 = Math.floorMod((long) components[SPIDERS_WEIGHTED] - other[offset + SPIDERS_WEIGHTED], P);
+        if (d0 != 0) {
+            long k = d1 * inverse(d0) % P; // (spider index + 1) if exactly one spider differs
+            append(out, k >= 1 && k <= spiderCount ? "spider #" + (k - 1) : "several spiders");
+        } else if (d1 != 0) {
+            append(out, "several spiders");
+        }
+        return out.length() > 0 ? out.toString() : null;
+    }
+
+    private static void append(StringBuilder out, String part) {
+        if (out.length() > 0) out.append(", ");
+        out.append(part);
+    }
+
+    /** Modular inverse mod P (prime), by Fermat: a^(P-2). */
+    private static long inverse(long a) {
+        long result = 1;
+        long base = a % P;
+        for (long e = P - 2; e > 0; e >>= 1) {
+            if ((e & 1) != 0) result = result * base % P;
+            base = base * base % P;
+        }
+        return result;
+    }
+}
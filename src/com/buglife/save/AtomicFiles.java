@@ -0,0 +1,74 @@
+package com.buglife.save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AtomicFiles — Crash-safe file replacement.
+ *
+ * A file is never overwritten in place. The new bytes go to a temp file in the
+ * same directory, are forced to disk, and the temp file is renamed over the
+ * target in one atomic step. A crash at any point leaves either the complete
+ * old file or the complete new one, never a truncated mix.
+ */
+final class AtomicFiles {
+    private static final Logger logger = LoggerFactory.getLogger(AtomicFiles.class);
+
+    static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFiles() {}
+
+    /**
+     * Replace {@code target} with {@code data} atomically and durably.
+     */
+    static void write(Path target, byte[] data) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = dir.resolve(target.getFileName() + TEMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        move(temp, target);
+        syncDirectory(dir);
+    }
+
+    /**
+     * Rename {@code source} over {@code target} atomically where the platform
+     * allows it.
+     */
+    static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warn("Atomic move not supported for {}, falling back to replace", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flush the directory entry so the rename itself survives a power cut.
+     * Not every platform can open a directory (Windows can't); that's fine.
+     */
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Best effort only
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.buglife.save;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CloudOutbox — The Letters Waiting for the Postman.
+ *
+ * Cloud uploads used to be fire-and-forget: if the Overseer was down, the
+ * save simply never reached it. Now every upload is first written to
+ * saves/outbox/PLAYERNAME.upload and only deleted once the Overseer has
+ * acknowledged it. Failed uploads are retried with exponential backoff, and
+ * whatever is still in the outbox when the game starts is replayed.
+ *
+ * Only the newest save per player is kept: a newer save replaces the letter
+ * in the outbox instead of queueing behind it.
+ *
+ * Apart from writing the letter in enqueue(), all bookkeeping happens on
+ * one scheduler thread, which only waits and records outcomes; the uploads themselves are async requests on the shared
+ * {@link OverseerClient}, so a slow or unreachable Overseer never blocks
+ * downloads or leaderboard fetches.
+ */
+final class CloudOutbox {
+    private static final Logger logger = LoggerFactory.getLogger(CloudOutbox.class);
+
+    private static final Path OUTBOX_DIR = Paths.get("saves", "outbox");
+    private static final String OUTBOX_EXTENSION = ".upload";
+
+    private static final long FIRST_ATTEMPT_DELAY_MS = 5_000; // Let the player breathe before we phone home
+    private static final long REPLAY_DELAY_MS = 2_000;
+    private static final long MAX_BACKOFF_MS = 5 * 60_000;
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "Cloud-Outbox");
+        t.setDaemon(true); // Anything unsent stays on disk for next time
+        return t;
+    });
+
+    /** One player's letter. Scheduler thread only. */
+    private static final class Entry {
+        SaveData data;
+        int failures;
+        ScheduledFuture<?> attempt;
+        boolean inFlight;
+    }
+
+    // Player name (upper case) -> pending upload. Scheduler thread only.
+    private static final Map<String, Entry> entries = new HashMap<>();
+    private static boolean replayed = false;
+
+    private CloudOutbox() {}
+
+    /**
+     * Put a save in the outbox, replacing any older one for the same player.
+     * Its first upload attempt happens after a short delay.
+     * 
+     * The letter is written to disk on the calling thread (the save writer)
+     * before anything is handed to the scheduler, so it survives a shutdown
+     * that discards the scheduler's queue.
+     */
+    static void enqueue(SaveData saveData) {
+        SaveData frozen = saveData.frozenCopy();
+        String key = frozen.getPlayerName().toUpperCase();
+        persist(key, frozen);
+        try {
+            scheduler.execute(() -> {
+                replayIfNeeded();
+                if (!Files.exists(outboxPath(key))) {
+                    // An older letter's acknowledgement cleared the file before we got here
+                    persist(key, frozen);
+                }
+                Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+                entry.data = frozen;
+                if (entry.attempt == null && !entry.inFlight) {
+                    schedule(key, entry, FIRST_ATTEMPT_DELAY_MS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down: already on disk, the next session will send it
+        }
+    }
+
+    /**
+     * Load anything left in the outbox from earlier sessions and schedule it.
+     */
+    static void replay() {
+        scheduler.execute(CloudOutbox::replayIfNeeded);
+    }
+
+    /**
+     * The Overseer just answered (e.g. a registration went through): retry
+     * everything now instead of waiting out the backoff.
+     */
+    static void retryNow() {
+        scheduler.execute(() -> {
+            replayIfNeeded();
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                if (entry.failures > 0 && entry.attempt != null && entry.attempt.cancel(false)) {
+                    schedule(e.getKey(), entry, 0);
+                }
+            }
+        });
+    }
+
+    static void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // ─── Scheduler thread ───────────────────────────────────────
+
+    private static void schedule(String key, Entry entry, long delayMs) {
+        entry.attempt = scheduler.schedule(() -> attempt(key, entry), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static void attempt(String key, Entry entry) {
+        entry.attempt = null;
+        entry.inFlight = true;
+        SaveData sending = entry.data;
+
+        // The request itself runs on the HTTP client; we only come back to record the outcome
+        CloudSaveManager.uploadSave(sending)
+                .exceptionally(e -> false)
+                .thenAcceptAsync(ok -> finish(key, entry, sending, ok), scheduler);
+    }
+
+    private static void finish(String key, Entry entry, SaveData sent, boolean ok) {
+        entry.inFlight = false;
+        if (ok) {
+            if (entry.data == sent) {
+                entries.remove(key);
+                delete(key);
+            } else {
+                // A newer save arrived while this one was in flight
+                entry.failures = 0;
+                schedule(key, entry, FIRST_ATTEMPT_DELAY_MS);
+            }
+            return;
+        }
+
+        entry.failures++;
+        long delay = backoff(entry.failures);
+        logger.info("Cloud upload for {} failed ({} in a row); retrying in {}s", key, entry.failures, delay / 1000);
+        schedule(key, entry, delay);
+    }
+
+    /** 5s, 10s, 20s ... capped at MAX_BACKOFF_MS, with up to 20% jitter. */
+    private static long backoff(int failures) {
+        long delay = FIRST_ATTEMPT_DELAY_MS << Math.min(failures - 1, 16);
+        delay = Math.min(delay, MAX_BACKOFF_MS);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private static void replayIfNeeded() {
+        if (replayed) return;
+        replayed = true;
+        if (!Files.isDirectory(OUTBOX_DIR)) return;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(OUTBOX_DIR, "*" + OUTBOX_EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String key = name.substring(0, name.length() - OUTBOX_EXTENSION.length());
+                if (entries.containsKey(key)) continue;
+                try {
+                    Entry entry = new Entry();
+                    entry.data = SaveDataCodec.decode(Files.readAllBytes(file));
+                    entries.put(key, entry);
+                    schedule(key, entry, REPLAY_DELAY_MS);
+                    logger.info("Replaying queued cloud upload for {}", key);
+                } catch (IOException e) {
+                    logger.warn("Dropping unreadable outbox entry {}", file.getFileName(), e);
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read cloud outbox", e);
+        }
+    }
+
+    private static Path outboxPath(String key) {
+        return OUTBOX_DIR.resolve(key + OUTBOX_EXTENSION);
+    }
+
+    /** Synchronized: the save writer and the scheduler both write letters, and AtomicFiles uses one temp name per target. */
+    private static synchronized void persist(String key, SaveData data) {
+        try {
+            Files.createDirectories(OUTBOX_DIR);
+            AtomicFiles.write(outboxPath(key), SaveDataCodec.encode(data));
+        } catch (IOException e) {
+            // Still uploaded from memory this session; only the crash safety is lost
+            logger.warn("Could not persist cloud upload for {}", key, e);
+        }
+    }
+
+    private static void delete(String key) {
+        try {
+            Files.deleteIfExists(outboxPath(key));
+        } catch (IOException e) {
+            logger.warn("Could not clear outbox entry for {}", key, e);
+        }
+    }
+}
@@ -1,14 +1,8 @@
 package com.buglife.save;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -16,32 +10,61 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.buglife.save.OverseerClient.Endpoint;
 
 /**
  * CloudSaveManager — The Cloud Backup (Tier 2).
  * 
  * Five seconds after a local save finishes, this quietly packages the JSON
- * and mails it to the Overseer via HTTP. If the Overseer is offline, it fails
- * silently — the local save already has the player covered.
+ * and mails it to the Overseer via HTTP. Uploads go through a durable
+ * {@link CloudOutbox}: if the Overseer is offline, the save waits on disk and
+ * is retried with backoff, even across restarts.
  * 
  * The Magic Trick: If a player logs in on a new machine with no local save,
  * this asks the Overseer for their cloud save and downloads it.
  * Cross-progression, arcade style.
  * 
+ * All traffic goes through the shared {@link OverseerClient}; every call has
+ * an async variant returning a CompletableFuture, and the blocking variants
+ * are thin waits on top of those.
+ * 
  * Endpoints:
  *   POST /user/register     — Register or welcome back a player
  *   POST /save/upload       — Upload a save file to the cloud
+ *   POST /save/patch        — Upload only what changed since the last acknowledged save
  *   POST /save/download     — Download a cloud save for a player
+ *   GET  /users/list        — Every player the Overseer knows
+ *   GET  /leaderboard       — The Hall of Infamy
  */
 public class CloudSaveManager {
     private static final Logger logger = LoggerFactory.getLogger(CloudSaveManager.class);
 
-    private static final String OVERSEER_HOST = "http://127.0.0.1:8090";
-    private static final int TIMEOUT_MS = 3000;
-    private static final int CLOUD_SAVE_DELAY_MS = 5000; // 5 second delay before cloud upload
+    private static final ObjectMapper mapper = OverseerClient.mapper();
+
+    /** The last save the Overseer acknowledged for a player, and its version. */
+    private static final class AckedSave {
+        final SaveData save;
+        final long version;
+
+        AckedSave(SaveData save, long version) {
+            this.save = save;
+            this.version = version;
+        }
+    }
+
+    // Player name (upper case) -> base for the next delta upload
+    private static final Map<String, AckedSave> acked = new ConcurrentHashMap<>();
 
-    private static final ExecutorService executor = Executors.newSingleThreadExecutor();
-    private static final ObjectMapper mapper = new ObjectMapper();
+    // ─── Read caches ─────────────────────────────────────────────
+    private static final long USER_LIST_TTL_MS = 60_000;
+    private static final long LEADERBOARD_TTL_MS = 30_000;
+
+    private static final OverseerCache<java.util.List<String>> userListCache = new OverseerCache<>(
+            "users", Endpoint.USER_LIST, null, USER_LIST_TTL_MS, CloudSaveManager::parseUserList);
+    private static final Map<String, OverseerCache<java.util.List<LeaderboardEntry>>> leaderboardCaches =
+            new ConcurrentHashMap<>();
 
     /**
      * The Overseer Registration — Send a whisper to /user/register.
@@ -49,184 +72,224 @@ public class CloudSaveManager {
      * If they exist, it welcomes them back.
      * 
      * @param playerName The arcade identity
-     * @return true if the Overseer acknowledged, false if offline/error
+     * @return Completes with true if the Overseer acknowledged, false if offline/error
      */
-    public static boolean registerWithOverseer(String playerName) {
-        String payload = String.format(
-            "{\"user_id\":\"%s\",\"os_info\":\"%s %s\"}",
-            playerName.toUpperCase(),
-            System.getProperty("os.name"),
-            System.getProperty("os.version")
-        );
-
-        try {
-            String response = sendSync("/user/register", payload);
-            if (response != null) {
-                logger.info("Overseer registration successful for: {}", playerName);
-                return true;
+    public static CompletableFuture<Boolean> registerWithOverseer(String playerName) {
+        return OverseerClient.postAsync(Endpoint.REGISTER, json -> {
+            json.writeStringField("user_id", playerName.toUpperCase());
+            json.writeStringField("os_info", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        }).thenApply(response -> {
+            if (response == null) {
+                logger.warn("Overseer registration failed for: {} (offline?)", playerName);
+                return false;
             }
-        } catch (Exception e) {
-            logger.warn("Overseer registration failed (offline?): {}", e.getMessage());
-        }
-        return false;
+            logger.info("Overseer registration successful for: {}", playerName);
+            CloudOutbox.retryNow(); // The Overseer is up: deliver anything waiting
+            return true;
+        });
     }
 
     /**
      * Register with the Overseer asynchronously (non-blocking).
      */
     public static void registerWithOverseerAsync(String playerName) {
-        executor.submit(() -> registerWithOverseer(playerName));
+        CloudOutbox.replay();
+        registerWithOverseer(playerName);
     }
 
     /**
      * Upload a save to the cloud — delayed by 5 seconds after local save.
-     * Runs entirely in the background. Fire and forget.
+     * The save is queued in the outbox and delivered in the background,
+     * retried until the Overseer accepts it. Fire and forget.
      * 
      * @param saveData The save snapshot to upload
      */
     public static void uploadSaveAsync(SaveData saveData) {
-        executor.submit(() -> {
-            try {
-                // The 5-second delay — let the player breathe before we phone home
-                Thread.sleep(CLOUD_SAVE_DELAY_MS);
-
-                String saveJson = mapper.writeValueAsString(saveData);
-                String payload = String.format(
-                    "{\"user_id\":\"%s\",\"save_data\":%s}",
-                    saveData.getPlayerName().toUpperCase(),
-                    saveJson
-                );
-
-                String response = sendSync("/save/upload", payload);
-                if (response != null) {
-                    logger.info("Cloud save uploaded for: {}", saveData.getPlayerName());
-                } else {
-                    logger.warn("Cloud save upload failed for: {} (Overseer may be offline)", 
-                            saveData.getPlayerName());
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                logger.warn("Cloud save upload interrupted for: {}", saveData.getPlayerName());
-            } catch (Exception e) {
-                logger.error("Cloud save upload error for: {}", saveData.getPlayerName(), e);
+        CloudOutbox.enqueue(saveData);
+    }
+
+    /**
+     * Upload a save right now. If the Overseer already acknowledged an
+     * earlier save for this player, only the delta against it is sent; a
+     * rejected delta (version mismatch, or an Overseer without /save/patch)
+     * falls back to a full upload.
+     * 
+     * @return Completes with true if the Overseer acknowledged it
+     */
+    static CompletableFuture<Boolean> uploadSave(SaveData saveData) {
+        String userId = saveData.getPlayerName().toUpperCase();
+        AckedSave base = acked.get(userId);
+        if (base == null) {
+            return uploadFull(userId, saveData);
+        }
+
+        ObjectNode delta = SaveDelta.diff(mapper, base.save, saveData);
+        return OverseerClient.exchangeAsync(Endpoint.SAVE_PATCH, json -> {
+            json.writeStringField("user_id", userId);
+            json.writeNumberField("base_version", base.version);
+            json.writeFieldName("delta");
+            mapper.writeTree(json, delta);
+        }).thenCompose(reply -> {
+            if (reply == null) {
+                logger.warn("Cloud save upload failed for: {} (Overseer may be offline)", 
+                        saveData.getPlayerName());
+                return CompletableFuture.completedFuture(false);
+            }
+            if (!reply.isSuccess()) {
+                logger.info("Cloud delta rejected for {} (HTTP {}); sending full save", userId, reply.status);
+                acked.remove(userId, base);
+                return uploadFull(userId, saveData);
+            }
+            remember(userId, saveData, reply.body);
+            logger.info("Cloud save delta uploaded for: {} ({} changed fields, {} foods eaten)",
+                    saveData.getPlayerName(), delta.get("changed").size(), delta.get("removed_food_ids").size());
+            return CompletableFuture.completedFuture(true);
+        });
+    }
+
+    private static CompletableFuture<Boolean> uploadFull(String userId, SaveData saveData) {
+        return OverseerClient.postAsync(Endpoint.SAVE_UPLOAD, json -> {
+            json.writeStringField("user_id", userId);
+            json.writeFieldName("save_data");
+            mapper.writeValue(json, saveData);
+        }).thenApply(response -> {
+            if (response == null) {
+                logger.warn("Cloud save upload failed for: {} (Overseer may be offline)", 
+                        saveData.getPlayerName());
+                return false;
             }
+            remember(userId, saveData, response);
+            logger.info("Cloud save uploaded for: {}", saveData.getPlayerName());
+            return true;
         });
     }
 
+    /**
+     * Keep an acknowledged save as the base for the next delta. The Overseer
+     * answers uploads with { "version": N }; without a version there is
+     * nothing to patch against, so the next upload is full again.
+     */
+    private static void remember(String userId, SaveData saveData, String response) {
+        try {
+            JsonNode version = mapper.readTree(response).path("version");
+            if (version.canConvertToLong()) {
+                acked.put(userId, new AckedSave(saveData.frozenCopy(), version.asLong()));
+                return;
+            }
+        } catch (Exception e) {
+            logger.debug("Unreadable upload reply for {}: {}", userId, e.getMessage());
+        }
+        acked.remove(userId);
+    }
+
     /**
      * Download a cloud save — The Magic Trick.
      * "I don't have a local file for SHIBILI. Let me ask the Overseer."
      * 
-     * This runs SYNCHRONOUSLY because we need the result to load the game.
-     * 
      * @param playerName The player to look up
-     * @return SaveData from the cloud, or null if not found/offline
+     * @return Completes with SaveData from the cloud, or null if not found/offline
      */
-    public static SaveData downloadSave(String playerName) {
-        String payload = String.format(
-            "{\"user_id\":\"%s\"}",
-            playerName.toUpperCase()
-        );
-
-        try {
-            String response = sendSync("/save/download", payload);
-            if (response != null && !response.isEmpty()) {
+    public static CompletableFuture<SaveData> downloadSaveAsync(String playerName) {
+        return OverseerClient.postAsync(Endpoint.SAVE_DOWNLOAD, json ->
+            json.writeStringField("user_id", playerName.toUpperCase())
+        ).thenApply(response -> {
+            if (response == null || response.isEmpty()) return null;
+            try {
                 // Parse the Overseer's response — expects { "save_data": {...} }
                 JsonNode root = mapper.readTree(response);
                 JsonNode saveNode = root.has("save_data") ? root.get("save_data") : root;
-                
-                SaveData saveData = mapper.treeToValue(saveNode, SaveData.class);
+                if (saveNode.isNull()) return null;
+
+                SaveData saveData = SaveMigrations.migrate(mapper.treeToValue(saveNode, SaveData.class));
                 logger.info("Cloud save downloaded for: {} (Level: {})", 
                         playerName, saveData.getLevelId());
                 return saveData;
+            } catch (Exception e) {
+                logger.warn("Cloud save download failed for: {} — {}", playerName, e.getMessage());
+                return null;
             }
-        } catch (Exception e) {
-            logger.warn("Cloud save download failed for: {} — {}", playerName, e.getMessage());
-        }
-        return null;
+        });
     }
 
     /**
-     * Attempt to download a cloud save asynchronously with a timeout.
-     * Used during login when checking for cross-machine saves.
+     * Download a cloud save, waiting at most the given time.
+     * This blocks because we need the result to load the game.
      */
     public static SaveData downloadSaveWithTimeout(String playerName, int timeoutSeconds) {
-        Future<SaveData> future = executor.submit(() -> downloadSave(playerName));
-        try {
-            return future.get(timeoutSeconds, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            logger.warn("Cloud save download timed out for: {}", playerName);
-            future.cancel(true);
-            return null;
-        }
+        return await(downloadSaveAsync(playerName), timeoutSeconds, null,
+                "Cloud save download timed out for: " + playerName);
     }
 
     /**
-     * Shutdown the cloud executor gracefully.
+     * Shutdown the cloud plumbing.
      */
     public static void shutdown() {
-        executor.shutdown();
-        try {
-            if (!executor.awaitTermination(3, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        CloudOutbox.shutdown(); // Unsent uploads stay in the outbox for next time
+        OverseerClient.shutdown();
         logger.info("CloudSaveManager shut down");
     }
 
     // ─── Phase 1: The Guest List (Pre-Fetch) ───────────────────
 
+    /**
+     * The guest list behind a TTL cache (see {@link OverseerCache}): screens
+     * can draw {@code peek()} instantly and {@code refresh()} in the background.
+     * Endpoint: GET /users/list
+     */
+    public static OverseerCache<java.util.List<String>> userListCache() {
+        return userListCache;
+    }
+
     /**
      * Fetch the complete list of all player names from the Overseer.
      * Endpoint: GET /users/list
      * 
      * The Overseer opens the MySQL vault, looks at the users table,
      * and compiles a neat JSON list of every name that has ever played.
+     * A copy fetched within the last minute is reused.
      * 
-     * @return List of player names, or empty list if Overseer is offline
+     * @return Completes with the player names, or an empty list if the Overseer is offline
+     *         and no earlier copy is known
      */
-    public static java.util.List<String> fetchUserList() {
+    public static CompletableFuture<java.util.List<String>> fetchUserListAsync() {
+        return userListCache.get().thenApply(users -> users != null ? users : java.util.List.of());
+    }
+
+    private static java.util.List<String> parseUserList(String response) {
         java.util.List<String> users = new java.util.ArrayList<>();
+        if (response == null || response.isEmpty()) return users;
         try {
-            String response = sendGetSync("/users/list");
-            if (response != null && !response.isEmpty()) {
-                JsonNode root = mapper.readTree(response);
-                JsonNode usersNode = root.has("users") ? root.get("users") : root;
-                
-                if (usersNode.isArray()) {
-                    for (JsonNode node : usersNode) {
-                        if (node.isTextual()) {
-                            users.add(node.asText());
-                        } else if (node.has("user_id")) {
-                            users.add(node.get("user_id").asText());
-                        } else if (node.has("username")) {
-                            users.add(node.get("username").asText());
-                        }
+            JsonNode root = mapper.readTree(response);
+            JsonNode usersNode = root.has("users") ? root.get("users") : root;
+            
+            if (usersNode.isArray()) {
+                for (JsonNode node : usersNode) {
+                    if (node.isTextual()) {
+                        users.add(node.asText());
+                    } else if (node.has("user_id")) {
+                        users.add(node.get("user_id").asText());
+                    } else if (node.has("username")) {
+                        users.add(node.get("username").asText());
                     }
                 }
-                logger.info("Fetched {} users from Overseer", users.size());
+            } else {
+                logger.warn("User list from Overseer has no users array");
+                return null;
             }
+            logger.info("Fetched {} users from Overseer", users.size());
         } catch (Exception e) {
-            logger.warn("Failed to fetch user list from Overseer: {}", e.getMessage());
+            logger.warn("Failed to parse user list from Overseer: {}", e.getMessage());
+            return null;
         }
-        return users;
+        return java.util.Collections.unmodifiableList(users);
     }
 
     /**
-     * Fetch user list asynchronously with a timeout.
+     * Fetch user list, waiting at most the given time.
      */
     public static java.util.List<String> fetchUserListWithTimeout(int timeoutSeconds) {
-        Future<java.util.List<String>> future = executor.submit(() -> fetchUserList());
-        try {
-            return future.get(timeoutSeconds, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            logger.warn("User list fetch timed out after {}s", timeoutSeconds);
-            future.cancel(true);
-            return new java.util.ArrayList<>();
-        }
+        return await(fetchUserListAsync(), timeoutSeconds, new java.util.ArrayList<>(),
+                "User list fetch timed out after " + timeoutSeconds + "s");
     }
 
     // ─── Phase 3: The Hall of Infamy (Leaderboard) ──────────────
@@ -254,138 +317,85 @@ public class CloudSaveManager {
     }
 
     /**
-     * Fetch the leaderboard from the Overseer.
+     * The leaderboard for one category behind a TTL cache (see
+     * {@link OverseerCache}). One cache per category and limit.
      * Endpoint: GET /leaderboard?category=deaths&limit=10
      * 
      * The Overseer does the heavy lifting — SQL sorts, Java just draws.
      * 
      * @param category What to rank by: "deaths", "playtime", "levels_completed"
      * @param limit    How many entries (top N)
-     * @return Sorted list of leaderboard entries, empty if offline
      */
-    public static java.util.List<LeaderboardEntry> fetchLeaderboard(String category, int limit) {
-        java.util.List<LeaderboardEntry> entries = new java.util.ArrayList<>();
-        try {
-            String endpoint = String.format("/leaderboard?category=%s&limit=%d", category, limit);
-            String response = sendGetSync(endpoint);
-            if (response != null && !response.isEmpty()) {
-                JsonNode root = mapper.readTree(response);
-                JsonNode leaderboard = root.has("leaderboard") ? root.get("leaderboard") : root;
-                
-                if (leaderboard.isArray()) {
-                    int rank = 1;
-                    for (JsonNode entry : leaderboard) {
-                        String name = entry.has("user_id") ? entry.get("user_id").asText() 
-                                    : entry.has("player_name") ? entry.get("player_name").asText() 
-                                    : "???";
-                        int value = entry.has("value") ? entry.get("value").asInt()
-                                  : entry.has("count") ? entry.get("count").asInt()
-                                  : entry.has("total") ? entry.get("total").asInt()
-                                  : 0;
-                        entries.add(new LeaderboardEntry(name, rank++, value, category));
-                    }
-                }
-                logger.info("Fetched leaderboard: {} entries for category '{}'", entries.size(), category);
-            }
-        } catch (Exception e) {
-            logger.warn("Failed to fetch leaderboard from Overseer: {}", e.getMessage());
-        }
-        return entries;
+    public static OverseerCache<java.util.List<LeaderboardEntry>> leaderboardCache(String category, int limit) {
+        return leaderboardCaches.computeIfAbsent(category + "-" + limit, key -> new OverseerCache<>(
+                "leaderboard-" + key, Endpoint.LEADERBOARD,
+                String.format("category=%s&limit=%d", category, limit),
+                LEADERBOARD_TTL_MS, response -> parseLeaderboard(response, category)));
     }
 
     /**
-     * Fetch leaderboard asynchronously with timeout.
+     * Fetch the leaderboard from the Overseer, reusing a copy fetched within
+     * the last 30 seconds.
+     * 
+     * @return Completes with the sorted entries, empty if offline and no earlier copy is known
      */
-    public static java.util.List<LeaderboardEntry> fetchLeaderboardWithTimeout(
-            String category, int limit, int timeoutSeconds) {
-        Future<java.util.List<LeaderboardEntry>> future = 
-                executor.submit(() -> fetchLeaderboard(category, limit));
-        try {
-            return future.get(timeoutSeconds, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            logger.warn("Leaderboard fetch timed out after {}s", timeoutSeconds);
-            future.cancel(true);
-            return new java.util.ArrayList<>();
-        }
+    public static CompletableFuture<java.util.List<LeaderboardEntry>> fetchLeaderboardAsync(String category, int limit) {
+        return leaderboardCache(category, limit).get()
+                .thenApply(entries -> entries != null ? entries : java.util.List.of());
     }
 
-    // ─── HTTP Plumbing ────────────────────────────────────────────
-
-    /**
-     * Send a GET request to the Overseer (for user list, leaderboard).
-     */
-    private static String sendGetSync(String endpoint) {
-        HttpURLConnection conn = null;
+    private static java.util.List<LeaderboardEntry> parseLeaderboard(String response, String category) {
+        java.util.List<LeaderboardEntry> entries = new java.util.ArrayList<>();
+        if (response == null || response.isEmpty()) return entries;
         try {
-            URL url = new URL(OVERSEER_HOST + endpoint);
-            conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Accept", "application/json");
-            conn.setConnectTimeout(TIMEOUT_MS);
-            conn.setReadTimeout(TIMEOUT_MS);
-
-            int responseCode = conn.getResponseCode();
+            JsonNode root = mapper.readTree(response);
+            JsonNode leaderboard = root.has("leaderboard") ? root.get("leaderboard") : root;
             
-            if (responseCode >= 200 && responseCode < 300) {
-                StringBuilder response = new StringBuilder();
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        response.append(line);
-                    }
+            if (leaderboard.isArray()) {
+                int rank = 1;
+                for (JsonNode entry : leaderboard) {
+                    String name = entry.has("user_id") ? entry.get("user_id").asText() 
+                                : entry.has("player_name") ? entry.get("player_name").asText() 
+                                : "???";
+                    int value = entry.has("value") ? entry.get("value").asInt()
+                              : entry.has("count") ? entry.get("count").asInt()
+                              : entry.has("total") ? entry.get("total").asInt()
+                              : 0;
+                    entries.add(new LeaderboardEntry(name, rank++, value, category));
                 }
-                return response.toString();
             } else {
-                logger.warn("Overseer GET returned HTTP {}: {}", responseCode, endpoint);
+                logger.warn("Leaderboard from Overseer has no entries array");
                 return null;
             }
+            logger.info("Fetched leaderboard: {} entries for category '{}'", entries.size(), category);
         } catch (Exception e) {
-            logger.debug("Overseer unreachable for GET {}{}: {}", OVERSEER_HOST, endpoint, e.getMessage());
+            logger.warn("Failed to parse leaderboard from Overseer: {}", e.getMessage());
             return null;
-        } finally {
-            if (conn != null) conn.disconnect();
         }
+        return java.util.Collections.unmodifiableList(entries);
     }
 
-    private static String sendSync(String endpoint, String jsonPayload) {
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(OVERSEER_HOST + endpoint);
-            conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setDoOutput(true);
-            conn.setConnectTimeout(TIMEOUT_MS);
-            conn.setReadTimeout(TIMEOUT_MS);
-
-            try (OutputStream os = conn.getOutputStream()) {
-                byte[] input = jsonPayload.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
+    /**
+     * Fetch leaderboard, waiting at most the given time.
+     */
+    public static java.util.List<LeaderboardEntry> fetchLeaderboardWithTimeout(
+            String category, int limit, int timeoutSeconds) {
+        return await(fetchLeaderboardAsync(category, limit), timeoutSeconds, new java.util.ArrayList<>(),
+                "Leaderboard fetch timed out after " + timeoutSeconds + "s");
+    }
 
-            int responseCode = conn.getResponseCode();
-            
-            if (responseCode >= 200 && responseCode < 300) {
-                // Read response body
-                StringBuilder response = new StringBuilder();
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        response.append(line);
-                    }
-                }
-                return response.toString();
-            } else {
-                logger.warn("Overseer returned HTTP {}: {}", responseCode, endpoint);
-                return null;
-            }
+    // ─── Waiting ─────────────────────────────────────────────────
+
+    private static <T> T await(CompletableFuture<T> future, int timeoutSeconds, T fallback, String timeoutMessage) {
+        try {
+            T result = future.get(timeoutSeconds, TimeUnit.SECONDS);
+            return result != null ? result : fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
-            logger.debug("Overseer unreachable at {}{}: {}", OVERSEER_HOST, endpoint, e.getMessage());
-            return null;
-        } finally {
-            if (conn != null) conn.disconnect();
+            logger.warn(timeoutMessage);
         }
+        future.cancel(true);
+        return fallback;
     }
 }
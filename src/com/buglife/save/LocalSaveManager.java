@@ -1,33 +1,62 @@
 package com.buglife.save;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32C;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-
 /**
  * LocalSaveManager — The Local Memory Card (Tier 1).
  * 
- * Whenever the player saves, this writes the JSON photograph INSTANTLY
+ * Whenever the player saves, this writes the photograph INSTANTLY
  * to a local file on their hard drive: saves/PLAYERNAME.sav
  * 
  * This guarantees instant load times and complete offline functionality.
  * The arcade cabinet doesn't need Wi-Fi to remember your high score.
+ * 
+ * Crash safety: every write goes through {@link AtomicFiles} (temp file, fsync,
+ * atomic rename), and the previous photographs are kept as rotating
+ * generations (PLAYERNAME.sav.1, .sav.2, ...). Each file starts with a header
+ * line holding a CRC32C of its body, so a damaged save is detected on load and
+ * the newest intact generation is used instead.
+ * 
+ * Autosave checkpoints go to their own slot (PLAYERNAME.sav.ckpt), written
+ * in place without touching the generations, so a few minutes of
+ * checkpoints can't push every real save out of the rotation. A real save
+ * supersedes the checkpoint (deletes it); a load prefers the checkpoint only
+ * if it is newer than the newest intact generation.
+ * 
+ * Format versions: 1 = JSON body, 2 = compact binary body from
+ * {@link SaveDataCodec}. Both (and header-less legacy JSON) still load, and
+ * every loaded save is brought up to date by {@link SaveMigrations}.
  */
 public class LocalSaveManager {
     private static final Logger logger = LoggerFactory.getLogger(LocalSaveManager.class);
 
     private static final String SAVES_DIR = "saves";
     private static final String SAVE_EXTENSION = ".sav";
-    private static final ObjectMapper mapper = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String CHECKPOINT_SUFFIX = ".ckpt";
+    private static final int GENERATIONS = 3; // Current save plus two fallbacks
+    private static final String HEADER_MAGIC = "BLSAVE";
+    private static final int FORMAT_JSON = 1;
+    private static final int FORMAT_BINARY = 2;
+    private static final int FORMAT_VERSION = FORMAT_BINARY; // What new saves are written as
+
+    /** A verified file body and the format it was written in. */
+    private static final class SaveBody {
+        final int format;
+        final byte[] bytes;
+
+        SaveBody(int format, byte[] bytes) {
+            this.format = format;
+            this.bytes = bytes;
+        }
+    }
 
     /**
      * Save the game state to a local file.
@@ -43,13 +72,17 @@ public class LocalSaveManager {
         }
 
         UserProfile.ensureSavesDirectory();
-        String filename = saveData.getPlayerName().toUpperCase() + SAVE_EXTENSION;
-        File saveFile = Paths.get(SAVES_DIR, filename).toFile();
+        String playerName = saveData.getPlayerName();
+        String filename = playerName.toUpperCase() + SAVE_EXTENSION;
 
         try {
-            mapper.writeValue(saveFile, saveData);
-            logger.info("Local save written: {} (Level: {}, Hunger: {})", 
-                    filename, saveData.getLevelId(), saveData.getHunger());
+            byte[] body = SaveDataCodec.encode(saveData);
+            byte[] file = wrap(body);
+            rotateGenerations(playerName);
+            AtomicFiles.write(generationPath(playerName, 0), file);
+            Files.deleteIfExists(checkpointPath(playerName)); // Superseded by this save
+            logger.info("Local save written: {} (Level: {}, Hunger: {}, {} bytes)", 
+                    filename, saveData.getLevelId(), saveData.getHunger(), body.length);
             return true;
         } catch (IOException e) {
             logger.error("Failed to write local save: {}", filename, e);
@@ -57,6 +90,32 @@ public class LocalSaveManager {
         }
     }
 
+    /**
+     * Write an autosave checkpoint to the player's checkpoint slot, replacing
+     * the previous checkpoint. The save generations are left alone.
+     * 
+     * @return true if the checkpoint was written
+     */
+    public static boolean saveCheckpoint(SaveData saveData) {
+        if (saveData.getPlayerName() == null || saveData.getPlayerName().isEmpty()) {
+            logger.error("Cannot checkpoint: No player name set in SaveData");
+            return false;
+        }
+
+        UserProfile.ensureSavesDirectory();
+        Path path = checkpointPath(saveData.getPlayerName());
+        try {
+            byte[] body = SaveDataCodec.encode(saveData);
+            AtomicFiles.write(path, wrap(body));
+            logger.debug("Checkpoint written: {} (Level: {}, {} bytes)", 
+                    path.getFileName(), saveData.getLevelId(), body.length);
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to write checkpoint: {}", path.getFileName(), e);
+            return false;
+        }
+    }
+
     /**
      * Load a save file from disk for the given player.
      * 
@@ -69,23 +128,48 @@ public class LocalSaveManager {
             return null;
         }
 
-        String filename = playerName.toUpperCase() + SAVE_EXTENSION;
-        File saveFile = Paths.get(SAVES_DIR, filename).toFile();
+        SaveData checkpoint = readSave(checkpointPath(playerName));
 
-        if (!saveFile.exists()) {
-            logger.info("No local save found for player: {}", playerName);
-            return null;
-        }
+        for (int generation = 0; generation < GENERATIONS; generation++) {
+            SaveData saveData = readSave(generationPath(playerName, generation));
+            if (saveData == null) continue;
 
-        try {
-            SaveData saveData = mapper.readValue(saveFile, SaveData.class);
+            if (checkpoint != null && checkpoint.getSaveTimestamp() > saveData.getSaveTimestamp()) {
+                break; // The checkpoint is newer than the last real save
+            }
+            if (generation > 0) {
+                logger.warn("Newer save(s) for {} were damaged; restored generation {}", playerName, generation);
+            }
             logger.info("Local save loaded for {}: Level={}, Pos=({},{}), Hunger={}", 
                     playerName, saveData.getLevelId(), 
                     (int) saveData.getPlayerX(), (int) saveData.getPlayerY(),
                     saveData.getHunger());
             return saveData;
+        }
+
+        if (checkpoint != null) {
+            logger.info("Checkpoint loaded for {}: Level={}, Pos=({},{}), Hunger={}", 
+                    playerName, checkpoint.getLevelId(), 
+                    (int) checkpoint.getPlayerX(), (int) checkpoint.getPlayerY(),
+                    checkpoint.getHunger());
+            return checkpoint;
+        }
+
+        logger.info("No local save found for player: {}", playerName);
+        return null;
+    }
+
+    /** A verified, migrated save from {@code path}, or null if missing or damaged. */
+    private static SaveData readSave(Path path) {
+        if (!Files.exists(path)) return null;
+
+        SaveBody body = readVerified(path);
+        if (body == null) return null;
+
+        try {
+            return SaveMigrations.migrate(decode(body));
         } catch (IOException e) {
-            logger.error("Failed to read local save for: {}", playerName, e);
+            logger.error("Failed to parse local save: {}", path, e);
             return null;
         }
     }
@@ -95,48 +179,159 @@ public class LocalSaveManager {
      */
     public static boolean hasSave(String playerName) {
         if (playerName == null || playerName.isEmpty()) return false;
-        String filename = playerName.toUpperCase() + SAVE_EXTENSION;
-        return Paths.get(SAVES_DIR, filename).toFile().exists();
+        for (int generation = 0; generation < GENERATIONS; generation++) {
+            if (Files.exists(generationPath(playerName, generation))) return true;
+        }
+        return Files.exists(checkpointPath(playerName));
     }
 
     /**
-     * Delete a local save (for "New Game" overwriting).
+     * Delete a local save (for "New Game" overwriting), including older generations.
      */
     public static boolean deleteSave(String playerName) {
         if (playerName == null || playerName.isEmpty()) return false;
-        
-        String filename = playerName.toUpperCase() + SAVE_EXTENSION;
-        Path savePath = Paths.get(SAVES_DIR, filename);
 
-        try {
-            if (Files.exists(savePath)) {
-                Files.delete(savePath);
-                logger.info("Deleted local save: {}", filename);
-                return true;
+        boolean deleted = false;
+        for (int generation = 0; generation <= GENERATIONS; generation++) {
+            // One past the last generation is the checkpoint slot
+            Path savePath = generation < GENERATIONS ? generationPath(playerName, generation) : checkpointPath(playerName);
+            try {
+                if (Files.deleteIfExists(savePath)) {
+                    logger.info("Deleted local save: {}", savePath.getFileName());
+                    deleted = true;
+                }
+            } catch (IOException e) {
+                logger.error("Failed to delete save: {}", savePath.getFileName(), e);
             }
-            return false;
-        } catch (IOException e) {
-            logger.error("Failed to delete save: {}", filename, e);
-            return false;
         }
+        return deleted;
     }
 
     /**
-     * Get the raw JSON string of a save file (for cloud upload payloads).
+     * Get a save as a JSON string (for cloud upload payloads, export and
+     * debugging), whatever format it is stored in on disk.
+     * Returns the newest generation that passes its checksum.
      */
     public static String getSaveAsJson(String playerName) {
         if (playerName == null || playerName.isEmpty()) return null;
 
+        for (int generation = 0; generation < GENERATIONS; generation++) {
+            Path path = generationPath(playerName, generation);
+            if (!Files.exists(path)) continue;
+            SaveBody body = readVerified(path);
+            if (body == null) continue;
+            try {
+                return SaveDataCodec.toPrettyJson(SaveMigrations.migrate(decode(body)));
+            } catch (IOException e) {
+                logger.error("Failed to convert save to JSON: {}", path, e);
+            }
+        }
+        return null;
+    }
+
+    private static SaveData decode(SaveBody body) throws IOException {
+        if (body.format == FORMAT_BINARY) {
+            return SaveDataCodec.decode(body.bytes);
+        }
+        return SaveDataCodec.fromJson(body.bytes);
+    }
+
+    // ─── Generations & checksums ────────────────────────────────
+
+    /** saves/NAME.sav for generation 0, saves/NAME.sav.N for older ones. */
+    private static Path generationPath(String playerName, int generation) {
         String filename = playerName.toUpperCase() + SAVE_EXTENSION;
-        File saveFile = Paths.get(SAVES_DIR, filename).toFile();
+        if (generation > 0) {
+            filename += "." + generation;
+        }
+        return Paths.get(SAVES_DIR, filename);
+    }
+
+    /** saves/NAME.sav.ckpt: the autosave checkpoint, outside the generations. */
+    private static Path checkpointPath(String playerName) {
+        return Paths.get(SAVES_DIR, playerName.toUpperCase() + SAVE_EXTENSION + CHECKPOINT_SUFFIX);
+    }
+
+    /**
+     * Shift every generation one slot older, dropping the oldest. Each step is
+     * an atomic rename, so a crash mid-rotation loses at most the oldest copy.
+     */
+    private static void rotateGenerations(String playerName) throws IOException {
+        for (int generation = GENERATIONS - 1; generation > 0; generation--) {
+            Path older = generationPath(playerName, generation - 1);
+            if (Files.exists(older)) {
+                AtomicFiles.move(older, generationPath(playerName, generation));
+            }
+        }
+    }
 
-        if (!saveFile.exists()) return null;
+    /** Prefix the body with "BLSAVE version crc32c length\n". */
+    private static byte[] wrap(byte[] body) {
+        String header = String.format("%s %d %08x %d\n", HEADER_MAGIC, FORMAT_VERSION, checksum(body), body.length);
+        byte[] headerBytes = header.getBytes(StandardCharsets.US_ASCII);
+        byte[] file = new byte[headerBytes.length + body.length];
+        System.arraycopy(headerBytes, 0, file, 0, headerBytes.length);
+        System.arraycopy(body, 0, file, headerBytes.length, body.length);
+        return file;
+    }
 
+    /**
+     * Read a save file and return its body if the checksum matches, or null if
+     * the file is truncated or corrupt. Files from before checksums were added
+     * (plain JSON) are returned as-is.
+     */
+    private static SaveBody readVerified(Path path) {
+        byte[] file;
         try {
-            return new String(Files.readAllBytes(saveFile.toPath()));
+            file = Files.readAllBytes(path);
         } catch (IOException e) {
-            logger.error("Failed to read save as JSON: {}", filename, e);
+            logger.error("Failed to read save: {}", path, e);
+            return null;
+        }
+
+        int newline = indexOf(file, (byte) '\n');
+        String firstLine = newline < 0 ? "" : new String(file, 0, newline, StandardCharsets.US_ASCII).trim();
+        if (!firstLine.startsWith(HEADER_MAGIC + " ")) {
+            return new SaveBody(FORMAT_JSON, file); // Legacy unchecked save
+        }
+
+        String[] parts = firstLine.split(" ");
+        try {
+            int format = Integer.parseInt(parts[1]);
+            if (format != FORMAT_JSON && format != FORMAT_BINARY) {
+                logger.warn("Save {} has unknown format version {}", path.getFileName(), format);
+                return null;
+            }
+            long expectedCrc = Long.parseLong(parts[2], 16);
+            int length = Integer.parseInt(parts[3]);
+            int start = newline + 1;
+            if (file.length - start != length) {
+                logger.warn("Save {} is truncated ({} of {} bytes)", path.getFileName(), file.length - start, length);
+                return null;
+            }
+            byte[] body = new byte[length];
+            System.arraycopy(file, start, body, 0, length);
+            if (checksum(body) != expectedCrc) {
+                logger.warn("Save {} failed its checksum", path.getFileName());
+                return null;
+            }
+            return new SaveBody(format, body);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            logger.warn("Save {} has a malformed header", path.getFileName());
             return null;
         }
     }
+
+    private static long checksum(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body, 0, body.length);
+        return crc.getValue();
+    }
+
+    private static int indexOf(byte[] data, byte value) {
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == value) return i;
+        }
+        return -1;
+    }
 }
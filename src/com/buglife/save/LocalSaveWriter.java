@@ -0,0 +1,148 @@
+package com.buglife.save;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LocalSaveWriter — The Scribe in the Back Room.
+ *
+ * Serializing and fsyncing a save used to happen on the game thread, right in
+ * the middle of a level-complete or rage-quit frame. Now the game thread hands
+ * a frozen {@link SaveData} to this single background writer and moves on.
+ *
+ * Saves for the same player coalesce: if a newer photograph arrives while an
+ * older one is still waiting its turn, the older one is never written. Both
+ * callers get the same future, completed when the newest data is on disk.
+ * If any of them asked for a cloud upload, the data actually written is
+ * uploaded once after the write, never an older photograph. The write goes
+ * to the checkpoint slot only if every coalesced submission was a checkpoint.
+ */
+class LocalSaveWriter {
+    private static final Logger logger = LoggerFactory.getLogger(LocalSaveWriter.class);
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "LocalSave-Writer");
+        t.setDaemon(true); // Game.cleanup waits for pending writes explicitly
+        return t;
+    });
+
+    /**
+     * A save waiting for the writer thread. Fields are updated inside
+     * pending.compute() but read by getPending() from any thread, hence volatile.
+     */
+    private static final class PendingSave {
+        volatile SaveData data;
+        volatile boolean upload;     // Any coalesced caller wanted the Overseer to get a copy
+        volatile boolean checkpoint; // Every coalesced caller was an autosave checkpoint
+        final CompletableFuture<Boolean> done = new CompletableFuture<>();
+
+        PendingSave(SaveData data, boolean upload, boolean checkpoint) {
+            this.data = data;
+            this.upload = upload;
+            this.checkpoint = checkpoint;
+        }
+    }
+
+    // Player name (upper case) -> save not yet picked up by the writer
+    private static final Map<String, PendingSave> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Queue a save for writing. The data is frozen on submission, so the caller
+     * may keep mutating its own objects.
+     *
+     * @param uploadToCloud Upload what gets written to the Overseer afterwards
+     * @param checkpoint    Write to the checkpoint slot instead of rotating the generations
+     * @return Completes with true once written, false if the write failed
+     */
+    static CompletableFuture<Boolean> submit(SaveData saveData, boolean uploadToCloud, boolean checkpoint) {
+        String key = saveData.getPlayerName() == null ? "" : saveData.getPlayerName().toUpperCase();
+        SaveData frozen = saveData.frozenCopy();
+
+        PendingSave[] created = new PendingSave[1];
+        PendingSave entry = pending.compute(key, (k, existing) -> {
+            if (existing != null) {
+                existing.data = frozen; // Coalesce: only the newest photograph gets written
+                existing.upload |= uploadToCloud;
+                existing.checkpoint &= checkpoint;
+                return existing;
+            }
+            created[0] = new PendingSave(frozen, uploadToCloud, checkpoint);
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            writer.execute(() -> write(key, created[0]));
+        } else {
+            logger.debug("Coalesced pending save for {}", key);
+        }
+        return entry.done;
+    }
+
+    private static void write(String key, PendingSave entry) {
+        // Take the entry out of the map first: anything submitted after this
+        // point is newer than what we're about to write and gets its own slot
+        SaveData[] toWrite = new SaveData[1];
+        boolean[] upload = new boolean[1];
+        boolean[] checkpoint = new boolean[1];
+        pending.compute(key, (k, current) -> {
+            if (current == entry) {
+                toWrite[0] = entry.data;
+                upload[0] = entry.upload;
+                checkpoint[0] = entry.checkpoint;
+                return null;
+            }
+            return current;
+        });
+
+        try {
+            boolean written = checkpoint[0] ? LocalSaveManager.saveCheckpoint(toWrite[0])
+                    : LocalSaveManager.save(toWrite[0]);
+            if (written && upload[0]) {
+                logger.info("Game saved locally for {} on {}", toWrite[0].getPlayerName(), toWrite[0].getLevelId());
+                CloudSaveManager.uploadSaveAsync(toWrite[0]); // Tier 2: delayed, fire and forget
+            }
+            entry.done.complete(written);
+        } catch (RuntimeException e) {
+            logger.error("Local save writer failed for {}", key, e);
+            entry.done.complete(false);
+        }
+    }
+
+    /**
+     * The newest save still waiting to be written for this player, or null.
+     * Lets a load see data that hasn't reached the disk yet.
+     */
+    static SaveData getPending(String playerName) {
+        PendingSave entry = pending.get(playerName.toUpperCase());
+        return entry == null ? null : entry.data;
+    }
+
+    /**
+     * Future that completes once every save queued so far is on disk.
+     */
+    static CompletableFuture<Void> flush() {
+        // Queued behind every write submitted before this call
+        return CompletableFuture.runAsync(() -> { }, writer);
+    }
+
+    /**
+     * Wait up to the timeout for queued saves, then stop the writer thread.
+     */
+    static void shutdown(long timeout, TimeUnit unit) {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(timeout, unit)) {
+                logger.warn("Local save writer did not finish within {} {}", timeout, unit);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
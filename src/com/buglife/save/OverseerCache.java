@@ -0,0 +1,191 @@
+package com.buglife.save;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.save.OverseerClient.Endpoint;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * OverseerCache — The Notice Board by the Door.
+ *
+ * Screens like the leaderboard and the guest list used to phone the Overseer
+ * every time they opened. Now they read the last copy pinned to the board
+ * and only ask for a new one when it has gone stale:
+ *
+ *   - {@link #peek()} is instant: the last known copy from memory, or from
+ *     saves/cache/ when the game has just started (works offline)
+ *   - a copy younger than its TTL is fresh and is served without a request
+ *   - a stale copy is still served while {@link #refresh()} revalidates it
+ *     in the background (stale-while-revalidate)
+ *   - revalidation sends If-None-Match with the last ETag, so an unchanged
+ *     board costs a 304 and no parsing
+ *
+ * A body the parser can't make sense of (it returns null) never replaces a
+ * good copy: the last known copy stays, still stale, for the next refresh.
+ *
+ * Only one refresh is in flight at a time; callers arriving during it share
+ * its future. Requests and parsing run on the shared {@link OverseerClient}
+ * executor, never on the caller.
+ *
+ * @param <T> The parsed value; treat it as immutable
+ */
+public final class OverseerCache<T> {
+    private static final Logger logger = LoggerFactory.getLogger(OverseerCache.class);
+
+    private static final Path CACHE_DIR = Paths.get("saves", "cache");
+    private static final ObjectMapper mapper = OverseerClient.mapper();
+
+    private final String name;
+    private final Endpoint endpoint;
+    private final String query;
+    private final long ttlMs;
+    private final Function<String, T> parser;
+
+    // Guarded by this
+    private T value;
+    private String body; // Raw JSON behind value, kept for the disk copy
+    private String etag;
+    private long fetchedAt;
+    private boolean loadedFromDisk;
+    private CompletableFuture<T> inFlight;
+
+    OverseerCache(String name, Endpoint endpoint, String query, long ttlMs, Function<String, T> parser) {
+        this.name = name;
+        this.endpoint = endpoint;
+        this.query = query;
+        this.ttlMs = ttlMs;
+        this.parser = parser;
+    }
+
+    /**
+     * The last known copy, however old, or null if there has never been one.
+     */
+    public synchronized T peek() {
+        loadFromDiskOnce();
+        return value;
+    }
+
+    /** Whether the last known copy is younger than the TTL. */
+    public synchronized boolean isFresh() {
+        loadFromDiskOnce();
+        return value != null && System.currentTimeMillis() - fetchedAt < ttlMs;
+    }
+
+    /**
+     * The fresh copy if there is one, otherwise the result of a refresh,
+     * falling back to the last known copy (possibly null) if the Overseer
+     * can't be reached.
+     */
+    public CompletableFuture<T> get() {
+        if (isFresh()) {
+            return CompletableFuture.completedFuture(peek());
+        }
+        return refresh().thenApply(fresh -> fresh != null ? fresh : peek());
+    }
+
+    /**
+     * Ask the Overseer for the current copy, conditionally on the last ETag.
+     *
+     * @return Completes with the up-to-date value, or null if the Overseer was
+     *         unreachable or answered with an error
+     */
+    public synchronized CompletableFuture<T> refresh() {
+        loadFromDiskOnce();
+        if (inFlight != null) return inFlight.copy(); // A caller cancelling its copy can't cancel the others'
+
+        CompletableFuture<T> request = OverseerClient.getConditionalAsync(endpoint, query, etag)
+                .thenApply(this::accept);
+        inFlight = request;
+        request.whenComplete((v, e) -> {
+            synchronized (this) {
+                if (inFlight == request) inFlight = null;
+            }
+        });
+        return request.copy();
+    }
+
+    // ─── Internals ──────────────────────────────────────────────
+
+    private T accept(OverseerClient.Reply reply) {
+        if (reply == null) return null;
+        if (reply.status != 304 && !reply.isSuccess()) {
+            logger.warn("Overseer returned HTTP {} for {}", reply.status, name);
+            return null;
+        }
+
+        // Parse before taking the lock; peek() from the render thread never waits on it
+        T parsed = reply.status == 304 ? null : parser.apply(reply.body);
+        if (reply.status != 304 && parsed == null) {
+            logger.warn("Unreadable {} from the Overseer, keeping the last known copy", name);
+            return peek();
+        }
+        String record;
+        T current;
+        synchronized (this) {
+            if (reply.status != 304) {
+                value = parsed;
+                body = reply.body;
+                etag = reply.etag;
+            }
+            fetchedAt = System.currentTimeMillis();
+            record = body == null ? null : toRecord();
+            current = value;
+        }
+        // Only one refresh runs at a time, so these writes can't interleave
+        if (record != null) persist(record);
+        return current;
+    }
+
+    /** Called with this held. */
+    private String toRecord() {
+        ObjectNode record = mapper.createObjectNode();
+        record.put("etag", etag);
+        record.put("fetched_at", fetchedAt);
+        record.put("body", body);
+        return record.toString();
+    }
+
+    private void persist(String record) {
+        try {
+            Files.createDirectories(CACHE_DIR);
+            AtomicFiles.write(CACHE_DIR.resolve(name + ".json"), record.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.debug("Could not persist {} cache: {}", name, e.getMessage());
+        }
+    }
+
+    /** Called with this held. */
+    private void loadFromDiskOnce() {
+        if (loadedFromDisk) return;
+        loadedFromDisk = true;
+
+        Path file = CACHE_DIR.resolve(name + ".json");
+        if (!Files.exists(file)) return;
+        try {
+            JsonNode record = mapper.readTree(file.toFile());
+            T parsed = parser.apply(record.path("body").asText());
+            if (parsed == null) {
+                logger.warn("Ignoring unreadable {} cache", name);
+                return;
+            }
+            body = record.path("body").asText();
+            value = parsed;
+            etag = record.hasNonNull("etag") ? record.get("etag").asText() : null;
+            fetchedAt = record.path("fetched_at").asLong();
+            logger.debug("Loaded last known {} from disk", name);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable {} cache: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.buglife.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * OverseerClient — The Telephone Line.
+ *
+ * One shared {@link HttpClient} for every call to the Overseer. Connections
+ * are kept alive and reused (HTTP/2 where the Overseer speaks it, HTTP/1.1
+ * keep-alive otherwise), so a login that registers, downloads a save and
+ * fetches the user list no longer pays for three TCP handshakes.
+ *
+ * Every call is asynchronous and completes with the response body, or with
+ * null when the Overseer is offline or answers with an error — the same
+ * "null means no luck" contract the old HttpURLConnection helpers had.
+ *
+ * The host defaults to the local Overseer and can be pointed elsewhere (e.g.
+ * at {@code com.buglife.tools.OverseerStub}) with {@code -Doverseer.host=...}.
+ */
+final class OverseerClient {
+    private static final Logger logger = LoggerFactory.getLogger(OverseerClient.class);
+
+    private static final String OVERSEER_HOST = System.getProperty("overseer.host", "http://127.0.0.1:8090");
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+
+    /**
+     * The Overseer's front desks, each with its own patience. Uploads carry
+     * a whole save and get longer; lookups that sit behind a loading screen
+     * get less.
+     */
+    enum Endpoint {
+        REGISTER("/user/register", Duration.ofSeconds(3)),
+        SAVE_UPLOAD("/save/upload", Duration.ofSeconds(10)),
+        SAVE_PATCH("/save/patch", Duration.ofSeconds(5)),
+        SAVE_DOWNLOAD("/save/download", Duration.ofSeconds(5)),
+        USER_LIST("/users/list", Duration.ofSeconds(3)),
+        LEADERBOARD("/leaderboard", Duration.ofSeconds(4));
+
+        final String path;
+        final Duration timeout;
+
+        Endpoint(String path, Duration timeout) {
+            this.path = path;
+            this.timeout = timeout;
+        }
+    }
+
+    /** Status, body and ETag (if any) of an answered request. */
+    static final class Reply {
+        final int status;
+        final String body;
+        final String etag;
+
+        Reply(int status, String body, String etag) {
+            this.status = status;
+            this.body = body;
+            this.etag = etag;
+        }
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    /** Writes a JSON request body straight into the generator. */
+    @FunctionalInterface
+    interface JsonBody {
+        void write(JsonGenerator json) throws IOException;
+    }
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "Overseer-Http-" + threadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .executor(executor)
+            .build();
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private OverseerClient() {}
+
+    static ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * GET with If-None-Match, so an unchanged resource comes back as a bodyless
+     * 304 instead of the full document.
+     *
+     * @return Completes with the reply, or null if the Overseer was unreachable
+     */
+    static CompletableFuture<Reply> getConditionalAsync(Endpoint endpoint, String query, String etag) {
+        String target = query == null ? endpoint.path : endpoint.path + "?" + query;
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(OVERSEER_HOST + target))
+                .timeout(endpoint.timeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return send(request.build(), "GET " + target);
+    }
+
+    /**
+     * POST a JSON body. The body is generated by Jackson directly into the
+     * request buffer — no String.format, no intermediate String of the save.
+     */
+    static CompletableFuture<String> postAsync(Endpoint endpoint, JsonBody body) {
+        return exchangeAsync(endpoint, body).thenApply(reply -> {
+            if (reply == null) return null;
+            if (reply.isSuccess()) return reply.body;
+            logger.warn("Overseer returned HTTP {}: POST {}", reply.status, endpoint.path);
+            return null;
+        });
+    }
+
+    /**
+     * POST a JSON body and hand back whatever the Overseer answered, for
+     * callers that need to tell "rejected" from "offline".
+     *
+     * @return Completes with the reply, or null if the Overseer was unreachable
+     */
+    static CompletableFuture<Reply> exchangeAsync(Endpoint endpoint, JsonBody body) {
+        byte[] payload;
+        try {
+            payload = toJson(body);
+        } catch (IOException e) {
+            logger.error("Could not serialize request for {}", endpoint.path, e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(OVERSEER_HOST + endpoint.path))
+                .timeout(endpoint.timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+        return send(request, "POST " + endpoint.path);
+    }
+
+    static byte[] toJson(JsonBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (JsonGenerator json = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            body.write(json);
+            json.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    private static CompletableFuture<Reply> send(HttpRequest request, String label) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        logger.debug("Overseer unreachable for {}: {}", label, error.toString());
+                        return null;
+                    }
+                    return new Reply(response.statusCode(), response.body(),
+                            response.headers().firstValue("ETag").orElse(null));
+                });
+    }
+
+    static void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,211 @@
+package com.buglife.save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ProfileIndex — The Ledger, Kept Open on the Desk.
+ *
+ * The old ledger was fetched from the shelf, read cover to cover and
+ * rewritten in full for every name. On a shared cabinet with thousands of
+ * regulars that made identify/login slower with every new player.
+ *
+ * Now the ledger is read once into a hash set and stays open:
+ *
+ *   saves/.profiles.json      the compacted snapshot (same format as before)
+ *   saves/.profiles.journal   one "+NAME" line appended per new player
+ *
+ * Lookups and registrations are O(1); a registration appends one line. Once
+ * the journal grows past COMPACT_THRESHOLD entries it is folded into the
+ * snapshot (atomic rewrite, then the journal is truncated). A crash between
+ * the two only means some lines are replayed twice, which is harmless.
+ *
+ * Players who have a saves/NAME.sav but somehow never made it into the
+ * ledger are picked up by a parallel directory scan when the index loads.
+ */
+final class ProfileIndex {
+    private static final Logger logger = LoggerFactory.getLogger(ProfileIndex.class);
+
+    private static final Path SAVES_DIR = Paths.get("saves");
+    private static final Path SNAPSHOT_FILE = SAVES_DIR.resolve(".profiles.json");
+    private static final Path JOURNAL_FILE = SAVES_DIR.resolve(".profiles.journal");
+    private static final String SAVE_EXTENSION = ".sav";
+    private static final int COMPACT_THRESHOLD = 256; // Journal lines before folding into the snapshot
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static ProfileIndex instance;
+    private static CompletableFuture<ProfileIndex> loading;
+
+    // Upper-case names in first-seen order. Guarded by this.
+    private final Set<String> players = new LinkedHashSet<>();
+    private int journalEntries;
+
+    private ProfileIndex() {}
+
+    /**
+     * The loaded index, loading it on the calling thread if {@link #preload()}
+     * hasn't finished yet.
+     */
+    static ProfileIndex getInstance() {
+        CompletableFuture<ProfileIndex> pending;
+        synchronized (ProfileIndex.class) {
+            if (instance != null) return instance;
+            pending = loading;
+            if (pending == null) {
+                instance = load();
+                return instance;
+            }
+        }
+        return pending.join();
+    }
+
+    /**
+     * Start loading the index in the background so the identify screen finds
+     * it ready.
+     */
+    static synchronized void preload() {
+        if (instance != null || loading != null) return;
+        loading = CompletableFuture.supplyAsync(() -> {
+            ProfileIndex index = load();
+            synchronized (ProfileIndex.class) {
+                instance = index;
+            }
+            return index;
+        });
+    }
+
+    synchronized boolean contains(String playerName) {
+        return players.contains(playerName.toUpperCase());
+    }
+
+    /** Snapshot of every known player, in the order they first appeared. */
+    synchronized List<String> list() {
+        return new ArrayList<>(players);
+    }
+
+    /**
+     * Add a player. Appends one journal line if the name is new.
+     *
+     * @return true if the player was not known before
+     */
+    synchronized boolean add(String playerName) {
+        String name = playerName.toUpperCase();
+        if (!players.add(name)) return false;
+
+        try {
+            appendToJournal(name);
+            if (++journalEntries >= COMPACT_THRESHOLD) {
+                compact();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to record player {} in the profile journal", name, e);
+        }
+        return true;
+    }
+
+    // ─── Loading ────────────────────────────────────────────────
+
+    private static ProfileIndex load() {
+        long start = System.nanoTime();
+        ProfileIndex index = new ProfileIndex();
+        UserProfile.ensureSavesDirectory();
+
+        // 1. The snapshot
+        if (Files.exists(SNAPSHOT_FILE)) {
+            try {
+                UserProfile.ProfileRegistry registry =
+                        mapper.readValue(SNAPSHOT_FILE.toFile(), UserProfile.ProfileRegistry.class);
+                for (String name : registry.getKnownPlayers()) {
+                    index.players.add(name.toUpperCase());
+                }
+            } catch (IOException e) {
+                logger.error("Failed to read profile registry, rebuilding from journal and saves", e);
+            }
+        } else {
+            logger.info("No profile registry found — fresh machine");
+        }
+
+        // 2. Everything registered since the last compaction
+        if (Files.exists(JOURNAL_FILE)) {
+            try {
+                for (String line : Files.readAllLines(JOURNAL_FILE, StandardCharsets.UTF_8)) {
+                    if (line.startsWith("+") && line.length() > 1) {
+                        index.players.add(line.substring(1).trim().toUpperCase());
+                        index.journalEntries++;
+                    }
+                    // Anything else is a torn final line from a crash mid-append
+                }
+            } catch (IOException e) {
+                logger.error("Failed to read profile journal", e);
+            }
+        }
+
+        // 3. Anyone with a save on disk
+        index.players.addAll(scanSaveFiles());
+
+        logger.info("Loaded profile index with {} known players in {} ms",
+                index.players.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /** Player names from saves/NAME.sav, matched in parallel across the listing. */
+    private static Set<String> scanSaveFiles() {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(SAVES_DIR, "*" + SAVE_EXTENSION)) {
+            dir.forEach(entries::add);
+        } catch (IOException e) {
+            logger.warn("Could not scan saves directory", e);
+            return Set.of();
+        }
+        return entries.parallelStream()
+                .filter(Files::isRegularFile)
+                .map(path -> path.getFileName().toString())
+                .map(name -> name.substring(0, name.length() - SAVE_EXTENSION.length()).toUpperCase())
+                .filter(name -> !name.isEmpty() && !name.startsWith("."))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    // ─── Writing ────────────────────────────────────────────────
+
+    private static void appendToJournal(String name) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap(("+" + name + "\n").getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(JOURNAL_FILE,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            channel.force(false);
+        }
+    }
+
+    /** Called with this held. */
+    private void compact() throws IOException {
+        UserProfile.ProfileRegistry registry = new UserProfile.ProfileRegistry();
+        registry.setKnownPlayers(new ArrayList<>(players));
+        AtomicFiles.write(SNAPSHOT_FILE, mapper.writeValueAsBytes(registry));
+        Files.deleteIfExists(JOURNAL_FILE);
+        journalEntries = 0;
+        logger.info("Compacted profile registry with {} players", players.size());
+    }
+}
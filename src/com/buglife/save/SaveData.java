@@ -1,8 +1,12 @@
 package com.buglife.save;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.buglife.entities.Spider;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * SaveData — The "digital photograph" of a player's exact state of misery.
  * 
@@ -10,10 +14,14 @@ import java.util.List;
  * uploaded to the Overseer. Every spider web walked into, every berry
  * eaten, every ounce of hunger drained — all captured here.
  * 
- * Format: JSON via Jackson ObjectMapper.
+ * Format: compact binary on disk ({@link SaveDataCodec}), JSON via Jackson
+ * ObjectMapper for the cloud and for export.
  */
 public class SaveData {
 
+    /** Schema version stamped on new saves; older ones go through {@link SaveMigrations}. */
+    public static final String CURRENT_VERSION = "1.3";
+
     // === THE WHERE ===
     private String levelId;          // e.g. "level1", "level3"
     private int levelIndex;          // Index in the level order array
@@ -30,9 +38,21 @@ public class SaveData {
     private boolean hasToy;          // Is the player carrying the toy?
     private double toyX;             // Toy's world X (if not carried)
     private double toyY;             // Toy's world Y (if not carried)
+    private int toyNoiseTimer;       // Frames of squeaking left if it was thrown
 
     // === THE WORLD STATE (cruel but fair) ===
-    private List<FoodState> remainingFoods;  // Which foods are still alive on the map
+    private int[] remainingFoodIds;       // Spawn IDs of foods still alive on the map (see SpawnId)
+    private int[] triggeredTripWireIds;   // Spawn IDs of tripwires already set off
+
+    // === THE NEIGHBOURS ===
+    private List<SpiderState> spiders;    // One per patrol, in level config order
+    private int snailLocationIndex;       // Where the snail is now
+    private int nextSnailLocationIndex;   // Where it goes next
+    private boolean snailHasTeleported;
+    private boolean playerHasInteractedWithSnail;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<FoodState> remainingFoods;  // Pre-1.2 saves only: foods by position, migrated to IDs on load
 
     // === META ===
     private String playerName;       // The arcade identity (e.g. "SHIBILI")
@@ -41,11 +61,14 @@ public class SaveData {
     private long totalPlaytimeSeconds; // Total time spent in the game (all sessions)
 
     public SaveData() {
+        this.remainingFoodIds = new int[0];
+        this.triggeredTripWireIds = new int[0];
         this.remainingFoods = new ArrayList<>();
-        this.saveVersion = "1.0";
+        this.spiders = new ArrayList<>();
+        this.saveVersion = CURRENT_VERSION;
     }
 
-    // ─── Nested class for food state ────────────────────────────
+    // ─── Nested class for legacy (pre-1.2) food state ───────────
     public static class FoodState {
         private int x;
         private int y;
@@ -67,6 +90,159 @@ public class SaveData {
         public void setType(String type) { this.type = type; }
     }
 
+    // ─── Nested class for spider state ──────────────────────────
+    public static class SpiderState {
+        private String state; // Spider.SpiderState name
+        private double x, y;
+        private double speed;
+        private double rotationAngle;
+        private int targetIndex;
+        private boolean movingForward = true;
+        private int returnX, returnY;
+        private boolean investigating;
+        private int investigationX, investigationY;
+        private int investigationTimer;
+        private int loseSightTimer;
+
+        public SpiderState() {}
+
+        public static SpiderState from(Spider.Snapshot snapshot) {
+            SpiderState s = new SpiderState();
+            s.state = snapshot.state != null ? snapshot.state.name() : null;
+            s.x = snapshot.x;
+            s.y = snapshot.y;
+            s.speed = snapshot.speed;
+            s.rotationAngle = snapshot.rotationAngle;
+            s.targetIndex = snapshot.currentTargetIndex;
+            s.movingForward = snapshot.movingForward;
+            s.returnX = snapshot.returnX;
+            s.returnY = snapshot.returnY;
+            s.investigating = snapshot.investigating;
+            s.investigationX = snapshot.investigationX;
+            s.investigationY = snapshot.investigationY;
+            s.investigationTimer = snapshot.investigationTimer;
+            s.loseSightTimer = snapshot.loseSightTimer;
+            return s;
+        }
+
+        /** Write into a live snapshot; animation frames are not saved. */
+        public void copyTo(Spider.Snapshot snapshot) {
+            try {
+                snapshot.state = state != null ? Spider.SpiderState.valueOf(state) : Spider.SpiderState.PATROLLING;
+            } catch (IllegalArgumentException e) {
+                snapshot.state = Spider.SpiderState.PATROLLING;
+            }
+            snapshot.x = x;
+            snapshot.y = y;
+            snapshot.speed = speed;
+            snapshot.rotationAngle = rotationAngle;
+            snapshot.currentTargetIndex = targetIndex;
+            snapshot.movingForward = movingForward;
+            snapshot.returnX = returnX;
+            snapshot.returnY = returnY;
+            snapshot.investigating = investigating;
+            snapshot.investigationX = investigationX;
+            snapshot.investigationY = investigationY;
+            snapshot.investigationTimer = investigationTimer;
+            snapshot.loseSightTimer = loseSightTimer;
+        }
+
+        SpiderState copy() {
+            SpiderState c = new SpiderState();
+            c.state = state;
+            c.x = x;
+            c.y = y;
+            c.speed = speed;
+            c.rotationAngle = rotationAngle;
+            c.targetIndex = targetIndex;
+            c.movingForward = movingForward;
+            c.returnX = returnX;
+            c.returnY = returnY;
+            c.investigating = investigating;
+            c.investigationX = investigationX;
+            c.investigationY = investigationY;
+            c.investigationTimer = investigationTimer;
+            c.loseSightTimer = loseSightTimer;
+            return c;
+        }
+
+        public String getState() { return state; }
+        public void setState(String state) { this.state = state; }
+        public double getX() { return x; }
+        public void setX(double x) { this.x = x; }
+        public double getY() { return y; }
+        public void setY(double y) { this.y = y; }
+        public double getSpeed() { return speed; }
+        public void setSpeed(double speed) { this.speed = speed; }
+        public double getRotationAngle() { return rotationAngle; }
+        public void setRotationAngle(double rotationAngle) { this.rotationAngle = rotationAngle; }
+        public int getTargetIndex() { return targetIndex; }
+        public void setTargetIndex(int targetIndex) { this.targetIndex = targetIndex; }
+        public boolean isMovingForward() { return movingForward; }
+        public void setMovingForward(boolean movingForward) { this.movingForward = movingForward; }
+        public int getReturnX() { return returnX; }
+        public void setReturnX(int returnX) { this.returnX = returnX; }
+        public int getReturnY() { return returnY; }
+        public void setReturnY(int returnY) { this.returnY = returnY; }
+        public boolean isInvestigating() { return investigating; }
+        public void setInvestigating(boolean investigating) { this.investigating = investigating; }
+        public int getInvestigationX() { return investigationX; }
+        public void setInvestigationX(int investigationX) { this.investigationX = investigationX; }
+        public int getInvestigationY() { return investigationY; }
+        public void setInvestigationY(int investigationY) { this.investigationY = investigationY; }
+        public int getInvestigationTimer() { return investigationTimer; }
+        public void setInvestigationTimer(int investigationTimer) { this.investigationTimer = investigationTimer; }
+        public int getLoseSightTimer() { return loseSightTimer; }
+        public void setLoseSightTimer(int loseSightTimer) { this.loseSightTimer = loseSightTimer; }
+    }
+
+    // ─── Freezing ───────────────────────────────────────────────
+
+    /**
+     * Deep copy whose world state can't be changed through the original. Handed to the background
+     * writer so the game thread can't change a save while it is being written.
+     */
+    public SaveData frozenCopy() {
+        SaveData copy = new SaveData();
+        copy.levelId = levelId;
+        copy.levelIndex = levelIndex;
+        copy.playerX = playerX;
+        copy.playerY = playerY;
+        copy.facingDirection = facingDirection;
+        copy.hunger = hunger;
+        copy.isCrying = isCrying;
+        copy.speedBoostTimer = speedBoostTimer;
+        copy.hasToy = hasToy;
+        copy.toyX = toyX;
+        copy.toyY = toyY;
+        copy.toyNoiseTimer = toyNoiseTimer;
+        copy.remainingFoodIds = remainingFoodIds == null ? new int[0] : remainingFoodIds.clone();
+        copy.triggeredTripWireIds = triggeredTripWireIds == null ? new int[0] : triggeredTripWireIds.clone();
+        List<FoodState> foods = new ArrayList<>();
+        if (remainingFoods != null) {
+            for (FoodState food : remainingFoods) {
+                foods.add(new FoodState(food.getX(), food.getY(), food.getType()));
+            }
+        }
+        copy.remainingFoods = Collections.unmodifiableList(foods);
+        List<SpiderState> spiderCopies = new ArrayList<>();
+        if (spiders != null) {
+            for (SpiderState spider : spiders) {
+                spiderCopies.add(spider.copy());
+            }
+        }
+        copy.spiders = Collections.unmodifiableList(spiderCopies);
+        copy.snailLocationIndex = snailLocationIndex;
+        copy.nextSnailLocationIndex = nextSnailLocationIndex;
+        copy.snailHasTeleported = snailHasTeleported;
+        copy.playerHasInteractedWithSnail = playerHasInteractedWithSnail;
+        copy.playerName = playerName;
+        copy.saveTimestamp = saveTimestamp;
+        copy.saveVersion = saveVersion;
+        copy.totalPlaytimeSeconds = totalPlaytimeSeconds;
+        return copy;
+    }
+
     // ─── Getters & Setters ──────────────────────────────────────
 
     public String getLevelId() { return levelId; }
@@ -102,6 +278,30 @@ public class SaveData {
     public double getToyY() { return toyY; }
     public void setToyY(double toyY) { this.toyY = toyY; }
 
+    public int getToyNoiseTimer() { return toyNoiseTimer; }
+    public void setToyNoiseTimer(int toyNoiseTimer) { this.toyNoiseTimer = toyNoiseTimer; }
+
+    public int[] getRemainingFoodIds() { return remainingFoodIds; }
+    public void setRemainingFoodIds(int[] remainingFoodIds) { this.remainingFoodIds = remainingFoodIds; }
+
+    public int[] getTriggeredTripWireIds() { return triggeredTripWireIds; }
+    public void setTriggeredTripWireIds(int[] triggeredTripWireIds) { this.triggeredTripWireIds = triggeredTripWireIds; }
+
+    public List<SpiderState> getSpiders() { return spiders; }
+    public void setSpiders(List<SpiderState> spiders) { this.spiders = spiders; }
+
+    public int getSnailLocationIndex() { return snailLocationIndex; }
+    public void setSnailLocationIndex(int snailLocationIndex) { this.snailLocationIndex = snailLocationIndex; }
+
+    public int getNextSnailLocationIndex() { return nextSnailLocationIndex; }
+    public void setNextSnailLocationIndex(int nextSnailLocationIndex) { this.nextSnailLocationIndex = nextSnailLocationIndex; }
+
+    public boolean isSnailHasTeleported() { return snailHasTeleported; }
+    public void setSnailHasTeleported(boolean snailHasTeleported) { this.snailHasTeleported = snailHasTeleported; }
+
+    public boolean isPlayerHasInteractedWithSnail() { return playerHasInteractedWithSnail; }
+    public void setPlayerHasInteractedWithSnail(boolean interacted) { this.playerHasInteractedWithSnail = interacted; }
+
     public List<FoodState> getRemainingFoods() { return remainingFoods; }
     public void setRemainingFoods(List<FoodState> remainingFoods) { this.remainingFoods = remainingFoods; }
 
@@ -0,0 +1,345 @@
+package com.buglife.save;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.buglife.levels.SpawnId;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * SaveDataCodec — The Compact Photograph.
+ *
+ * Local saves are written in a small versioned binary form instead of
+ * pretty-printed JSON:
+ *
+ *   - integers are LEB128 varints (zigzag for signed values)
+ *   - world coordinates are fixed point (1/1024 px) varints
+ *   - remaining food and triggered tripwires are sorted lists of stable
+ *     spawn IDs ({@link SpawnId}), delta-encoded, so each entry is a byte or two
+ *   - spiders are a count followed by one fixed-size-ish record each
+ *
+ * There is one binary layout. Saves from before it were JSON, which still
+ * loads and goes through {@link SaveMigrations}.
+ *
+ * JSON stays available through {@link #toJson(SaveData)} / {@link #fromJson(byte[])}
+ * for export, debugging and the cloud payload.
+ */
+public final class SaveDataCodec {
+
+    /** Version of the binary layout (not of the SaveData schema). */
+    public static final int BINARY_VERSION = 1;
+
+    private static final double FIXED_POINT_SCALE = 1024.0;
+    private static final int FLAG_CRYING = 1;
+    private static final int FLAG_HAS_TOY = 1 << 1;
+    private static final int FLAG_SNAIL_TELEPORTED = 1 << 2;
+    private static final int FLAG_SNAIL_INTERACTED = 1 << 3;
+    private static final int SPIDER_MOVING_FORWARD = 1;
+    private static final int SPIDER_INVESTIGATING = 1 << 1;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectMapper prettyMapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private SaveDataCodec() {}
+
+    // ─── Binary ─────────────────────────────────────────────────
+
+    public static byte[] encode(SaveData save) {
+        ByteSink out = new ByteSink(128);
+        out.writeVarint(BINARY_VERSION);
+        out.writeString(save.getSaveVersion());
+
+        // The WHERE
+        out.writeString(save.getLevelId());
+        out.writeSignedVarint(save.getLevelIndex());
+        out.writeFixed(save.getPlayerX());
+        out.writeFixed(save.getPlayerY());
+        out.writeString(save.getFacingDirection());
+
+        // The BODY & POCKETS
+        int flags = (save.isCrying() ? FLAG_CRYING : 0) | (save.isHasToy() ? FLAG_HAS_TOY : 0);
+        out.writeVarint(flags);
+        out.writeSignedVarint(save.getHunger());
+        out.writeSignedVarint(save.getSpeedBoostTimer());
+        out.writeFixed(save.getToyX());
+        out.writeFixed(save.getToyY());
+
+        // The WORLD STATE
+        out.writeIdList(save.getRemainingFoodIds());
+        out.writeIdList(save.getTriggeredTripWireIds());
+        out.writeSignedVarint(save.getToyNoiseTimer());
+
+        // The NEIGHBOURS
+        int snailFlags = (save.isSnailHasTeleported() ? FLAG_SNAIL_TELEPORTED : 0)
+                | (save.isPlayerHasInteractedWithSnail() ? FLAG_SNAIL_INTERACTED : 0);
+        out.writeVarint(snailFlags);
+        out.writeSignedVarint(save.getSnailLocationIndex());
+        out.writeSignedVarint(save.getNextSnailLocationIndex());
+        writeSpiders(out, save.getSpiders());
+
+        // META
+        out.writeString(save.getPlayerName());
+        out.writeVarlong(save.getSaveTimestamp());
+        out.writeVarlong(save.getTotalPlaytimeSeconds());
+        return out.toByteArray();
+    }
+
+    public static SaveData decode(byte[] data) throws IOException {
+        ByteSource in = new ByteSource(data);
+        int version = in.readVarint();
+        if (version != BINARY_VERSION) {
+            throw new IOException("Unsupported binary save version: " + version);
+        }
+
+        SaveData save = new SaveData();
+        save.setSaveVersion(in.readString());
+
+        save.setLevelId(in.readString());
+        save.setLevelIndex(in.readSignedVarint());
+        save.setPlayerX(in.readFixed());
+        save.setPlayerY(in.readFixed());
+        save.setFacingDirection(in.readString());
+
+        int flags = in.readVarint();
+        save.setCrying((flags & FLAG_CRYING) != 0);
+        save.setHasToy((flags & FLAG_HAS_TOY) != 0);
+        save.setHunger(in.readSignedVarint());
+        save.setSpeedBoostTimer(in.readSignedVarint());
+        save.setToyX(in.readFixed());
+        save.setToyY(in.readFixed());
+
+        save.setRemainingFoodIds(in.readIdList());
+        save.setTriggeredTripWireIds(in.readIdList());
+        save.setToyNoiseTimer(in.readSignedVarint());
+
+        int snailFlags = in.readVarint();
+        save.setSnailHasTeleported((snailFlags & FLAG_SNAIL_TELEPORTED) != 0);
+        save.setPlayerHasInteractedWithSnail((snailFlags & FLAG_SNAIL_INTERACTED) != 0);
+        save.setSnailLocationIndex(in.readSignedVarint());
+        save.setNextSnailLocationIndex(in.readSignedVarint());
+        save.setSpiders(readSpiders(in));
+
+        save.setPlayerName(in.readString());
+        save.setSaveTimestamp(in.readVarlong());
+        save.setTotalPlaytimeSeconds(in.readVarlong());
+        return save;
+    }
+
+    // ─── Spiders ────────────────────────────────────────────────
+
+    private static void writeSpiders(ByteSink out, List<SaveData.SpiderState> spiders) {
+        int count = spiders == null ? 0 : spiders.size();
+        out.writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            SaveData.SpiderState spider = spiders.get(i);
+            out.writeString(spider.getState());
+            int flags = (spider.isMovingForward() ? SPIDER_MOVING_FORWARD : 0)
+                    | (spider.isInvestigating() ? SPIDER_INVESTIGATING : 0);
+            out.writeVarint(flags);
+            out.writeFixed(spider.getX());
+            out.writeFixed(spider.getY());
+            out.writeFixed(spider.getSpeed());
+            out.writeFixed(spider.getRotationAngle());
+            out.writeSignedVarint(spider.getTargetIndex());
+            out.writeSignedVarint(spider.getReturnX());
+            out.writeSignedVarint(spider.getReturnY());
+            out.writeSignedVarint(spider.getInvestigationX());
+            out.writeSignedVarint(spider.getInvestigationY());
+            out.writeSignedVarint(spider.getInvestigationTimer());
+            out.writeSignedVarint(spider.getLoseSightTimer());
+        }
+    }
+
+    private static List<SaveData.SpiderState> readSpiders(ByteSource in) throws IOException {
+        int count = in.readVarint();
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Bad spider count: " + count);
+        }
+        List<SaveData.SpiderState> spiders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SaveData.SpiderState spider = new SaveData.SpiderState();
+            spider.setState(in.readString());
+            int flags = in.readVarint();
+            spider.setMovingForward((flags & SPIDER_MOVING_FORWARD) != 0);
+            spider.setInvestigating((flags & SPIDER_INVESTIGATING) != 0);
+            spider.setX(in.readFixed());
+            spider.setY(in.readFixed());
+            spider.setSpeed(in.readFixed());
+            spider.setRotationAngle(in.readFixed());
+            spider.setTargetIndex(in.readSignedVarint());
+            spider.setReturnX(in.readSignedVarint());
+            spider.setReturnY(in.readSignedVarint());
+            spider.setInvestigationX(in.readSignedVarint());
+            spider.setInvestigationY(in.readSignedVarint());
+            spider.setInvestigationTimer(in.readSignedVarint());
+            spider.setLoseSightTimer(in.readSignedVarint());
+            spiders.add(spider);
+        }
+        return spiders;
+    }
+
+    // ─── JSON (export / debug) ──────────────────────────────────
+
+    public static byte[] toJson(SaveData save) throws IOException {
+        return mapper.writeValueAsBytes(save);
+    }
+
+    public static String toPrettyJson(SaveData save) throws IOException {
+        return prettyMapper.writeValueAsString(save);
+    }
+
+    public static SaveData fromJson(byte[] json) throws IOException {
+        return mapper.readValue(json, SaveData.class);
+    }
+
+    // ─── Varint buffers ─────────────────────────────────────────
+
+    /** Growable byte buffer with varint writers. */
+    static final class ByteSink {
+        private byte[] bytes;
+        private int size;
+
+        ByteSink(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void writeByte(int b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
+
+        void writeVarlong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeVarint(int value) {
+            writeVarlong(value & 0xFFFFFFFFL);
+        }
+
+        void writeSignedVarint(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        void writeSignedVarlong(long value) {
+            writeVarlong((value << 1) ^ (value >> 63));
+        }
+
+        void writeFixed(double value) {
+            writeSignedVarlong(Math.round(value * FIXED_POINT_SCALE));
+        }
+
+        /** Null-safe: length+1 so that 0 means null. */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length + 1);
+            for (byte b : utf8) {
+                writeByte(b);
+            }
+        }
+
+        /** Sorted, delta-encoded: count, then gaps between consecutive IDs. */
+        void writeIdList(int[] ids) {
+            int[] sorted = ids == null ? new int[0] : ids.clone();
+            Arrays.sort(sorted);
+            writeVarint(sorted.length);
+            long previous = 0;
+            for (int id : sorted) {
+                writeVarlong(id - previous);
+                previous = id;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+    /** Reader matching {@link ByteSink}. */
+    static final class ByteSource {
+        private final byte[] bytes;
+        private int position;
+
+        ByteSource(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int remaining() {
+            return bytes.length - position;
+        }
+
+        int readByte() throws IOException {
+            if (position >= bytes.length) {
+                throw new IOException("Unexpected end of save data");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarlong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return result;
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        int readVarint() throws IOException {
+            return (int) readVarlong();
+        }
+
+        int readSignedVarint() throws IOException {
+            int raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readSignedVarlong() throws IOException {
+            long raw = readVarlong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        double readFixed() throws IOException {
+            return readSignedVarlong() / FIXED_POINT_SCALE;
+        }
+
+        String readString() throws IOException {
+            int length = readVarint() - 1;
+            if (length < 0) return null;
+            if (length > bytes.length - position) {
+                throw new IOException("String runs past end of save data");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        int[] readIdList() throws IOException {
+            int count = readVarint();
+            if (count < 0 || count > bytes.length - position) {
+                throw new IOException("Bad ID count: " + count);
+            }
+            int[] ids = new int[count];
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                previous += readVarlong();
+                ids[i] = (int) previous;
+            }
+            return ids;
+        }
+    }
+}
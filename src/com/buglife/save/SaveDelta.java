@@ -0,0 +1,108 @@
+package com.buglife.save;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * SaveDelta — Only What Moved Since the Last Photograph.
+ *
+ * Between two autosaves usually only the player's position, hunger and a
+ * timestamp change, yet every cloud upload used to carry the whole save.
+ * A delta carries:
+ *
+ *   changed            top-level save fields whose JSON differs from the base
+ *                      (explicit null for fields that disappeared)
+ *   removed_food_ids   food spawn IDs eaten since the base
+ *
+ * Food only ever disappears during play, so removals are sent as a short ID
+ * list. If food somehow came back (e.g. a level restart), the full
+ * remainingFoodIds list goes in "changed" instead.
+ *
+ * {@link #apply} is the server's half: it rebuilds the new save from the
+ * stored one (the stub Overseer in com.buglife.tools uses it as-is).
+ */
+public final class SaveDelta {
+
+    private static final String FOOD_FIELD = "remainingFoodIds";
+
+    private SaveDelta() {}
+
+    /**
+     * The delta that turns base into next, as { "changed": {...},
+     * "removed_food_ids": [...] }.
+     */
+    public static ObjectNode diff(ObjectMapper mapper, SaveData base, SaveData next) {
+        ObjectNode baseTree = mapper.valueToTree(base);
+        ObjectNode nextTree = mapper.valueToTree(next);
+
+        ObjectNode delta = mapper.createObjectNode();
+        ObjectNode changed = delta.putObject("changed");
+        ArrayNode removedFood = delta.putArray("removed_food_ids");
+
+        for (Map.Entry<String, JsonNode> field : nextTree.properties()) {
+            if (field.getKey().equals(FOOD_FIELD)) continue;
+            if (!field.getValue().equals(baseTree.get(field.getKey()))) {
+                changed.set(field.getKey(), field.getValue());
+            }
+        }
+        Iterator<String> baseNames = baseTree.fieldNames();
+        while (baseNames.hasNext()) {
+            String name = baseNames.next();
+            if (!nextTree.has(name)) changed.putNull(name);
+        }
+
+        int[] before = sortedIds(base.getRemainingFoodIds());
+        int[] after = sortedIds(next.getRemainingFoodIds());
+        if (containsAll(before, after)) {
+            for (int id : before) {
+                if (Arrays.binarySearch(after, id) < 0) removedFood.add(id);
+            }
+        } else {
+            changed.set(FOOD_FIELD, nextTree.get(FOOD_FIELD));
+        }
+        return delta;
+    }
+
+    /**
+     * Apply a delta to a save's JSON tree in place.
+     */
+    public static void apply(ObjectNode save, JsonNode delta) {
+        JsonNode changed = delta.path("changed");
+        for (Map.Entry<String, JsonNode> field : changed.properties()) {
+            save.set(field.getKey(), field.getValue());
+        }
+
+        JsonNode removed = delta.path("removed_food_ids");
+        if (removed.size() == 0 || !save.path(FOOD_FIELD).isArray()) return;
+
+        int[] gone = new int[removed.size()];
+        for (int i = 0; i < gone.length; i++) gone[i] = removed.get(i).asInt();
+        Arrays.sort(gone);
+
+        ArrayNode remaining = save.arrayNode();
+        for (JsonNode id : save.get(FOOD_FIELD)) {
+            if (Arrays.binarySearch(gone, id.asInt()) < 0) remaining.add(id);
+        }
+        save.set(FOOD_FIELD, remaining);
+    }
+
+    private static int[] sortedIds(int[] ids) {
+        if (ids == null) return new int[0];
+        int[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static boolean containsAll(int[] sortedSuperset, int[] sortedSubset) {
+        for (int id : sortedSubset) {
+            if (Arrays.binarySearch(sortedSuperset, id) < 0) return false;
+        }
+        return true;
+    }
+}
@@ -1,14 +1,13 @@
 package com.buglife.save;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.buglife.entities.Food;
-import com.buglife.entities.Player;
-import com.buglife.entities.Toy;
 
 /**
  * SaveManager — The Two-Tiered Vault Orchestrator.
@@ -16,63 +15,27 @@ import com.buglife.entities.Toy;
  * This is the single entry point for all save/load operations. It coordinates
  * the Local Memory Card (Tier 1) and Cloud Backup (Tier 2) to provide:
  * 
- *   1. Instant local saves (always works, even offline)
- *   2. Delayed cloud uploads (5 seconds after local save)
+ *   1. Local saves written by a background thread (always works, even offline)
+ *   2. Delayed cloud uploads (5 seconds after the local save lands)
  *   3. Cloud download fallback (cross-progression magic)
  * 
  * Save triggers:
  *   - Auto-Save: When player steps on ladder (level complete)
  *   - Rage Quit: When player hits "Quit to Menu" from pause
+ *   - Checkpoint: Every few seconds of play (local only)
  *   - Manual:    Future — save tiles on the map
  */
 public class SaveManager {
     private static final Logger logger = LoggerFactory.getLogger(SaveManager.class);
 
     /**
-     * Take the photograph: Capture the current game state into a SaveData snapshot.
+     * Take the photograph: turn a captured world snapshot into SaveData.
      * 
-     * @param player       The player entity
-     * @param currentLevel Current level ID (e.g. "level3")
-     * @param levelIndex   Current level index in progression
-     * @param foods        Remaining food items on the map
-     * @param toy          The toy entity (can be null)
-     * @return A frozen SaveData snapshot
+     * @param world Snapshot from {@code PlayingState.captureSnapshot}
+     * @return A SaveData the caller owns
      */
-    public static SaveData captureState(Player player, String currentLevel, int levelIndex,
-                                         List<Food> foods, Toy toy) {
-        SaveData save = new SaveData();
-
-        // The WHERE
-        save.setLevelId(currentLevel);
-        save.setLevelIndex(levelIndex);
-        save.setPlayerX(player.getX());
-        save.setPlayerY(player.getY());
-        save.setFacingDirection(player.getFacingDirection());
-
-        // The BODY
-        save.setHunger(player.getHunger());
-        save.setCrying(player.isCrying());
-        save.setSpeedBoostTimer(player.getSpeedBoostTimer());
-
-        // The POCKETS
-        if (toy != null) {
-            save.setHasToy(toy.isCarried());
-            if (!toy.isCarried()) {
-                save.setToyX(toy.getCenterX());
-                save.setToyY(toy.getCenterY());
-            }
-        }
-
-        // The WORLD STATE (cruel)
-        List<SaveData.FoodState> foodStates = new ArrayList<>();
-        if (foods != null) {
-            for (Food food : foods) {
-                foodStates.add(new SaveData.FoodState(
-                    food.getCenterX(), food.getCenterY(), food.getType().name()
-                ));
-            }
-        }
-        save.setRemainingFoods(foodStates);
+    public static SaveData captureState(WorldSnapshot world) {
+        SaveData save = world.toSaveData();
 
         // Playtime tracking removed with telemetry system
         save.setTotalPlaytimeSeconds(0);
@@ -87,33 +50,42 @@ public class SaveManager {
     /**
      * Save the game — The Two-Tiered Vault in action.
      * 
-     * 1. Instantly writes to local file (Tier 1)
-     * 2. Schedules cloud upload after 5-second delay (Tier 2)
+     * 1. Takes the photograph on the calling thread (cheap, no I/O)
+     * 2. Hands it to the background writer for the local file (Tier 1)
+     * 3. Schedules cloud upload once the local write succeeds (Tier 2)
      * 
-     * @return true if local save succeeded (cloud is fire-and-forget)
+     * @return Completes with true once the local save is on disk; completes
+     *         immediately with false if there is no active player
+     */
+    public static CompletableFuture<Boolean> saveGame(WorldSnapshot world) {
+        return save(world, true);
+    }
+
+    /**
+     * Autosave checkpoint: like {@link #saveGame(WorldSnapshot)} but local
+     * only, and written to the player's checkpoint slot rather than rotating
+     * the save generations (see LocalSaveManager). Checkpoints come every few
+     * seconds; the Overseer only hears about real saves. Back-to-back
+     * checkpoints coalesce in the background writer.
      */
-    public static boolean saveGame(Player player, String currentLevel, int levelIndex,
-                                    List<Food> foods, Toy toy) {
+    public static CompletableFuture<Boolean> saveCheckpoint(WorldSnapshot world) {
+        return save(world, false);
+    }
+
+    private static CompletableFuture<Boolean> save(WorldSnapshot world, boolean realSave) {
         String playerName = UserProfile.getActivePlayer();
         if (playerName == null) {
             logger.error("Cannot save: No active player identified");
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         // Take the photograph
-        SaveData saveData = captureState(player, currentLevel, levelIndex, foods, toy);
+        SaveData saveData = captureState(world);
 
-        // Tier 1: Local Memory Card — instant write
-        boolean localSuccess = LocalSaveManager.save(saveData);
-
-        if (localSuccess) {
-            logger.info("Game saved locally for {} on {}", playerName, currentLevel);
-
-            // Tier 2: Cloud Backup — delayed upload (fire and forget)
-            CloudSaveManager.uploadSaveAsync(saveData);
-        }
-
-        return localSuccess;
+        // Tier 1: Local Memory Card — written off the game thread. Tier 2 (the
+        // delayed cloud upload) follows the write, once per coalesced write,
+        // with whatever data was actually written
+        return LocalSaveWriter.submit(saveData, realSave, !realSave);
     }
 
     /**
@@ -132,6 +104,13 @@ public class SaveManager {
             return null;
         }
 
+        // Tier 0: A save still queued for the writer is newer than anything on disk
+        SaveData pendingSave = LocalSaveWriter.getPending(playerName);
+        if (pendingSave != null) {
+            logger.info("Loaded pending save for {}: Level={}", playerName, pendingSave.getLevelId());
+            return pendingSave;
+        }
+
         // Tier 1: Check local disk
         SaveData localSave = LocalSaveManager.load(playerName);
         if (localSave != null) {
@@ -145,7 +124,7 @@ public class SaveManager {
 
         if (cloudSave != null) {
             // Cache the cloud save locally for next time
-            LocalSaveManager.save(cloudSave);
+            LocalSaveWriter.submit(cloudSave, false, false);
             logger.info("Cloud save downloaded and cached locally for {}", playerName);
             return cloudSave;
         }
@@ -156,10 +135,12 @@ public class SaveManager {
 
     /**
      * Check if any save exists for this player (local or cloud).
-     * Quick local check only — doesn't hit the network.
+     * Quick local check only — doesn't hit the network. A save still queued
+     * for the background writer counts (e.g. right after a first rage quit).
      */
     public static boolean hasSave(String playerName) {
-        return LocalSaveManager.hasSave(playerName);
+        if (playerName == null || playerName.isEmpty()) return false;
+        return LocalSaveWriter.getPending(playerName) != null || LocalSaveManager.hasSave(playerName);
     }
 
     /**
@@ -171,9 +152,32 @@ public class SaveManager {
     }
 
     /**
-     * Shutdown cloud services gracefully.
+     * Wait until every local save queued so far has been written.
+     * 
+     * @return true if they all finished within the timeout
+     */
+    public static boolean awaitPendingSaves(long timeout, TimeUnit unit) {
+        try {
+            LocalSaveWriter.flush().get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Timed out waiting for local saves to finish");
+            return false;
+        } catch (ExecutionException e) {
+            logger.error("Local save writer failed while flushing", e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Shutdown save services gracefully. Queued local saves are given a few
+     * seconds to finish before the writer thread stops.
      */
     public static void shutdown() {
+        LocalSaveWriter.shutdown(5, TimeUnit.SECONDS);
         CloudSaveManager.shutdown();
     }
 }
@@ -0,0 +1,157 @@
+package com.buglife.save;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.buglife.entities.Food;
+import com.buglife.levels.FoodSpawnData;
+import com.buglife.levels.LevelRegistry;
+
+/**
+ * SaveMigrations — Teaching old photographs new tricks.
+ *
+ * Every save carries the {@code saveVersion} it was written with. When the
+ * schema changes, register a hook here that upgrades one version to the next;
+ * {@link #migrate(SaveData)} walks the chain until the save is current. Hooks
+ * run on every load path (local file in any format, cloud download), so the
+ * rest of the game only ever sees {@link SaveData#CURRENT_VERSION}.
+ */
+public final class SaveMigrations {
+    private static final Logger logger = LoggerFactory.getLogger(SaveMigrations.class);
+
+    /** One step: the version it produces and how to get there. */
+    private static final class Migration {
+        final String toVersion;
+        final UnaryOperator<SaveData> upgrade;
+
+        Migration(String toVersion, UnaryOperator<SaveData> upgrade) {
+            this.toVersion = toVersion;
+            this.upgrade = upgrade;
+        }
+    }
+
+    // fromVersion -> step
+    private static final Map<String, Migration> MIGRATIONS = new HashMap<>();
+
+    static {
+        // 1.0 stored food types as free-form strings; 1.1 only allows FoodType
+        // names (the binary codec stores them as ordinals)
+        register("1.0", "1.1", save -> {
+            List<SaveData.FoodState> foods = save.getRemainingFoods();
+            List<SaveData.FoodState> unknown = new ArrayList<>();
+            for (SaveData.FoodState food : foods) {
+                if (normalizeFoodType(food) == null) unknown.add(food);
+            }
+            foods.removeAll(unknown);
+            if (save.getFacingDirection() == null) {
+                save.setFacingDirection("DOWN");
+            }
+            return save;
+        });
+
+        // 1.2 records food by stable spawn ID instead of position, and adds
+        // triggered tripwires (none for older saves: they never kept that)
+        register("1.1", "1.2", save -> {
+            save.setRemainingFoodIds(foodIdsFromPositions(save));
+            save.setRemainingFoods(new ArrayList<>());
+            return save;
+        });
+
+        // 1.3 adds spiders, the snail's route and the toy's noise timer. Older
+        // saves have no spiders (they keep their patrol start on load); the
+        // snail starts where a fresh level puts it.
+        register("1.2", "1.3", save -> {
+            save.setSnailLocationIndex(0);
+            save.setNextSnailLocationIndex(1);
+            save.setSnailHasTeleported(true);
+            save.setPlayerHasInteractedWithSnail(false);
+            return save;
+        });
+    }
+
+    private SaveMigrations() {}
+
+    private static void register(String fromVersion, String toVersion, UnaryOperator<SaveData> upgrade) {
+        MIGRATIONS.put(fromVersion, new Migration(toVersion, upgrade));
+    }
+
+    /**
+     * Upgrade a freshly loaded save to the current schema, in place.
+     * Saves from an unknown (e.g. newer) version are returned unchanged.
+     */
+    public static SaveData migrate(SaveData save) {
+        if (save == null) return null;
+
+        String version = save.getSaveVersion() == null ? "1.0" : save.getSaveVersion();
+        while (!SaveData.CURRENT_VERSION.equals(version)) {
+            Migration step = MIGRATIONS.get(version);
+            if (step == null) {
+                logger.warn("No migration from save version {} for {}; loading as-is", version, save.getPlayerName());
+                return save;
+            }
+            save = step.upgrade.apply(save);
+            logger.info("Migrated save for {}: {} -> {}", save.getPlayerName(), version, step.toVersion);
+            version = step.toVersion;
+            save.setSaveVersion(version);
+        }
+        return save;
+    }
+
+    /**
+     * Map each saved food position to the spawn it came from. Positions were
+     * food centers; old saves were matched within 5px, so that slack is kept
+     * for foods that don't land exactly on a center.
+     */
+    private static int[] foodIdsFromPositions(SaveData save) {
+        List<SaveData.FoodState> foods = save.getRemainingFoods();
+        if (foods == null || foods.isEmpty() || !LevelRegistry.getInstance().hasLevel(save.getLevelId())) {
+            return new int[0];
+        }
+
+        List<FoodSpawnData> spawns = LevelRegistry.getInstance().getConfig(save.getLevelId()).getFoodSpawns();
+        int[] centersX = new int[spawns.size()];
+        int[] centersY = new int[spawns.size()];
+        for (int i = 0; i < spawns.size(); i++) {
+            Food food = spawns.get(i).createFood();
+            centersX[i] = food.getCenterX();
+            centersY[i] = food.getCenterY();
+        }
+
+        int[] ids = new int[foods.size()];
+        int count = 0;
+        for (SaveData.FoodState saved : foods) {
+            for (int i = 0; i < spawns.size(); i++) {
+                if (Math.abs(centersX[i] - saved.getX()) < 5 && Math.abs(centersY[i] - saved.getY()) < 5) {
+                    ids[count++] = spawns.get(i).getId();
+                    break;
+                }
+            }
+        }
+        if (count < ids.length) {
+            logger.warn("{} saved food(s) on {} no longer match a spawn", ids.length - count, save.getLevelId());
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    /** Upper-case the food's type name in place; null if it isn't a known FoodType. */
+    private static String normalizeFoodType(SaveData.FoodState food) {
+        if (food.getType() == null) return null;
+        String type = food.getType().trim().toUpperCase(Locale.ROOT);
+        try {
+            Food.FoodType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Dropping food of unknown type '{}' at ({},{})", food.getType(), food.getX(), food.getY());
+            return null;
+        }
+        food.setType(type);
+        return type;
+    }
+}
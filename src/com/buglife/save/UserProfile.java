@@ -1,6 +1,5 @@
 package com.buglife.save;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,9 +10,6 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-
 /**
  * UserProfile — The Gatekeeper's Ledger.
  * 
@@ -22,21 +18,21 @@ import com.fasterxml.jackson.databind.SerializationFeature;
  * to see if they've played on this machine before, and coordinates with the Overseer
  * for cross-machine recognition.
  * 
- * Local profiles are stored in: saves/.profiles.json (hidden intent, visible file)
+ * Local profiles are stored in: saves/.profiles.json (hidden intent, visible file),
+ * plus an append-only saves/.profiles.journal of recent arrivals. Both are read
+ * once into the in-memory {@link ProfileIndex}.
  */
 public class UserProfile {
     private static final Logger logger = LoggerFactory.getLogger(UserProfile.class);
 
     private static final String SAVES_DIR = "saves";
-    private static final String PROFILES_FILE = ".profiles.json";
-    private static final ObjectMapper mapper = new ObjectMapper()
-            .enable(SerializationFeature.INDENT_OUTPUT);
 
     // The currently active player name — locked in after identification
     private static String activePlayerName = null;
 
     /**
      * The profile registry — a simple list of names who have played on this machine.
+     * This is the on-disk snapshot format; lookups go through {@link ProfileIndex}.
      */
     public static class ProfileRegistry {
         private List<String> knownPlayers = new ArrayList<>();
@@ -74,59 +70,36 @@ public class UserProfile {
     }
 
     /**
-     * Load the profile registry from disk.
-     * Returns empty registry if file doesn't exist yet.
+     * Start loading the local profile index in the background, so the
+     * identify screen doesn't wait for it.
      */
-    public static ProfileRegistry loadRegistry() {
-        ensureSavesDirectory();
-        File file = Paths.get(SAVES_DIR, PROFILES_FILE).toFile();
-
-        if (!file.exists()) {
-            logger.info("No profile registry found — fresh machine");
-            return new ProfileRegistry();
-        }
-
-        try {
-            ProfileRegistry registry = mapper.readValue(file, ProfileRegistry.class);
-            logger.info("Loaded profile registry with {} known players", registry.getKnownPlayers().size());
-            return registry;
-        } catch (IOException e) {
-            logger.error("Failed to read profile registry, starting fresh", e);
-            return new ProfileRegistry();
-        }
+    public static void preloadRegistry() {
+        ProfileIndex.preload();
     }
 
     /**
-     * Save the profile registry back to disk.
+     * A copy of the profile registry as it stands.
      */
-    public static void saveRegistry(ProfileRegistry registry) {
-        ensureSavesDirectory();
-        File file = Paths.get(SAVES_DIR, PROFILES_FILE).toFile();
-
-        try {
-            mapper.writeValue(file, registry);
-            logger.info("Saved profile registry with {} players", registry.getKnownPlayers().size());
-        } catch (IOException e) {
-            logger.error("Failed to save profile registry", e);
-        }
+    public static ProfileRegistry loadRegistry() {
+        ProfileRegistry registry = new ProfileRegistry();
+        registry.setKnownPlayers(ProfileIndex.getInstance().list());
+        return registry;
     }
 
     /**
      * The Brain Check: Is this player known on this machine?
      */
     public static boolean isKnownLocally(String playerName) {
-        ProfileRegistry registry = loadRegistry();
-        return registry.hasPlayer(playerName);
+        return ProfileIndex.getInstance().contains(playerName);
     }
 
     /**
      * Register a player locally after successful identification.
      */
     public static void registerLocally(String playerName) {
-        ProfileRegistry registry = loadRegistry();
-        registry.addPlayer(playerName);
-        saveRegistry(registry);
-        logger.info("Registered player locally: {}", playerName);
+        if (ProfileIndex.getInstance().add(playerName)) {
+            logger.info("Registered player locally: {}", playerName);
+        }
     }
 
     /**
@@ -156,6 +129,6 @@ public class UserProfile {
      * Get all known player names for this machine (for "Continue as..." prompts).
      */
     public static List<String> getKnownPlayers() {
-        return loadRegistry().getKnownPlayers();
+        return ProfileIndex.getInstance().list();
     }
 }
@@ -0,0 +1,232 @@
+package com.buglife.save;
+
+import java.util.Arrays;
+
+import com.buglife.entities.Spider;
+import com.buglife.entities.Toy;
+
+/**
+ * WorldSnapshot — The Whole Room, Not Just the Baby.
+ *
+ * Everything that changes while a level is played: the player, every spider's
+ * state machine, the snail's route, triggered tripwires, remaining food and
+ * the toy (including its noise timer). Filled by
+ * {@code PlayingState.captureSnapshot} and put back by
+ * {@code PlayingState.restoreSnapshot}.
+ *
+ * A snapshot is plain data and is meant to be reused: arrays and per-spider
+ * records only grow, never shrink, so capturing into the same instance every
+ * few seconds (autosave checkpoints) allocates nothing after the first time.
+ * Fields are public for the same reason the entity snapshots' are.
+ */
+public final class WorldSnapshot {
+
+    // === THE WHERE ===
+    public String levelId;
+    public int levelIndex;
+
+    // === THE PLAYER ===
+    public double playerX, playerY;
+    public String facingDirection;
+    public int hunger;
+    public boolean crying;
+    public int speedBoostTimer;
+
+    // === THE SPIDERS ===
+    private Spider.Snapshot[] spiders = new Spider.Snapshot[0];
+    private int spiderCount;
+
+    // === THE SNAIL ===
+    public int snailLocationIndex;
+    public int nextSnailLocationIndex;
+    public boolean snailHasTeleported;
+    public boolean playerHasInteractedWithSnail;
+
+    // === THE WORLD STATE ===
+    private int[] remainingFoodIds = new int[0];
+    private int remainingFoodCount;
+    private boolean foodIdsSorted = true;
+    private int[] triggeredTripWireIds = new int[0];
+    private int triggeredTripWireCount;
+    private boolean tripWireIdsSorted = true;
+
+    // === THE TOY ===
+    public boolean hasToy; // Whether the level has a toy at all
+    public final Toy.Snapshot toy = new Toy.Snapshot();
+
+    // ─── Spiders ────────────────────────────────────────────────
+
+    /** Size the spider list for a capture, reusing existing records. */
+    public void setSpiderCount(int count) {
+        if (count > spiders.length) {
+            int oldLength = spiders.length;
+            spiders = Arrays.copyOf(spiders, count);
+            for (int i = oldLength; i < count; i++) {
+                spiders[i] = new Spider.Snapshot();
+            }
+        }
+        spiderCount = count;
+    }
+
+    public int getSpiderCount() {
+        return spiderCount;
+    }
+
+    public Spider.Snapshot getSpider(int index) {
+        if (index >= spiderCount) throw new IndexOutOfBoundsException(index);
+        return spiders[index];
+    }
+
+    // ─── Food & tripwires ───────────────────────────────────────
+
+    public void clearFoods() {
+        remainingFoodCount = 0;
+    }
+
+    public void addFoodId(int id) {
+        if (remainingFoodCount == remainingFoodIds.length) {
+            remainingFoodIds = Arrays.copyOf(remainingFoodIds, Math.max(8, remainingFoodCount * 2));
+        }
+        remainingFoodIds[remainingFoodCount++] = id;
+        foodIdsSorted = false;
+    }
+
+    public int getRemainingFoodCount() {
+        return remainingFoodCount;
+    }
+
+    public int getRemainingFoodId(int index) {
+        return remainingFoodIds[index];
+    }
+
+    /** Whether a food spawn ID is still on the map. O(log n) once sorted. */
+    public boolean hasFood(int id) {
+        if (!foodIdsSorted) {
+            Arrays.sort(remainingFoodIds, 0, remainingFoodCount);
+            foodIdsSorted = true;
+        }
+        return Arrays.binarySearch(remainingFoodIds, 0, remainingFoodCount, id) >= 0;
+    }
+
+    public void clearTripWires() {
+        triggeredTripWireCount = 0;
+    }
+
+    public void addTriggeredTripWireId(int id) {
+        if (triggeredTripWireCount == triggeredTripWireIds.length) {
+            triggeredTripWireIds = Arrays.copyOf(triggeredTripWireIds, Math.max(8, triggeredTripWireCount * 2));
+        }
+        triggeredTripWireIds[triggeredTripWireCount++] = id;
+        tripWireIdsSorted = false;
+    }
+
+    public int getTriggeredTripWireCount() {
+        return triggeredTripWireCount;
+    }
+
+    public int getTriggeredTripWireId(int index) {
+        return triggeredTripWireIds[index];
+    }
+
+    public boolean isTripWireTriggered(int id) {
+        if (!tripWireIdsSorted) {
+            Arrays.sort(triggeredTripWireIds, 0, triggeredTripWireCount);
+            tripWireIdsSorted = true;
+        }
+        return Arrays.binarySearch(triggeredTripWireIds, 0, triggeredTripWireCount, id) >= 0;
+    }
+
+    // ─── Conversion to and from SaveData ────────────────────────
+
+    /**
+     * A new SaveData holding this snapshot. The toy's in-flight velocity is
+     * not saved; everything else is.
+     */
+    public SaveData toSaveData() {
+        SaveData save = new SaveData();
+        save.setLevelId(levelId);
+        save.setLevelIndex(levelIndex);
+        save.setPlayerX(playerX);
+        save.setPlayerY(playerY);
+        save.setFacingDirection(facingDirection);
+        save.setHunger(hunger);
+        save.setCrying(crying);
+        save.setSpeedBoostTimer(speedBoostTimer);
+
+        if (hasToy) {
+            save.setHasToy(toy.carried);
+            if (!toy.carried) {
+                save.setToyX(toy.x + Toy.SIZE / 2.0); // Saves hold the toy's center
+                save.setToyY(toy.y + Toy.SIZE / 2.0);
+            }
+            save.setToyNoiseTimer(toy.makingNoise ? toy.noiseTimer : 0);
+        }
+
+        save.setRemainingFoodIds(Arrays.copyOf(remainingFoodIds, remainingFoodCount));
+        save.setTriggeredTripWireIds(Arrays.copyOf(triggeredTripWireIds, triggeredTripWireCount));
+
+        SaveData.SpiderState[] spiderStates = new SaveData.SpiderState[spiderCount];
+        for (int i = 0; i < spiderCount; i++) {
+            spiderStates[i] = SaveData.SpiderState.from(spiders[i]);
+        }
+        save.setSpiders(Arrays.asList(spiderStates));
+
+        save.setSnailLocationIndex(snailLocationIndex);
+        save.setNextSnailLocationIndex(nextSnailLocationIndex);
+        save.setSnailHasTeleported(snailHasTeleported);
+        save.setPlayerHasInteractedWithSnail(playerHasInteractedWithSnail);
+        return save;
+    }
+
+    /**
+     * Fill the parts of this snapshot that a SaveData records. Parts it
+     * doesn't record (e.g. spiders in saves older than 1.3) are left as the
+     * caller captured them, so capture the freshly initialised level first.
+     */
+    public void applySaveData(SaveData save) {
+        levelId = save.getLevelId();
+        levelIndex = save.getLevelIndex();
+        playerX = save.getPlayerX();
+        playerY = save.getPlayerY();
+        if (save.getFacingDirection() != null) {
+            facingDirection = save.getFacingDirection();
+        }
+        hunger = save.getHunger();
+        crying = save.isCrying();
+        speedBoostTimer = save.getSpeedBoostTimer();
+
+        if (hasToy) {
+            toy.carried = save.isHasToy();
+            if (!toy.carried) {
+                toy.x = save.getToyX() - Toy.SIZE / 2.0;
+                toy.y = save.getToyY() - Toy.SIZE / 2.0;
+            }
+            toy.velX = 0;
+            toy.velY = 0;
+            toy.noiseTimer = save.getToyNoiseTimer();
+            toy.makingNoise = toy.noiseTimer > 0;
+            toy.active = toy.makingNoise;
+        }
+
+        clearFoods();
+        if (save.getRemainingFoodIds() != null) {
+            for (int id : save.getRemainingFoodIds()) addFoodId(id);
+        }
+        clearTripWires();
+        if (save.getTriggeredTripWireIds() != null) {
+            for (int id : save.getTriggeredTripWireIds()) addTriggeredTripWireId(id);
+        }
+
+        // Only trust saved spiders if they line up with the level's patrols
+        if (save.getSpiders() != null && save.getSpiders().size() == spiderCount) {
+            for (int i = 0; i < spiderCount; i++) {
+                save.getSpiders().get(i).copyTo(spiders[i]);
+            }
+        }
+
+        snailLocationIndex = save.getSnailLocationIndex();
+        nextSnailLocationIndex = save.getNextSnailLocationIndex();
+        snailHasTeleported = save.isSnailHasTeleported();
+        playerHasInteractedWithSnail = save.isPlayerHasInteractedWithSnail();
+    }
+}
@@ -13,6 +13,7 @@ import com.buglife.main.Game;
 import com.buglife.main.GamePanel;
 import com.buglife.main.GameStateManager;
 import com.buglife.save.CloudSaveManager;
+import com.buglife.save.OverseerCache;
 import com.buglife.save.UserProfile;
 
 import org.slf4j.Logger;
@@ -122,56 +123,61 @@ public class IdentifyState extends GameState {
     }
 
     /**
-     * Kick off the async fetch of the guest list from the Overseer,
-     * merging with locally-known players.
+     * Fill the guest list from the last known Overseer roster at once, then
+     * revalidate it in the background if it's stale. Always merged with
+     * locally-known players.
      */
     private void beginGuestListFetch() {
-        fetchInProgress = true;
-        fetchStatus = "CONTACTING THE OVERSEER...";
+        OverseerCache<List<String>> cache = CloudSaveManager.userListCache();
+        List<String> known = cache.peek();
+        if (known != null) {
+            showGuestList(known, false);
+            if (cache.isFresh()) {
+                fetchInProgress = false;
+                fetchComplete = true;
+                return;
+            }
+        } else {
+            fetchInProgress = true;
+            fetchStatus = "CONTACTING THE OVERSEER...";
+        }
 
-        new Thread(() -> {
-            try {
-                // Ask the Overseer for all known players (3 second timeout)
-                List<String> overseerUsers = CloudSaveManager.fetchUserListWithTimeout(3);
-
-                // Merge with locally known players (some may not be on the server)
-                List<String> localPlayers = UserProfile.getKnownPlayers();
-                List<String> merged = new ArrayList<>(overseerUsers);
-                for (String local : localPlayers) {
-                    if (!merged.contains(local)) {
-                        merged.add(local);
-                    }
-                }
+        cache.refresh().whenComplete((overseerUsers, error) -> {
+            if (overseerUsers != null) {
+                showGuestList(overseerUsers, false);
+            } else if (known == null) {
+                logger.warn("Failed to fetch guest list; using local players only");
+                showGuestList(new ArrayList<>(), true);
+            }
+            fetchInProgress = false;
+            fetchComplete = true;
+        });
+    }
 
-                // Sort alphabetically for clean arcade aesthetics
-                merged.sort(String::compareToIgnoreCase);
+    private void showGuestList(List<String> overseerUsers, boolean offline) {
+        // Merge with locally known players (some may not be on the server)
+        List<String> merged = new ArrayList<>(overseerUsers);
+        for (String local : UserProfile.getKnownPlayers()) {
+            if (!merged.contains(local)) {
+                merged.add(local);
+            }
+        }
 
-                guestList = merged;
+        // Sort alphabetically for clean arcade aesthetics
+        merged.sort(String::compareToIgnoreCase);
 
-                if (guestList.isEmpty()) {
-                    fetchStatus = "NO PLAYERS FOUND — BE THE FIRST";
-                    // Auto-switch to new victim mode if list is empty
-                    currentMode = Mode.NEW_VICTIM;
-                } else {
-                    fetchStatus = guestList.size() + " SOULS ON RECORD";
-                }
-                logger.info("Guest list loaded: {} players", guestList.size());
-            } catch (Exception e) {
-                logger.warn("Failed to fetch guest list: {}", e.getMessage());
-                // Fallback to local-only
-                guestList = new ArrayList<>(UserProfile.getKnownPlayers());
-                guestList.sort(String::compareToIgnoreCase);
-                if (guestList.isEmpty()) {
-                    fetchStatus = "OVERSEER OFFLINE — TYPE YOUR NAME";
-                    currentMode = Mode.NEW_VICTIM;
-                } else {
-                    fetchStatus = guestList.size() + " LOCAL SOULS FOUND";
-                }
-            } finally {
-                fetchInProgress = false;
-                fetchComplete = true;
-            }
-        }, "GuestListFetch").start();
+        guestList = merged;
+
+        if (guestList.isEmpty()) {
+            fetchStatus = offline ? "OVERSEER OFFLINE — TYPE YOUR NAME" : "NO PLAYERS FOUND — BE THE FIRST";
+            // Auto-switch to new victim mode if list is empty
+            currentMode = Mode.NEW_VICTIM;
+        } else if (offline) {
+            fetchStatus = guestList.size() + " LOCAL SOULS FOUND";
+        } else {
+            fetchStatus = guestList.size() + " SOULS ON RECORD";
+        }
+        logger.info("Guest list loaded: {} players", guestList.size());
     }
 
     @Override
@@ -14,6 +14,7 @@ import com.buglife.main.GamePanel;
 import com.buglife.main.GameStateManager;
 import com.buglife.save.CloudSaveManager;
 import com.buglife.save.CloudSaveManager.LeaderboardEntry;
+import com.buglife.save.OverseerCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +26,8 @@ import org.slf4j.LoggerFactory;
  * from the Overseer's /leaderboard endpoint. Sorted by fewest deaths
  * (because in this game, dying less is the flex).
  *
- * The Overseer does the sorting — Java just draws.
+ * The Overseer does the sorting — Java just draws. Boards are cached per
+ * category, so flipping categories is instant and works offline.
  *
  * Big retro font, CRT scanlines, green-on-black. Classic arcade high
  * score table energy.
@@ -44,6 +46,7 @@ public class LeaderboardState extends GameState {
     private List<LeaderboardEntry> entries = new ArrayList<>();
     private boolean fetchInProgress = false;
     private boolean fetchComplete = false;
+    private volatile int fetchGeneration = 0; // Drops replies for a category no longer shown
     private String fetchStatus = "CONTACTING THE OVERSEER...";
 
     // ─── Categories ─────────────────────────────────────────────
@@ -70,7 +73,7 @@ public class LeaderboardState extends GameState {
 
     @Override
     public void init() {
-        entries.clear();
+        entries = new ArrayList<>();
         fetchInProgress = false;
         fetchComplete = false;
         fetchStatus = "CONTACTING THE OVERSEER...";
@@ -96,36 +99,53 @@ public class LeaderboardState extends GameState {
         }
 
         // Fetch leaderboard data
-        fetchLeaderboard();
+        fetchLeaderboard(false);
     }
 
-    private void fetchLeaderboard() {
-        fetchInProgress = true;
-        fetchComplete = false;
-        fetchStatus = "CONTACTING THE OVERSEER...";
-        entries.clear();
-
-        new Thread(() -> {
-            try {
-                String category = CATEGORIES[selectedCategory];
-                List<LeaderboardEntry> result =
-                        CloudSaveManager.fetchLeaderboardWithTimeout(category, 10, 4);
-                entries = result;
-
-                if (entries.isEmpty()) {
-                    fetchStatus = "NO DATA — BE THE FIRST TO MAKE HISTORY";
-                } else {
-                    fetchStatus = entries.size() + " ENTRIES FOUND";
-                }
-                logger.info("Leaderboard fetched: {} entries for '{}'", entries.size(), category);
-            } catch (Exception e) {
-                logger.warn("Failed to fetch leaderboard: {}", e.getMessage());
+    /**
+     * Show the category's last known board at once, then revalidate it in
+     * the background if it's stale (or always, on a manual refresh).
+     */
+    private void fetchLeaderboard(boolean force) {
+        String category = CATEGORIES[selectedCategory];
+        OverseerCache<List<LeaderboardEntry>> cache = CloudSaveManager.leaderboardCache(category, 10);
+        int generation = ++fetchGeneration;
+
+        List<LeaderboardEntry> known = cache.peek();
+        showEntries(known);
+        fetchComplete = known != null;
+        if (!force && cache.isFresh()) {
+            fetchInProgress = false;
+            return;
+        }
+
+        fetchInProgress = known == null; // Only blank the table if there's nothing to show
+        if (known == null) fetchStatus = "CONTACTING THE OVERSEER...";
+
+        cache.refresh().whenComplete((result, error) -> {
+            if (generation != fetchGeneration) return; // Player already moved to another category
+            if (result != null) {
+                showEntries(result);
+                logger.info("Leaderboard fetched: {} entries for '{}'", result.size(), category);
+            } else if (known != null) {
+                fetchStatus = "OVERSEER UNREACHABLE — LAST KNOWN STANDINGS";
+            } else {
+                logger.warn("Failed to fetch leaderboard for '{}'", category);
                 fetchStatus = "OVERSEER UNREACHABLE";
-            } finally {
-                fetchInProgress = false;
-                fetchComplete = true;
             }
-        }, "LeaderboardFetch").start();
+            fetchInProgress = false;
+            fetchComplete = true;
+        });
+    }
+
+    private void showEntries(List<LeaderboardEntry> result) {
+        entries = result != null ? result : new ArrayList<>();
+        if (result == null) return;
+        if (entries.isEmpty()) {
+            fetchStatus = "NO DATA — BE THE FIRST TO MAKE HISTORY";
+        } else {
+            fetchStatus = entries.size() + " ENTRIES FOUND";
+        }
     }
 
     @Override
@@ -288,18 +308,18 @@ public class LeaderboardState extends GameState {
             case KeyEvent.VK_LEFT:
                 selectedCategory--;
                 if (selectedCategory < 0) selectedCategory = CATEGORIES.length - 1;
-                fetchLeaderboard();
+                fetchLeaderboard(false);
                 break;
 
             case KeyEvent.VK_RIGHT:
                 selectedCategory++;
                 if (selectedCategory >= CATEGORIES.length) selectedCategory = 0;
-                fetchLeaderboard();
+                fetchLeaderboard(false);
                 break;
 
             case KeyEvent.VK_R:
                 // Manual refresh
-                fetchLeaderboard();
+                fetchLeaderboard(true);
                 break;
         }
     }
@@ -34,10 +34,12 @@ public class LevelCompleteState extends GameState {
         // the game automatically freezes the state and saves it.
         PlayingState playingState = manager.getPlayingState();
         if (playingState != null && playingState.isInitialized()) {
-            boolean saved = playingState.saveCurrentState();
-            if (saved) {
-                logger.info("Auto-save triggered on level complete: {}", playingState.getCurrentLevel());
-            }
+            String level = playingState.getCurrentLevel();
+            playingState.saveCurrentState().thenAccept(saved -> {
+                if (saved) {
+                    logger.info("Auto-save completed on level complete: {}", level);
+                }
+            });
         }
         
         // Check if this is the last level
@@ -6,28 +6,44 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.event.KeyEvent;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator; 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.buglife.assets.AssetManager;
+import com.buglife.assets.AssetScope;
 import com.buglife.assets.SoundManager;
+import com.buglife.config.GameConfig;
+import com.buglife.config.GameConstants;
 import com.buglife.entities.Food;
 import com.buglife.entities.Player;
 import com.buglife.entities.Snail;
 import com.buglife.entities.Spider;
+import com.buglife.entities.SpiderParams;
+import com.buglife.entities.SpiderUpdater;
 import com.buglife.entities.Toy;
 import com.buglife.entities.TripWire;
+import com.buglife.levels.CompiledLevel;
 import com.buglife.levels.FoodSpawnData;
 import com.buglife.levels.LevelConfig;
-import com.buglife.levels.LevelConfigFactory;
+import com.buglife.levels.LevelRegistry;
 import com.buglife.levels.SnailLocationData;
+import com.buglife.levels.SpawnId;
 import com.buglife.levels.SpiderPatrolData;
 import com.buglife.main.GameStateManager;
+import com.buglife.replay.InputRecorder;
+import com.buglife.replay.ReplayLog;
+import com.buglife.replay.StateHash;
 import com.buglife.save.SaveData;
 import com.buglife.save.SaveManager;
+import com.buglife.save.UserProfile;
+import com.buglife.save.WorldSnapshot;
 import com.buglife.utils.DebugExporter;
 import com.buglife.utils.DebugOverlay;
 import com.buglife.utils.PerformanceMonitor;
@@ -38,20 +54,26 @@ public class PlayingState extends GameState {
 
     // Level progression
     private String currentLevel = "level1";
-    private final String[] levelOrder = { "level1", "level2" };
+    private final List<String> levelOrder = LevelRegistry.getInstance().getLevelOrder();
     private int currentLevelIndex = 0;
     
     // Current level configuration (loaded from levels/ package)
     private LevelConfig currentConfig;
 
+    // Assets held for the current level; released when the next level's scope is open
+    private AssetScope levelScope;
+
     private Player player;
     private List<Spider> spiders;
+    private SpiderParams.Table spiderParams; // Archetype tuning for this level, re-resolved on config reload
+    private final SpiderUpdater spiderUpdater = new SpiderUpdater(); // Spiders think in parallel, then apply in order
     private Snail snail;
     private Toy toy;
     private List<Food> foods;
     private World world;
     private SoundManager soundManager;
     private List<TripWire> tripWires;
+    private List<Integer> triggeredTripWireIds; // Spawn IDs of wires set off this level, for saves
 
     private int cameraX, cameraY;
     private static final int VIRTUAL_WIDTH = 1366;
@@ -63,10 +85,23 @@ public class PlayingState extends GameState {
 
     private long levelStartTime;
 
+    // Autosave checkpoints: captured into the same snapshot every time
+    private final WorldSnapshot checkpoint = new WorldSnapshot();
+    private int ticksSinceCheckpoint = 0;
+
     // private List<Point> foodSpawnPoints;
 
     private boolean hasBeenInitialized = false;
 
+    // Replays: every fresh level start records its input until the level ends
+    private static final String REPLAY_DIR_PROPERTY = "buglife.replayDir";
+    private Consumer<ReplayLog> replaySink; // Null: not recording
+    private InputRecorder recorder;
+    private int tick; // update() calls since the level started
+    private final StateHash stateHash = new StateHash(); // The world after the last tick
+    private long foodSetHash;     // Running StateHash.setElement sums over remaining food...
+    private long tripWireSetHash; // ...and triggered tripwires, so hashing a tick doesn't walk them
+
     private boolean isPaused = false;
     private int pauseMenuSelection = 0;
     private String[] pauseOptions = { "Resume", "Settings", "Restart", "Quit to Menu" };
@@ -78,38 +113,57 @@ public class PlayingState extends GameState {
     public PlayingState(GameStateManager manager, SoundManager soundManager) {
         super(manager);
         this.soundManager = soundManager;
+        String replayDir = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (replayDir != null) {
+            this.replaySink = ReplayLog.directorySink(Paths.get(replayDir));
+        }
     }
 
     @Override
     public void init() {
         if (hasBeenInitialized) {
             isPaused = false;
+            if (levelScope == null) {
+                // cleanup() let go of the level's assets (e.g. while Settings was open)
+                levelScope = AssetManager.getInstance().openLevelScope(currentLevel, soundManager);
+            }
             soundManager.stopAllSounds();
             soundManager.loopSound("music");
             return;
         }
 
-        // Load level configuration from levels/ package
-        currentConfig = LevelConfigFactory.getConfig(currentLevel);
-        logger.info("Loading level: {} with config: {}", currentLevel, currentConfig.getClass().getSimpleName());
+        // Whatever was being played ends here
+        finishRecording();
+
+        // One read of the compiled level gives both the tile grid and the config
+        CompiledLevel level = CompiledLevel.load(currentLevel);
+        currentConfig = level;
+        logger.info("Loading level: {} ({}x{})", currentLevel, level.getWidth(), level.getHeight());
+
+        // Acquire this level's assets before dropping the previous level's,
+        // so anything the two share stays cached across the switch
+        AssetScope previousScope = levelScope;
+        levelScope = AssetManager.getInstance().openLevelScope(currentLevel, soundManager);
+        if (previousScope != null) {
+            previousScope.close();
+        }
 
         // Initialize world
-        world = new World(currentLevel);
+        world = new World(level);
 
         // Initialize player at level-specific spawn point
         Point playerSpawn = currentConfig.getPlayerSpawn();
         player = new Player(playerSpawn.x, playerSpawn.y, 32, 32);
+        soundManager.setListenerPosition(player.getCenterX(), player.getCenterY());
 
         // Reset level timer
         levelStartTime = System.currentTimeMillis();
 
         // Initialize tripwires (if enabled)
         tripWires = new ArrayList<>();
-        if (currentConfig.getMechanicsEnabled().isTripWiresEnabled()) {
-            for (Point pos : currentConfig.getTripWirePositions()) {
-                tripWires.add(new TripWire(pos.x, pos.y));
-            }
-        }
+        triggeredTripWireIds = new ArrayList<>();
+        tripWireSetHash = 0;
+        spawnTripWires(null);
 
         // Initialize toy (if enabled)
         Point toySpawn = currentConfig.getToySpawn();
@@ -121,9 +175,10 @@ public class PlayingState extends GameState {
         }
 
         // Initialize spiders from config
+        spiderParams = SpiderParams.resolve(GameConfig.current(), currentConfig);
         spiders = new ArrayList<>();
         for (SpiderPatrolData patrol : currentConfig.getSpiderPatrols()) {
-            spiders.add(new Spider(patrol.getWaypoints()));
+            spiders.add(new Spider(patrol.getWaypoints(), spiderParams.get(patrol.getArchetype())));
         }
 
         // Initialize snail from config
@@ -142,27 +197,135 @@ public class PlayingState extends GameState {
 
         // Initialize food from config
         foods = new ArrayList<>();
-        boolean speedBoostEnabled = currentConfig.getMechanicsEnabled().isSpeedBoostFoodEnabled();
-        for (FoodSpawnData foodData : currentConfig.getFoodSpawns()) {
-            // Skip ENERGY_SEED if speed boost food is disabled
-            if (foodData.isSpeedBoostFood() && !speedBoostEnabled) {
-                continue;
-            }
-            Point tile = foodData.getTilePosition();
-            int x = tile.x * World.TILE_SIZE + (World.TILE_SIZE / 4);
-            int y = tile.y * World.TILE_SIZE + (World.TILE_SIZE / 4);
-            foods.add(new Food(x, y, 20, foodData.getType()));
-        }
+        foodSetHash = 0;
+        spawnFoods(null);
         logger.debug("Food spawned: {} items for {}", foods.size(), currentLevel);
 
         soundManager.stopAllSounds();
         soundManager.loopSound("music");
 
         isPaused = false;
+        ticksSinceCheckpoint = 0;
+
+        // The first tick's snail visibility check must not see the last level's camera
+        updateCamera();
+
+        tick = 0;
+        recorder = replaySink != null ? new InputRecorder(currentLevel, GameConfig.current()) : null;
 
         hasBeenInitialized = true;
     }
 
+    // ========== REPLAY RECORDING ==========
+
+    /**
+     * Send each finished level run to {@code sink} as a ReplayLog (null: stop
+     * recording). Takes effect from the next fresh level start; a recording
+     * in progress is dropped. By default runs are recorded only when
+     * -Dbuglife.replayDir is set.
+     */
+    public void setReplaySink(Consumer<ReplayLog> sink) {
+        this.replaySink = sink;
+        this.recorder = null;
+    }
+
+    /** End the current recording, if any, on the current tick and state. */
+    private void finishRecording() {
+        if (recorder == null) return;
+        hashState();
+        ReplayLog log = recorder.finish(tick, stateHash);
+        recorder = null;
+        replaySink.accept(log);
+    }
+
+    /**
+     * Refill {@link #stateHash} from the live world. Every entity hashes its
+     * own fields; food and tripwires come from the running set sums.
+     */
+    private void hashState() {
+        stateHash.beginTick();
+        stateHash.setPlayer(player.stateHash());
+        stateHash.setToy(toy != null ? toy.stateHash() : 0);
+
+        long h = StateHash.seed();
+        h = StateHash.mix(h, snail != null ? snail.getCurrentLocationIndex() : -1);
+        h = StateHash.mix(h, nextSnailLocationIndex);
+        h = StateHash.mix(h, snailHasTeleported);
+        h = StateHash.mix(h, playerHasInteractedWithSnail);
+        h = StateHash.mix(h, foods.size());
+        h = StateHash.mix(h, foodSetHash);
+        h = StateHash.mix(h, triggeredTripWireIds.size());
+        h = StateHash.mix(h, tripWireSetHash);
+        stateHash.setWorld(h);
+
+        for (int i = 0; i < spiders.size(); i++) {
+            stateHash.addSpider(spiders.get(i).stateHash());
+        }
+    }
+
+    /** Combined hash of the live world (see StateHash). */
+    public long computeStateHash() {
+        hashState();
+        return stateHash.combined();
+    }
+
+    /** The world's hash components as of the last update(); updated in place every tick. */
+    public StateHash getStateHash() {
+        return stateHash;
+    }
+
+    /** Let spiders think on the fork-join pool (default) or strictly one after another. */
+    public void setParallelSpiderUpdates(boolean parallel) {
+        spiderUpdater.setParallel(parallel);
+    }
+
+    /** The sound manager this state plays through; the caller of update() ends its frame. */
+    public SoundManager getSoundManager() {
+        return soundManager;
+    }
+
+    /** update() calls since the current level started, paused ones included. */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Create the level's tripwires, leaving out any the snapshot says were
+     * already triggered (null: create them all).
+     */
+    private void spawnTripWires(WorldSnapshot snapshot) {
+        if (!currentConfig.getMechanicsEnabled().isTripWiresEnabled()) return;
+        for (Point pos : currentConfig.getTripWirePositions()) {
+            int id = SpawnId.ofTripWire(pos.x, pos.y);
+            if (snapshot != null && snapshot.isTripWireTriggered(id)) {
+                triggeredTripWireIds.add(id);
+                tripWireSetHash += StateHash.setElement(id);
+            } else {
+                tripWires.add(new TripWire(pos.x, pos.y, id));
+            }
+        }
+    }
+
+    /**
+     * Create the level's food, keeping only what the snapshot says remains
+     * (null: all of it).
+     */
+    private void spawnFoods(WorldSnapshot snapshot) {
+        boolean speedBoostEnabled = currentConfig.getMechanicsEnabled().isSpeedBoostFoodEnabled();
+        for (FoodSpawnData foodData : currentConfig.getFoodSpawns()) {
+            // Skip ENERGY_SEED if speed boost food is disabled
+            if (foodData.isSpeedBoostFood() && !speedBoostEnabled) {
+                continue;
+            }
+            if (snapshot != null && !snapshot.hasFood(foodData.getId())) {
+                continue; // Already eaten
+            }
+            Food food = foodData.createFood();
+            foods.add(food);
+            foodSetHash += StateHash.setElement(food.getSpawnId());
+        }
+    }
+
     public void restart() {
         currentLevel = "level1";
         currentLevelIndex = 0;
@@ -172,8 +335,8 @@ public class PlayingState extends GameState {
 
     public void setLevel(String levelName) {
         this.currentLevel = levelName;
-        for (int i = 0; i < levelOrder.length; i++) {
-            if (levelOrder[i].equals(levelName)) {
+        for (int i = 0; i < levelOrder.size(); i++) {
+            if (levelOrder.get(i).equals(levelName)) {
                 currentLevelIndex = i;
                 break;
             }
@@ -184,12 +347,12 @@ public class PlayingState extends GameState {
 
     public void goToNextLevel() {
         currentLevelIndex++;
-        if (currentLevelIndex >= levelOrder.length) {
+        if (currentLevelIndex >= levelOrder.size()) {
             // All levels complete - return to menu
             manager.setState(GameStateManager.MENU);
             return;
         }
-        currentLevel = levelOrder[currentLevelIndex];
+        currentLevel = levelOrder.get(currentLevelIndex);
         this.hasBeenInitialized = false;
         init();
     }
@@ -199,14 +362,34 @@ public class PlayingState extends GameState {
     }
 
     public boolean isLastLevel() {
-        return currentLevelIndex >= levelOrder.length - 1;
+        return currentLevelIndex >= levelOrder.size() - 1;
     }
 
     @Override
     public void update() {
+        tick++;
+        updateWorld();
+
+        hashState();
+        if (recorder != null) {
+            recorder.tickHashed(tick, stateHash);
+        }
+        PerformanceMonitor.getInstance().setStateHash(tick, stateHash.combined());
+    }
+
+    /** One simulation tick; may end the level (recording finished first). */
+    private void updateWorld() {
         if (isPaused) {
             return;
         }
+
+        // config.json was hot-reloaded: hand every spider its archetype's new block
+        if (spiderParams.getConfig() != GameConfig.current()) {
+            spiderParams = SpiderParams.resolve(GameConfig.current(), currentConfig);
+            for (Spider spider : spiders) {
+                spider.setParams(spiderParams.get(spider.getParams().archetype));
+            }
+        }
         
         // Update PerformanceMonitor with current state info
         PerformanceMonitor monitor = PerformanceMonitor.getInstance();
@@ -258,15 +441,17 @@ public class PlayingState extends GameState {
             TripWire wire = it.next();
 
             if (wire.checkCollision(player)) {
-                soundManager.playSound("webbed");
-
                 Point noiseLocation = new Point(wire.getX() + 16, wire.getY() + 16);
+                soundManager.playAt("webbed", noiseLocation.x, noiseLocation.y);
+
                 int radius = wire.getSoundRadius();
 
                 for (Spider s : spiders) {
                     s.hearNoise(noiseLocation, radius);
                 }
 
+                triggeredTripWireIds.add(wire.getId());
+                tripWireSetHash += StateHash.setElement(wire.getId());
                 it.remove();
             }
         }
@@ -275,11 +460,7 @@ public class PlayingState extends GameState {
             toy.update();
         }
 
-        for (Spider spider : spiders) {
-            if (spider != null) {
-                spider.update(player, world, soundManager, toy);
-            }
-        }
+        spiderUpdater.update(spiders, player, world, soundManager, toy);
 
         if (player != null) {
             player.update(world, soundManager);
@@ -290,6 +471,7 @@ public class PlayingState extends GameState {
             soundManager.stopSound("music");
             soundManager.stopSound("chasing");
             soundManager.playSound("gameOver");
+            finishRecording();
             manager.setState(GameStateManager.GAME_OVER);
             return;
         }
@@ -314,6 +496,7 @@ public class PlayingState extends GameState {
                         soundManager.stopSound("music");
                         soundManager.stopSound("chasing");
                         soundManager.playSound("gameOver");
+                        finishRecording();
                         manager.setState(GameStateManager.GAME_OVER);
                         return;
                     }
@@ -324,12 +507,13 @@ public class PlayingState extends GameState {
                             soundManager.stopSound("music");
                             soundManager.stopSound("chasing");
                             soundManager.playSound("gameOver");
+                            finishRecording();
                             manager.setState(GameStateManager.GAME_OVER);
                             return;
                         } else if (!player.isWebImmune() && !player.isWebbed()) {
                             // Only web if not already webbed and not in the "struggle escape" window
                             player.getWebbed();
-                            soundManager.playSound("webbed");
+                            soundManager.playAt("webbed", currentSpider.getCenterX(), currentSpider.getCenterY());
                         }
                     } else {
                         player.decreaseHunger(1);
@@ -338,10 +522,17 @@ public class PlayingState extends GameState {
             }
         }
 
-        cameraX = Math.max(0, Math.min(player.getCenterX() - (VIRTUAL_WIDTH / 2),
-                world.getMapWidth() * World.TILE_SIZE - VIRTUAL_WIDTH));
-        cameraY = Math.max(0, Math.min(player.getCenterY() - (VIRTUAL_HEIGHT / 2),
-                world.getMapHeight() * World.TILE_SIZE - VIRTUAL_HEIGHT));
+        updateCamera();
+
+        // Keep the chunks near the camera and every spider decoded; drop the rest over time
+        world.retainView(cameraX, cameraY, VIRTUAL_WIDTH, VIRTUAL_HEIGHT);
+        for (Spider spider : spiders) {
+            world.retainAround(spider.getCenterX(), spider.getCenterY());
+        }
+        world.evictUnretainedChunks();
+
+        // Positional sounds are heard from the player's position
+        soundManager.setListenerPosition(player.getCenterX(), player.getCenterY());
 
         for (int i = foods.size() - 1; i >= 0; i--) {
             Food currFood = foods.get(i);
@@ -354,12 +545,14 @@ public class PlayingState extends GameState {
                 player.eat(currFood);
                 soundManager.playSound("eat");
                 foods.remove(i);
+                foodSetHash -= StateHash.setElement(currFood.getSpawnId());
             }
         }
 
         if (player.isOnLevelCompleteTile()) {
             soundManager.stopAllSounds();
             soundManager.playSound("level_complete");
+            finishRecording();
             manager.setState(GameStateManager.LEVEL_COMPLETE);
             return;
         }
@@ -367,9 +560,20 @@ public class PlayingState extends GameState {
             soundManager.stopSound("music");
             soundManager.playSound("chasing");
             soundManager.playSound("gameOver");
+            finishRecording();
             manager.setState(GameStateManager.GAME_OVER);
             return;
         }
+
+        // A checkpoint taken mid-danger could resume the player seconds from a
+        // game over; hold it until the danger has passed
+        if (++ticksSinceCheckpoint >= GameConstants.Save.CHECKPOINT_INTERVAL_TICKS && !isPlayerInDanger()) {
+            ticksSinceCheckpoint = 0;
+            if (UserProfile.getActivePlayer() != null) {
+                captureSnapshot(checkpoint);
+                SaveManager.saveCheckpoint(checkpoint);
+            }
+        }
     }
 
     @Override
@@ -588,28 +792,33 @@ public class PlayingState extends GameState {
     }
     
     private void drawLevelSelectionMenu(Graphics2D g) {
+        String[] levels = PerformanceMonitor.getInstance().getAvailableLevels();
+        int selectedIndex = PerformanceMonitor.getInstance().getSelectedLevelIndex();
+
+        // The box grows with the list so the instructions always sit below the last level
+        int rowHeight = 45;
+        int boxHeight = 120 + levels.length * rowHeight + 55;
+        int boxTop = VIRTUAL_HEIGHT / 2 - boxHeight / 2;
+
         // Semi-transparent overlay
         g.setColor(new Color(0, 0, 0, 200));
-        g.fillRect(VIRTUAL_WIDTH / 2 - 200, VIRTUAL_HEIGHT / 2 - 200, 400, 400);
+        g.fillRect(VIRTUAL_WIDTH / 2 - 200, boxTop, 400, boxHeight);
         
         // Border
         g.setColor(Color.WHITE);
         g.setStroke(new BasicStroke(3));
-        g.drawRect(VIRTUAL_WIDTH / 2 - 200, VIRTUAL_HEIGHT / 2 - 200, 400, 400);
+        g.drawRect(VIRTUAL_WIDTH / 2 - 200, boxTop, 400, boxHeight);
         
         // Title
         g.setFont(MID_FONT);
         String title = "Select Level";
         int titleWidth = g.getFontMetrics().stringWidth(title);
-        g.drawString(title, VIRTUAL_WIDTH / 2 - titleWidth / 2, VIRTUAL_HEIGHT / 2 - 150);
+        g.drawString(title, VIRTUAL_WIDTH / 2 - titleWidth / 2, boxTop + 50);
         
         // Level options
         g.setFont(new Font("Consolas", Font.BOLD, 24));
-        String[] levels = PerformanceMonitor.getInstance().getAvailableLevels();
-        int selectedIndex = PerformanceMonitor.getInstance().getSelectedLevelIndex();
-        
         for (int i = 0; i < levels.length; i++) {
-            int y = VIRTUAL_HEIGHT / 2 - 80 + (i * 45);
+            int y = boxTop + 120 + (i * rowHeight);
             
             // Highlight selected level
             if (i == selectedIndex) {
@@ -620,8 +829,8 @@ public class PlayingState extends GameState {
                 g.setColor(Color.WHITE);
             }
             
-            // Format level name nicely: "level1" -> "Level 1"
-            String displayName = "Level " + levels[i].substring(5);
+            // Format level name nicely: "level1" -> "Level 1"; dev maps keep their name
+            String displayName = levels[i].matches("level\\d+") ? "Level " + levels[i].substring(5) : levels[i];
             int nameWidth = g.getFontMetrics().stringWidth(displayName);
             g.drawString(displayName, VIRTUAL_WIDTH / 2 - nameWidth / 2, y);
         }
@@ -631,11 +840,14 @@ public class PlayingState extends GameState {
         g.setFont(new Font("Consolas", Font.PLAIN, 14));
         String instructions = "↑/↓ Navigate  |  ENTER Select  |  L/ESC Cancel";
         int instrWidth = g.getFontMetrics().stringWidth(instructions);
-        g.drawString(instructions, VIRTUAL_WIDTH / 2 - instrWidth / 2, VIRTUAL_HEIGHT / 2 + 150);
+        g.drawString(instructions, VIRTUAL_WIDTH / 2 - instrWidth / 2, boxTop + boxHeight - 50);
     }
 
     @Override
     public void keyPressed(int keyCode) {
+        if (recorder != null) {
+            recorder.keyPressed(tick, keyCode);
+        }
         if (isPaused) {
             handlePauseInput(keyCode);
             return;
@@ -752,6 +964,9 @@ public class PlayingState extends GameState {
 
     @Override
     public void keyReleased(int keyCode) {
+        if (recorder != null) {
+            recorder.keyReleased(tick, keyCode);
+        }
         if (keyCode == KeyEvent.VK_W || keyCode == KeyEvent.VK_UP) {
             player.movingUp = false;
         }
@@ -801,7 +1016,8 @@ public class PlayingState extends GameState {
                 // === THE RAGE QUIT SAVE ===
                 // Emergency save of exact coordinates before quitting
                 saveCurrentState();
-                logger.info("Rage quit save completed");
+                logger.info("Rage quit save queued");
+                finishRecording();
                 manager.setState(GameStateManager.MENU);
             }
         }
@@ -810,6 +1026,30 @@ public class PlayingState extends GameState {
     @Override
     public void cleanup() {
         soundManager.stopAllSounds();
+        // Leaving for the menu, game over or the leaderboard: the level's
+        // sprites and sounds are no longer needed. init() reacquires them
+        // if this level is resumed.
+        if (levelScope != null) {
+            levelScope.close();
+            levelScope = null;
+        }
+    }
+
+    /** Crying, webbed, or chased by any spider: no time for a checkpoint. */
+    private boolean isPlayerInDanger() {
+        if (player.isCrying() || player.isWebbed()) return true;
+        for (Spider spider : spiders) {
+            if (spider.isChasing()) return true;
+        }
+        return false;
+    }
+
+    /** Center the camera on the player, clamped to the map. */
+    private void updateCamera() {
+        cameraX = Math.max(0, Math.min(player.getCenterX() - (VIRTUAL_WIDTH / 2),
+                world.getMapWidth() * World.TILE_SIZE - VIRTUAL_WIDTH));
+        cameraY = Math.max(0, Math.min(player.getCenterY() - (VIRTUAL_HEIGHT / 2),
+                world.getMapHeight() * World.TILE_SIZE - VIRTUAL_HEIGHT));
     }
 
     private boolean isRectOnScreen(int x, int y, int width, int height) {
@@ -820,13 +1060,13 @@ public class PlayingState extends GameState {
     }
 
     // ============================================================
-    // OLD LEVEL-SPECIFIC METHODS (Removed - now in levels/ package)
+    // OLD LEVEL-SPECIFIC METHODS (Removed - now in the map files)
     // 
-    // Spider patrols   → See Level1Config.java, Level2Config.java, etc.
-    // Snail locations  → See Level1Config.java, Level2Config.java, etc.
-    // Food spawns      → See Level1Config.java, Level2Config.java, etc.
-    // TripWires        → See LevelTestConfig.java
-    // Toy spawn        → See LevelTestConfig.java
+    // Spider patrols   → # SPIDERS in res/maps/levelN.txt
+    // Snail locations  → # SNAILS in res/maps/levelN.txt
+    // Food spawns      → # FOOD in res/maps/levelN.txt
+    // TripWires        → # TRIPWIRES (see res/maps/level_test.txt)
+    // Toy spawn        → # TOY_SPAWN (see res/maps/level_test.txt)
     // ============================================================
 
     public boolean isInitialized() {
@@ -864,15 +1104,120 @@ public class PlayingState extends GameState {
     /**
      * Save the current game state — The Checkpoint Ritual.
      * Called on: level complete auto-save, rage quit, manual save.
+     * The disk write happens in the background; this returns straight away.
      * 
-     * @return true if save succeeded
+     * @return Completes with true once the save is on disk
      */
-    public boolean saveCurrentState() {
+    public CompletableFuture<Boolean> saveCurrentState() {
         if (player == null || !hasBeenInitialized) {
             logger.warn("Cannot save: game not initialized");
-            return false;
+            return CompletableFuture.completedFuture(false);
+        }
+        captureSnapshot(checkpoint);
+        return SaveManager.saveGame(checkpoint);
+    }
+
+    // ─── World snapshots ───
+
+    /**
+     * Copy the whole live world into {@code out}: player, spiders, snail,
+     * tripwires, food and toy. Reuses {@code out}'s storage, so capturing
+     * into the same snapshot repeatedly doesn't allocate.
+     */
+    public void captureSnapshot(WorldSnapshot out) {
+        out.levelId = currentLevel;
+        out.levelIndex = currentLevelIndex;
+
+        out.playerX = player.getExactX();
+        out.playerY = player.getExactY();
+        out.facingDirection = player.getFacingDirection();
+        out.hunger = player.getHunger();
+        out.crying = player.isCrying();
+        out.speedBoostTimer = player.getSpeedBoostTimer();
+
+        out.setSpiderCount(spiders.size());
+        for (int i = 0; i < spiders.size(); i++) {
+            spiders.get(i).captureState(out.getSpider(i));
+        }
+
+        out.snailLocationIndex = snail != null ? snail.getCurrentLocationIndex() : 0;
+        out.nextSnailLocationIndex = nextSnailLocationIndex;
+        out.snailHasTeleported = snailHasTeleported;
+        out.playerHasInteractedWithSnail = playerHasInteractedWithSnail;
+
+        out.clearFoods();
+        for (int i = 0; i < foods.size(); i++) {
+            out.addFoodId(foods.get(i).getSpawnId());
+        }
+        out.clearTripWires();
+        for (int i = 0; i < triggeredTripWireIds.size(); i++) {
+            out.addTriggeredTripWireId(triggeredTripWireIds.get(i));
+        }
+
+        out.hasToy = toy != null;
+        if (toy != null) {
+            toy.captureState(out.toy);
+        }
+    }
+
+    /**
+     * Put the world back the way {@link #captureSnapshot(WorldSnapshot)} found
+     * it. Loads the snapshot's level first if a different one is running.
+     */
+    public void restoreSnapshot(WorldSnapshot in) {
+        if (!hasBeenInitialized || !in.levelId.equals(currentLevel)) {
+            currentLevel = in.levelId;
+            currentLevelIndex = in.levelIndex;
+            hasBeenInitialized = false;
+            init();
+        }
+        // A replay starts from the level's initial state; this run no longer does
+        if (recorder != null) {
+            logger.debug("World restored from a snapshot, dropping the replay recording");
+            recorder = null;
+        }
+
+        player.setPosition(in.playerX, in.playerY);
+        if (in.facingDirection != null) {
+            player.facingDirection = in.facingDirection;
+        }
+        player.setHunger(in.hunger);
+        player.setCrying(in.crying);
+        player.setSpeedBoostTimer(in.speedBoostTimer);
+
+        // Spiders line up with the level's patrol list
+        int spiderCount = Math.min(spiders.size(), in.getSpiderCount());
+        boolean chased = false;
+        for (int i = 0; i < spiderCount; i++) {
+            spiders.get(i).restoreState(in.getSpider(i));
+            chased |= spiders.get(i).isChasing();
+        }
+
+        if (snail != null && in.snailLocationIndex < snail.getLocationsCount()
+                && in.snailLocationIndex != snail.getCurrentLocationIndex()) {
+            snail.teleportToLocation(in.snailLocationIndex);
+        }
+        nextSnailLocationIndex = in.nextSnailLocationIndex;
+        snailHasTeleported = in.snailHasTeleported;
+        playerHasInteractedWithSnail = in.playerHasInteractedWithSnail;
+        updateCamera();
+
+        tripWires.clear();
+        triggeredTripWireIds.clear();
+        tripWireSetHash = 0;
+        spawnTripWires(in);
+
+        foods.clear();
+        foodSetHash = 0;
+        spawnFoods(in);
+
+        if (toy != null && in.hasToy) {
+            toy.restoreState(in.toy);
+        }
+
+        if (chased) {
+            soundManager.crossfadeMusic("chasing");
         }
-        return SaveManager.saveGame(player, currentLevel, currentLevelIndex, foods, toy);
     }
 
     /**
@@ -890,37 +1235,12 @@ public class PlayingState extends GameState {
         this.currentLevelIndex = saveData.getLevelIndex();
         this.hasBeenInitialized = false;
 
-        // Initialize the level normally first
+        // Initialize the level normally first, then lay the saved state over it
         init();
-
-        // Now override with saved state
-        if (player != null) {
-            // Restore position
-            player.setPosition(saveData.getPlayerX(), saveData.getPlayerY());
-
-            // Restore hunger
-            player.setHunger(saveData.getHunger());
-
-            // Restore speed boost
-            player.setSpeedBoostTimer(saveData.getSpeedBoostTimer());
-        }
-
-        // Restore food state (remove foods that were already eaten)
-        if (saveData.getRemainingFoods() != null && foods != null) {
-            List<SaveData.FoodState> savedFoods = saveData.getRemainingFoods();
-            // Only keep foods that exist in the save
-            foods.removeIf(food -> {
-                boolean found = false;
-                for (SaveData.FoodState sf : savedFoods) {
-                    if (Math.abs(food.getCenterX() - sf.getX()) < 5 &&
-                        Math.abs(food.getCenterY() - sf.getY()) < 5) {
-                        found = true;
-                        break;
-                    }
-                }
-                return !found;
-            });
-        }
+        WorldSnapshot snapshot = new WorldSnapshot();
+        captureSnapshot(snapshot);
+        snapshot.applySaveData(saveData);
+        restoreSnapshot(snapshot);
 
         logger.info("Game loaded from save: Level={}, Pos=({},{}), Hunger={}",
                 saveData.getLevelId(), (int)saveData.getPlayerX(),
@@ -0,0 +1,609 @@
+package com.buglife.tools;
+
+import java.awt.Point;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.buglife.config.TileConstants;
+import com.buglife.engine.editor.data.LevelData;
+import com.buglife.engine.editor.data.LevelDataIO;
+import com.buglife.engine.editor.validation.LevelValidator;
+import com.buglife.levels.CompiledLevel;
+import com.buglife.levels.FoodSpawnData;
+import com.buglife.levels.LevelConfig;
+import com.buglife.levels.MechanicsConfig;
+import com.buglife.levels.SnailLocationData;
+import com.buglife.levels.SpiderPatrolData;
+import com.buglife.levels.TxtBackedLevelConfig;
+import com.buglife.world.TileGridParser;
+import com.buglife.world.World;
+
+/**
+ * Dev tool: seeded procedural levels for benchmarks and soak tests.
+ *
+ * The hand-made maps are small; this builds maps of any size with a chosen
+ * wall density, shadow and sticky patches, spider count and patrol shapes,
+ * and food density. The same settings and seed always give the same map.
+ *
+ * Every generated level is walkable from the player spawn to the exit: walls
+ * are scattered, a corridor is carved if they cut the exit off, and floor
+ * the player can't reach is filled in. Spider patrols are carved clear and
+ * kept away from the spawn. A level must pass {@link LevelValidator} with no
+ * errors or warnings, or generate() throws.
+ *
+ * Output is a normal map (.txt tile grid plus # sections) and the editor's
+ * LevelData (.json); in code, compile() gives a CompiledLevel to build a
+ * World from without touching disk.
+ *
+ * Usage: LevelGenerator outputDir [--name stress] [--size 512x512] [--seed 1]
+ *          [--walls 0.2] [--shadows 0.04] [--sticky 0.02] [--spiders 50]
+ *          [--patrols rectangle,horizontal,vertical] [--food 0.01] [--count 1]
+ *        (with --count N, levels are named name_0 .. name_N-1 with seeds seed .. seed+N-1)
+ */
+public final class LevelGenerator {
+
+    // ========== CONSTANTS ==========
+    private static final int MIN_SIZE = 12;
+    private static final int MAX_WALL_RUN = 6;
+    private static final int MAX_PATCH_SIZE = 3;
+    private static final int MIN_PATROL_LENGTH = 2;
+    private static final int MAX_PATROL_LENGTH = 10;
+    private static final int SPAWN_SAFE_RADIUS = 6;  // Tiles around the spawn no patrol may enter
+    private static final int CORNER_REGION = 8;      // Spawn and exit are placed this close to opposite corners
+    private static final int PLACEMENT_ATTEMPTS = 50;
+
+    public enum PatrolShape { RECTANGLE, HORIZONTAL, VERTICAL }
+
+    // ========== SETTINGS ==========
+
+    /**
+     * What to generate. Densities are fractions: walls of the interior,
+     * shadow/sticky/food of the walkable floor. Chain the setters:
+     *
+     *   new LevelGenerator.Settings().size(512, 512).spiders(500).seed(7)
+     */
+    public static final class Settings {
+        private String name = "generated";
+        private int width = 64;
+        private int height = 64;
+        private long seed = 1;
+        private double wallDensity = 0.2;
+        private double shadowDensity = 0.04;
+        private double stickyDensity = 0.02;
+        private int spiderCount = 4;
+        private Set<PatrolShape> patrolShapes = EnumSet.allOf(PatrolShape.class);
+        private double foodDensity = 0.01;
+        private double energySeedRatio = 0.2; // Share of food that is ENERGY_SEED, if speed boost is on
+        private MechanicsConfig mechanics = new MechanicsConfig().enableDash().enableToy().enableSpeedBoostFood();
+
+        public Settings name(String name) { this.name = name; return this; }
+        public Settings size(int width, int height) { this.width = width; this.height = height; return this; }
+        public Settings seed(long seed) { this.seed = seed; return this; }
+        public Settings walls(double density) { this.wallDensity = density; return this; }
+        public Settings shadows(double density) { this.shadowDensity = density; return this; }
+        public Settings sticky(double density) { this.stickyDensity = density; return this; }
+        public Settings spiders(int count) { this.spiderCount = count; return this; }
+        public Settings food(double density) { this.foodDensity = density; return this; }
+        public Settings energySeeds(double ratio) { this.energySeedRatio = ratio; return this; }
+        public Settings mechanics(MechanicsConfig mechanics) { this.mechanics = mechanics; return this; }
+
+        public Settings patrols(PatrolShape... shapes) {
+            if (shapes.length == 0) throw new IllegalArgumentException("at least one patrol shape is needed");
+            this.patrolShapes = EnumSet.copyOf(Arrays.asList(shapes));
+            return this;
+        }
+
+        public String getName() { return name; }
+        public long getSeed() { return seed; }
+
+        private void check() {
+            if (width < MIN_SIZE || height < MIN_SIZE) {
+                throw new IllegalArgumentException("map must be at least " + MIN_SIZE + "x" + MIN_SIZE);
+            }
+            if (spiderCount < 0) throw new IllegalArgumentException("negative spider count");
+            for (double density : new double[] { wallDensity, shadowDensity, stickyDensity, foodDensity, energySeedRatio }) {
+                if (density < 0 || density > 1) throw new IllegalArgumentException("density out of range: " + density);
+            }
+        }
+    }
+
+    // ========== GENERATED LEVEL ==========
+
+    /** A generated tile grid and its entities. */
+    public static final class GeneratedLevel implements LevelConfig {
+        private final String name;
+        private final int width;
+        private final int height;
+        private final int[] tiles; // Row-major
+        private final Point playerSpawn;
+        private final Point toySpawn;
+        private final MechanicsConfig mechanics;
+        private final List<SpiderPatrolData> spiders;
+        private final List<FoodSpawnData> food;
+
+        private GeneratedLevel(Generator g) {
+            this.name = g.settings.name;
+            this.width = g.width;
+            this.height = g.height;
+            this.tiles = g.tiles;
+            this.playerSpawn = g.playerSpawn;
+            this.toySpawn = g.toySpawn;
+            this.mechanics = g.settings.mechanics;
+            this.spiders = Collections.unmodifiableList(g.spiders);
+            this.food = Collections.unmodifiableList(g.food);
+        }
+
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public int getTile(int col, int row) { return tiles[row * width + col]; }
+
+        @Override public String getLevelName() { return name; }
+        @Override public Point getPlayerSpawn() { return new Point(playerSpawn); }
+        @Override public Point getToySpawn() { return toySpawn == null ? null : new Point(toySpawn); }
+        @Override public MechanicsConfig getMechanicsEnabled() { return mechanics; }
+        @Override public List<Point> getTripWirePositions() { return Collections.emptyList(); }
+        @Override public List<SpiderPatrolData> getSpiderPatrols() { return spiders; }
+        @Override public List<SnailLocationData> getSnailLocations() { return Collections.emptyList(); }
+        @Override public List<FoodSpawnData> getFoodSpawns() { return food; }
+
+        /** Write the level as a map file: the tile grid, then the # sections. */
+        public void writeText(Writer out) throws IOException {
+            StringBuilder row = new StringBuilder(width * 3);
+            for (int y = 0; y < height; y++) {
+                row.setLength(0);
+                for (int x = 0; x < width; x++) {
+                    if (x > 0) row.append(' ');
+                    row.append(tiles[y * width + x]);
+                }
+                out.append(row).append('\n');
+            }
+            out.append(TxtBackedLevelConfig.format(this));
+        }
+
+        public byte[] toText() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(width * height * 2 + 1024);
+            try (Writer out = new OutputStreamWriter(bytes, StandardCharsets.US_ASCII)) {
+                writeText(out);
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // In-memory stream
+            }
+            return bytes.toByteArray();
+        }
+
+        /** The level as the editor's model. */
+        public LevelData toLevelData() {
+            LevelData data = new LevelData(name, width, height);
+            data.setTiles(tiles.clone());
+            data.setPlayerSpawn(LevelData.PointData.fromAwtPoint(playerSpawn));
+            data.setToySpawn(toySpawn == null ? null : LevelData.PointData.fromAwtPoint(toySpawn));
+            for (SpiderPatrolData patrol : spiders) {
+                LevelData.SpiderData spider = new LevelData.SpiderData();
+                for (Point p : patrol.getWaypoints()) {
+                    spider.addWaypoint(p.x, p.y);
+                }
+                spider.description = patrol.getDescription();
+                data.getSpiders().add(spider);
+            }
+            for (FoodSpawnData spawn : food) {
+                Point p = spawn.getTilePosition();
+                data.getFood().add(new LevelData.FoodData(p.x, p.y, spawn.getType().name()));
+            }
+            data.getMechanics().dashEnabled = mechanics.isDashEnabled();
+            data.getMechanics().toyEnabled = mechanics.isToyEnabled();
+            data.getMechanics().tripWiresEnabled = mechanics.isTripWiresEnabled();
+            data.getMechanics().speedBoostFoodEnabled = mechanics.isSpeedBoostFoodEnabled();
+            return data;
+        }
+
+        /** Parse the map text back the way the game loads a map, ready for a World. */
+        public CompiledLevel compile() throws IOException {
+            byte[] text = toText();
+            TileGridParser.Grid grid;
+            try (InputStream in = new ByteArrayInputStream(text)) {
+                grid = TileGridParser.parse(in);
+            }
+            TxtBackedLevelConfig config;
+            try (InputStream in = new ByteArrayInputStream(text)) {
+                config = TxtBackedLevelConfig.parse(name, in);
+            }
+            return CompiledLevel.compile(name, grid, config);
+        }
+    }
+
+    private LevelGenerator() {}
+
+    /**
+     * Generate a level.
+     *
+     * @throws IllegalArgumentException for impossible settings
+     * @throws IllegalStateException if the result doesn't pass LevelValidator
+     */
+    public static GeneratedLevel generate(Settings settings) {
+        settings.check();
+        GeneratedLevel level = new GeneratedLevel(new Generator(settings).run());
+
+        List<LevelValidator.ValidationIssue> issues = LevelValidator.validate(level.toLevelData());
+        for (LevelValidator.ValidationIssue issue : issues) {
+            if (issue.severity != LevelValidator.Severity.INFO) {
+                throw new IllegalStateException("Generated level " + settings.name + " (seed " + settings.seed
+                        + ") failed validation: " + issue);
+            }
+        }
+        return level;
+    }
+
+    // ========== GENERATION ==========
+
+    private static final class Generator {
+        private final Settings settings;
+        private final Random random;
+        private final int width;
+        private final int height;
+        private final int[] tiles;
+        private final boolean[] reserved;  // Spawn and exit surroundings, kept plain floor
+        private boolean[] reachable;
+        private int reachableCount;
+
+        private int spawnX, spawnY;
+        private int exitX, exitY;
+        private Point playerSpawn;
+        private Point toySpawn;
+        private final List<SpiderPatrolData> spiders = new ArrayList<>();
+        private final List<FoodSpawnData> food = new ArrayList<>();
+
+        Generator(Settings settings) {
+            this.settings = settings;
+            this.random = new Random(settings.seed);
+            this.width = settings.width;
+            this.height = settings.height;
+            this.tiles = new int[width * height];
+            this.reserved = new boolean[width * height];
+        }
+
+        Generator run() {
+            placeBorderAndExit();
+            scatterWalls();
+            connectExit();
+            fillUnreachable();
+            placeSpiders();
+            scatterPatches(TileConstants.SHADOW_TILE, settings.shadowDensity);
+            scatterPatches(TileConstants.STICKY_FLOOR, settings.stickyDensity);
+            placeFood();
+            return this;
+        }
+
+        private void placeBorderAndExit() {
+            for (int x = 0; x < width; x++) {
+                tiles[x] = TileConstants.WALL;
+                tiles[(height - 1) * width + x] = TileConstants.WALL;
+            }
+            for (int y = 0; y < height; y++) {
+                tiles[y * width] = TileConstants.WALL;
+                tiles[y * width + width - 1] = TileConstants.WALL;
+            }
+
+            // Spawn near the top-left corner, the exit ladder near the bottom-right
+            int corner = Math.min(CORNER_REGION, Math.min(width, height) / 4);
+            spawnX = 2 + random.nextInt(corner);
+            spawnY = 2 + random.nextInt(corner);
+            exitX = width - 4 - random.nextInt(corner);
+            exitY = height - 3 - random.nextInt(corner);
+            reserveAround(spawnX, spawnY);
+            reserveAround(exitX, exitY);
+
+            // The 2x2 ladder: only its bottom-left tile is walkable, and that's the exit
+            set(exitX, exitY - 1, TileConstants.LADDER_1);
+            set(exitX + 1, exitY - 1, TileConstants.LADDER_2);
+            set(exitX, exitY, TileConstants.LADDER_3);
+            set(exitX + 1, exitY, TileConstants.LADDER_4);
+
+            playerSpawn = tileCenter(spawnX, spawnY);
+            if (settings.mechanics.isToyEnabled()) {
+                toySpawn = tileCenter(spawnX + 1, spawnY);
+            }
+        }
+
+        private void reserveAround(int cx, int cy) {
+            for (int y = cy - 1; y <= cy + 1; y++) {
+                for (int x = cx - 1; x <= cx + 1; x++) {
+                    if (isInterior(x, y)) reserved[y * width + x] = true;
+                }
+            }
+        }
+
+        private void scatterWalls() {
+            long target = (long) (settings.wallDensity * (width - 2) * (height - 2));
+            long placed = 0;
+            long attempts = target * 4;
+            while (placed < target && attempts-- > 0) {
+                int x = 1 + random.nextInt(width - 2);
+                int y = 1 + random.nextInt(height - 2);
+                int length = 1 + random.nextInt(MAX_WALL_RUN);
+                boolean horizontal = random.nextBoolean();
+                int tile = random.nextInt(8) == 0 ? TileConstants.WALL_ALT : TileConstants.WALL;
+                for (int i = 0; i < length && placed < target; i++) {
+                    int wx = horizontal ? x + i : x;
+                    int wy = horizontal ? y : y + i;
+                    if (!isInterior(wx, wy)) break;
+                    int index = wy * width + wx;
+                    if (!reserved[index] && tiles[index] == TileConstants.FLOOR) {
+                        tiles[index] = tile;
+                        placed++;
+                    }
+                }
+            }
+        }
+
+        /** If the walls cut the exit off, carve an L-shaped corridor to it: down from the spawn, then right. */
+        private void connectExit() {
+            floodFromSpawn();
+            if (reachable[exitY * width + exitX]) return;
+
+            for (int y = Math.min(spawnY, exitY); y <= Math.max(spawnY, exitY); y++) {
+                carve(spawnX, y);
+            }
+            for (int x = spawnX; x < exitX; x++) {
+                carve(x, exitY);
+            }
+            floodFromSpawn();
+        }
+
+        /** Wall in floor the player can never reach, so nothing gets placed there. */
+        private void fillUnreachable() {
+            for (int y = 1; y < height - 1; y++) {
+                for (int x = 1; x < width - 1; x++) {
+                    int index = y * width + x;
+                    if (!reachable[index] && !TileConstants.isSolidTile(tiles[index])) {
+                        tiles[index] = TileConstants.WALL;
+                    }
+                }
+            }
+        }
+
+        private void placeSpiders() {
+            PatrolShape[] shapes = settings.patrolShapes.toArray(new PatrolShape[0]);
+            for (int i = 0; i < settings.spiderCount; i++) {
+                SpiderPatrolData patrol = null;
+                for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS && patrol == null; attempt++) {
+                    patrol = tryPatrol(shapes[random.nextInt(shapes.length)]);
+                }
+                if (patrol == null) {
+                    throw new IllegalStateException("No room for spider " + (i + 1) + " of "
+                            + settings.spiderCount + " on a " + width + "x" + height + " map");
+                }
+                spiders.add(patrol.describe("Generated " + (i + 1)));
+            }
+        }
+
+        /** A patrol starting on reachable floor, carved clear; null if this try doesn't fit. */
+        private SpiderPatrolData tryPatrol(PatrolShape shape) {
+            int index = randomReachableTile();
+            if (index < 0) return null;
+            int left = index % width;
+            int top = index / width;
+            int right = Math.min(width - 2, left + MIN_PATROL_LENGTH + random.nextInt(MAX_PATROL_LENGTH - MIN_PATROL_LENGTH + 1));
+            int bottom = Math.min(height - 2, top + MIN_PATROL_LENGTH + random.nextInt(MAX_PATROL_LENGTH - MIN_PATROL_LENGTH + 1));
+
+            if ((shape != PatrolShape.VERTICAL && right == left) || (shape != PatrolShape.HORIZONTAL && bottom == top)) {
+                return null; // Against the far wall: no room to move
+            }
+
+            SpiderPatrolData patrol;
+            switch (shape) {
+                case HORIZONTAL: patrol = SpiderPatrolData.horizontal(left, right, top); break;
+                case VERTICAL:   patrol = SpiderPatrolData.vertical(left, top, bottom); break;
+                default:         patrol = SpiderPatrolData.rectangle(left, top, right, bottom); break;
+            }
+
+            // The path between waypoints is what the spider walks; all of it must be clear
+            List<Point> path = patrolTiles(patrol.getWaypoints());
+            for (Point p : path) {
+                boolean nearSpawn = Math.abs(p.x - spawnX) <= SPAWN_SAFE_RADIUS && Math.abs(p.y - spawnY) <= SPAWN_SAFE_RADIUS;
+                if (nearSpawn || isLadder(p.x, p.y)) return null;
+            }
+            for (Point p : path) {
+                carve(p.x, p.y);
+            }
+            return patrol;
+        }
+
+        private List<Point> patrolTiles(List<Point> waypoints) {
+            List<Point> path = new ArrayList<>();
+            for (int i = 0; i + 1 < waypoints.size(); i++) {
+                Point from = waypoints.get(i);
+                Point to = waypoints.get(i + 1);
+                int dx = Integer.signum(to.x - from.x);
+                int dy = Integer.signum(to.y - from.y);
+                for (int x = from.x, y = from.y; x != to.x || y != to.y; x += dx, y += dy) {
+                    path.add(new Point(x, y));
+                }
+            }
+            path.add(waypoints.get(waypoints.size() - 1));
+            return path;
+        }
+
+        /** Small rectangles of a floor tile until the density is reached. */
+        private void scatterPatches(int tile, double density) {
+            long target = (long) (density * reachableCount);
+            long placed = 0;
+            long attempts = target * 4;
+            while (placed < target && attempts-- > 0) {
+                int index = randomReachableTile();
+                if (index < 0) return;
+                int x0 = index % width;
+                int y0 = index / width;
+                int w = 1 + random.nextInt(MAX_PATCH_SIZE);
+                int h = 1 + random.nextInt(MAX_PATCH_SIZE);
+                for (int y = y0; y < y0 + h && y < height - 1; y++) {
+                    for (int x = x0; x < x0 + w && x < width - 1 && placed < target; x++) {
+                        int i = y * width + x;
+                        if (reachable[i] && !reserved[i] && tiles[i] == TileConstants.FLOOR) {
+                            tiles[i] = tile;
+                            placed++;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void placeFood() {
+            long target = (long) (settings.foodDensity * reachableCount);
+            boolean seeds = settings.mechanics.isSpeedBoostFoodEnabled();
+            Set<Integer> used = new HashSet<>();
+            long attempts = target * 4;
+            while (food.size() < target && attempts-- > 0) {
+                int index = randomReachableTile();
+                if (index < 0) return;
+                int x = index % width;
+                int y = index / width;
+                if ((x == spawnX && y == spawnY) || isLadder(x, y) || !used.add(index)) continue;
+                food.add(seeds && random.nextDouble() < settings.energySeedRatio
+                        ? FoodSpawnData.energySeed(x, y) : FoodSpawnData.berry(x, y));
+            }
+        }
+
+        // ========== HELPERS ==========
+
+        private void floodFromSpawn() {
+            reachable = new boolean[width * height];
+            int[] queue = new int[width * height];
+            int head = 0;
+            int tail = 0;
+            int start = spawnY * width + spawnX;
+            reachable[start] = true;
+            queue[tail++] = start;
+            while (head < tail) {
+                int index = queue[head++];
+                // Interior tiles only, and the border is solid, so no neighbour falls off the map
+                tail = visit(index - 1, queue, tail);
+                tail = visit(index + 1, queue, tail);
+                tail = visit(index - width, queue, tail);
+                tail = visit(index + width, queue, tail);
+            }
+            reachableCount = tail;
+        }
+
+        private int visit(int index, int[] queue, int tail) {
+            if (!reachable[index] && !TileConstants.isSolidTile(tiles[index])) {
+                reachable[index] = true;
+                queue[tail++] = index;
+            }
+            return tail;
+        }
+
+        /** A random reachable, non-solid tile, or -1 if sampling keeps missing (a nearly solid map). */
+        private int randomReachableTile() {
+            for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS * 4; attempt++) {
+                int x = 1 + random.nextInt(width - 2);
+                int y = 1 + random.nextInt(height - 2);
+                int index = y * width + x;
+                if (reachable[index] && !TileConstants.isSolidTile(tiles[index])) return index;
+            }
+            return -1;
+        }
+
+        /** Make a tile plain floor. Callers only carve next to reachable floor, so it's reachable too. */
+        private void carve(int x, int y) {
+            int index = y * width + x;
+            if (isLadder(x, y)) return;
+            if (TileConstants.isSolidTile(tiles[index])) {
+                tiles[index] = TileConstants.FLOOR;
+            }
+            if (!reachable[index]) {
+                reachable[index] = true;
+                reachableCount++;
+            }
+        }
+
+        private boolean isLadder(int x, int y) {
+            return (x == exitX || x == exitX + 1) && (y == exitY || y == exitY - 1);
+        }
+
+        private boolean isInterior(int x, int y) {
+            return x >= 1 && y >= 1 && x < width - 1 && y < height - 1;
+        }
+
+        private void set(int x, int y, int tile) {
+            tiles[y * width + x] = tile;
+        }
+
+        private static Point tileCenter(int x, int y) {
+            return new Point(x * World.TILE_SIZE + World.TILE_SIZE / 4, y * World.TILE_SIZE + World.TILE_SIZE / 4);
+        }
+    }
+
+    // ========== ENTRY POINT ==========
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: LevelGenerator outputDir [--name n] [--size WxH] [--seed s] [--walls d]"
+                    + " [--shadows d] [--sticky d] [--spiders n] [--patrols shape,...] [--food d] [--count n]");
+            return;
+        }
+        Path outputDir = Paths.get(args[0]);
+        Settings settings = new Settings();
+        int count = 1;
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--name":    settings.name(value); break;
+                case "--seed":    settings.seed(Long.parseLong(value)); break;
+                case "--walls":   settings.walls(Double.parseDouble(value)); break;
+                case "--shadows": settings.shadows(Double.parseDouble(value)); break;
+                case "--sticky":  settings.sticky(Double.parseDouble(value)); break;
+                case "--spiders": settings.spiders(Integer.parseInt(value)); break;
+                case "--food":    settings.food(Double.parseDouble(value)); break;
+                case "--count":   count = Integer.parseInt(value); break;
+                case "--size": {
+                    String[] size = value.toLowerCase().split("x");
+                    settings.size(Integer.parseInt(size[0]), Integer.parseInt(size[size.length - 1]));
+                    break;
+                }
+                case "--patrols": {
+                    List<PatrolShape> shapes = new ArrayList<>();
+                    for (String shape : value.split(",")) {
+                        shapes.add(PatrolShape.valueOf(shape.trim().toUpperCase()));
+                    }
+                    settings.patrols(shapes.toArray(new PatrolShape[0]));
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        Files.createDirectories(outputDir);
+
+        String baseName = settings.getName();
+        long baseSeed = settings.getSeed();
+        for (int i = 0; i < count; i++) {
+            if (count > 1) {
+                settings.name(baseName + "_" + i).seed(baseSeed + i);
+            }
+            long start = System.nanoTime();
+            GeneratedLevel level = generate(settings);
+            try (Writer out = Files.newBufferedWriter(outputDir.resolve(level.getLevelName() + ".txt"), StandardCharsets.US_ASCII)) {
+                level.writeText(out);
+            }
+            LevelDataIO.saveToJson(level.toLevelData(), outputDir.resolve(level.getLevelName() + ".json"));
+            System.out.printf("[LevelGenerator] %s: %dx%d, seed %d, %d spiders, %d food (%.0f ms)%n",
+                    level.getLevelName(), level.getWidth(), level.getHeight(), settings.getSeed(),
+                    level.getSpiderPatrols().size(), level.getFoodSpawns().size(), (System.nanoTime() - start) / 1e6);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.buglife.tools;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.buglife.world.TileGridParser;
+
+/**
+ * Dev benchmark: TileGridParser vs the old readLine/split/boxing map loader.
+ *
+ * Generates a square map of random tile IDs (plus a '#' entity section, like
+ * the real maps) in memory and reports the time to parse it both ways.
+ *
+ * Usage: Run main() method directly, optionally with the map size (default 1000)
+ */
+public class MapParseBenchmark {
+
+    // ========== CONSTANTS ==========
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final int TILE_ID_RANGE = 12;
+
+    private static volatile Object sink; // Keeps the JIT from discarding results
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        byte[] map = generateMap(size, 42);
+        System.out.printf("Map %dx%d, %.1f MB of text%n", size, size, map.length / 1e6);
+
+        Parser streaming = TileGridParser::parse;
+        Parser legacy = MapParseBenchmark::legacyParse;
+
+        // Both must agree before either is timed
+        TileGridParser.Grid grid = TileGridParser.parse(new ByteArrayInputStream(map));
+        int[][] rows = legacyParse(new ByteArrayInputStream(map));
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (grid.get(col, row) != rows[row][col]) {
+                    throw new IllegalStateException("Parsers disagree at " + col + "," + row);
+                }
+            }
+        }
+
+        run("split/boxing", legacy, map);
+        run("TileGridParser", streaming, map);
+    }
+
+    private interface Parser {
+        Object parse(InputStream in) throws IOException;
+    }
+
+    private static void run(String label, Parser parser, byte[] map) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink = parser.parse(new ByteArrayInputStream(map));
+        }
+
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink = parser.parse(new ByteArrayInputStream(map));
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, elapsed);
+            total += elapsed;
+        }
+
+        System.out.printf("  %-15s mean %8.2f ms   best %8.2f ms%n", label,
+                total / 1e6 / MEASURED_ROUNDS, best / 1e6);
+    }
+
+    /** The loader World, LevelDataIO and MapPreviewTool used to share by copy-paste. */
+    private static int[][] legacyParse(InputStream in) throws IOException {
+        List<List<Integer>> mapRows = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.trim().isEmpty()) continue;
+            if (line.trim().startsWith("#")) break;
+            List<Integer> row = new ArrayList<>();
+            for (String num : line.trim().split("\\s+")) {
+                row.add(Integer.parseInt(num));
+            }
+            mapRows.add(row);
+        }
+
+        int height = mapRows.size();
+        int width = mapRows.get(0).size();
+        int[][] mapData = new int[height][width];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                mapData[row][col] = mapRows.get(row).get(col);
+            }
+        }
+        return mapData;
+    }
+
+    private static byte[] generateMap(int size, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(size * size * 3);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (col > 0) text.append(' ');
+                text.append(random.nextInt(TILE_ID_RANGE));
+            }
+            text.append('\n');
+        }
+        text.append("# PLAYER_SPAWN\n1 1\n");
+        return text.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
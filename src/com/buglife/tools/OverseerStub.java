@@ -0,0 +1,253 @@
+package com.buglife.tools;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.buglife.save.SaveDelta;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the Overseer, for testing cloud saves offline.
+ *
+ * Speaks the same endpoints as the real server and keeps everything in
+ * memory: registered users, the latest save per user with its version, and a
+ * leaderboard derived from those saves. Delta uploads (/save/patch) are
+ * applied against the stored save and rejected with 409 when their base
+ * version is stale. GETs carry ETags and answer If-None-Match with 304.
+ * It also counts requests, request bytes per endpoint and distinct client
+ * connections, so connection reuse and delta savings can be checked.
+ *
+ * Usage: Run main() method directly
+ *   OverseerStub [port]       serve until killed (default 8090)
+ *
+ * OverseerStubTest starts it on a free port and points the game's cloud
+ * client at it.
+ */
+public class OverseerStub {
+
+    // ========== CONSTANTS ==========
+    private static final int DEFAULT_PORT = 8090;
+
+    // ========== STATE ==========
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final Set<String> users = ConcurrentHashMap.newKeySet();
+    private final Map<String, ObjectNode> saves = new ConcurrentHashMap<>();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> bytesReceived = new ConcurrentHashMap<>();
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+
+    public OverseerStub(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(executor);
+        server.createContext("/user/register", this::handleRegister);
+        server.createContext("/save/upload", this::handleUpload);
+        server.createContext("/save/patch", this::handlePatch);
+        server.createContext("/save/download", this::handleDownload);
+        server.createContext("/users/list", this::handleUserList);
+        server.createContext("/leaderboard", this::handleLeaderboard);
+    }
+
+    public OverseerStub start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /** Base URL for -Doverseer.host. */
+    public String getHost() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /** Distinct client sockets seen; stays low when connections are reused. */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    public JsonNode getStoredSave(String userId) {
+        return saves.get(userId.toUpperCase());
+    }
+
+    /** GETs answered with 304 Not Modified. */
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /** Version of the stored save, 0 if there is none. */
+    public long getVersion(String userId) {
+        return versions.getOrDefault(userId.toUpperCase(), 0L);
+    }
+
+    /** Pretend another machine uploaded in between, so the next delta is stale. */
+    public void bumpVersion(String userId) {
+        versions.merge(userId.toUpperCase(), 1L, Long::sum);
+    }
+
+    /** Request body bytes received on an endpoint, e.g. "/save/patch". */
+    public long getBytesReceived(String path) {
+        AtomicLong bytes = bytesReceived.get(path);
+        return bytes == null ? 0 : bytes.get();
+    }
+
+    // ========== HANDLERS ==========
+
+    private void handleRegister(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        users.add(body.path("user_id").asText());
+        respond(exchange, 200, mapper.createObjectNode().put("status", "ok"));
+    }
+
+    private void handleUpload(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        String userId = body.path("user_id").asText();
+        JsonNode save = body.path("save_data");
+        if (!save.isObject()) {
+            respond(exchange, 400, mapper.createObjectNode().put("error", "no save_data"));
+            return;
+        }
+        users.add(userId);
+        saves.put(userId, (ObjectNode) save);
+        long version = versions.merge(userId, 1L, Long::sum);
+        respond(exchange, 200, mapper.createObjectNode().put("status", "saved").put("version", version));
+    }
+
+    private void handlePatch(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        String userId = body.path("user_id").asText();
+        ObjectNode save = saves.get(userId);
+        long current = versions.getOrDefault(userId, 0L);
+        if (save == null || body.path("base_version").asLong(-1) != current) {
+            respond(exchange, 409, mapper.createObjectNode().put("error", "version mismatch").put("version", current));
+            return;
+        }
+        SaveDelta.apply(save, body.path("delta"));
+        long version = versions.merge(userId, 1L, Long::sum);
+        respond(exchange, 200, mapper.createObjectNode().put("status", "patched").put("version", version));
+    }
+
+    private void handleDownload(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        JsonNode save = saves.get(body.path("user_id").asText());
+        if (save == null) {
+            respond(exchange, 404, mapper.createObjectNode().put("error", "no save"));
+            return;
+        }
+        ObjectNode response = mapper.createObjectNode();
+        response.set("save_data", save);
+        respond(exchange, 200, response);
+    }
+
+    private void handleUserList(HttpExchange exchange) throws IOException {
+        readBody(exchange);
+        ObjectNode response = mapper.createObjectNode();
+        ArrayNode list = response.putArray("users");
+        users.stream().sorted().forEach(list::add);
+        respondCacheable(exchange, response);
+    }
+
+    private void handleLeaderboard(HttpExchange exchange) throws IOException {
+        readBody(exchange);
+        String category = "deaths";
+        int limit = 10;
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                String[] kv = pair.split("=", 2);
+                if (kv.length < 2) continue;
+                if (kv[0].equals("category")) category = kv[1];
+                if (kv[0].equals("limit")) limit = Integer.parseInt(kv[1]);
+            }
+        }
+
+        // The stub knows nothing about deaths; rank by what the saves record
+        String field = category.equals("playtime") ? "totalPlaytimeSeconds"
+                     : category.equals("levels_completed") ? "levelIndex"
+                     : null;
+        List<ObjectNode> rows = new ArrayList<>();
+        for (Map.Entry<String, ObjectNode> e : saves.entrySet()) {
+            ObjectNode row = mapper.createObjectNode();
+            row.put("user_id", e.getKey());
+            row.put("value", field == null ? 0 : e.getValue().path(field).asInt());
+            rows.add(row);
+        }
+        rows.sort((a, b) -> Integer.compare(b.get("value").asInt(), a.get("value").asInt()));
+
+        ObjectNode response = mapper.createObjectNode();
+        ArrayNode board = response.putArray("leaderboard");
+        rows.stream().limit(limit).forEach(board::add);
+        respondCacheable(exchange, response);
+    }
+
+    // ========== PLUMBING ==========
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        connections.add(exchange.getRemoteAddress().toString());
+        byte[] bytes = exchange.getRequestBody().readAllBytes();
+        bytesReceived.computeIfAbsent(exchange.getHttpContext().getPath(), k -> new AtomicLong()).addAndGet(bytes.length);
+        return bytes.length == 0 ? mapper.createObjectNode() : mapper.readTree(bytes);
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /** GET replies carry an ETag and honour If-None-Match with a bodyless 304. */
+    private void respondCacheable(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        String etag = "\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedCount.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // ========== MAIN ==========
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        OverseerStub stub = new OverseerStub(port).start();
+        System.out.println("Overseer stub listening on " + stub.getHost());
+    }
+}
@@ -0,0 +1,153 @@
+package com.buglife.tools;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.buglife.assets.SoundManager;
+import com.buglife.config.ConfigManager;
+import com.buglife.config.GameConfig;
+import com.buglife.main.GameStateManager;
+import com.buglife.replay.ReplayLog;
+import com.buglife.states.PlayingState;
+
+/**
+ * Dev tool: plays recorded runs (.replay files, see {@link ReplayLog}) back
+ * through a headless PlayingState and checks each goes through the same
+ * state hash after every tick and ends where it was recorded. On a mismatch
+ * it names the first tick that differs and what differs on it (player, toy,
+ * world, or which spider; see StateHash), which is usually the place to
+ * start looking when two builds stop agreeing.
+ *
+ * Nothing is drawn and no window is opened: the driver starts the level,
+ * hands PlayingState each key event before the tick it arrived on, and calls
+ * update() as fast as it will go, so a replay is also a repeatable load for
+ * timing simulation changes (ticks/s is reported).
+ *
+ * A replay only matches under the config.json it was recorded with (a
+ * different one is reported but still run) and with the F2/F7 dev toggles
+ * off, since those don't go through PlayingState.
+ *
+ * --sequential makes spiders think one after another instead of on the
+ * fork-join pool (see SpiderUpdater); a run recorded either way must replay
+ * the same either way.
+ *
+ * Usage: ReplayDriver [--sequential] run.replay [more.replay ...]
+ *        (exit status 1 if any replay ends somewhere else)
+ */
+public final class ReplayDriver {
+
+    /** How a replay ended, next to how its recording did. */
+    public static final class Result {
+        public final ReplayLog recorded;
+        public final int tick;
+        public final long hash;
+        public final long nanos;
+        public final int divergedTick;     // First tick whose hash differs from the recording, -1 if none
+        public final String divergedWhat;  // What differs on that tick, null if nothing
+
+        Result(ReplayLog recorded, int tick, long hash, long nanos, int divergedTick, String divergedWhat) {
+            this.recorded = recorded;
+            this.tick = tick;
+            this.hash = hash;
+            this.nanos = nanos;
+            this.divergedTick = divergedTick;
+            this.divergedWhat = divergedWhat;
+        }
+
+        public boolean matches() {
+            return divergedTick < 0 && tick == recorded.getFinalTick() && hash == recorded.getFinalHash();
+        }
+    }
+
+    private ReplayDriver() {}
+
+    public static void main(String[] args) throws IOException {
+        boolean sequential = args.length > 0 && args[0].equals("--sequential");
+        if (args.length == (sequential ? 1 : 0)) {
+            System.err.println("Usage: ReplayDriver [--sequential] run.replay [more.replay ...]");
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+        ConfigManager.getInstance(); // Spider tuning must come from config.json, as in the game
+        PlayingState playing = createHeadless();
+        playing.setParallelSpiderUpdates(!sequential);
+
+        int failed = 0;
+        for (int i = sequential ? 1 : 0; i < args.length; i++) {
+            String arg = args[i];
+            ReplayLog log = ReplayLog.read(Paths.get(arg));
+            if (log.getConfigFingerprint() != GameConfig.current().hashCode()) {
+                System.out.println("[ReplayDriver] " + arg + ": recorded under a different config.json");
+            }
+            Result result = replay(playing, log);
+            double seconds = result.nanos / 1e9;
+            System.out.printf("[ReplayDriver] %s: %s, %d ticks, %d events, %.2f s (%.0f ticks/s) %s%n",
+                    arg, log.getLevelName(), result.tick, log.getEventCount(), seconds,
+                    result.tick / Math.max(seconds, 1e-9), result.matches() ? "OK" : "MISMATCH");
+            if (!result.matches()) {
+                if (result.divergedTick >= 0) {
+                    System.out.printf("    first divergence: tick %d, %s%n", result.divergedTick, result.divergedWhat);
+                }
+                System.out.printf("    recorded: tick %d hash %016x%n    replayed: tick %d hash %016x%n",
+                        log.getFinalTick(), log.getFinalHash(), result.tick, result.hash);
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /** A PlayingState with a silent sound manager and no window, for replays and benchmarks. */
+    public static PlayingState createHeadless() {
+        GameStateManager manager = new GameStateManager(new SoundManager(false), null);
+        return manager.getPlayingState();
+    }
+
+    /**
+     * Start the log's level fresh and feed its events back, comparing the
+     * state after every tick with the recorded one. Stops where the replayed
+     * run ends (the level ending records it again) or at the recorded final
+     * tick, whichever comes first; a divergence is noted, not a reason to stop.
+     */
+    public static Result replay(PlayingState playing, ReplayLog log) {
+        AtomicReference<ReplayLog> replayed = new AtomicReference<>();
+        playing.setReplaySink(replayed::set);
+        playing.setLevel(log.getLevelName());
+
+        long start = System.nanoTime();
+        int next = 0;
+        int divergedTick = -1;
+        String divergedWhat = null;
+        while (true) {
+            int tick = playing.getTick();
+            while (next < log.getEventCount() && log.getEventTick(next) == tick && replayed.get() == null) {
+                if (log.isEventPress(next)) {
+                    playing.keyPressed(log.getEventKeyCode(next));
+                } else {
+                    playing.keyReleased(log.getEventKeyCode(next));
+                }
+                next++;
+            }
+            if (replayed.get() != null || tick >= log.getFinalTick()) break;
+            playing.update();
+            playing.getSoundManager().endFrame(); // As the game loop does after every update
+
+            int hashed = playing.getTick();
+            if (divergedTick < 0 && hashed <= log.getHashedTickCount()
+                    && !log.tickMatches(hashed, playing.getStateHash())) {
+                divergedTick = hashed;
+                divergedWhat = log.describeTickDifference(hashed, playing.getStateHash());
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        playing.setReplaySink(null);
+
+        ReplayLog ended = replayed.get();
+        if (ended != null) {
+            return new Result(log, ended.getFinalTick(), ended.getFinalHash(), nanos, divergedTick, divergedWhat);
+        }
+        return new Result(log, playing.getTick(), playing.computeStateHash(), nanos, divergedTick, divergedWhat);
+    }
+}
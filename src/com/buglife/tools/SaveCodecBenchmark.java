@@ -0,0 +1,107 @@
+package com.buglife.tools;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.buglife.levels.FoodSpawnData;
+import com.buglife.levels.LevelConfig;
+import com.buglife.levels.LevelRegistry;
+import com.buglife.save.SaveData;
+import com.buglife.save.SaveDataCodec;
+
+/**
+ * Dev benchmark: binary SaveData codec vs Jackson JSON.
+ *
+ * Builds a realistic mid-level save (every other food eaten) and reports
+ * encoded size plus encode/decode time for each format.
+ *
+ * Usage: Run main() method directly, optionally with a level id (default level1)
+ */
+public class SaveCodecBenchmark {
+
+    // ========== CONSTANTS ==========
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+
+    private static volatile Object sink; // Keeps the JIT from discarding results
+
+    public static void main(String[] args) throws IOException {
+        String levelId = args.length > 0 ? args[0] : "level1";
+        SaveData save = sampleSave(levelId);
+
+        byte[] json = SaveDataCodec.toJson(save);
+        byte[] pretty = SaveDataCodec.toPrettyJson(save).getBytes("UTF-8");
+        byte[] binary = SaveDataCodec.encode(save);
+
+        System.out.printf("Save for %s with %d remaining foods%n", levelId, save.getRemainingFoodIds().length);
+        System.out.printf("  %-14s %6d bytes%n", "JSON (pretty)", pretty.length);
+        System.out.printf("  %-14s %6d bytes%n", "JSON", json.length);
+        System.out.printf("  %-14s %6d bytes%n", "Binary", binary.length);
+        System.out.println();
+
+        Codec jackson = new Codec() {
+            public byte[] encode(SaveData data) throws IOException { return SaveDataCodec.toJson(data); }
+            public SaveData decode(byte[] data) throws IOException { return SaveDataCodec.fromJson(data); }
+        };
+        Codec compact = new Codec() {
+            public byte[] encode(SaveData data) { return SaveDataCodec.encode(data); }
+            public SaveData decode(byte[] data) throws IOException { return SaveDataCodec.decode(data); }
+        };
+
+        run("JSON", jackson, save, json);
+        run("Binary", compact, save, binary);
+    }
+
+    private interface Codec {
+        byte[] encode(SaveData data) throws IOException;
+        SaveData decode(byte[] data) throws IOException;
+    }
+
+    private static void run(String label, Codec codec, SaveData save, byte[] encoded) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink = codec.encode(save);
+            sink = codec.decode(encoded);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink = codec.encode(save);
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink = codec.decode(encoded);
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        System.out.printf("  %-8s encode %7.2f us   decode %7.2f us%n", label,
+                encodeNanos / 1000.0 / MEASURED_ROUNDS, decodeNanos / 1000.0 / MEASURED_ROUNDS);
+    }
+
+    private static SaveData sampleSave(String levelId) {
+        LevelConfig config = LevelRegistry.getInstance().getConfig(levelId);
+
+        SaveData save = new SaveData();
+        save.setLevelId(levelId);
+        save.setLevelIndex(0);
+        save.setPlayerX(config.getPlayerSpawn().x + 317.25);
+        save.setPlayerY(config.getPlayerSpawn().y + 128.5);
+        save.setFacingDirection("LEFT");
+        save.setHunger(63);
+        save.setSpeedBoostTimer(120);
+        save.setToyX(1408.0);
+        save.setToyY(896.0);
+        save.setPlayerName("BENCHMARK");
+        save.setSaveTimestamp(System.currentTimeMillis());
+        save.setTotalPlaytimeSeconds(5_432);
+
+        List<FoodSpawnData> spawns = config.getFoodSpawns();
+        int[] remaining = new int[spawns.size() / 2];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = spawns.get(i * 2 + 1).getId(); // Every other food already eaten
+        }
+        save.setRemainingFoodIds(remaining);
+        return save;
+    }
+}
@@ -0,0 +1,139 @@
+package com.buglife.tools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.buglife.assets.SoundManager;
+import com.buglife.config.ConfigManager;
+import com.buglife.config.GameConfig;
+import com.buglife.config.GameConstants;
+import com.buglife.entities.Player;
+import com.buglife.entities.Spider;
+import com.buglife.entities.SpiderParams;
+import com.buglife.entities.SpiderUpdater;
+import com.buglife.levels.CompiledLevel;
+import com.buglife.levels.SpiderPatrolData;
+import com.buglife.world.World;
+
+/**
+ * Dev benchmark: the spider phase of a tick with every spider thinking on
+ * the game thread vs split across the fork-join pool (SpiderUpdater).
+ *
+ * For each spider count, generates a level (LevelGenerator, fixed seed) and
+ * builds it twice: one copy runs sequentially, the other in parallel. The
+ * player stands in the middle of the map, so the spiders near it see it and
+ * chase while the rest patrol. Every spider's state hash is compared between
+ * the copies after every verification tick; the two must be bit-identical
+ * before either is timed.
+ *
+ * "pool" is the parallel path forced on regardless of
+ * GameConstants.Spider.PARALLEL_THINK_MIN, to show what the threshold saves
+ * on small levels; "auto" is what PlayingState does.
+ *
+ * Usage: Run main() method directly, optionally with spider counts (default 50 500 5000)
+ */
+public class SpiderUpdateBenchmark {
+
+    // ========== CONSTANTS ==========
+    private static final int VERIFY_TICKS = 600;
+    private static final int WARMUP_TICKS = 600;
+    private static final int MEASURED_TICKS = 1200;
+    private static final int TILES_PER_SPIDER = 64; // Map area per spider, as in a busy level
+
+    /** One independently built copy of a generated level's spiders. */
+    private static final class Swarm {
+        final World world;
+        final Player player;
+        final List<Spider> spiders = new ArrayList<>();
+        final SoundManager sound = new SoundManager(false); // Silent: nothing should reach the speakers
+
+        Swarm(CompiledLevel level) {
+            world = new World(level);
+            int centerX = level.getWidth() / 2 * World.TILE_SIZE;
+            int centerY = level.getHeight() / 2 * World.TILE_SIZE;
+            player = new Player(centerX, centerY, GameConstants.Player.DRAW_SIZE, GameConstants.Player.COLLISION_SIZE);
+            SpiderParams.Table params = SpiderParams.resolve(GameConfig.current(), level);
+            for (SpiderPatrolData patrol : level.getSpiderPatrols()) {
+                spiders.add(new Spider(patrol.getWaypoints(), params.get(patrol.getArchetype())));
+            }
+        }
+
+        void tick(SpiderUpdater updater) {
+            updater.update(spiders, player, world, sound, null);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        ConfigManager.getInstance(); // Spider tuning comes from config.json, as in the game
+
+        int[] counts = { 50, 500, 5000 };
+        if (args.length > 0) {
+            counts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                counts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        System.out.printf("Spider phase, %d pool threads, parallel from %d spiders%n",
+                pool.getParallelism(), GameConstants.Spider.PARALLEL_THINK_MIN);
+
+        for (int count : counts) {
+            int side = Math.max(40, (int) Math.sqrt((double) count * TILES_PER_SPIDER));
+            CompiledLevel level = LevelGenerator.generate(new LevelGenerator.Settings()
+                    .name("spiders" + count).size(side, side).seed(count).spiders(count)).compile();
+
+            SpiderUpdater sequential = new SpiderUpdater();
+            sequential.setParallel(false);
+            SpiderUpdater auto = new SpiderUpdater();
+            SpiderUpdater forced = new SpiderUpdater(pool, 0);
+
+            Swarm reference = new Swarm(level);
+            Swarm checked = new Swarm(level);
+            Swarm checkedForced = new Swarm(level);
+            int spiders = reference.spiders.size();
+
+            // All three must stay bit-identical before anything is timed
+            for (int tick = 1; tick <= VERIFY_TICKS; tick++) {
+                reference.tick(sequential);
+                checked.tick(auto);
+                checkedForced.tick(forced);
+                verify(reference, checked, tick, "auto");
+                verify(reference, checkedForced, tick, "pool");
+            }
+
+            double sequentialMs = time(reference, sequential);
+            double forcedMs = time(checkedForced, forced);
+            double autoMs = time(checked, auto);
+            verify(reference, checked, VERIFY_TICKS + WARMUP_TICKS + MEASURED_TICKS, "auto");
+            verify(reference, checkedForced, VERIFY_TICKS + WARMUP_TICKS + MEASURED_TICKS, "pool");
+
+            System.out.printf("  %5d spiders (%dx%d): sequential %7.3f ms/tick   pool %7.3f ms (x%.2f)   auto %7.3f ms (x%.2f)   identical%n",
+                    spiders, side, side, sequentialMs, forcedMs, sequentialMs / forcedMs,
+                    autoMs, sequentialMs / autoMs);
+        }
+    }
+
+    /** Warm up, then the average milliseconds per tick. */
+    private static double time(Swarm swarm, SpiderUpdater updater) {
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            swarm.tick(updater);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            swarm.tick(updater);
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_TICKS;
+    }
+
+    private static void verify(Swarm expected, Swarm actual, int tick, String label) {
+        for (int i = 0; i < expected.spiders.size(); i++) {
+            if (expected.spiders.get(i).stateHash() != actual.spiders.get(i).stateHash()) {
+                throw new IllegalStateException(label + ": spider #" + i + " differs from sequential on tick " + tick);
+            }
+        }
+    }
+}
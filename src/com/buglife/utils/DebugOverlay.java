@@ -64,7 +64,7 @@ public class DebugOverlay {
         
         // Calculate overlay dimensions
         int overlayWidth = 400;
-        int overlayHeight = 280;
+        int overlayHeight = 296;
         
         // Draw background panel
         g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.7f));
@@ -191,6 +191,19 @@ public class DebugOverlay {
         
         y += LINE_HEIGHT;
         
+        // Simulation tick and world state hash, for comparing runs
+        g.setColor(LABEL_COLOR);
+        g.drawString("Tick:", x, y);
+        g.setColor(TEXT_COLOR);
+        g.drawString(String.valueOf(monitor.getSimulationTick()), x + 70, y);
+        
+        g.setColor(LABEL_COLOR);
+        g.drawString("Hash:", x + 200, y);
+        g.setColor(TEXT_COLOR);
+        g.drawString(String.format("%016x", monitor.getStateHash()), x + 250, y);
+        
+        y += LINE_HEIGHT;
+        
         return y;
     }
     
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.buglife.levels.LevelRegistry;
 
 import java.io.InputStream;
 import java.io.FileWriter;
@@ -72,7 +73,7 @@ public class PerformanceMonitor {
     
     // Level selection menu
     private boolean showLevelMenu;
-    private String[] availableLevels = {"level1", "level2", "level3", "level4", "level5"};
+    private final String[] availableLevels = LevelRegistry.getInstance().discoverLevels().toArray(new String[0]); // Campaign first, then every other map
     private int selectedLevelIndex = 0;
     
     // Player coordinates
@@ -105,6 +106,8 @@ public class PerformanceMonitor {
     
     // Level info
     private String currentLevel;
+    private int simulationTick;
+    private long stateHash;
     
     private PerformanceMonitor() {
         this.startTime = System.nanoTime();
@@ -587,6 +590,22 @@ public class PerformanceMonitor {
         return currentLevel != null ? currentLevel : "Unknown";
     }
     
+    /**
+     * Set the simulation tick and world state hash after it (see StateHash)
+     */
+    public void setStateHash(int tick, long hash) {
+        this.simulationTick = tick;
+        this.stateHash = hash;
+    }
+    
+    public int getSimulationTick() {
+        return simulationTick;
+    }
+    
+    public long getStateHash() {
+        return stateHash;
+    }
+    
     // ========== CONFIG PERSISTENCE ==========
     
     /**
@@ -0,0 +1,136 @@
+package com.buglife.world;
+
+import java.util.Arrays;
+
+import com.buglife.levels.CompiledLevel;
+
+/**
+ * The decoded tile chunks of one level, loaded on first touch and dropped
+ * again once nothing has kept them around for a while.
+ *
+ * World asks the cache to retain the chunks around the camera and around
+ * every spider each tick; a chunk nobody retains for CHUNK_EVICT_TICKS is
+ * evicted. Tiles never change at runtime, so evicting just drops the decoded
+ * arrays; the chunk's compact run-length form stays in the level file (memory
+ * mapped when loaded from disk) and is decoded again if it's needed later.
+ *
+ * A lookup outside any retained area (a long raycast, a teleport) still
+ * works: it loads the chunk on the spot, and the next sweep evicts it.
+ */
+final class ChunkCache {
+
+    private static final int SIZE = CompiledLevel.CHUNK_SIZE;
+    private static final int SHIFT = Integer.numberOfTrailingZeros(SIZE);
+    private static final int MASK = SIZE - 1;
+
+    /** One decoded chunk. Immutable once built, so readers on any thread can share it. */
+    static final class Chunk {
+        final short[] cells = new short[CompiledLevel.CHUNK_CELLS]; // Unsigned palette indices, OFF_MAP off the map
+        final long[] solid = new long[CompiledLevel.CHUNK_CELLS / 64];
+        final int index;
+        int retainedAt;
+
+        Chunk(CompiledLevel level, int cx, int cy, int index) {
+            level.readChunk(cx, cy, cells, solid);
+            this.index = index;
+        }
+    }
+
+    private final CompiledLevel level;
+    private final int columns;
+    private final int rows;
+    private final int evictAfterTicks;
+    private final int sweepInterval;
+
+    private final Chunk[] chunks;
+    private Chunk[] resident = new Chunk[16]; // Loaded chunks, in no particular order
+    private int residentCount;
+    private int tick;
+
+    ChunkCache(CompiledLevel level, int evictAfterTicks, int sweepInterval) {
+        this.level = level;
+        this.columns = level.getChunkColumns();
+        this.rows = level.getChunkRows();
+        this.evictAfterTicks = evictAfterTicks;
+        this.sweepInterval = sweepInterval;
+        this.chunks = new Chunk[columns * rows];
+    }
+
+    // ========== LOOKUPS ==========
+
+    /** Palette index of a tile; the caller checks bounds. */
+    int cellAt(int col, int row) {
+        return chunk(col >> SHIFT, row >> SHIFT).cells[((row & MASK) << SHIFT) | (col & MASK)] & 0xFFFF;
+    }
+
+    /** Whether a tile blocks movement; the caller checks bounds. */
+    boolean isSolid(int col, int row) {
+        int cell = ((row & MASK) << SHIFT) | (col & MASK);
+        return (chunk(col >> SHIFT, row >> SHIFT).solid[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    Chunk chunk(int cx, int cy) {
+        Chunk chunk = chunks[cy * columns + cx];
+        return chunk != null ? chunk : load(cx, cy);
+    }
+
+    private synchronized Chunk load(int cx, int cy) {
+        int index = cy * columns + cx;
+        Chunk chunk = chunks[index];
+        if (chunk != null) {
+            return chunk; // Another thread got here first
+        }
+        chunk = new Chunk(level, cx, cy, index);
+        chunk.retainedAt = tick;
+        if (residentCount == resident.length) {
+            resident = Arrays.copyOf(resident, residentCount * 2);
+        }
+        resident[residentCount++] = chunk;
+        chunks[index] = chunk;
+        return chunk;
+    }
+
+    // ========== RESIDENCY ==========
+
+    /** Load (if needed) and keep every chunk in an inclusive chunk-coordinate rectangle. */
+    void retain(int minCx, int minCy, int maxCx, int maxCy) {
+        minCx = Math.max(0, minCx);
+        minCy = Math.max(0, minCy);
+        maxCx = Math.min(columns - 1, maxCx);
+        maxCy = Math.min(rows - 1, maxCy);
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                chunk(cx, cy).retainedAt = tick;
+            }
+        }
+    }
+
+    /**
+     * Advance the cache's clock one tick and, every sweepInterval ticks, drop
+     * the chunks nobody has retained for evictAfterTicks.
+     */
+    synchronized void tick() {
+        if (++tick % sweepInterval != 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < residentCount; i++) {
+            Chunk chunk = resident[i];
+            if (tick - chunk.retainedAt > evictAfterTicks) {
+                chunks[chunk.index] = null;
+            } else {
+                resident[kept++] = chunk;
+            }
+        }
+        Arrays.fill(resident, kept, residentCount, null);
+        residentCount = kept;
+    }
+
+    synchronized int getResidentCount() {
+        return residentCount;
+    }
+
+    int getChunkCount() {
+        return chunks.length;
+    }
+}
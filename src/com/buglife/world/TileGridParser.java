@@ -0,0 +1,166 @@
+package com.buglife.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads the tile grid at the top of a res/maps/*.txt file.
+ *
+ * The grid is whitespace-separated tile IDs, one map row per line, ending at
+ * the first line that starts with '#' (where the entity sections begin) or at
+ * the end of the file. Blank lines are skipped.
+ *
+ * Bytes are scanned straight into one row-major int[] that doubles when full:
+ * no Strings, no regex, no boxed Integers, no per-row lists. The only other
+ * allocation is the read buffer.
+ */
+public final class TileGridParser {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_CAPACITY = 4096; // Tiles; a 64x64 map fits without growing
+
+    /** A parsed grid. Tiles are stored row-major: tile (col, row) is at row * width + col. */
+    public static final class Grid {
+        /** A 0x0 grid, for a map that couldn't be read. */
+        public static final Grid EMPTY = new Grid(0, 0, new int[0]);
+
+        public final int width;
+        public final int height;
+        private final int[] tiles;
+
+        Grid(int width, int height, int[] tiles) {
+            this.width = width;
+            this.height = height;
+            this.tiles = tiles;
+        }
+
+        public int get(int col, int row) {
+            return tiles[row * width + col];
+        }
+
+        /**
+         * The backing array, not copied. It may be longer than width * height;
+         * only that many entries are tiles.
+         */
+        public int[] getTiles() {
+            return tiles;
+        }
+
+        /** A copy as one int[] per row, for callers that index [row][col]. */
+        public int[][] toRows() {
+            int[][] rows = new int[height][];
+            for (int row = 0; row < height; row++) {
+                rows[row] = Arrays.copyOfRange(tiles, row * width, (row + 1) * width);
+            }
+            return rows;
+        }
+    }
+
+    private TileGridParser() {}
+
+    /**
+     * Parse a grid from a stream. The stream is read up to the first '#' line
+     * and is not closed.
+     *
+     * @throws IOException on a read error, a malformed number or a row whose
+     *         length differs from the first row's
+     */
+    public static Grid parse(InputStream in) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int[] tiles = new int[INITIAL_CAPACITY];
+        int count = 0;
+
+        int width = -1;
+        int height = 0;
+        int rowLength = 0;
+        int line = 1;
+
+        int value = 0;
+        boolean inNumber = false;
+        boolean negative = false;
+        boolean lineStart = true; // Only whitespace so far on this line
+
+        int read;
+        scan:
+        while ((read = in.read(buffer)) > 0) {
+            for (int i = 0; i < read; i++) {
+                int b = buffer[i];
+
+                if (b >= '0' && b <= '9') {
+                    if (value > (Integer.MAX_VALUE - 9) / 10) {
+                        throw new IOException("Tile ID too large on line " + line);
+                    }
+                    value = value * 10 + (b - '0');
+                    inNumber = true;
+                    lineStart = false;
+                    continue;
+                }
+
+                // Anything else ends the number in progress
+                if (inNumber) {
+                    if (count == tiles.length) {
+                        tiles = Arrays.copyOf(tiles, count * 2);
+                    }
+                    tiles[count++] = negative ? -value : value;
+                    rowLength++;
+                    value = 0;
+                    inNumber = false;
+                    negative = false;
+                } else if (negative) {
+                    throw new IOException("Stray '-' on line " + line);
+                }
+
+                switch (b) {
+                    case ' ':
+                    case '\t':
+                    case '\r':
+                        break;
+                    case '\n':
+                        if (rowLength > 0) {
+                            if (width < 0) {
+                                width = rowLength;
+                            } else if (rowLength != width) {
+                                throw new IOException("Line " + line + " has " + rowLength
+                                        + " tiles, expected " + width);
+                            }
+                            height++;
+                            rowLength = 0;
+                        }
+                        line++;
+                        lineStart = true;
+                        break;
+                    case '-':
+                        negative = true;
+                        lineStart = false;
+                        break;
+                    case '#':
+                        if (lineStart) break scan; // Entity sections start here
+                        throw new IOException("Unexpected '#' on line " + line);
+                    default:
+                        throw new IOException("Unexpected character '" + (char) (b & 0xFF) + "' on line " + line);
+                }
+            }
+        }
+
+        // The last row may not end with a newline
+        if (inNumber) {
+            if (count == tiles.length) {
+                tiles = Arrays.copyOf(tiles, count * 2);
+            }
+            tiles[count++] = negative ? -value : value;
+            rowLength++;
+        } else if (negative) {
+            throw new IOException("Stray '-' on line " + line);
+        }
+        if (rowLength > 0) {
+            if (width >= 0 && rowLength != width) {
+                throw new IOException("Line " + line + " has " + rowLength + " tiles, expected " + width);
+            }
+            if (width < 0) width = rowLength;
+            height++;
+        }
+
+        return new Grid(Math.max(width, 0), height, tiles);
+    }
+}
@@ -1,38 +1,44 @@
 package com.buglife.world;
 
 // import javax.imageio.ImageIO;
-import java.io.*;
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.awt.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.buglife.assets.AssetManager;
+import com.buglife.assets.AssetManifest;
+import com.buglife.config.GameConstants;
+import com.buglife.levels.CompiledLevel;
 
 public class World {
     private static final Logger logger = LoggerFactory.getLogger(World.class);
     public static final int TILE_SIZE = 64; // The size of each tile in pixels
 
-    private static Tile[] tileTypes; // An array to hold our different tile types (floor, wall, etc.)
-    private int[][] mapData; // The 2D array that is our level design
+    private Tile[] tileTypes; // Tile for each palette index (floor, wall, etc.)
+    private int[] palette; // Tile ID for each palette index; map cells store palette indices
+    private int mapWidth;
+    private int mapHeight;
+    private CompiledLevel level; // Source of the grid, chunk by chunk
+    private ChunkCache chunks; // Chunks decoded so far, evicted when nothing is near them
 
     public int getMapWidth() {
-        return mapData[0].length;
+        return mapWidth;
     }
 
     public int getMapHeight() {
-        return mapData.length;
+        return mapHeight;
     }
 
     // Add this method to your World.java class
     public int getTileIdAt(int mapCol, int mapRow) {
         // Check if the coordinate is out of bounds
-        if (mapRow < 0 || mapRow >= mapData.length || mapCol < 0 || mapCol >= mapData[0].length) {
+        if (mapRow < 0 || mapRow >= mapHeight || mapCol < 0 || mapCol >= mapWidth) {
             return -1; // Return an invalid ID for out-of-bounds
         }
         // Return the tile ID from our map data
-        return mapData[mapRow][mapCol];
+        return palette[chunks.cellAt(mapCol, mapRow)];
     }
     public boolean checkCollision(int x, int y, int width, int height) {
         // Check all four corners of the bounding box
@@ -69,13 +75,10 @@ public class World {
         int mapRow = worldY / TILE_SIZE;
 
         // First, check if the coordinate is even on the map
-        
+        if (mapRow >= mapHeight || mapCol >= mapWidth) return true;
 
-        // Get the ID of the tile at that grid position
-        int tileID = mapData[mapRow][mapCol];
-
-        // Return whether that tile type is solid or not
-        return tileTypes[tileID].solid;
+        // Each decoded chunk carries one solidity bit per cell
+        return chunks.isSolid(mapCol, mapRow);
     }
 
     public World() {
@@ -83,144 +86,98 @@ public class World {
     }
     
     public World(String levelName) {
-        if(tileTypes == null){
-            loadTileTypes();
-        }
-        
-        loadMapFromFile("/res/maps/" + levelName + ".txt");
+        this(CompiledLevel.load(levelName));
     }
 
-    private void loadMapFromFile(String filePath) {
-        List<List<Integer>> mapRows = new ArrayList<>();
-        try {
-            InputStream is = getClass().getResourceAsStream(filePath);
-            BufferedReader reader = new BufferedReader(new InputStreamReader(is));
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) continue; // Skip empty lines
-                if (line.trim().startsWith("#")) break; // Stop at entity data sections
-
-                List<Integer> row = new ArrayList<>();
-                String[] numbers = line.trim().split("\\s+"); // Split by one or more spaces
-                for (String num : numbers) {
-                    row.add(Integer.parseInt(num));
-                }
-                mapRows.add(row);
-            }
-            reader.close();
-
-        } catch (Exception e) {
-            logger.error("Failed to load map file: {}", filePath, e);
-            return;
-        }
+    public World(CompiledLevel level) {
+        this.level = level;
+        this.palette = level.getTilePalette();
+        this.mapWidth = level.getWidth();
+        this.mapHeight = level.getHeight();
+        this.chunks = new ChunkCache(level, GameConstants.World.CHUNK_EVICT_TICKS,
+                GameConstants.World.CHUNK_SWEEP_INTERVAL);
+        loadTileTypes();
+    }
 
-        // Convert our flexible list into a rigid 2D array for performance
-        int height = mapRows.size();
-        int width = mapRows.get(0).size();
-        this.mapData = new int[height][width];
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                this.mapData[row][col] = mapRows.get(row).get(col);
+    /**
+     * Build the tile table for the tile IDs this map actually uses. Sprites come
+     * from the AssetManager cache, which the level's AssetScope has already filled.
+     */
+    private void loadTileTypes() {
+        tileTypes = new Tile[palette.length];
+
+        AssetManager assets = AssetManager.getInstance();
+        for (int i = 0; i < palette.length; i++) {
+            AssetManifest.TileSpec spec = AssetManifest.getTile(palette[i]);
+            if (spec == null) {
+                logger.warn("Map uses tile {} with no sprite in the asset manifest", palette[i]);
+                continue;
             }
+            tileTypes[i] = new Tile(assets.getOrLoadImage(spec.spritePath), spec.solid);
         }
-    } 
+    }
 
-    private void loadTileTypes() {
-        tileTypes = new Tile[50]; // We have 2 types of tiles right now
-        try {
-            // Tile 0: The Floor
-            BufferedImage floorImage = AssetManager.getInstance().loadImage("/res/sprites/tiles/floor_1.png");
-            tileTypes[0] = new Tile(floorImage, false); // false = not solid
-
-            // Tile 1: The Wall
-            BufferedImage wallImage = AssetManager.getInstance().loadImage("/res/sprites/tiles/wall_5.png");
-            tileTypes[1] = new Tile(wallImage, true);
-            
-            BufferedImage wallImage1 = AssetManager.getInstance().loadImage("/res/sprites/tiles/wall.png");
-            tileTypes[2] = new Tile(wallImage1, true);
-
-            BufferedImage stickyImage = AssetManager.getInstance().loadImage("/res/sprites/tiles/sticky_floor.png");
-            tileTypes[3] = new Tile(stickyImage, false);
-            
-            BufferedImage btile = AssetManager.getInstance().loadImage("/res/sprites/tiles/broken_tile.png");
-            tileTypes[4] = new Tile(btile, true);
-
-            BufferedImage shadowImage = AssetManager.getInstance().loadImage("/res/sprites/tiles/shadow_tile.png");
-            tileTypes[5] = new Tile(shadowImage, false);
-            
-
-            //stain floor
-             BufferedImage mtile1 = AssetManager.getInstance().loadImage("/res/sprites/tiles/stain_1.png");
-            tileTypes[6] = new Tile(mtile1, false);
-             BufferedImage mtile2 = AssetManager.getInstance().loadImage("/res/sprites/tiles/stain_2.png");
-            tileTypes[7] = new Tile(mtile2, false); 
-             BufferedImage mtile3 = AssetManager.getInstance().loadImage("/res/sprites/tiles/stain_3.png");
-            tileTypes[8] = new Tile(mtile3, false); 
-             BufferedImage mtile4 = AssetManager.getInstance().loadImage("/res/sprites/tiles/stain_4.png");
-            tileTypes[9] = new Tile(mtile4, false);
-
-            //chimney intro tiles
-            BufferedImage itile1 = AssetManager.getInstance().loadImage("/res/sprites/tiles/introtile1.png");
-            tileTypes[41] = new Tile(itile1, false);
-            BufferedImage itile2 = AssetManager.getInstance().loadImage("/res/sprites/tiles/introtile2.png");
-            tileTypes[42] = new Tile(itile2, false);
-            BufferedImage itile3 = AssetManager.getInstance().loadImage("/res/sprites/tiles/introtile3.png");
-            tileTypes[43] = new Tile(itile3, false);
-            BufferedImage itile4 = AssetManager.getInstance().loadImage("/res/sprites/tiles/introtile4.png");
-            tileTypes[44] = new Tile(itile4, true); 
-            BufferedImage itile5 = AssetManager.getInstance().loadImage("/res/sprites/tiles/introtile5.png");
-            tileTypes[45] = new Tile(itile5, true); 
-            BufferedImage itile6 = AssetManager.getInstance().loadImage("/res/sprites/tiles/introtile6.png");
-            tileTypes[46] = new Tile(itile6, true);     
-
-            //plank tiles
-             BufferedImage ptile1 = AssetManager.getInstance().loadImage("/res/sprites/tiles/plank1.png");
-            tileTypes[31] = new Tile(ptile1, false);
-             BufferedImage ptile2 = AssetManager.getInstance().loadImage("/res/sprites/tiles/plank2.png");
-            tileTypes[32] = new Tile(ptile2, false); 
-             BufferedImage ptile3 = AssetManager.getInstance().loadImage("/res/sprites/tiles/plank3.png");
-            tileTypes[33] = new Tile(ptile3, false); 
-             BufferedImage ptile4 = AssetManager.getInstance().loadImage("/res/sprites/tiles/plank4.png");
-            tileTypes[34] = new Tile(ptile4, false);
-
-            //ladder tiles
-             BufferedImage ltile1 = AssetManager.getInstance().loadImage("/res/sprites/tiles/l1.png");
-            tileTypes[35] = new Tile(ltile1, true);
-             BufferedImage ltile2 = AssetManager.getInstance().loadImage("/res/sprites/tiles/l2.png");
-            tileTypes[36] = new Tile(ltile2, true); 
-             BufferedImage ltile3 = AssetManager.getInstance().loadImage("/res/sprites/tiles/l3.png");
-            tileTypes[37] = new Tile(ltile3, false); 
-             BufferedImage ltile4 = AssetManager.getInstance().loadImage("/res/sprites/tiles/l4.png");
-            tileTypes[38] = new Tile(ltile4, true);
-
-            //sack prop tiles
-             BufferedImage stile1 = AssetManager.getInstance().loadImage("/res/sprites/tiles/sack_w1.png");
-            tileTypes[11] = new Tile(stile1, true);
-             BufferedImage stile2 = AssetManager.getInstance().loadImage("/res/sprites/tiles/sack_w2.png");
-            tileTypes[12] = new Tile(stile2, true); 
-             BufferedImage stile3 = AssetManager.getInstance().loadImage("/res/sprites/tiles/sack_w3.png");
-            tileTypes[13] = new Tile(stile3, false); 
-             BufferedImage stile4 = AssetManager.getInstance().loadImage("/res/sprites/tiles/sack_w4.png");
-            tileTypes[14] = new Tile(stile4, true);
-
-
-        } catch (Exception e) {
-            logger.error("Failed to load tile images", e);
-        }
+    // ========== CHUNK RESIDENCY ==========
+
+    /**
+     * Keep the chunks under a screen-sized view (plus a margin) loaded. Call
+     * once per tick with the camera, before {@link #evictUnretainedChunks()}.
+     */
+    public void retainView(int cameraX, int cameraY, int screenWidth, int screenHeight) {
+        int chunkPixels = CompiledLevel.CHUNK_SIZE * TILE_SIZE;
+        int margin = GameConstants.World.CHUNK_VIEW_MARGIN;
+        chunks.retain(Math.floorDiv(cameraX, chunkPixels) - margin,
+                Math.floorDiv(cameraY, chunkPixels) - margin,
+                Math.floorDiv(cameraX + screenWidth, chunkPixels) + margin,
+                Math.floorDiv(cameraY + screenHeight, chunkPixels) + margin);
     }
+
+    /** Keep the 3x3 chunks around a world position (e.g. an active spider) loaded. */
+    public void retainAround(int worldX, int worldY) {
+        int chunkPixels = CompiledLevel.CHUNK_SIZE * TILE_SIZE;
+        int cx = Math.floorDiv(worldX, chunkPixels);
+        int cy = Math.floorDiv(worldY, chunkPixels);
+        chunks.retain(cx - 1, cy - 1, cx + 1, cy + 1);
+    }
+
+    /** Advance the chunk clock and periodically drop chunks nothing has retained lately. */
+    public void evictUnretainedChunks() {
+        chunks.tick();
+    }
+
+    public int getResidentChunkCount() {
+        return chunks.getResidentCount();
+    }
+
+    public int getChunkCount() {
+        return chunks.getChunkCount();
+    }
+
     // Add this method to World.java
 
     public List<Point> findSpiderPath() {
+        // One pass over the whole map: decode into scratch arrays rather than
+        // filling the chunk cache with chunks nobody is near
         List<Point> path = new ArrayList<>();
-        for (int row = 0; row < mapData.length; row++) {
-            for (int col = 0; col < mapData[row].length; col++) {
-                if (mapData[row][col] == 2) {
-                    // We add the TILE grid coordinates, not pixels
-                    path.add(new Point(col, row));
+        int spiderIndex = Arrays.binarySearch(palette, 2);
+        if (spiderIndex < 0) {
+            return path;
+        }
+        short[] cells = new short[CompiledLevel.CHUNK_CELLS];
+        long[] solid = new long[CompiledLevel.CHUNK_CELLS / 64];
+        int size = CompiledLevel.CHUNK_SIZE;
+        for (int cy = 0; cy < level.getChunkRows(); cy++) {
+            for (int cx = 0; cx < level.getChunkColumns(); cx++) {
+                level.readChunk(cx, cy, cells, solid);
+                for (int i = 0; i < cells.length; i++) {
+                    if ((cells[i] & 0xFFFF) == spiderIndex) {
+                        // We add the TILE grid coordinates, not pixels
+                        path.add(new Point(cx * size + i % size, cy * size + i / size));
+                    }
                 }
             }
         }
+        path.sort((a, b) -> a.y != b.y ? Integer.compare(a.y, b.y) : Integer.compare(a.x, b.x));
         // This simple version just adds them in reading order.
         // More complex versions could sort them to make a clean path.
         return path;
@@ -246,8 +203,7 @@ public class World {
         // 3. Now, loop ONLY through the visible tiles!
         for (int row = startRow; row < endRow; row++) {
             for (int col = startCol; col < endCol; col++) {
-                int tileID = mapData[row][col];
-                Tile tileToDraw = tileTypes[tileID];
+                Tile tileToDraw = tileTypes[chunks.cellAt(col, row)];
 
                 if (tileToDraw != null && tileToDraw.image != null) {
                     // Calculate where to draw the tile on the screen
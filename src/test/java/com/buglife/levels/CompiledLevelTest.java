@@ -0,0 +1,233 @@
+package com.buglife.levels;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+
+import com.buglife.world.TileGridParser;
+
+class CompiledLevelTest {
+
+    private static final String SECTIONS = String.join("\n",
+            "# PLAYER_SPAWN",
+            "96 160",
+            "",
+            "# TOY_SPAWN",
+            "none",
+            "",
+            "# SPIDERS",
+            "rectangle 2 2 8 7 @hunter Top-left patrol",
+            "vertical 30 1 20",
+            "",
+            "# SPIDER_ARCHETYPES",
+            "hunter chaseSpeed=3.5",
+            "",
+            "# SNAILS",
+            "200 300 true Hello|Goodbye",
+            "",
+            "# FOOD",
+            "berry 3 4 Near start",
+            "energy_seed 33 33",
+            "",
+            "# TRIPWIRES",
+            "640 640",
+            "",
+            "# MECHANICS",
+            "dash true",
+            "tripwires true",
+            "");
+
+    @Test
+    void levelRoundTrips() throws IOException {
+        // 40x35 spans four chunks, three of them partial
+        String text = map(40, 35, (col, row) -> (col * 7 + row * 3) % 5 == 0 ? 1 : (col + row) % 3);
+        TileGridParser.Grid grid = parseGrid(text);
+        LevelConfig config = TxtBackedLevelConfig.parse("roundtrip", stream(text));
+
+        CompiledLevel level = CompiledLevel.decode(ByteBuffer.wrap(CompiledLevel.encode("roundtrip", grid, config)));
+
+        assertEquals("roundtrip", level.getLevelName());
+        assertEquals(40, level.getWidth());
+        assertEquals(35, level.getHeight());
+        assertEquals(2, level.getChunkColumns());
+        assertEquals(2, level.getChunkRows());
+        assertArrayEquals(new int[] {0, 1, 2}, level.getTilePalette());
+        assertCellsMatch(level, grid);
+
+        assertEquals(new Point(96, 160), level.getPlayerSpawn());
+        assertNull(level.getToySpawn());
+        assertTrue(level.getMechanicsEnabled().isDashEnabled());
+        assertTrue(level.getMechanicsEnabled().isTripWiresEnabled());
+        assertEquals(config.getTripWirePositions(), level.getTripWirePositions());
+        assertEquals(2, level.getSpiderPatrols().size());
+        assertEquals("hunter", level.getSpiderPatrols().get(0).getArchetype());
+        assertEquals(config.getSpiderPatrols().get(1).getWaypoints(), level.getSpiderPatrols().get(1).getWaypoints());
+        assertEquals(3.5, level.getSpiderArchetypeOverrides().get("hunter").get("chaseSpeed"));
+        assertArrayEquals(new String[] {"Hello", "Goodbye"}, level.getSnailLocations().get(0).getDialogue());
+        assertEquals(config.getFoodSpawns().get(1).getId(), level.getFoodSpawns().get(1).getId());
+    }
+
+    @Test
+    void reEncodingGivesTheSameBytes() throws IOException {
+        String text = map(33, 33, (col, row) -> col == row ? 1 : 0);
+        byte[] encoded = CompiledLevel.encode("stable", parseGrid(text), TxtBackedLevelConfig.parse("stable", stream(text)));
+
+        assertArrayEquals(encoded, CompiledLevel.decode(ByteBuffer.wrap(encoded)).encode());
+    }
+
+    @Test
+    void paletteIndicesAboveSignedShortRange() throws IOException {
+        // 200x200 distinct IDs: palette indices past 32767 must not read back negative
+        String text = map(200, 200, (col, row) -> row * 200 + col);
+        TileGridParser.Grid grid = parseGrid(text);
+
+        CompiledLevel level = CompiledLevel.compile("wide", grid, TxtBackedLevelConfig.parse("wide", stream(text)));
+
+        assertEquals(40_000, level.getTilePalette().length);
+        assertCellsMatch(level, grid);
+    }
+
+    @Test
+    void cellsPastTheMapEdgeAreOffMap() throws IOException {
+        String text = map(3, 2, (col, row) -> 1);
+        CompiledLevel level = CompiledLevel.compile("tiny", parseGrid(text), TxtBackedLevelConfig.parse("tiny", stream(text)));
+
+        short[] cells = new short[CompiledLevel.CHUNK_CELLS];
+        level.readChunk(0, 0, cells, new long[CompiledLevel.CHUNK_CELLS / 64]);
+
+        assertEquals(0, cells[1 * CompiledLevel.CHUNK_SIZE + 2] & 0xFFFF);
+        assertEquals(CompiledLevel.OFF_MAP, cells[1 * CompiledLevel.CHUNK_SIZE + 3] & 0xFFFF);
+        assertEquals(CompiledLevel.OFF_MAP, cells[2 * CompiledLevel.CHUNK_SIZE] & 0xFFFF);
+    }
+
+    @Test
+    void flippedByteFailsTheChecksum() throws IOException {
+        byte[] encoded = sampleLevel();
+        encoded[encoded.length / 2] ^= 0x40;
+
+        IOException e = assertThrows(IOException.class, () -> CompiledLevel.decode(ByteBuffer.wrap(encoded)));
+        assertEquals("Compiled level checksum mismatch", e.getMessage());
+    }
+
+    @Test
+    void truncatedLevelIsRejected() {
+        byte[] encoded = sampleLevel();
+
+        for (int length : new int[] {0, 11, 12, 40, encoded.length / 2, encoded.length - 1}) {
+            byte[] prefix = Arrays.copyOf(encoded, length);
+            assertThrows(IOException.class, () -> CompiledLevel.decode(ByteBuffer.wrap(prefix)), length + " bytes");
+        }
+    }
+
+    @Test
+    void wrongMagicAndVersionAreRejected() {
+        byte[] badMagic = sampleLevel();
+        badMagic[0] = 'X';
+        byte[] badVersion = sampleLevel();
+        badVersion[5] = (byte) (CompiledLevel.VERSION + 1);
+
+        IOException magic = assertThrows(IOException.class, () -> CompiledLevel.decode(ByteBuffer.wrap(resealed(badMagic))));
+        IOException version = assertThrows(IOException.class, () -> CompiledLevel.decode(ByteBuffer.wrap(resealed(badVersion))));
+        assertEquals("Not a compiled level", magic.getMessage());
+        assertTrue(version.getMessage().startsWith("Unsupported compiled level version"));
+    }
+
+    @Test
+    void corruptRunsAreRejectedWithAValidChecksum() {
+        // The last run before the checksum: its palette index, then its length
+        byte[] badIndex = sampleLevel();
+        badIndex[badIndex.length - 6] = 0x7F;
+        byte[] shortRun = sampleLevel();
+        shortRun[shortRun.length - 8] ^= 0x01;
+
+        assertThrows(IOException.class, () -> CompiledLevel.decode(ByteBuffer.wrap(resealed(badIndex))));
+        assertThrows(IOException.class, () -> CompiledLevel.decode(ByteBuffer.wrap(resealed(shortRun))));
+    }
+
+    @Test
+    void tooManyDistinctTilesIsRejected() throws IOException {
+        String text = map(256, 256, (col, row) -> row * 256 + col);
+        TileGridParser.Grid grid = parseGrid(text);
+        LevelConfig config = TxtBackedLevelConfig.parse("huge", stream(text));
+
+        assertThrows(IllegalArgumentException.class, () -> CompiledLevel.encode("huge", grid, config));
+    }
+
+    // ========== HELPERS ==========
+
+    private interface TileFunction {
+        int at(int col, int row);
+    }
+
+    private static String map(int width, int height, TileFunction tiles) {
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (col > 0) text.append(' ');
+                text.append(tiles.at(col, row));
+            }
+            text.append('\n');
+        }
+        return text.append('\n').append(SECTIONS).toString();
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TileGridParser.Grid parseGrid(String text) throws IOException {
+        return TileGridParser.parse(stream(text));
+    }
+
+    private static byte[] sampleLevel() {
+        try {
+            String text = map(40, 35, (col, row) -> (col + row) % 4);
+            return CompiledLevel.encode("sample", parseGrid(text), TxtBackedLevelConfig.parse("sample", stream(text)));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /** Recompute the trailing CRC so a deliberate edit gets past the checksum. */
+    private static byte[] resealed(byte[] level) {
+        CRC32 crc = new CRC32();
+        crc.update(level, 0, level.length - 4);
+        ByteBuffer.wrap(level).putInt(level.length - 4, (int) crc.getValue());
+        return level;
+    }
+
+    private static void assertCellsMatch(CompiledLevel level, TileGridParser.Grid grid) {
+        int[] palette = level.getTilePalette();
+        short[] cells = new short[CompiledLevel.CHUNK_CELLS];
+        long[] solid = new long[CompiledLevel.CHUNK_CELLS / 64];
+        for (int cy = 0; cy < level.getChunkRows(); cy++) {
+            for (int cx = 0; cx < level.getChunkColumns(); cx++) {
+                level.readChunk(cx, cy, cells, solid);
+                for (int i = 0; i < CompiledLevel.CHUNK_CELLS; i++) {
+                    int col = cx * CompiledLevel.CHUNK_SIZE + i % CompiledLevel.CHUNK_SIZE;
+                    int row = cy * CompiledLevel.CHUNK_SIZE + i / CompiledLevel.CHUNK_SIZE;
+                    int index = cells[i] & 0xFFFF;
+                    if (col >= grid.width || row >= grid.height) {
+                        assertEquals(CompiledLevel.OFF_MAP, index);
+                        continue;
+                    }
+                    assertEquals(grid.get(col, row), palette[index], "tile at " + col + "," + row);
+                    boolean isSolid = (solid[i >>> 6] & (1L << i)) != 0;
+                    assertEquals(level.isPaletteSolid(index), isSolid, "solidity at " + col + "," + row);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.buglife.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StateHashTest {
+
+    private static final int SPIDERS = 12;
+
+    @Test
+    void identicalTicksMatch() {
+        StateHash a = tick(-1, false);
+        StateHash b = tick(-1, false);
+
+        int[] stored = stored(b);
+        assertTrue(a.matches(stored, 0));
+        assertNull(a.describeDifference(stored, 0));
+        assertEquals(a.combined(), b.combined());
+    }
+
+    @Test
+    void everySingleSpiderIsNamed() {
+        for (int k = 0; k < SPIDERS; k++) {
+            StateHash changed = tick(k, false);
+
+            assertEquals("spider #" + k, changed.describeDifference(stored(tick(-1, false)), 0));
+        }
+    }
+
+    @Test
+    void severalSpidersAreReportedTogether() {
+        StateHash a = new StateHash();
+        StateHash b = new StateHash();
+        a.beginTick();
+        b.beginTick();
+        for (int i = 0; i < SPIDERS; i++) {
+            a.addSpider(spiderHash(i, false));
+            b.addSpider(spiderHash(i, i == 2 || i == 7));
+        }
+
+        assertEquals("several spiders", a.describeDifference(stored(b), 0));
+    }
+
+    @Test
+    void swappedSpidersAreReportedTogether() {
+        // Same plain sum, different weighted sum
+        StateHash a = new StateHash();
+        StateHash b = new StateHash();
+        a.beginTick();
+        b.beginTick();
+        a.addSpider(spiderHash(0, false));
+        a.addSpider(spiderHash(1, false));
+        b.addSpider(spiderHash(1, false));
+        b.addSpider(spiderHash(0, false));
+
+        assertEquals("several spiders", a.describeDifference(stored(b), 0));
+    }
+
+    @Test
+    void playerAndSpiderAreBothNamed() {
+        StateHash changed = tick(3, true);
+
+        assertEquals("player, spider #3", changed.describeDifference(stored(tick(-1, false)), 0));
+    }
+
+    @Test
+    void onlyThePlayerDiffers() {
+        StateHash changed = tick(-1, true);
+
+        assertEquals("player", changed.describeDifference(stored(tick(-1, false)), 0));
+    }
+
+    @Test
+    void componentsAreReadAtAnOffset() {
+        int[] log = new int[3 * StateHash.COMPONENT_COUNT];
+        tick(-1, false).copyTo(log, StateHash.COMPONENT_COUNT);
+
+        assertTrue(tick(-1, false).matches(log, StateHash.COMPONENT_COUNT));
+        assertFalse(tick(-1, false).matches(log, 0));
+        assertEquals("spider #5", tick(5, false).describeDifference(log, StateHash.COMPONENT_COUNT));
+    }
+
+    @Test
+    void spiderSumsResetEachTick() {
+        StateHash hash = tick(-1, false);
+        int[] first = stored(hash);
+
+        hash.beginTick();
+        assertEquals(0, hash.getSpiderCount());
+        fill(hash, -1, false);
+
+        assertTrue(hash.matches(first, 0));
+    }
+
+    @Test
+    void mixSeparatesSignedZeros() {
+        long seed = StateHash.seed();
+        assertFalse(StateHash.mix(seed, 0.0) == StateHash.mix(seed, -0.0));
+    }
+
+    /** A tick with SPIDERS spiders; spider {@code changedSpider} (if any) and the player moved. */
+    private static StateHash tick(int changedSpider, boolean playerMoved) {
+        StateHash hash = new StateHash();
+        hash.beginTick();
+        fill(hash, changedSpider, playerMoved);
+        return hash;
+    }
+
+    private static void fill(StateHash hash, int changedSpider, boolean playerMoved) {
+        hash.setPlayer(StateHash.mix(StateHash.seed(), playerMoved ? 101.5 : 100.0));
+        hash.setToy(StateHash.mix(StateHash.seed(), false));
+        hash.setWorld(StateHash.mix(StateHash.seed(), 42L));
+        for (int i = 0; i < SPIDERS; i++) {
+            hash.addSpider(spiderHash(i, i == changedSpider));
+        }
+    }
+
+    private static long spiderHash(int index, boolean moved) {
+        long h = StateHash.mix(StateHash.seed(), (long) index);
+        return StateHash.mix(h, moved ? 33.25 : 32.0);
+    }
+
+    private static int[] stored(StateHash hash) {
+        int[] out = new int[StateHash.COMPONENT_COUNT];
+        hash.copyTo(out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,158 @@
+package com.buglife.save;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Saves go to saves/ under the working directory (target/test-run under
+ * Maven); every test cleans up its own player's files.
+ */
+class LocalSaveManagerTest {
+
+    private static final String PLAYER = "LOCALTEST";
+
+    @AfterEach
+    void deleteSaves() {
+        LocalSaveManager.deleteSave(PLAYER);
+    }
+
+    @Test
+    void saveAndLoadRoundTrip() {
+        assertTrue(LocalSaveManager.save(save(42, 1_000)));
+
+        SaveData loaded = LocalSaveManager.load(PLAYER);
+
+        assertNotNull(loaded);
+        assertEquals(42, loaded.getHunger());
+        assertEquals("level2", loaded.getLevelId());
+        assertEquals(SaveData.CURRENT_VERSION, loaded.getSaveVersion());
+        assertTrue(LocalSaveManager.hasSave(PLAYER));
+    }
+
+    @Test
+    void generationsRotateAndDropTheOldest() {
+        for (int hunger = 1; hunger <= 4; hunger++) {
+            LocalSaveManager.save(save(hunger, hunger));
+        }
+
+        assertEquals(4, hungerIn(generation(0)));
+        assertEquals(3, hungerIn(generation(1)));
+        assertEquals(2, hungerIn(generation(2)));
+        assertFalse(Files.exists(generation(3)));
+    }
+
+    @Test
+    void badChecksumFallsBackToOlderGeneration() throws IOException {
+        LocalSaveManager.save(save(10, 1));
+        LocalSaveManager.save(save(20, 2));
+
+        byte[] file = Files.readAllBytes(generation(0));
+        file[file.length - 1] ^= 0x01; // Last body byte: still the right length, wrong CRC
+        Files.write(generation(0), file);
+
+        assertEquals(10, LocalSaveManager.load(PLAYER).getHunger());
+    }
+
+    @Test
+    void truncatedSaveFallsBackToOlderGeneration() throws IOException {
+        LocalSaveManager.save(save(10, 1));
+        LocalSaveManager.save(save(20, 2));
+
+        byte[] file = Files.readAllBytes(generation(0));
+        Files.write(generation(0), Arrays.copyOf(file, file.length - 3));
+
+        assertEquals(10, LocalSaveManager.load(PLAYER).getHunger());
+    }
+
+    @Test
+    void malformedHeaderFallsBackToOlderGeneration() throws IOException {
+        LocalSaveManager.save(save(10, 1));
+        LocalSaveManager.save(save(20, 2));
+
+        Files.write(generation(0), "BLSAVE 2 nothex\n".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(10, LocalSaveManager.load(PLAYER).getHunger());
+    }
+
+    @Test
+    void everyGenerationDamagedLoadsNothing() throws IOException {
+        LocalSaveManager.save(save(10, 1));
+        Files.write(generation(0), new byte[] {'B', 'L', 'S', 'A', 'V', 'E', ' ', '9', '\n'});
+
+        assertNull(LocalSaveManager.load(PLAYER));
+        assertNull(LocalSaveManager.getSaveAsJson(PLAYER));
+    }
+
+    @Test
+    void legacyJsonSaveLoadsAndMigrates() throws IOException {
+        UserProfile.ensureSavesDirectory();
+        String json = "{\"playerName\":\"" + PLAYER + "\",\"levelId\":\"level1\",\"hunger\":77,"
+                + "\"saveVersion\":\"1.2\",\"remainingFoodIds\":[1,2]}";
+        Files.write(generation(0), json.getBytes(StandardCharsets.UTF_8));
+
+        SaveData loaded = LocalSaveManager.load(PLAYER);
+
+        assertEquals(77, loaded.getHunger());
+        assertEquals(SaveData.CURRENT_VERSION, loaded.getSaveVersion());
+    }
+
+    @Test
+    void newerCheckpointWinsUntilTheNextRealSave() {
+        LocalSaveManager.save(save(10, 1));
+        LocalSaveManager.saveCheckpoint(save(15, 2));
+        assertEquals(15, LocalSaveManager.load(PLAYER).getHunger());
+
+        LocalSaveManager.save(save(20, 3));
+        assertFalse(Files.exists(Paths.get("saves", PLAYER + ".sav.ckpt")));
+        assertEquals(20, LocalSaveManager.load(PLAYER).getHunger());
+    }
+
+    @Test
+    void deleteRemovesEveryGeneration() {
+        LocalSaveManager.save(save(10, 1));
+        LocalSaveManager.save(save(20, 2));
+        LocalSaveManager.saveCheckpoint(save(30, 3));
+
+        assertTrue(LocalSaveManager.deleteSave(PLAYER));
+        assertFalse(LocalSaveManager.hasSave(PLAYER));
+    }
+
+    private static SaveData save(int hunger, long timestamp) {
+        SaveData save = new SaveData();
+        save.setPlayerName(PLAYER);
+        save.setLevelId("level2");
+        save.setLevelIndex(1);
+        save.setHunger(hunger);
+        save.setSaveTimestamp(timestamp);
+        return save;
+    }
+
+    private static Path generation(int generation) {
+        return Paths.get("saves", PLAYER + ".sav" + (generation > 0 ? "." + generation : ""));
+    }
+
+    /** Decode a generation file directly (header line, then the binary body). */
+    private static int hungerIn(Path path) {
+        try {
+            byte[] file = Files.readAllBytes(path);
+            int start = 0;
+            while (file[start] != '\n') start++;
+            return SaveDataCodec.decode(Arrays.copyOfRange(file, start + 1, file.length)).getHunger();
+        } catch (IOException e) {
+            throw new AssertionError("Unreadable generation " + path, e);
+        }
+    }
+}
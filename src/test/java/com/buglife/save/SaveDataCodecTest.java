@@ -0,0 +1,182 @@
+package com.buglife.save;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SaveDataCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // ─── Varints ────────────────────────────────────────────────
+
+    @Test
+    void varintsRoundTrip() throws IOException {
+        long[] unsigned = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, 0xFFFFFFFFL, Long.MAX_VALUE, -1L};
+        int[] signed = {0, 1, -1, 63, -64, 64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+        SaveDataCodec.ByteSink out = new SaveDataCodec.ByteSink(4);
+        for (long value : unsigned) out.writeVarlong(value);
+        for (int value : signed) out.writeSignedVarint(value);
+        out.writeFixed(-512.5);
+        out.writeString("Ünïcode");
+        out.writeString(null);
+
+        SaveDataCodec.ByteSource in = new SaveDataCodec.ByteSource(out.toByteArray());
+        for (long value : unsigned) assertEquals(value, in.readVarlong());
+        for (int value : signed) assertEquals(value, in.readSignedVarint());
+        assertEquals(-512.5, in.readFixed());
+        assertEquals("Ünïcode", in.readString());
+        assertNull(in.readString());
+        assertEquals(0, in.remaining());
+    }
+
+    @Test
+    void smallValuesTakeOneByte() {
+        SaveDataCodec.ByteSink out = new SaveDataCodec.ByteSink(4);
+        out.writeVarint(127);
+        out.writeSignedVarint(-64);
+        assertEquals(2, out.toByteArray().length);
+    }
+
+    @Test
+    void idListsAreSortedAndDeltaEncoded() throws IOException {
+        SaveDataCodec.ByteSink out = new SaveDataCodec.ByteSink(4);
+        out.writeIdList(new int[] {900_000, 3, 70});
+        out.writeIdList(null);
+
+        SaveDataCodec.ByteSource in = new SaveDataCodec.ByteSource(out.toByteArray());
+        assertArrayEquals(new int[] {3, 70, 900_000}, in.readIdList());
+        assertArrayEquals(new int[0], in.readIdList());
+    }
+
+    @Test
+    void malformedVarintIsRejected() {
+        byte[] endless = new byte[12];
+        Arrays.fill(endless, (byte) 0x80);
+
+        IOException e = assertThrows(IOException.class, () -> new SaveDataCodec.ByteSource(endless).readVarlong());
+        assertEquals("Malformed varint", e.getMessage());
+    }
+
+    @Test
+    void varintCutShortIsRejected() {
+        byte[] cut = {(byte) 0x80, (byte) 0x80};
+
+        assertThrows(IOException.class, () -> new SaveDataCodec.ByteSource(cut).readVarint());
+    }
+
+    @Test
+    void oversizedCountsAreRejected() {
+        SaveDataCodec.ByteSink out = new SaveDataCodec.ByteSink(4);
+        out.writeVarint(1_000); // 1000 IDs promised, none follow
+        byte[] idList = out.toByteArray();
+
+        out = new SaveDataCodec.ByteSink(4);
+        out.writeVarint(51); // 50 bytes of string promised
+        out.writeByte('x');
+        byte[] string = out.toByteArray();
+
+        assertThrows(IOException.class, () -> new SaveDataCodec.ByteSource(idList).readIdList());
+        assertThrows(IOException.class, () -> new SaveDataCodec.ByteSource(string).readString());
+    }
+
+    // ─── Whole saves ────────────────────────────────────────────
+
+    @Test
+    void saveRoundTrips() throws IOException {
+        SaveData save = sampleSave();
+
+        SaveData decoded = SaveDataCodec.decode(SaveDataCodec.encode(save));
+
+        assertEquals(mapper.valueToTree(save), mapper.valueToTree(decoded));
+    }
+
+    @Test
+    void emptySaveRoundTrips() throws IOException {
+        SaveData save = new SaveData();
+
+        SaveData decoded = SaveDataCodec.decode(SaveDataCodec.encode(save));
+
+        assertEquals(mapper.valueToTree(save), mapper.valueToTree(decoded));
+    }
+
+    @Test
+    void truncatedSaveIsRejected() {
+        byte[] data = SaveDataCodec.encode(sampleSave());
+
+        for (int length = 0; length < data.length; length++) {
+            byte[] prefix = Arrays.copyOf(data, length);
+            assertThrows(IOException.class, () -> SaveDataCodec.decode(prefix), "prefix of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void unknownBinaryVersionIsRejected() {
+        byte[] data = SaveDataCodec.encode(sampleSave());
+        data[0] = (byte) (SaveDataCodec.BINARY_VERSION + 1);
+
+        IOException e = assertThrows(IOException.class, () -> SaveDataCodec.decode(data));
+        assertEquals("Unsupported binary save version: " + (SaveDataCodec.BINARY_VERSION + 1), e.getMessage());
+    }
+
+    @Test
+    void jsonRoundTrips() throws IOException {
+        SaveData save = sampleSave();
+
+        SaveData decoded = SaveDataCodec.fromJson(SaveDataCodec.toJson(save));
+
+        assertEquals(mapper.valueToTree(save), mapper.valueToTree(decoded));
+    }
+
+    static SaveData sampleSave() {
+        SaveData save = new SaveData();
+        save.setPlayerName("CODEC");
+        save.setLevelId("level2");
+        save.setLevelIndex(1);
+        save.setPlayerX(512.5);
+        save.setPlayerY(-64.25);
+        save.setFacingDirection("LEFT");
+        save.setCrying(true);
+        save.setHunger(73);
+        save.setSpeedBoostTimer(-1);
+        save.setHasToy(true);
+        save.setToyX(96.0);
+        save.setToyY(128.75);
+        save.setToyNoiseTimer(12);
+        save.setRemainingFoodIds(new int[] {2, 65_537, 1_048_600});
+        save.setTriggeredTripWireIds(new int[] {7});
+        save.setSnailLocationIndex(2);
+        save.setNextSnailLocationIndex(3);
+        save.setSnailHasTeleported(true);
+        save.setSaveTimestamp(1_760_000_000_000L);
+        save.setTotalPlaytimeSeconds(3_600);
+
+        SaveData.SpiderState spider = new SaveData.SpiderState();
+        spider.setState("CHASING");
+        spider.setX(300.5);
+        spider.setY(410.0);
+        spider.setSpeed(1.5);
+        spider.setRotationAngle(-90.0);
+        spider.setTargetIndex(3);
+        spider.setMovingForward(false);
+        spider.setInvestigating(true);
+        spider.setReturnX(10);
+        spider.setReturnY(-20);
+        spider.setInvestigationX(30);
+        spider.setInvestigationY(40);
+        spider.setInvestigationTimer(90);
+        spider.setLoseSightTimer(5);
+        save.setSpiders(List.of(spider, new SaveData.SpiderState()));
+        return save;
+    }
+}
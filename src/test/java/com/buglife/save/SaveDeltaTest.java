@@ -0,0 +1,105 @@
+package com.buglife.save;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class SaveDeltaTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void unchangedSaveGivesEmptyDelta() {
+        SaveData base = baseSave();
+
+        ObjectNode delta = SaveDelta.diff(mapper, base, base.frozenCopy());
+
+        assertEquals(0, delta.get("changed").size());
+        assertEquals(0, delta.get("removed_food_ids").size());
+    }
+
+    @Test
+    void eatenFoodTravelsAsRemovedIds() throws Exception {
+        SaveData base = baseSave();
+        SaveData next = base.frozenCopy();
+        next.setHunger(55);
+        next.setRemainingFoodIds(new int[] {3, 7});
+
+        ObjectNode delta = SaveDelta.diff(mapper, base, next);
+
+        assertEquals(mapper.readTree("[1,5]"), delta.get("removed_food_ids"));
+        assertFalse(delta.get("changed").has("remainingFoodIds"));
+        assertEquals(55, delta.get("changed").get("hunger").asInt());
+        assertRoundTrips(base, next, delta);
+    }
+
+    @Test
+    void foodThatComesBackResendsTheWholeList() throws Exception {
+        SaveData base = baseSave();
+        base.setRemainingFoodIds(new int[] {3});
+        SaveData next = base.frozenCopy();
+        next.setRemainingFoodIds(new int[] {1, 3, 5, 7});
+
+        ObjectNode delta = SaveDelta.diff(mapper, base, next);
+
+        assertEquals(0, delta.get("removed_food_ids").size());
+        assertEquals(mapper.readTree("[1,3,5,7]"), delta.get("changed").get("remainingFoodIds"));
+        assertRoundTrips(base, next, delta);
+    }
+
+    @Test
+    void fieldThatDisappearsIsSentAsNull() throws Exception {
+        SaveData base = baseSave();
+        base.setRemainingFoods(List.of(new SaveData.FoodState(64, 128, "BERRY")));
+        SaveData next = base.frozenCopy();
+        next.setRemainingFoods(null);
+
+        ObjectNode delta = SaveDelta.diff(mapper, base, next);
+
+        JsonNode gone = delta.get("changed").get("remainingFoods");
+        assertTrue(gone != null && gone.isNull());
+        assertRoundTrips(base, next, delta);
+    }
+
+    @Test
+    void removedIdsSkipSavesWithoutFoodList() {
+        ObjectNode stored = mapper.createObjectNode().put("hunger", 10);
+        ObjectNode delta = mapper.createObjectNode();
+        delta.putObject("changed").put("hunger", 20);
+        delta.putArray("removed_food_ids").add(4);
+
+        SaveDelta.apply(stored, delta);
+
+        assertEquals(20, stored.get("hunger").asInt());
+        assertNull(stored.get("remainingFoodIds"));
+    }
+
+    private void assertRoundTrips(SaveData base, SaveData next, JsonNode delta) throws Exception {
+        ObjectNode stored = mapper.valueToTree(base);
+        SaveDelta.apply(stored, mapper.readTree(mapper.writeValueAsString(delta)));
+
+        SaveData rebuilt = mapper.treeToValue(stored, SaveData.class);
+        assertEquals(mapper.valueToTree(next), mapper.valueToTree(rebuilt));
+    }
+
+    private static SaveData baseSave() {
+        SaveData save = new SaveData();
+        save.setPlayerName("DELTA");
+        save.setLevelId("level2");
+        save.setLevelIndex(1);
+        save.setPlayerX(100.0);
+        save.setPlayerY(200.0);
+        save.setHunger(42);
+        save.setRemainingFoodIds(new int[] {1, 3, 5, 7});
+        return save;
+    }
+}
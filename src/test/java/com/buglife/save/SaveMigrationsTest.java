@@ -0,0 +1,95 @@
+package com.buglife.save;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.buglife.entities.Food;
+import com.buglife.levels.FoodSpawnData;
+import com.buglife.levels.LevelRegistry;
+
+class SaveMigrationsTest {
+
+    @Test
+    void versionOneSaveReachesCurrent() {
+        FoodSpawnData spawn = LevelRegistry.getInstance().getConfig("level1").getFoodSpawns().get(0);
+        Food food = spawn.createFood();
+
+        SaveData save = new SaveData();
+        save.setPlayerName("MIGRATE");
+        save.setLevelId("level1");
+        save.setSaveVersion("1.0");
+        save.setFacingDirection(null);
+        save.setRemainingFoods(new ArrayList<>(List.of(
+                // 1.0 wrote types free-form; the position is a few pixels off the center
+                new SaveData.FoodState(food.getCenterX() + 2, food.getCenterY() - 3, " " + spawn.getType().name().toLowerCase()),
+                new SaveData.FoodState(food.getCenterX(), food.getCenterY(), "MUSHROOM"))));
+
+        SaveData migrated = SaveMigrations.migrate(save);
+
+        assertEquals(SaveData.CURRENT_VERSION, migrated.getSaveVersion());
+        assertEquals("DOWN", migrated.getFacingDirection());
+        assertArrayEquals(new int[] {spawn.getId()}, migrated.getRemainingFoodIds());
+        assertTrue(migrated.getRemainingFoods().isEmpty());
+        assertEquals(0, migrated.getSnailLocationIndex());
+        assertEquals(1, migrated.getNextSnailLocationIndex());
+        assertTrue(migrated.isSnailHasTeleported());
+    }
+
+    @Test
+    void missingVersionIsTreatedAsOneZero() {
+        SaveData save = new SaveData();
+        save.setSaveVersion(null);
+        save.setFacingDirection(null);
+
+        SaveData migrated = SaveMigrations.migrate(save);
+
+        assertEquals(SaveData.CURRENT_VERSION, migrated.getSaveVersion());
+        assertEquals("DOWN", migrated.getFacingDirection());
+    }
+
+    @Test
+    void foodOnAnUnknownLevelIsDropped() {
+        SaveData save = new SaveData();
+        save.setLevelId("no_such_level");
+        save.setSaveVersion("1.1");
+        save.setRemainingFoods(new ArrayList<>(List.of(new SaveData.FoodState(10, 10, "BERRY"))));
+
+        SaveData migrated = SaveMigrations.migrate(save);
+
+        assertArrayEquals(new int[0], migrated.getRemainingFoodIds());
+    }
+
+    @Test
+    void currentSaveIsLeftAlone() {
+        SaveData save = new SaveData();
+        save.setSnailLocationIndex(4);
+
+        SaveData migrated = SaveMigrations.migrate(save);
+
+        assertEquals(4, migrated.getSnailLocationIndex());
+    }
+
+    @Test
+    void unknownVersionLoadsAsIs() {
+        SaveData save = new SaveData();
+        save.setSaveVersion("9.9");
+        save.setSnailLocationIndex(4);
+
+        SaveData migrated = SaveMigrations.migrate(save);
+
+        assertEquals("9.9", migrated.getSaveVersion());
+        assertEquals(4, migrated.getSnailLocationIndex());
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertNull(SaveMigrations.migrate(null));
+    }
+}
@@ -0,0 +1,169 @@
+package com.buglife.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.buglife.save.CloudSaveManager;
+import com.buglife.save.SaveData;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The game's cloud client against the in-process Overseer stub.
+ *
+ * The tests share one stub and one player and run in order: each upload
+ * builds on the version the previous one left behind.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OverseerStubTest {
+
+    private static final String PLAYER = "STUBTEST";
+    private static final long UPLOAD_TIMEOUT_MS = 15_000; // Uploads go through the outbox's first-attempt delay
+    private static final Path OUTBOX_LETTER = Paths.get("saves", "outbox", PLAYER + ".upload");
+    private static final Path CACHE_DIR = Paths.get("saves", "cache");
+
+    private static OverseerStub stub;
+    private static SaveData save;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        // Left by an earlier run: a letter would be replayed, cached lists would skip requests
+        Files.deleteIfExists(OUTBOX_LETTER);
+        if (Files.isDirectory(CACHE_DIR)) {
+            try (DirectoryStream<Path> cached = Files.newDirectoryStream(CACHE_DIR)) {
+                for (Path file : cached) Files.delete(file);
+            }
+        }
+        stub = new OverseerStub(0).start();
+        // Must be set before the cloud client is first touched
+        System.setProperty("overseer.host", stub.getHost());
+
+        save = new SaveData();
+        save.setPlayerName(PLAYER);
+        save.setLevelId("level2");
+        save.setLevelIndex(1);
+        save.setHunger(42);
+        save.setTotalPlaytimeSeconds(321);
+        save.setRemainingFoodIds(new int[] {3, 1, 2});
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop();
+        CloudSaveManager.shutdown();
+    }
+
+    @Test
+    @Order(1)
+    void firstUploadIsFull() throws InterruptedException {
+        assertTrue(CloudSaveManager.registerWithOverseer(PLAYER.toLowerCase()).join());
+
+        CloudSaveManager.uploadSaveAsync(save);
+
+        assertTrue(awaitVersion(1), "upload never arrived");
+        assertEquals(42, stub.getStoredSave(PLAYER).path("hunger").asInt());
+        assertEquals(0, stub.getBytesReceived("/save/patch"));
+    }
+
+    @Test
+    @Order(2)
+    void downloadReturnsTheUploadedSave() {
+        SaveData downloaded = CloudSaveManager.downloadSaveWithTimeout(PLAYER.toLowerCase(), 5);
+
+        assertNotNull(downloaded);
+        assertEquals(42, downloaded.getHunger());
+        assertEquals("level2", downloaded.getLevelId());
+    }
+
+    @Test
+    @Order(3)
+    void userListIsCachedAndRevalidated() {
+        assertTrue(CloudSaveManager.fetchUserListWithTimeout(3).contains(PLAYER));
+
+        // Fresh copies are served without a request; a forced refresh of an unchanged list is a 304
+        int before = stub.getRequestCount();
+        CloudSaveManager.fetchUserListWithTimeout(3);
+        assertEquals(before, stub.getRequestCount());
+
+        List<String> revalidated = CloudSaveManager.userListCache().refresh().join();
+        assertEquals(1, stub.getNotModifiedCount());
+        assertTrue(revalidated != null && revalidated.contains(PLAYER));
+    }
+
+    @Test
+    @Order(4)
+    void leaderboardRanksStoredSaves() {
+        List<CloudSaveManager.LeaderboardEntry> board =
+                CloudSaveManager.fetchLeaderboardWithTimeout("playtime", 10, 4);
+
+        assertEquals(1, board.size());
+        assertEquals(321, board.get(0).getValue());
+    }
+
+    @Test
+    @Order(5)
+    void deltaIsAccepted() throws InterruptedException {
+        long fullBytes = stub.getBytesReceived("/save/upload");
+
+        // A few steps and one berry later: only the delta should travel
+        save.setPlayerX(512.5);
+        save.setHunger(55);
+        save.setRemainingFoodIds(new int[] {3, 1});
+        CloudSaveManager.uploadSaveAsync(save);
+
+        assertTrue(awaitVersion(2), "delta never arrived");
+        JsonNode patched = stub.getStoredSave(PLAYER);
+        assertEquals(55, patched.path("hunger").asInt());
+        assertEquals(512.5, patched.path("playerX").asDouble());
+        assertEquals(2, patched.path("remainingFoodIds").size());
+        assertEquals("level2", patched.path("levelId").asText());
+        assertEquals(fullBytes, stub.getBytesReceived("/save/upload"));
+        assertTrue(stub.getBytesReceived("/save/patch") < fullBytes);
+    }
+
+    @Test
+    @Order(6)
+    void versionMismatchFallsBackToFullUpload() throws InterruptedException {
+        long fullBytes = stub.getBytesReceived("/save/upload");
+
+        // Someone else uploaded in between: the stale delta must fall back to a full save
+        stub.bumpVersion(PLAYER);
+        save.setHunger(60);
+        CloudSaveManager.uploadSaveAsync(save);
+
+        assertTrue(awaitVersion(4), "fallback upload never arrived");
+        assertEquals(60, stub.getStoredSave(PLAYER).path("hunger").asInt());
+        assertTrue(stub.getBytesReceived("/save/upload") > fullBytes);
+    }
+
+    @Test
+    @Order(7)
+    void callsShareOneConnection() {
+        assertTrue(stub.getRequestCount() >= 8);
+        assertEquals(1, stub.getConnectionCount());
+    }
+
+    /** Wait until the stub holds {@code version} and the outbox has cleared the acknowledged letter. */
+    private static boolean awaitVersion(long version) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + UPLOAD_TIMEOUT_MS;
+        while (stub.getVersion(PLAYER) < version || Files.exists(OUTBOX_LETTER)) {
+            if (System.currentTimeMillis() > deadline) return false;
+            Thread.sleep(100);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+package com.buglife.world;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class TileGridParserTest {
+
+    @Test
+    void parsesRowsUpToTheFirstSection() throws IOException {
+        TileGridParser.Grid grid = parse("1 2 3\n4 5 6\n# PLAYER_SPAWN\n64 64\n");
+
+        assertEquals(3, grid.width);
+        assertEquals(2, grid.height);
+        assertArrayEquals(new int[][] {{1, 2, 3}, {4, 5, 6}}, grid.toRows());
+        assertEquals(6, grid.get(2, 1));
+    }
+
+    @Test
+    void toleratesCrLfTabsBlankLinesAndNoFinalNewline() throws IOException {
+        TileGridParser.Grid grid = parse("\r\n 1\t2 \r\n\r\n3  4");
+
+        assertArrayEquals(new int[][] {{1, 2}, {3, 4}}, grid.toRows());
+    }
+
+    @Test
+    void negativeAndLargeIds() throws IOException {
+        TileGridParser.Grid grid = parse("-1 0 2147483639\n");
+
+        assertArrayEquals(new int[][] {{-1, 0, 2_147_483_639}}, grid.toRows());
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < 100; row++) {
+            for (int col = 0; col < 100; col++) {
+                text.append(row * 100 + col).append(' ');
+            }
+            text.append('\n');
+        }
+
+        TileGridParser.Grid grid = parse(text.toString());
+
+        assertEquals(100, grid.width);
+        assertEquals(100, grid.height);
+        assertEquals(9_999, grid.get(99, 99));
+    }
+
+    @Test
+    void readsAcrossBufferBoundaries() throws IOException {
+        // Hand out one byte at a time so every number straddles a read
+        byte[] bytes = "12 345\n6789 0\n".getBytes(StandardCharsets.US_ASCII);
+        InputStream trickle = new ByteArrayInputStream(bytes) {
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        assertArrayEquals(new int[][] {{12, 345}, {6789, 0}}, TileGridParser.parse(trickle).toRows());
+    }
+
+    @Test
+    void emptyInputIsAnEmptyGrid() throws IOException {
+        TileGridParser.Grid grid = parse("# FOOD\nberry 1 1\n");
+
+        assertEquals(0, grid.width);
+        assertEquals(0, grid.height);
+    }
+
+    @Test
+    void raggedRowsAreRejected() {
+        IOException e = assertThrows(IOException.class, () -> parse("1 2 3\n4 5\n"));
+        assertEquals("Line 2 has 2 tiles, expected 3", e.getMessage());
+
+        assertThrows(IOException.class, () -> parse("1 2 3\n4 5"));
+    }
+
+    @Test
+    void malformedInputIsRejected() {
+        assertThrows(IOException.class, () -> parse("1 x 3\n"));
+        assertThrows(IOException.class, () -> parse("1 - 3\n"));
+        assertThrows(IOException.class, () -> parse("1 2 -\n"));
+        assertThrows(IOException.class, () -> parse("1 2 # note\n"));
+        assertThrows(IOException.class, () -> parse("99999999999\n"));
+    }
+
+    private static TileGridParser.Grid parse(String text) throws IOException {
+        return TileGridParser.parse(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+}